@@ -1,9 +1,7 @@
 package twitter4j;
 
-import java.io.*;
-import java.net.*;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.io.IOException;
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +18,9 @@ final class HttpClient implements HttpResponseCode, Serializable {
     private final int httpConnectionTimeout;
     private final int httpReadTimeout;
     private final boolean prettyDebug;
+    private final String httpTransport;
+    private final int httpConnectionPoolSize;
+    private transient volatile HttpTransport transport;
 
     private static final Logger logger = Logger.getLogger();
     private static final long serialVersionUID = -8016974810651763053L;
@@ -29,7 +30,7 @@ final class HttpClient implements HttpResponseCode, Serializable {
     HttpClient(String httpProxyHost, int httpProxyPort, String httpProxyUser, String httpProxyPassword,
                boolean httpProxySocks, int httpRetryCount, int httpRetryIntervalSeconds,
                int httpConnectionTimeout, int httpReadTimeout, boolean prettyDebug,
-               boolean gzipEnabled) {
+               boolean gzipEnabled, String httpTransport, int httpConnectionPoolSize) {
         this.httpProxyHost = httpProxyHost;
         this.httpProxyPort = httpProxyPort;
         this.httpProxyUser = httpProxyUser;
@@ -40,6 +41,8 @@ final class HttpClient implements HttpResponseCode, Serializable {
         this.httpConnectionTimeout = httpConnectionTimeout;
         this.httpReadTimeout = httpReadTimeout;
         this.prettyDebug = prettyDebug;
+        this.httpTransport = httpTransport;
+        this.httpConnectionPoolSize = httpConnectionPoolSize;
         requestHeaders.put("X-Twitter-Client-Version", Version.getVersion());
         requestHeaders.put("X-Twitter-Client-URL", "https://twitter4j.org/en/twitter4j-" + Version.getVersion() + ".xml");
         requestHeaders.put("X-Twitter-Client", "Twitter4J");
@@ -49,15 +52,6 @@ final class HttpClient implements HttpResponseCode, Serializable {
         }
     }
 
-    private boolean isProxyConfigured() {
-        return httpProxyHost != null && !httpProxyHost.equals("");
-    }
-
-    void write(DataOutputStream out, String outStr) throws IOException {
-        out.writeBytes(outStr);
-        logger.debug(outStr);
-    }
-
     @SuppressWarnings("SameParameterValue")
     void addDefaultRequestHeader(String name, String value) {
         requestHeaders.put(name, value);
@@ -89,101 +83,30 @@ final class HttpClient implements HttpResponseCode, Serializable {
         for (retriedCount = 0; retriedCount < retry; retriedCount++) {
             int responseCode = -1;
             try {
-                HttpURLConnection con;
-                OutputStream os = null;
-                try {
-                    con = getConnection(req.getURL());
-                    con.setDoInput(true);
-                    setHeaders(req, con);
-                    con.setRequestMethod(req.getMethod().name());
-                    if (req.getMethod() == RequestMethod.POST) {
-                        if (HttpParameter.containsFile(req.getParameters())) {
-                            String boundary = "----Twitter4J-upload" + System.currentTimeMillis();
-                            con.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + boundary);
-                            boundary = "--" + boundary;
-                            con.setDoOutput(true);
-                            os = con.getOutputStream();
-                            DataOutputStream out = new DataOutputStream(os);
-                            for (HttpParameter param : req.getParameters()) {
-                                if (param.isFile()) {
-                                    write(out, boundary + "\r\n");
-                                    write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"; filename=\"" + param.getFile().getName() + "\"\r\n");
-                                    write(out, "Content-Type: " + param.getContentType() + "\r\n\r\n");
-                                    BufferedInputStream in = new BufferedInputStream(
-                                            param.hasFileBody() ? param.getFileBody() : Files.newInputStream(param.getFile().toPath())
-                                    );
-                                    byte[] buff = new byte[1024];
-                                    int length;
-                                    while ((length = in.read(buff)) != -1) {
-                                        out.write(buff, 0, length);
-                                    }
-                                    write(out, "\r\n");
-                                    in.close();
-                                } else {
-                                    write(out, boundary + "\r\n");
-                                    write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"\r\n");
-                                    write(out, "Content-Type: text/plain; charset=UTF-8\r\n\r\n");
-                                    logger.debug(param.getValue());
-                                    out.write(param.getValue().getBytes(StandardCharsets.UTF_8));
-                                    write(out, "\r\n");
-                                }
-                            }
-                            write(out, boundary + "--\r\n");
-                            write(out, "\r\n");
-                        } else {
-                            String postParam;
-                            if (HttpParameter.containsJson(req.getParameters())) {
-                                con.setRequestProperty("Content-Type",
-                                        "application/json");
-                                postParam = req.getParameters()[0].getJsonObject().toString();
+                res = getTransport().execute(req);
+                responseCode = res.getStatusCode();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Response: ");
+                    Map<String, List<String>> responseHeaders = res.getResponseHeaderFields();
+                    for (String key : responseHeaders.keySet()) {
+                        List<String> values = responseHeaders.get(key);
+                        for (String value : values) {
+                            if (key != null) {
+                                logger.debug(key + ": " + value);
                             } else {
-                                con.setRequestProperty("Content-Type",
-                                        "application/x-www-form-urlencoded");
-                                postParam = HttpParameter.encodeParameters(req.getParameters());
+                                logger.debug(value);
                             }
-                            logger.debug("Post Params: ", postParam);
-                            byte[] bytes = postParam.getBytes(StandardCharsets.UTF_8);
-                            con.setRequestProperty("Content-Length",
-                                    Integer.toString(bytes.length));
-                            con.setDoOutput(true);
-                            os = con.getOutputStream();
-                            os.write(bytes);
                         }
-                        os.flush();
-                        os.close();
                     }
-                    res = new HttpResponse(con, prettyDebug);
-                    responseCode = con.getResponseCode();
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("Response: ");
-                        Map<String, List<String>> responseHeaders = con.getHeaderFields();
-                        for (String key : responseHeaders.keySet()) {
-                            List<String> values = responseHeaders.get(key);
-                            for (String value : values) {
-                                if (key != null) {
-                                    logger.debug(key + ": " + value);
-                                } else {
-                                    logger.debug(value);
-                                }
-                            }
-                        }
-                    }
-                    if (responseCode < OK || (responseCode != FOUND && MULTIPLE_CHOICES <= responseCode)) {
-                        if (responseCode < INTERNAL_SERVER_ERROR ||
-                                retriedCount == httpRetryCount) {
-                            throw new TwitterException(res.asString(), res);
-                        }
-                        // will retry if the status code is INTERNAL_SERVER_ERROR
-                    } else {
-                        break;
-                    }
-                } finally {
-                    try {
-                        if (os != null) {
-                            os.close();
-                        }
-                    } catch (Exception ignore) {
+                }
+                if (responseCode < OK || (responseCode != FOUND && responseCode != NOT_MODIFIED && MULTIPLE_CHOICES <= responseCode)) {
+                    if (responseCode < INTERNAL_SERVER_ERROR ||
+                            retriedCount == httpRetryCount) {
+                        throw new TwitterException(res.asString(), res);
                     }
+                    // will retry if the status code is INTERNAL_SERVER_ERROR
+                } else {
+                    break;
                 }
             } catch (IOException ioe) {
                 // connection timeout or read timeout
@@ -191,10 +114,15 @@ final class HttpClient implements HttpResponseCode, Serializable {
                     throw new TwitterException(ioe.getMessage(), ioe, responseCode);
                 }
             }
-            try {
-                if (logger.isDebugEnabled() && res != null) {
+            if (res != null) {
+                if (logger.isDebugEnabled()) {
                     res.asString();
                 }
+                // releases the connection, or the pooled transport runs out of permits
+                res.disconnect();
+                res = null;
+            }
+            try {
                 logger.debug("Sleeping " + httpRetryIntervalSeconds + " seconds until the next retry.");
                 Thread.sleep(httpRetryIntervalSeconds * 1000L);
             } catch (InterruptedException ignore) {
@@ -204,74 +132,18 @@ final class HttpClient implements HttpResponseCode, Serializable {
         return res;
     }
 
-    /**
-     * sets HTTP headers
-     *
-     * @param req        The request
-     * @param connection HttpURLConnection
-     */
-    private void setHeaders(HttpRequest req, HttpURLConnection connection) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("Request: ");
-            logger.debug(req.getMethod().name() + " ", req.getURL());
-        }
-
-        String authorizationHeader;
-        if (req.getAuthorization() != null && (authorizationHeader = req.getAuthorization().getAuthorizationHeader(req)) != null) {
-            if (logger.isDebugEnabled()) {
-                //noinspection SuspiciousRegexArgument
-                logger.debug("Authorization: ", authorizationHeader.replaceAll(".", "*"));
-            }
-            connection.addRequestProperty("Authorization", authorizationHeader);
-        }
-        if (req.getRequestHeaders() != null) {
-            for (String key : req.getRequestHeaders().keySet()) {
-                connection.addRequestProperty(key, req.getRequestHeaders().get(key));
-                logger.debug(key + ": " + req.getRequestHeaders().get(key));
-            }
-        }
-    }
-
-    HttpURLConnection getConnection(String url) throws IOException {
-        HttpURLConnection con;
-        if (isProxyConfigured()) {
-            if (httpProxyUser != null && !httpProxyUser.equals("")) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Proxy AuthUser: " + httpProxyUser);
-                    //noinspection SuspiciousRegexArgument
-                    logger.debug("Proxy AuthPassword: " + httpProxyPassword.replaceAll(".", "*"));
+    private HttpTransport getTransport() {
+        HttpTransport transport = this.transport;
+        if (transport == null) {
+            synchronized (this) {
+                if ((transport = this.transport) == null) {
+                    this.transport = transport = HttpTransport.newInstance(httpTransport, httpProxyHost, httpProxyPort,
+                            httpProxyUser, httpProxyPassword, httpProxySocks, httpConnectionTimeout, httpReadTimeout,
+                            httpConnectionPoolSize, prettyDebug);
                 }
-                Authenticator.setDefault(new Authenticator() {
-                    @Override
-                    protected PasswordAuthentication
-                    getPasswordAuthentication() {
-                        //respond only to proxy auth requests
-                        if (getRequestorType().equals(RequestorType.PROXY)) {
-                            return new PasswordAuthentication(httpProxyUser,
-                                    httpProxyPassword.toCharArray());
-                        } else {
-                            return null;
-                        }
-                    }
-                });
-            }
-            final Proxy proxy = new Proxy(httpProxySocks ? Proxy.Type.SOCKS : Proxy.Type.HTTP,
-                    InetSocketAddress.createUnresolved(httpProxyHost, httpProxyPort));
-            if (logger.isDebugEnabled()) {
-                logger.debug("Opening proxied connection(" + httpProxyHost + ":" + httpProxyPort + ")");
             }
-            con = (HttpURLConnection) new URL(url).openConnection(proxy);
-        } else {
-            con = (HttpURLConnection) new URL(url).openConnection();
-        }
-        if (httpConnectionTimeout > 0) {
-            con.setConnectTimeout(httpConnectionTimeout);
         }
-        if (httpReadTimeout > 0) {
-            con.setReadTimeout(httpReadTimeout);
-        }
-        con.setInstanceFollowRedirects(false);
-        return con;
+        return transport;
     }
 
     HttpResponse get(String url, HttpParameter[] parameters
@@ -279,6 +151,20 @@ final class HttpClient implements HttpResponseCode, Serializable {
         return request(new HttpRequest(RequestMethod.GET, url, parameters, authorization, this.requestHeaders), listener);
     }
 
+    /**
+     * Sends a GET request with additional request headers, e.g. If-None-Match for a conditional request.
+     * 304 Not Modified is returned as a response.
+     */
+    HttpResponse get(String url, HttpParameter[] parameters, Authorization authorization,
+                     Map<String, String> additionalHeaders, HttpResponseListener listener) throws TwitterException {
+        Map<String, String> headers = this.requestHeaders;
+        if (additionalHeaders != null && !additionalHeaders.isEmpty()) {
+            headers = new HashMap<>(this.requestHeaders);
+            headers.putAll(additionalHeaders);
+        }
+        return request(new HttpRequest(RequestMethod.GET, url, parameters, authorization, headers), listener);
+    }
+
     HttpResponse get(String url) throws TwitterException {
         return request(new HttpRequest(RequestMethod.GET, url, null, null, this.requestHeaders));
     }
@@ -329,12 +215,12 @@ final class HttpClient implements HttpResponseCode, Serializable {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         HttpClient that = (HttpClient) o;
-        return httpProxyPort == that.httpProxyPort && httpProxySocks == that.httpProxySocks && httpRetryCount == that.httpRetryCount && httpRetryIntervalSeconds == that.httpRetryIntervalSeconds && httpConnectionTimeout == that.httpConnectionTimeout && httpReadTimeout == that.httpReadTimeout && prettyDebug == that.prettyDebug && Objects.equals(httpProxyHost, that.httpProxyHost) && Objects.equals(httpProxyUser, that.httpProxyUser) && Objects.equals(httpProxyPassword, that.httpProxyPassword) && Objects.equals(requestHeaders, that.requestHeaders);
+        return httpProxyPort == that.httpProxyPort && httpProxySocks == that.httpProxySocks && httpRetryCount == that.httpRetryCount && httpRetryIntervalSeconds == that.httpRetryIntervalSeconds && httpConnectionTimeout == that.httpConnectionTimeout && httpReadTimeout == that.httpReadTimeout && prettyDebug == that.prettyDebug && httpConnectionPoolSize == that.httpConnectionPoolSize && Objects.equals(httpTransport, that.httpTransport) && Objects.equals(httpProxyHost, that.httpProxyHost) && Objects.equals(httpProxyUser, that.httpProxyUser) && Objects.equals(httpProxyPassword, that.httpProxyPassword) && Objects.equals(requestHeaders, that.requestHeaders);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(httpProxyHost, httpProxyPort, httpProxyUser, httpProxyPassword, httpProxySocks, httpRetryCount, httpRetryIntervalSeconds, httpConnectionTimeout, httpReadTimeout, prettyDebug, requestHeaders);
+        return Objects.hash(httpProxyHost, httpProxyPort, httpProxyUser, httpProxyPassword, httpProxySocks, httpRetryCount, httpRetryIntervalSeconds, httpConnectionTimeout, httpReadTimeout, prettyDebug, httpTransport, httpConnectionPoolSize, requestHeaders);
     }
 
     @Override
@@ -350,6 +236,8 @@ final class HttpClient implements HttpResponseCode, Serializable {
                 ", httpConnectionTimeout=" + httpConnectionTimeout +
                 ", httpReadTimeout=" + httpReadTimeout +
                 ", prettyDebug=" + prettyDebug +
+                ", httpTransport='" + httpTransport + '\'' +
+                ", httpConnectionPoolSize=" + httpConnectionPoolSize +
                 ", requestHeaders=" + requestHeaders +
                 '}';
     }
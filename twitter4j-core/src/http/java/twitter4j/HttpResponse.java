@@ -17,47 +17,19 @@
 package twitter4j;
 
 import java.io.*;
-import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 /**
- * A data class representing HTTP Response
+ * A data class representing HTTP Response. Subclasses are provided by each {@link HttpTransport} implementation.
+ * The body accessors are synchronized as a buffered response may be shared by the callers of identical requests.
  *
  * @author Yusuke Yamamoto - yusuke at mac.com
  */
-class HttpResponse {
+abstract class HttpResponse {
     private static final Logger logger = Logger.getLogger();
     private final boolean prettyDebug;
-    private HttpURLConnection con;
-
-    HttpResponse(HttpURLConnection con, boolean prettyDebug) throws IOException {
-        this.con = con;
-        this.prettyDebug = prettyDebug;
-        try {
-            this.statusCode = con.getResponseCode();
-        } catch (IOException e) {
-            /*
-             * If the user has revoked the access token in use, then Twitter naughtily returns a 401 with no "WWW-Authenticate" header.
-             *
-             * This causes an IOException in the getResponseCode() method call. See https://dev.twitter.com/issues/1114
-             * This call can, however, me made a second time without exception.
-             */
-            if ("Received authentication challenge is null".equals(e.getMessage())) {
-                this.statusCode = con.getResponseCode();
-            } else {
-                throw e;
-            }
-        }
-        if (null == (is = con.getErrorStream())) {
-            is = con.getInputStream();
-        }
-        if (is != null && "gzip".equals(con.getContentEncoding())) {
-            // the response is gzipped
-            is = new StreamingGZIPInputStream(is);
-        }
-    }
 
     HttpResponse(boolean prettyDebug) {
         this.prettyDebug = prettyDebug;
@@ -72,13 +44,9 @@ class HttpResponse {
         return statusCode;
     }
 
-    String getResponseHeader(String name) {
-        return con.getHeaderField(name);
-    }
+    abstract String getResponseHeader(String name);
 
-    Map<String, List<String>> getResponseHeaderFields() {
-        return con.getHeaderFields();
-    }
+    abstract Map<String, List<String>> getResponseHeaderFields();
 
     /**
      * Returns the response stream.<br>
@@ -99,27 +67,38 @@ class HttpResponse {
 
     /**
      * Returns the response body as string.<br>
+     * Once the body has been parsed straight from the stream by asJSONObject(), asJSONArray() or
+     * asJSON(JSONReader), the bytes received are gone and the parsed JSONObject or JSONArray is serialized again
+     * instead. It has the same members and values, but not necessarily the whitespace and escapes of the body received.
+     * <br>
      * Disconnects the internal HttpURLConnection silently.
      *
      * @return response body
      * @throws TwitterException when there is any network issue upon response body consumption
      */
-    String asString() throws TwitterException {
+    synchronized String asString() throws TwitterException {
         if (null == responseAsString) {
-            BufferedReader br = null;
+            if (streamConsumed) {
+                // the body has been parsed straight from the stream
+                if (json != null) {
+                    return json.toString();
+                } else if (jsonArray != null) {
+                    return jsonArray.toString();
+                }
+            }
             InputStream stream = null;
             try {
                 stream = asStream();
                 if (null == stream) {
                     return null;
                 }
-                br = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
-                StringBuilder buf = new StringBuilder();
-                String line;
-                while ((line = br.readLine()) != null) {
-                    buf.append(line).append("\n");
+                ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+                byte[] buf = new byte[4096];
+                int count;
+                while ((count = stream.read(buf)) != -1) {
+                    out.write(buf, 0, count);
                 }
-                this.responseAsString = buf.toString();
+                this.responseAsString = new String(out.toByteArray(), StandardCharsets.UTF_8);
                 logger.debug(responseAsString);
                 stream.close();
                 streamConsumed = true;
@@ -132,38 +111,69 @@ class HttpResponse {
                     } catch (IOException ignore) {
                     }
                 }
-                if (br != null) {
-                    try {
-                        br.close();
-                    } catch (IOException ignore) {
-                    }
-                }
                 disconnectForcibly();
             }
         }
         return responseAsString;
     }
 
+    /**
+     * Returns a pull parser reading the response body directly from the stream, or null if the body has already been
+     * read as string (or there is no body).
+     */
+    private JSONPullParser pullParser() {
+        if (responseAsString != null || streamConsumed || is == null) {
+            return null;
+        }
+        streamConsumed = true;
+        return new JSONPullParser(is);
+    }
+
+    private void closeStream() {
+        if (is != null) {
+            try {
+                is.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
     private JSONObject json = null;
 
     /**
      * Returns the response body as twitter4j.JSONObject.<br>
+     * The body is parsed straight from the response stream unless it has already been read as string.<br>
      * Disconnects the internal HttpURLConnection silently.
      *
      * @return response body as twitter4j.JSONObject
      * @throws TwitterException when the response body is not in JSON Object format
      */
-    JSONObject asJSONObject() throws TwitterException {
+    synchronized JSONObject asJSONObject() throws TwitterException {
         if (json == null) {
             try {
-                json = new JSONObject(asString());
-                if (prettyDebug) {
-                    logger.debug(json.toString(1));
+                JSONPullParser parser = pullParser();
+                if (parser != null) {
+                    try {
+                        json = new JSONObject(parser);
+                    } finally {
+                        closeStream();
+                    }
                 } else {
-                    logger.debug(responseAsString != null ? responseAsString :
-                            json.toString());
+                    json = new JSONObject(asString());
+                }
+                if (logger.isDebugEnabled()) {
+                    if (prettyDebug) {
+                        logger.debug(json.toString(1));
+                    } else {
+                        logger.debug(responseAsString != null ? responseAsString :
+                                json.toString());
+                    }
                 }
             } catch (JSONException jsone) {
+                if (jsone.getCause() instanceof IOException) {
+                    // network issue while reading the stream
+                    throw new TwitterException(jsone.getCause().getMessage(), jsone.getCause());
+                }
                 if (responseAsString == null) {
                     throw new TwitterException(jsone.getMessage(), jsone);
                 } else {
@@ -180,23 +190,39 @@ class HttpResponse {
 
     /**
      * Returns the response body as twitter4j.JSONArray.<br>
+     * The body is parsed straight from the response stream unless it has already been read as string.<br>
      * Disconnects the internal HttpURLConnection silently.
      *
      * @return response body as twitter4j.JSONArray
      * @throws TwitterException when the response body is not in JSON Array format
      */
-    JSONArray asJSONArray() throws TwitterException {
+    synchronized JSONArray asJSONArray() throws TwitterException {
         if (jsonArray == null) {
             try {
-                jsonArray = new JSONArray(asString());
-                if (prettyDebug) {
-                    logger.debug(jsonArray.toString(1));
+                JSONPullParser parser = pullParser();
+                if (parser != null) {
+                    try {
+                        jsonArray = new JSONArray(parser);
+                    } finally {
+                        closeStream();
+                    }
                 } else {
-                    logger.debug(responseAsString != null ? responseAsString :
-                            jsonArray.toString());
+                    jsonArray = new JSONArray(asString());
                 }
-            } catch (JSONException jsone) {
                 if (logger.isDebugEnabled()) {
+                    if (prettyDebug) {
+                        logger.debug(jsonArray.toString(1));
+                    } else {
+                        logger.debug(responseAsString != null ? responseAsString :
+                                jsonArray.toString());
+                    }
+                }
+            } catch (JSONException jsone) {
+                if (jsone.getCause() instanceof IOException) {
+                    // network issue while reading the stream
+                    throw new TwitterException(jsone.getCause().getMessage(), jsone.getCause());
+                }
+                if (logger.isDebugEnabled() && responseAsString != null) {
                     throw new TwitterException(jsone.getMessage() + ":" + this.responseAsString, jsone);
                 } else {
                     throw new TwitterException(jsone.getMessage(), jsone);
@@ -208,6 +234,51 @@ class HttpResponse {
         return jsonArray;
     }
 
+    /**
+     * Reads a value bound straight from the JSON token stream.
+     *
+     * @param <T> type of the bound value
+     * @see HttpResponse#asJSON(JSONReader)
+     */
+    interface JSONReader<T> {
+        T read(JSONPullParser parser) throws JSONException, TwitterException;
+    }
+
+    /**
+     * Binds the response body with the given reader in one pass over the JSON tokens, without building a
+     * twitter4j.JSONObject tree.<br>
+     * If the body has already been parsed into a JSONObject or a JSONArray, binds that serialized again. See
+     * {@link #asString()}.<br>
+     * Disconnects the internal HttpURLConnection silently.
+     *
+     * @param reader reader binding the body
+     * @param <T>    type of the bound value
+     * @return bound value
+     * @throws TwitterException when the response body cannot be bound
+     */
+    synchronized <T> T asJSON(JSONReader<T> reader) throws TwitterException {
+        try {
+            JSONPullParser parser = pullParser();
+            if (parser == null) {
+                // the body has already been consumed
+                String body = json != null ? json.toString() : jsonArray != null ? jsonArray.toString() : asString();
+                if (body == null) {
+                    throw new JSONException("No response body");
+                }
+                parser = new JSONPullParser(body);
+            }
+            return reader.read(parser);
+        } catch (JSONException jsone) {
+            if (jsone.getCause() instanceof IOException) {
+                throw new TwitterException(jsone.getCause().getMessage(), jsone.getCause());
+            }
+            throw new TwitterException(jsone.getMessage(), jsone);
+        } finally {
+            closeStream();
+            disconnectForcibly();
+        }
+    }
+
     @SuppressWarnings("unused")
     Reader asReader() {
         return new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
@@ -220,9 +291,7 @@ class HttpResponse {
         }
     }
 
-    void disconnect() {
-        con.disconnect();
-    }
+    abstract void disconnect();
 
     @Override
     public String toString() {
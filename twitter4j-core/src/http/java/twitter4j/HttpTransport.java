@@ -0,0 +1,200 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.BufferedInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Performs a single HTTP exchange on behalf of {@link HttpClient}.<br>
+ * Retries, error status handling and listener notification stay in HttpClient, so a transport only has to send the request and hand back the response.
+ * <ul>
+ * <li>{@value #HTTP_URL_CONNECTION} - {@link java.net.HttpURLConnection}, one connection per call (default)</li>
+ * <li>{@value #JAVA_NET_HTTP} - java.net.http.HttpClient, HTTP/2 with a shared connection pool. Requires Java 11 or later.</li>
+ * </ul>
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+abstract class HttpTransport {
+    private static final Logger logger = Logger.getLogger();
+
+    static final String HTTP_URL_CONNECTION = "HttpURLConnection";
+    static final String JAVA_NET_HTTP = "HttpClient";
+
+    /**
+     * Sends the request and returns the response. Status codes are not interpreted here.
+     *
+     * @param req request
+     * @return response
+     * @throws IOException when the exchange failed on the network level
+     */
+    abstract HttpResponse execute(HttpRequest req) throws IOException;
+
+    /**
+     * Instantiates the transport with the specified name. Falls back to {@value #HTTP_URL_CONNECTION} when the transport is not available in the running JVM.
+     */
+    static HttpTransport newInstance(String name, String httpProxyHost, int httpProxyPort, String httpProxyUser,
+                                     String httpProxyPassword, boolean httpProxySocks, int httpConnectionTimeout,
+                                     int httpReadTimeout, int httpConnectionPoolSize, boolean prettyDebug) {
+        if (JAVA_NET_HTTP.equalsIgnoreCase(name)) {
+            if (httpProxySocks) {
+                logger.warn("java.net.http.HttpClient doesn't support SOCKS proxy. Falling back to " + HTTP_URL_CONNECTION);
+            } else {
+                try {
+                    // compiled for Java 11 and shipped in META-INF/versions/11 of the multi-release jar
+                    Class<?> clazz = Class.forName("twitter4j.JavaNetHttpTransport");
+                    Constructor<?> constructor = clazz.getDeclaredConstructor(String.class, int.class, String.class,
+                            String.class, int.class, int.class, int.class, boolean.class);
+                    return (HttpTransport) constructor.newInstance(httpProxyHost, httpProxyPort, httpProxyUser,
+                            httpProxyPassword, httpConnectionTimeout, httpReadTimeout, httpConnectionPoolSize, prettyDebug);
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    logger.warn("java.net.http.HttpClient is not available. Falling back to " + HTTP_URL_CONNECTION, e.getMessage());
+                }
+            }
+        } else if (name != null && !HTTP_URL_CONNECTION.equalsIgnoreCase(name)) {
+            logger.warn("Unknown http transport: " + name + ". Using " + HTTP_URL_CONNECTION);
+        }
+        return new HttpURLConnectionTransport(httpProxyHost, httpProxyPort, httpProxyUser, httpProxyPassword,
+                httpProxySocks, httpConnectionTimeout, httpReadTimeout, prettyDebug);
+    }
+
+    /**
+     * @param req request
+     * @return headers to be sent with the request, including Authorization
+     */
+    static Map<String, String> getHeaders(HttpRequest req) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request: ");
+            logger.debug(req.getMethod().name() + " ", req.getURL());
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        String authorizationHeader;
+        if (req.getAuthorization() != null && (authorizationHeader = req.getAuthorization().getAuthorizationHeader(req)) != null) {
+            if (logger.isDebugEnabled()) {
+                //noinspection SuspiciousRegexArgument
+                logger.debug("Authorization: ", authorizationHeader.replaceAll(".", "*"));
+            }
+            headers.put("Authorization", authorizationHeader);
+        }
+        if (req.getRequestHeaders() != null) {
+            for (String key : req.getRequestHeaders().keySet()) {
+                headers.put(key, req.getRequestHeaders().get(key));
+                logger.debug(key + ": " + req.getRequestHeaders().get(key));
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * @param req request
+     * @return true if the request carries a body
+     */
+    static boolean hasBody(HttpRequest req) {
+        return req.getMethod() == RequestMethod.POST;
+    }
+
+    /**
+     * @param req request
+     * @return a new multipart boundary, or null if the request is not multipart
+     */
+    static String newBoundary(HttpRequest req) {
+        return HttpParameter.containsFile(req.getParameters()) ? "----Twitter4J-upload" + System.currentTimeMillis() : null;
+    }
+
+    /**
+     * @param req      request
+     * @param boundary multipart boundary returned by {@link #newBoundary(HttpRequest)}
+     * @return value of the Content-Type header
+     */
+    static String getContentType(HttpRequest req, String boundary) {
+        if (boundary != null) {
+            return "multipart/form-data; boundary=" + boundary;
+        } else if (HttpParameter.containsJson(req.getParameters())) {
+            return "application/json";
+        } else {
+            return "application/x-www-form-urlencoded";
+        }
+    }
+
+    /**
+     * @param req request
+     * @return url-encoded form or JSON body of a non-multipart request
+     */
+    static byte[] getBody(HttpRequest req) {
+        String postParam;
+        if (HttpParameter.containsJson(req.getParameters())) {
+            postParam = req.getParameters()[0].getJsonObject().toString();
+        } else {
+            postParam = HttpParameter.encodeParameters(req.getParameters());
+        }
+        logger.debug("Post Params: ", postParam);
+        return postParam.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * writes multipart body
+     *
+     * @param req      request
+     * @param boundary multipart boundary returned by {@link #newBoundary(HttpRequest)}
+     * @param os       destination
+     * @throws IOException when failed to read a file or to write to the stream
+     */
+    static void writeMultipartBody(HttpRequest req, String boundary, OutputStream os) throws IOException {
+        boundary = "--" + boundary;
+        DataOutputStream out = new DataOutputStream(os);
+        for (HttpParameter param : req.getParameters()) {
+            if (param.isFile()) {
+                write(out, boundary + "\r\n");
+                write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"; filename=\"" + param.getFile().getName() + "\"\r\n");
+                write(out, "Content-Type: " + param.getContentType() + "\r\n\r\n");
+                try (InputStream in = new BufferedInputStream(
+                        param.hasFileBody() ? param.getFileBody() : Files.newInputStream(param.getFile().toPath()))) {
+                    byte[] buff = new byte[1024];
+                    int length;
+                    while ((length = in.read(buff)) != -1) {
+                        out.write(buff, 0, length);
+                    }
+                }
+                write(out, "\r\n");
+            } else {
+                write(out, boundary + "\r\n");
+                write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"\r\n");
+                write(out, "Content-Type: text/plain; charset=UTF-8\r\n\r\n");
+                logger.debug(param.getValue());
+                out.write(param.getValue().getBytes(StandardCharsets.UTF_8));
+                write(out, "\r\n");
+            }
+        }
+        write(out, boundary + "--\r\n");
+        write(out, "\r\n");
+        out.flush();
+    }
+
+    private static void write(DataOutputStream out, String outStr) throws IOException {
+        out.writeBytes(outStr);
+        logger.debug(outStr);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.*;
+import java.util.Map;
+
+/**
+ * Default transport. Opens a {@link HttpURLConnection} per request.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ */
+final class HttpURLConnectionTransport extends HttpTransport {
+    private static final Logger logger = Logger.getLogger();
+    private final String httpProxyHost;
+    private final int httpProxyPort;
+    private final String httpProxyUser;
+    private final String httpProxyPassword;
+    private final boolean httpProxySocks;
+    private final int httpConnectionTimeout;
+    private final int httpReadTimeout;
+    private final boolean prettyDebug;
+
+    HttpURLConnectionTransport(String httpProxyHost, int httpProxyPort, String httpProxyUser, String httpProxyPassword,
+                               boolean httpProxySocks, int httpConnectionTimeout, int httpReadTimeout, boolean prettyDebug) {
+        this.httpProxyHost = httpProxyHost;
+        this.httpProxyPort = httpProxyPort;
+        this.httpProxyUser = httpProxyUser;
+        this.httpProxyPassword = httpProxyPassword;
+        this.httpProxySocks = httpProxySocks;
+        this.httpConnectionTimeout = httpConnectionTimeout;
+        this.httpReadTimeout = httpReadTimeout;
+        this.prettyDebug = prettyDebug;
+    }
+
+    @Override
+    HttpResponse execute(HttpRequest req) throws IOException {
+        HttpURLConnection con = getConnection(req.getURL());
+        con.setDoInput(true);
+        for (Map.Entry<String, String> header : getHeaders(req).entrySet()) {
+            con.addRequestProperty(header.getKey(), header.getValue());
+        }
+        con.setRequestMethod(req.getMethod().name());
+        if (hasBody(req)) {
+            String boundary = newBoundary(req);
+            con.setRequestProperty("Content-Type", getContentType(req, boundary));
+            con.setDoOutput(true);
+            if (boundary != null) {
+                try (OutputStream os = con.getOutputStream()) {
+                    writeMultipartBody(req, boundary, os);
+                }
+            } else {
+                byte[] bytes = getBody(req);
+                con.setRequestProperty("Content-Length", Integer.toString(bytes.length));
+                try (OutputStream os = con.getOutputStream()) {
+                    os.write(bytes);
+                    os.flush();
+                }
+            }
+        }
+        return new HttpURLConnectionResponse(con, prettyDebug);
+    }
+
+    private boolean isProxyConfigured() {
+        return httpProxyHost != null && !httpProxyHost.equals("");
+    }
+
+    HttpURLConnection getConnection(String url) throws IOException {
+        HttpURLConnection con;
+        if (isProxyConfigured()) {
+            if (httpProxyUser != null && !httpProxyUser.equals("")) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Proxy AuthUser: " + httpProxyUser);
+                    //noinspection SuspiciousRegexArgument
+                    logger.debug("Proxy AuthPassword: " + httpProxyPassword.replaceAll(".", "*"));
+                }
+                Authenticator.setDefault(new Authenticator() {
+                    @Override
+                    protected PasswordAuthentication
+                    getPasswordAuthentication() {
+                        //respond only to proxy auth requests
+                        if (getRequestorType().equals(RequestorType.PROXY)) {
+                            return new PasswordAuthentication(httpProxyUser,
+                                    httpProxyPassword.toCharArray());
+                        } else {
+                            return null;
+                        }
+                    }
+                });
+            }
+            final Proxy proxy = new Proxy(httpProxySocks ? Proxy.Type.SOCKS : Proxy.Type.HTTP,
+                    InetSocketAddress.createUnresolved(httpProxyHost, httpProxyPort));
+            if (logger.isDebugEnabled()) {
+                logger.debug("Opening proxied connection(" + httpProxyHost + ":" + httpProxyPort + ")");
+            }
+            con = (HttpURLConnection) new URL(url).openConnection(proxy);
+        } else {
+            con = (HttpURLConnection) new URL(url).openConnection();
+        }
+        if (httpConnectionTimeout > 0) {
+            con.setConnectTimeout(httpConnectionTimeout);
+        }
+        if (httpReadTimeout > 0) {
+            con.setReadTimeout(httpReadTimeout);
+        }
+        con.setInstanceFollowRedirects(false);
+        return con;
+    }
+}
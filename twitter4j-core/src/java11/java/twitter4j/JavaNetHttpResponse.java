@@ -0,0 +1,161 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * HttpResponse backed by java.net.http.HttpResponse.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class JavaNetHttpResponse extends HttpResponse {
+    private static final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread thread = new Thread(r, "Twitter4J HTTP Read Timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        // most reads complete before timing out
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    private final java.net.http.HttpResponse<InputStream> response;
+    private final JavaNetHttpTransport.Pool pool;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    /**
+     * @param response        response whose body is to be read
+     * @param pool            pool whose permit is released once the body is consumed
+     * @param httpReadTimeout milliseconds a read of the body waits for data at most, or 0 to wait indefinitely
+     * @param prettyDebug     pretty debug
+     * @throws IOException when the body cannot be read
+     */
+    JavaNetHttpResponse(java.net.http.HttpResponse<InputStream> response, JavaNetHttpTransport.Pool pool,
+                        int httpReadTimeout, boolean prettyDebug) throws IOException {
+        super(prettyDebug);
+        this.response = response;
+        this.pool = pool;
+        this.statusCode = response.statusCode();
+        // the pool permit is held until the body is consumed
+        InputStream body = new FilterInputStream(response.body()) {
+            private volatile boolean timedOut = false;
+
+            @Override
+            public int read() throws IOException {
+                ScheduledFuture<?> timeout = scheduleTimeout();
+                try {
+                    return super.read();
+                } catch (IOException e) {
+                    throw timedOut ? timedOut(e) : e;
+                } finally {
+                    cancel(timeout);
+                }
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                ScheduledFuture<?> timeout = scheduleTimeout();
+                try {
+                    return super.read(b, off, len);
+                } catch (IOException e) {
+                    throw timedOut ? timedOut(e) : e;
+                } finally {
+                    cancel(timeout);
+                }
+            }
+
+            /*
+             * java.net.http.HttpRequest.timeout() covers the wait for the response headers only. closing the body
+             * fails a read waiting for data longer than httpReadTimeout, like the socket read timeout of
+             * HttpURLConnection does
+             */
+            private ScheduledFuture<?> scheduleTimeout() {
+                if (httpReadTimeout <= 0) {
+                    return null;
+                }
+                return timer.schedule(() -> {
+                    timedOut = true;
+                    disconnect();
+                }, httpReadTimeout, TimeUnit.MILLISECONDS);
+            }
+
+            private void cancel(ScheduledFuture<?> timeout) {
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+            }
+
+            private IOException timedOut(IOException cause) {
+                SocketTimeoutException e = new SocketTimeoutException("Read timed out");
+                e.initCause(cause);
+                return e;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    release();
+                }
+            }
+        };
+        if ("gzip".equals(getResponseHeader("Content-Encoding"))) {
+            // the response is gzipped
+            body = new StreamingGZIPInputStream(body);
+        }
+        this.is = body;
+    }
+
+    @Override
+    String getResponseHeader(String name) {
+        return response.headers().firstValue(name).orElse(null);
+    }
+
+    @Override
+    Map<String, List<String>> getResponseHeaderFields() {
+        return response.headers().map();
+    }
+
+    @Override
+    void disconnect() {
+        try {
+            response.body().close();
+        } catch (IOException ignore) {
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        if (released.compareAndSet(false, true)) {
+            pool.release();
+        }
+    }
+}
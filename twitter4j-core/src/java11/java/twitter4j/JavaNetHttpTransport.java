@@ -0,0 +1,164 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Transport backed by java.net.http.HttpClient.<br>
+ * Requests are multiplexed over HTTP/2 where the server supports it, and connections are pooled and shared by every
+ * Twitter instance with the same proxy and timeout configuration.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class JavaNetHttpTransport extends HttpTransport {
+    private static final Logger logger = Logger.getLogger();
+    // headers managed by java.net.http.HttpClient itself. setting them throws IllegalArgumentException
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "expect", "host", "upgrade"));
+    private static final Map<String, Pool> POOLS = new ConcurrentHashMap<>();
+
+    static {
+        // module-info is compiled for Java 9 and can't declare java.net.http. read it at runtime instead
+        ModuleLayer.boot().findModule("java.net.http").ifPresent(JavaNetHttpTransport.class.getModule()::addReads);
+    }
+
+    private final Pool pool;
+    private final int httpReadTimeout;
+    private final boolean prettyDebug;
+
+    JavaNetHttpTransport(String httpProxyHost, int httpProxyPort, String httpProxyUser, String httpProxyPassword,
+                         int httpConnectionTimeout, int httpReadTimeout, int httpConnectionPoolSize, boolean prettyDebug) {
+        this.httpReadTimeout = httpReadTimeout;
+        this.prettyDebug = prettyDebug;
+        String key = httpProxyHost + ":" + httpProxyPort + ":" + httpProxyUser + ":" + httpProxyPassword + ":" + httpConnectionTimeout + ":" + httpConnectionPoolSize;
+        this.pool = POOLS.computeIfAbsent(key, k -> new Pool(httpProxyHost, httpProxyPort, httpProxyUser,
+                httpProxyPassword, httpConnectionTimeout, httpConnectionPoolSize));
+    }
+
+    @Override
+    HttpResponse execute(HttpRequest req) throws IOException {
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(URI.create(req.getURL()));
+        if (httpReadTimeout > 0) {
+            builder.timeout(Duration.ofMillis(httpReadTimeout));
+        }
+        for (Map.Entry<String, String> header : getHeaders(req).entrySet()) {
+            if (!RESTRICTED_HEADERS.contains(header.getKey().toLowerCase())) {
+                builder.header(header.getKey(), header.getValue());
+            }
+        }
+        java.net.http.HttpRequest.BodyPublisher body = java.net.http.HttpRequest.BodyPublishers.noBody();
+        if (hasBody(req)) {
+            String boundary = newBoundary(req);
+            builder.header("Content-Type", getContentType(req, boundary));
+            if (boundary != null) {
+                ByteArrayOutputStream os = new ByteArrayOutputStream();
+                writeMultipartBody(req, boundary, os);
+                body = java.net.http.HttpRequest.BodyPublishers.ofByteArray(os.toByteArray());
+            } else {
+                body = java.net.http.HttpRequest.BodyPublishers.ofByteArray(getBody(req));
+            }
+        }
+        builder.method(req.getMethod().name(), body);
+
+        pool.acquire();
+        try {
+            java.net.http.HttpResponse<InputStream> response = pool.client.send(builder.build(),
+                    java.net.http.HttpResponse.BodyHandlers.ofInputStream());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Protocol: " + response.version());
+            }
+            return new JavaNetHttpResponse(response, pool, httpReadTimeout, prettyDebug);
+        } catch (InterruptedException e) {
+            pool.release();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            pool.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Shared java.net.http.HttpClient and the limit of concurrent exchanges on it.
+     */
+    static final class Pool {
+        final java.net.http.HttpClient client;
+        private final Semaphore permits;
+
+        Pool(String httpProxyHost, int httpProxyPort, String httpProxyUser, String httpProxyPassword,
+             int httpConnectionTimeout, int httpConnectionPoolSize) {
+            java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+                    .version(java.net.http.HttpClient.Version.HTTP_2)
+                    .followRedirects(java.net.http.HttpClient.Redirect.NEVER);
+            if (httpConnectionTimeout > 0) {
+                builder.connectTimeout(Duration.ofMillis(httpConnectionTimeout));
+            }
+            if (httpProxyHost != null && !httpProxyHost.equals("")) {
+                builder.proxy(ProxySelector.of(new InetSocketAddress(httpProxyHost, httpProxyPort)));
+                if (httpProxyUser != null && !httpProxyUser.equals("")) {
+                    builder.authenticator(new Authenticator() {
+                        @Override
+                        protected PasswordAuthentication getPasswordAuthentication() {
+                            //respond only to proxy auth requests
+                            if (getRequestorType().equals(RequestorType.PROXY)) {
+                                return new PasswordAuthentication(httpProxyUser, httpProxyPassword.toCharArray());
+                            } else {
+                                return null;
+                            }
+                        }
+                    });
+                }
+            }
+            this.client = builder.build();
+            this.permits = httpConnectionPoolSize > 0 ? new Semaphore(httpConnectionPoolSize, true) : null;
+        }
+
+        void acquire() throws InterruptedIOException {
+            if (permits != null) {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(e.getMessage());
+                }
+            }
+        }
+
+        void release() {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+}
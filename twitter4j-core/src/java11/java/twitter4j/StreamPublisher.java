@@ -0,0 +1,299 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.ConnectionLifeCycleListener;
+import twitter4j.v1.StallWarning;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusDeletionNotice;
+import twitter4j.v1.StatusListener;
+import twitter4j.v1.TwitterStream;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reactive Streams publisher of a status stream.<br>
+ * Each subscriber gets a connection of its own, opened by the given function on a stream sharing the configuration
+ * and the credentials of the TwitterStream, and closed on cancellation. Messages are delivered as requested: while
+ * the subscriber has no outstanding demand, up to bufferSize messages (or stream.queueCapacity if configured) are
+ * queued, and then stream.overflowPolicy applies. BLOCK pauses reading the socket, DROP_NEWEST and DROP_OLDEST drop
+ * messages.<br>
+ * The connection reconnects on network and HTTP errors as TwitterStream does. The subscriber is signalled onError
+ * when the connection gives up, like on 403 or 406.
+ * On Java 8, the base version of this class is loaded instead and throws UnsupportedOperationException.
+ * <pre>
+ * Flow.Publisher&lt;Status&gt; publisher = StreamPublisher.statuses(twitter.v1().stream(),
+ *         stream -&gt; stream.filter(FilterQuery.ofTrack("twitter4j")));
+ * </pre>
+ *
+ * @param <T> type of the published items
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public final class StreamPublisher<T> implements Flow.Publisher<T> {
+    private static final Logger logger = Logger.getLogger();
+    private static final AtomicInteger count = new AtomicInteger();
+
+    private final TwitterStreamImpl stream;
+    private final Consumer<TwitterStream> connect;
+    private final int bufferSize;
+    private final Function<StreamEvent, T> mapper;
+
+    private StreamPublisher(TwitterStream stream, Consumer<TwitterStream> connect, int bufferSize,
+                            Function<StreamEvent, T> mapper) {
+        if (!(stream instanceof TwitterStreamImpl)) {
+            throw new IllegalArgumentException("Not a TwitterStream created by Twitter4J: " + stream);
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
+        this.stream = (TwitterStreamImpl) stream;
+        this.connect = Objects.requireNonNull(connect);
+        this.bufferSize = bufferSize;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @param stream  stream providing the configuration and the credentials
+     * @param connect starts the connection, like {@code stream -> stream.sample()}
+     * @return publisher of the statuses
+     */
+    public static StreamPublisher<Status> statuses(TwitterStream stream, Consumer<TwitterStream> connect) {
+        return statuses(stream, connect, Flow.defaultBufferSize());
+    }
+
+    /**
+     * @param stream     stream providing the configuration and the credentials
+     * @param connect    starts the connection, like {@code stream -> stream.sample()}
+     * @param bufferSize number of messages queued while the subscriber has no outstanding demand
+     * @return publisher of the statuses
+     */
+    public static StreamPublisher<Status> statuses(TwitterStream stream, Consumer<TwitterStream> connect,
+                                                   int bufferSize) {
+        return new StreamPublisher<>(stream, connect, bufferSize, StreamEvent::getStatus);
+    }
+
+    /**
+     * @param stream  stream providing the configuration and the credentials
+     * @param connect starts the connection, like {@code stream -> stream.sample()}
+     * @return publisher of statuses, deletion notices, track limitation notices, scrub geo events and stall warnings
+     */
+    public static StreamPublisher<StreamEvent> events(TwitterStream stream, Consumer<TwitterStream> connect) {
+        return events(stream, connect, Flow.defaultBufferSize());
+    }
+
+    /**
+     * @param stream     stream providing the configuration and the credentials
+     * @param connect    starts the connection, like {@code stream -> stream.sample()}
+     * @param bufferSize number of messages queued while the subscriber has no outstanding demand
+     * @return publisher of statuses, deletion notices, track limitation notices, scrub geo events and stall warnings
+     */
+    public static StreamPublisher<StreamEvent> events(TwitterStream stream, Consumer<TwitterStream> connect,
+                                                      int bufferSize) {
+        return new StreamPublisher<>(stream, connect, bufferSize, Function.identity());
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        StreamSubscription<T> subscription = new StreamSubscription<>(subscriber, mapper);
+        TwitterStreamImpl connection = stream.publisherStream(count.incrementAndGet(), subscription, subscription,
+                bufferSize);
+        subscription.connection = connection;
+        subscriber.onSubscribe(subscription);
+        if (!subscription.done) {
+            try {
+                connect.accept(connection);
+            } catch (RuntimeException e) {
+                subscription.fail(e);
+            }
+        }
+    }
+
+    /**
+     * Subscription to a connection. Called on the dispatcher thread of the connection, where it waits for demand.
+     */
+    static final class StreamSubscription<T> implements Flow.Subscription, StatusListener,
+            ConnectionLifeCycleListener {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Function<StreamEvent, T> mapper;
+        // guards demand and serializes the signals to the subscriber
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition demanded = lock.newCondition();
+        private long demand = 0;
+        volatile boolean done = false;
+        volatile TwitterStreamImpl connection;
+        private volatile Exception lastException = null;
+
+        StreamSubscription(Flow.Subscriber<? super T> subscriber, Function<StreamEvent, T> mapper) {
+            this.subscriber = subscriber;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("non-positive request: " + n));
+                return;
+            }
+            lock.lock();
+            try {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                if (done) {
+                    return;
+                }
+                done = true;
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            disconnect();
+        }
+
+        void fail(Throwable error) {
+            lock.lock();
+            try {
+                if (done) {
+                    return;
+                }
+                done = true;
+                demanded.signalAll();
+                subscriber.onError(error);
+            } finally {
+                lock.unlock();
+            }
+            disconnect();
+        }
+
+        private void emit(StreamEvent event) {
+            T item = mapper.apply(event);
+            if (item == null) {
+                // not published, doesn't consume demand
+                return;
+            }
+            lock.lock();
+            try {
+                while (demand == 0 && !done) {
+                    // lets the dispatcher queue fill up, and then the overflow policy apply to the reader
+                    demanded.await();
+                }
+                if (done) {
+                    return;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                subscriber.onNext(item);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.warn("Cancelling the subscription as onNext failed.", e);
+                cancel();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void disconnect() {
+            TwitterStreamImpl connection = this.connection;
+            if (connection != null) {
+                // closing the connection may block. the subscriber may be calling from the dispatcher thread
+                Thread thread = new Thread(connection::shutdown, "Twitter4J publisher disconnect");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+
+        @Override
+        public void onStatus(Status status) {
+            emit(new StreamEvent(StreamEvent.Type.STATUS, status, null, 0, 0, 0, null));
+        }
+
+        @Override
+        public void onDeletionNotice(StatusDeletionNotice statusDeletionNotice) {
+            emit(new StreamEvent(StreamEvent.Type.DELETION_NOTICE, null, statusDeletionNotice, 0, 0, 0, null));
+        }
+
+        @Override
+        public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+            emit(new StreamEvent(StreamEvent.Type.TRACK_LIMITATION_NOTICE, null, null, numberOfLimitedStatuses, 0, 0,
+                    null));
+        }
+
+        @Override
+        public void onScrubGeo(long userId, long upToStatusId) {
+            emit(new StreamEvent(StreamEvent.Type.SCRUB_GEO, null, null, 0, userId, upToStatusId, null));
+        }
+
+        @Override
+        public void onStallWarning(StallWarning warning) {
+            emit(new StreamEvent(StreamEvent.Type.STALL_WARNING, null, null, 0, 0, 0, warning));
+        }
+
+        @Override
+        public void onException(Exception ex) {
+            // the connection reconnects. signalled to the subscriber only if it gives up
+            lastException = ex;
+        }
+
+        @Override
+        public void onConnect() {
+        }
+
+        @Override
+        public void onDisconnect() {
+        }
+
+        @Override
+        public void onCleanUp() {
+            // the connection closed without being cancelled
+            lock.lock();
+            try {
+                if (done) {
+                    return;
+                }
+                done = true;
+                demanded.signalAll();
+                Exception lastException = this.lastException;
+                if (lastException != null) {
+                    subscriber.onError(lastException);
+                } else {
+                    subscriber.onComplete();
+                }
+            } finally {
+                lock.unlock();
+            }
+            disconnect();
+        }
+    }
+}
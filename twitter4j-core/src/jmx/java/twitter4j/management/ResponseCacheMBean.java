@@ -0,0 +1,60 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+/**
+ * Statistics of the REST API response cache.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public interface ResponseCacheMBean {
+    /**
+     * @return number of requests answered from a fresh cache entry
+     */
+    long getHitCount();
+
+    /**
+     * @return number of requests answered from a stale cache entry the server confirmed with 304 Not Modified
+     */
+    long getRevalidatedCount();
+
+    /**
+     * @return number of requests sent to the server and answered with a new response
+     */
+    long getMissCount();
+
+    /**
+     * @return number of entries evicted as the cache was full
+     */
+    long getEvictionCount();
+
+    /**
+     * @return number of cached entries
+     */
+    int getSize();
+
+    /**
+     * @return maximum number of cached entries
+     */
+    int getMaxEntries();
+
+    /**
+     * reset statistics
+     */
+    void reset();
+}
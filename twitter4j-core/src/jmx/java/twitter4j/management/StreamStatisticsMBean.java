@@ -0,0 +1,75 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+/**
+ * Statistics of stream message dispatching.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public interface StreamStatisticsMBean {
+    /**
+     * @return number of messages read from the stream
+     */
+    long getReceivedCount();
+
+    /**
+     * @return number of messages delivered to the listeners
+     */
+    long getDispatchedCount();
+
+    /**
+     * @return number of messages dropped because the dispatch queue was full
+     */
+    long getDroppedCount();
+
+    /**
+     * @return number of connections lost because no data, including keep-alive newlines, arrived within the streaming
+     * read timeout or the stall timeout
+     */
+    long getStallCount();
+
+    /**
+     * @return milliseconds elapsed since data last arrived on the current connection. -1 when not connected
+     */
+    long getIdleMillis();
+
+    /**
+     * @return number of messages waiting in the dispatch queues
+     */
+    int getQueueSize();
+
+    /**
+     * @return number of messages waiting in the dispatch queue of each partition
+     */
+    int[] getPartitionQueueSizes();
+
+    /**
+     * @return capacity of each dispatch queue. -1 for unbounded
+     */
+    int getQueueCapacity();
+
+    /**
+     * @return overflow policy
+     */
+    String getOverflowPolicy();
+
+    /**
+     * reset statistics
+     */
+    void reset();
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+/**
+ * Statistics of the string pool canonicalizing the values of repetitive members.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public interface StringPoolMBean {
+    /**
+     * @return number of parsed values replaced with the pooled instance
+     */
+    long getHitCount();
+
+    /**
+     * @return number of parsed values not found in the pool
+     */
+    long getMissCount();
+
+    /**
+     * @return ratio of hits to lookups, or 0 if no value has been looked up
+     */
+    double getHitRate();
+
+    /**
+     * @return number of pooled values
+     */
+    int getSize();
+
+    /**
+     * @return maximum number of pooled values
+     */
+    int getMaxEntries();
+
+    /**
+     * reset statistics
+     */
+    void reset();
+}
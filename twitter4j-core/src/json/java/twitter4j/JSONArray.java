@@ -96,6 +96,24 @@ class JSONArray {
         }
     }
 
+    /**
+     * Creates a new {@code JSONArray} with values from the next array in the
+     * pull parser, building the array as it is read.
+     *
+     * @param readFrom a parser positioned at the beginning of an array.
+     * @throws JSONException if the parse fails or doesn't yield a
+     *                       {@code JSONArray}.
+     * @since Twitter4J 4.1.3
+     */
+    JSONArray(JSONPullParser readFrom) throws JSONException {
+        values = new ArrayList<>();
+        readFrom.beginArray();
+        while (readFrom.hasNext()) {
+            values.add(readFrom.nextValue());
+        }
+        readFrom.endArray();
+    }
+
     /**
      * Creates a new {@code JSONArray} with values from the JSON string.
      *
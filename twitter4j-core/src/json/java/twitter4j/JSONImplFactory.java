@@ -18,6 +18,7 @@ package twitter4j;
 
 import twitter4j.v1.*;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -28,19 +29,44 @@ import java.util.Objects;
 class JSONImplFactory implements ObjectFactory {
     private static final long serialVersionUID = -1853541456182663343L;
     private final boolean jsonStoreEnabled;
+    private final FieldProjection projection;
+    private final UserCache userCache;
 
     public JSONImplFactory(boolean jsonStoreEnabled) {
+        this(jsonStoreEnabled, FieldProjection.ALL);
+    }
+
+    /**
+     * @param jsonStoreEnabled whether the raw JSON forms are stored
+     * @param projection       members of statuses, users and places to materialize
+     * @since Twitter4J 4.1.3
+     */
+    public JSONImplFactory(boolean jsonStoreEnabled, FieldProjection projection) {
+        this(jsonStoreEnabled, projection, null);
+    }
+
+    /**
+     * @param jsonStoreEnabled whether the raw JSON forms are stored
+     * @param projection       members of statuses, users and places to materialize
+     * @param userCache        cache of the users seen, or null
+     * @since Twitter4J 4.1.3
+     */
+    public JSONImplFactory(boolean jsonStoreEnabled, FieldProjection projection, UserCache userCache) {
         this.jsonStoreEnabled = jsonStoreEnabled;
+        this.projection = projection;
+        // each bound user retains its own raw JSON form, so the bound users are kept as they are
+        this.userCache = jsonStoreEnabled ? null : userCache;
     }
 
     @Override
     public Status createStatus(JSONObject json) throws TwitterException {
-        return new StatusJSONImpl(json);
+        return canonicalize(new StatusJSONImpl(json, projection));
     }
 
     @Override
     public User createUser(JSONObject json) throws TwitterException {
-        return new UserJSONImpl(json);
+        User user = new UserJSONImpl(json, projection);
+        return userCache == null ? user : userCache.canonical(user);
     }
 
     @Override
@@ -56,12 +82,28 @@ class JSONImplFactory implements ObjectFactory {
 
     @Override
     public Status createStatus(HttpResponse res) throws TwitterException {
-        return new StatusJSONImpl(res, jsonStoreEnabled);
+        // the raw JSON store needs the JSONObject tree, otherwise bind straight from the token stream
+        return jsonStoreEnabled ? new StatusJSONImpl(res, true, projection) : canonicalize(StatusJSONImpl.createStatus(res, projection));
     }
 
     @Override
     public ResponseList<Status> createStatusList(HttpResponse res) throws TwitterException {
-        return StatusJSONImpl.createStatusList(res, jsonStoreEnabled);
+        if (jsonStoreEnabled) {
+            return StatusJSONImpl.createStatusList(res, true, projection);
+        }
+        ResponseList<Status> statuses = StatusJSONImpl.createStatusList(res, projection);
+        if (userCache != null) {
+            userCache.canonicalizeStatuses(statuses);
+        }
+        return statuses;
+    }
+
+    private Status canonicalize(Status status) {
+        return userCache == null ? status : userCache.canonicalize(status);
+    }
+
+    private <T extends List<User>> T canonicalizeUsers(T users) {
+        return userCache == null ? users : userCache.canonicalizeUsers(users);
     }
 
     /**
@@ -116,23 +158,31 @@ class JSONImplFactory implements ObjectFactory {
 
     @Override
     public User createUser(HttpResponse res) throws TwitterException {
-        return new UserJSONImpl(res, jsonStoreEnabled);
+        if (jsonStoreEnabled) {
+            return new UserJSONImpl(res, true, projection);
+        }
+        User user = UserJSONImpl.createUser(res, projection);
+        if (userCache != null) {
+            // the returned user carries the rate limit status of the response, so it is cached but not replaced
+            userCache.canonical(user);
+        }
+        return user;
     }
 
     @Override
     public ResponseList<User> createUserList(HttpResponse res) throws TwitterException {
-        return UserJSONImpl.createUserList(res, jsonStoreEnabled);
+        return jsonStoreEnabled ? UserJSONImpl.createUserList(res, true, projection) : canonicalizeUsers(UserJSONImpl.createUserList(res, projection));
     }
 
     @Override
     public ResponseList<User> createUserListFromJSONArray(HttpResponse res) throws TwitterException {
-        return UserJSONImpl.createUserList(res.asJSONArray(), res, jsonStoreEnabled);
+        return jsonStoreEnabled ? UserJSONImpl.createUserList(res.asJSONArray(), res, true, projection) : canonicalizeUsers(UserJSONImpl.createUserList(res, projection));
     }
 
     @Override
     public ResponseList<User> createUserListFromJSONArray_Users(HttpResponse res) throws TwitterException {
         try {
-            return UserJSONImpl.createUserList(res.asJSONObject().getJSONArray("users"), res, jsonStoreEnabled);
+            return canonicalizeUsers(UserJSONImpl.createUserList(res.asJSONObject().getJSONArray("users"), res, jsonStoreEnabled, projection));
         } catch (JSONException jsone) {
             throw new TwitterException(jsone);
         }
@@ -141,7 +191,11 @@ class JSONImplFactory implements ObjectFactory {
     @Override
     public QueryResult createQueryResult(HttpResponse res, Query query) throws TwitterException {
         try {
-            return new QueryResultJSONImpl(res, jsonStoreEnabled);
+            QueryResult result = new QueryResultJSONImpl(res, jsonStoreEnabled, projection);
+            if (userCache != null) {
+                userCache.canonicalizeStatuses(result.getTweets());
+            }
+            return result;
         } catch (TwitterException te) {
             if (404 == te.getStatusCode()) {
                 return new QueryResultJSONImpl(query);
@@ -158,7 +212,7 @@ class JSONImplFactory implements ObjectFactory {
 
     @Override
     public PagableResponseList<User> createPagableUserList(HttpResponse res) throws TwitterException {
-        return UserJSONImpl.createPagableUserList(res, jsonStoreEnabled);
+        return jsonStoreEnabled ? UserJSONImpl.createPagableUserList(res, true, projection) : canonicalizeUsers(UserJSONImpl.createPagableUserList(res, projection));
     }
 
     @Override
@@ -223,13 +277,13 @@ class JSONImplFactory implements ObjectFactory {
 
     @Override
     public Place createPlace(HttpResponse res) throws TwitterException {
-        return new PlaceJSONImpl(res, jsonStoreEnabled);
+        return new PlaceJSONImpl(res, jsonStoreEnabled, projection);
     }
 
     @Override
     public ResponseList<Place> createPlaceList(HttpResponse res) throws TwitterException {
         try {
-            return PlaceJSONImpl.createPlaceList(res, jsonStoreEnabled);
+            return PlaceJSONImpl.createPlaceList(res, jsonStoreEnabled, projection);
         } catch (TwitterException te) {
             if (te.getStatusCode() == 404) {
                 return new ResponseListImpl<>(0, null);
@@ -290,18 +344,20 @@ class JSONImplFactory implements ObjectFactory {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         JSONImplFactory that = (JSONImplFactory) o;
-        return jsonStoreEnabled == that.jsonStoreEnabled;
+        return jsonStoreEnabled == that.jsonStoreEnabled && Objects.equals(projection, that.projection) && Objects.equals(userCache, that.userCache);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(jsonStoreEnabled);
+        return Objects.hash(jsonStoreEnabled, projection, userCache);
     }
 
     @Override
     public String toString() {
         return "JSONImplFactory{" +
                 "jsonStoreEnabled=" + jsonStoreEnabled +
+                ", projection=" + projection +
+                ", userCache=" + userCache +
                 '}';
     }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * Dictionary of the member names found in API responses.<br>
+ * Parsers resolve names through the dictionary so that trees share a single String per name rather than one per
+ * occurrence. The canonical instances are the interned literals, so lookups with literal names, as the models do,
+ * match by identity.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class JSONNames {
+    private JSONNames() {
+        throw new AssertionError("not intended to be instantiated.");
+    }
+
+    private static final String[] NAMES = {
+            // statuses
+            "created_at", "id", "id_str", "text", "full_text", "source", "truncated", "display_text_range",
+            "in_reply_to_status_id", "in_reply_to_status_id_str", "in_reply_to_user_id", "in_reply_to_user_id_str",
+            "in_reply_to_screen_name", "user", "geo", "coordinates", "place", "contributors", "is_quote_status",
+            "quoted_status_id", "quoted_status_id_str", "quoted_status", "quoted_status_permalink", "retweeted_status",
+            "quote_count", "reply_count", "retweet_count", "favorite_count", "entities", "extended_entities",
+            "extended_tweet", "favorited", "retweeted", "possibly_sensitive", "filter_level", "lang", "scopes",
+            "place_ids", "current_user_retweet", "withheld_in_countries", "withheld_copyright", "withheld_scope",
+            "timestamp_ms", "metadata", "result_type", "iso_language_code",
+            // users
+            "name", "screen_name", "location", "url", "description", "protected", "verified", "followers_count",
+            "friends_count", "listed_count", "favourites_count", "statuses_count", "utc_offset", "time_zone",
+            "geo_enabled", "contributors_enabled", "is_translator", "is_translation_enabled", "translator_type",
+            "profile_background_color", "profile_background_image_url", "profile_background_image_url_https",
+            "profile_background_tile", "profile_banner_url", "profile_image_url", "profile_image_url_https",
+            "profile_link_color", "profile_sidebar_border_color", "profile_sidebar_fill_color", "profile_text_color",
+            "profile_use_background_image", "has_extended_profile", "default_profile", "default_profile_image",
+            "following", "follow_request_sent", "notifications", "email", "show_all_inline_media", "status",
+            // entities
+            "hashtags", "symbols", "user_mentions", "urls", "media", "polls", "indices", "expanded_url", "display_url",
+            "unwound", "media_url", "media_url_https", "type", "sizes", "thumb", "small", "medium", "large", "w", "h",
+            "resize", "ext_alt_text", "video_info", "aspect_ratio", "duration_millis", "variants", "bitrate",
+            "content_type", "source_status_id", "source_status_id_str", "source_user_id", "source_user_id_str",
+            "additional_media_info", "expanded", "display",
+            // places
+            "place_type", "full_name", "country_code", "country", "bounding_box", "attributes", "contained_within",
+            "street_address", "geometry", "polylines",
+            // stream messages
+            "delete", "scrub_geo", "limit", "track", "warning", "code", "message", "percent_full", "event", "target",
+            "target_object", "friends", "user_id", "up_to_status_id", "sender", "direct_message",
+            // pages
+            "users", "ids", "next_cursor", "next_cursor_str", "previous_cursor", "previous_cursor_str", "statuses",
+            "search_metadata"
+    };
+    private static final String[] TABLE;
+
+    static {
+        int capacity = Integer.highestOneBit(NAMES.length * 4);
+        TABLE = new String[capacity];
+        for (String name : NAMES) {
+            int i = name.hashCode() & (capacity - 1);
+            while (TABLE[i] != null) {
+                i = (i + 1) & (capacity - 1);
+            }
+            TABLE[i] = name;
+        }
+    }
+
+    /**
+     * @param chars  buffer holding a decoded name
+     * @param length length of the name
+     * @return the canonical instance of the name, or null if the name is not in the dictionary
+     */
+    static String canonical(char[] chars, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        for (int i = hash & (TABLE.length - 1); TABLE[i] != null; i = (i + 1) & (TABLE.length - 1)) {
+            String name = TABLE[i];
+            if (name.length() == length && matches(name, chars)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param name name
+     * @return the canonical instance of the name, or the name itself if it is not in the dictionary
+     */
+    static String canonical(String name) {
+        for (int i = name.hashCode() & (TABLE.length - 1); TABLE[i] != null; i = (i + 1) & (TABLE.length - 1)) {
+            if (TABLE[i].equals(name)) {
+                return TABLE[i];
+            }
+        }
+        return name;
+    }
+
+    private static boolean matches(String name, char[] chars) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
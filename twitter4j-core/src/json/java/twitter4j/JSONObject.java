@@ -110,13 +110,33 @@ class JSONObject {
         }
     };
 
-    private final LinkedHashMap<String, Object> nameValuePairs;
+    private static final String[] NO_NAMES = new String[0];
+    private static final int[] NO_HASHES = new int[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    /*
+     * Mappings are held in insertion order in parallel arrays rather than in a
+     * LinkedHashMap, which costs an entry object per mapping on top of the
+     * table. Small objects, such as entities, are looked up by scanning the
+     * cached hashes; larger ones, such as statuses and users, add an open
+     * addressing table of positions. Names read by the parsers are
+     * canonicalized through JSONNames and usually match by identity.
+     */
+    private String[] names;
+    private int[] hashes;
+    private Object[] values;
+    private int size;
+    private short[] table;
 
     /**
      * Creates a {@code JSONObject} with no name/value mappings.
      */
     public JSONObject() {
-        nameValuePairs = new LinkedHashMap<>();
+        names = NO_NAMES;
+        hashes = NO_HASHES;
+        values = NO_VALUES;
     }
 
     /**
@@ -140,7 +160,7 @@ class JSONObject {
             if (key == null) {
                 throw new NullPointerException("key == null");
             }
-            nameValuePairs.put(key, wrap(entry.getValue()));
+            set(key, wrap(entry.getValue()));
         }
     }
 
@@ -160,12 +180,36 @@ class JSONObject {
          */
         Object object = readFrom.nextValue();
         if (object instanceof JSONObject) {
-            this.nameValuePairs = ((JSONObject) object).nameValuePairs;
+            JSONObject parsed = (JSONObject) object;
+            this.names = parsed.names;
+            this.hashes = parsed.hashes;
+            this.values = parsed.values;
+            this.size = parsed.size;
+            this.table = parsed.table;
         } else {
             throw JSON.typeMismatch(object, "JSONObject");
         }
     }
 
+    /**
+     * Creates a new {@code JSONObject} with name/value mappings from the next
+     * object in the pull parser, building the mappings as they are read.
+     *
+     * @param readFrom a parser positioned at the beginning of an object.
+     * @throws JSONException if the parse fails or doesn't yield a
+     *                       {@code JSONObject}.
+     * @since Twitter4J 4.1.3
+     */
+    JSONObject(JSONPullParser readFrom) throws JSONException {
+        this();
+        readFrom.beginObject();
+        while (readFrom.hasNext()) {
+            String name = readFrom.nextName();
+            put(name, readFrom.nextValue());
+        }
+        readFrom.endObject();
+    }
+
     /**
      * Creates a new {@code JSONObject} with name/value mappings from the JSON
      * string.
@@ -192,7 +236,7 @@ class JSONObject {
         for (String name : names) {
             Object value = copyFrom.opt(name);
             if (value != null) {
-                nameValuePairs.put(name, value);
+                set(name, value);
             }
         }
     }
@@ -203,7 +247,7 @@ class JSONObject {
      * @return the length of this.
      */
     public int length() {
-        return nameValuePairs.size();
+        return size;
     }
 
     /**
@@ -216,7 +260,7 @@ class JSONObject {
      * @throws JSONException Should not be possible.
      */
     public JSONObject put(String name, boolean value) throws JSONException {
-        nameValuePairs.put(checkName(name), value);
+        set(checkName(name), value);
         return this;
     }
 
@@ -231,7 +275,7 @@ class JSONObject {
      * @throws JSONException if value is NaN or infinite.
      */
     public JSONObject put(String name, double value) throws JSONException {
-        nameValuePairs.put(checkName(name), JSON.checkDouble(value));
+        set(checkName(name), JSON.checkDouble(value));
         return this;
     }
 
@@ -245,7 +289,7 @@ class JSONObject {
      * @throws JSONException Should not be possible.
      */
     public JSONObject put(String name, int value) throws JSONException {
-        nameValuePairs.put(checkName(name), value);
+        set(checkName(name), value);
         return this;
     }
 
@@ -259,7 +303,7 @@ class JSONObject {
      * @throws JSONException Should not be possible.
      */
     public JSONObject put(String name, long value) throws JSONException {
-        nameValuePairs.put(checkName(name), value);
+        set(checkName(name), value);
         return this;
     }
 
@@ -278,14 +322,14 @@ class JSONObject {
      */
     public JSONObject put(String name, Object value) throws JSONException {
         if (value == null) {
-            nameValuePairs.remove(name);
+            remove(name);
             return this;
         }
         if (value instanceof Number) {
             // deviate from the original by checking all Numbers, not just floats & doubles
             JSON.checkDouble(((Number) value).doubleValue());
         }
-        nameValuePairs.put(checkName(name), value);
+        set(checkName(name), value);
         return this;
     }
 
@@ -329,7 +373,7 @@ class JSONObject {
     // TODO: Change {@code append) to {@link #append} when append is
     // unhidden.
     public JSONObject accumulate(String name, Object value) throws JSONException {
-        Object current = nameValuePairs.get(checkName(name));
+        Object current = opt(checkName(name));
         if (current == null) {
             return put(name, value);
         }
@@ -341,7 +385,7 @@ class JSONObject {
             JSONArray array = new JSONArray();
             array.checkedPut(current);
             array.checkedPut(value);
-            nameValuePairs.put(name, array);
+            set(name, array);
         }
         return this;
     }
@@ -359,14 +403,14 @@ class JSONObject {
      *                       {@code name} is non-null and is not a {@link JSONArray}.
      */
     public JSONObject append(String name, Object value) throws JSONException {
-        Object current = nameValuePairs.get(checkName(name));
+        Object current = opt(checkName(name));
 
         final JSONArray array;
         if (current instanceof JSONArray) {
             array = (JSONArray) current;
         } else if (current == null) {
             JSONArray newArray = new JSONArray();
-            nameValuePairs.put(name, newArray);
+            set(name, newArray);
             array = newArray;
         } else {
             throw new JSONException("Key " + name + " is not a JSONArray");
@@ -392,7 +436,13 @@ class JSONObject {
      * no such mapping.
      */
     public Object remove(String name) {
-        return nameValuePairs.remove(name);
+        int index = indexOf(name);
+        if (index == -1) {
+            return null;
+        }
+        Object value = values[index];
+        removeAt(index);
+        return value;
     }
 
     /**
@@ -403,7 +453,7 @@ class JSONObject {
      * @return true if the field doesn't exist or is null.
      */
     public boolean isNull(String name) {
-        Object value = nameValuePairs.get(name);
+        Object value = opt(name);
         return value == null || value == NULL;
     }
 
@@ -415,7 +465,7 @@ class JSONObject {
      * @return true if this object has a field named {@code name}
      */
     public boolean has(String name) {
-        return nameValuePairs.containsKey(name);
+        return indexOf(name) != -1;
     }
 
     /**
@@ -426,7 +476,7 @@ class JSONObject {
      * @throws JSONException if no such mapping exists.
      */
     public Object get(String name) throws JSONException {
-        Object result = nameValuePairs.get(name);
+        Object result = opt(name);
         if (result == null) {
             throw new JSONException("No value for " + name);
         }
@@ -441,7 +491,98 @@ class JSONObject {
      * @return The value.
      */
     public Object opt(String name) {
-        return nameValuePairs.get(name);
+        int index = indexOf(name);
+        return index == -1 ? null : values[index];
+    }
+
+    private int indexOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+        String[] names = this.names;
+        int hash = name.hashCode();
+        if (table != null) {
+            int mask = table.length - 1;
+            for (int i = spread(hash) & mask; table[i] != 0; i = (i + 1) & mask) {
+                int index = table[i] - 1;
+                if (hashes[index] == hash && (names[index] == name || names[index].equals(name))) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+        int[] hashes = this.hashes;
+        for (int i = 0; i < size; i++) {
+            if (hashes[i] == hash && (names[i] == name || names[i].equals(name))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Rebuilds the table of positions, sized at four times the capacity.
+     */
+    private void index() {
+        if (size <= LINEAR_SCAN_LIMIT || size > Short.MAX_VALUE) {
+            table = null;
+            return;
+        }
+        table = new short[names.length * 4];
+        int mask = table.length - 1;
+        for (int index = 0; index < size; index++) {
+            int i = spread(hashes[index]) & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = (short) (index + 1);
+        }
+    }
+
+    private void set(String name, Object value) {
+        int index = indexOf(name);
+        if (index != -1) {
+            values[index] = value;
+            return;
+        }
+        if (size == names.length) {
+            int capacity = size == 0 ? 4 : size * 2;
+            names = Arrays.copyOf(names, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        names[size] = name;
+        hashes[size] = name.hashCode();
+        values[size] = value;
+        size++;
+        if (table != null && size * 2 <= table.length && size <= Short.MAX_VALUE) {
+            int mask = table.length - 1;
+            int i = spread(hashes[size - 1]) & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = (short) size;
+        } else if (size > LINEAR_SCAN_LIMIT) {
+            // drops the table once the positions no longer fit in a short
+            index();
+        }
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        System.arraycopy(names, index + 1, names, index, moved);
+        System.arraycopy(hashes, index + 1, hashes, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        size--;
+        names[size] = null;
+        values[size] = null;
+        if (table != null) {
+            index();
+        }
     }
 
     /**
@@ -760,7 +901,34 @@ class JSONObject {
      * @return an iterator over the keys.
      */
     public Iterator<String> keys() {
-        return nameValuePairs.keySet().iterator();
+        return new Iterator<String>() {
+            private int next = 0;
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public String next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                last = next++;
+                return names[last];
+            }
+
+            @Override
+            public void remove() {
+                if (last == -1) {
+                    throw new IllegalStateException();
+                }
+                removeAt(last);
+                next = last;
+                last = -1;
+            }
+        };
     }
 
     /**
@@ -774,7 +942,27 @@ class JSONObject {
      * @return The names in this object.
      */
     public Set<String> keySet() {
-        return nameValuePairs.keySet();
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return keys();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof String && has((String) o);
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                return o instanceof String && JSONObject.this.remove((String) o) != null;
+            }
+        };
     }
 
     /**
@@ -784,9 +972,9 @@ class JSONObject {
      * @return the names.
      */
     public JSONArray names() {
-        return nameValuePairs.isEmpty()
+        return size == 0
                 ? null
-                : new JSONArray(new ArrayList<>(nameValuePairs.keySet()));
+                : new JSONArray(new ArrayList<>(Arrays.asList(names).subList(0, size)));
     }
 
     /**
@@ -829,8 +1017,8 @@ class JSONObject {
 
     void writeTo(JSONStringer stringer) throws JSONException {
         stringer.object();
-        for (Map.Entry<String, Object> entry : nameValuePairs.entrySet()) {
-            stringer.key(entry.getKey()).value(entry.getValue());
+        for (int i = 0; i < size; i++) {
+            stringer.key(names[i]).value(values[i]);
         }
         stringer.endObject();
     }
@@ -0,0 +1,691 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Pull parser reading UTF-8 encoded JSON directly from an {@link InputStream}.<br>
+ * Unlike {@link JSONTokener}, the document is never materialized as a String: bytes are read through a fixed size
+ * buffer and string values are decoded straight into a reusable char buffer.<br>
+ * The parser accepts strict (RFC 8259) JSON only, which is what the API emits. Numbers are typed exactly as
+ * {@link JSONTokener#nextValue()} types them (Integer, Long, then Double) so that both parsers build identical trees.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class JSONPullParser {
+    enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    // scopes on the nesting stack
+    private static final byte EMPTY_DOCUMENT = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_OBJECT = 2;
+    private static final byte DANGLING_NAME = 3;
+    private static final byte NONEMPTY_OBJECT = 4;
+    private static final byte EMPTY_ARRAY = 5;
+    private static final byte NONEMPTY_ARRAY = 6;
+
+    private final InputStream in;
+    private final byte[] buf;
+    private int pos = 0;
+    private int limit = 0;
+    private long consumed = 0;
+
+    private byte[] stack = new byte[32];
+    private int stackSize = 1;
+
+    private char[] chars = new char[128];
+    private Token peeked = null;
+
+    JSONPullParser(InputStream in) {
+        this(in, 8192);
+    }
+
+    JSONPullParser(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buf = new byte[bufferSize];
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Parses the given UTF-8 bytes in place, without copying them into a buffer.
+     *
+     * @param json UTF-8 encoded JSON
+     */
+    JSONPullParser(byte[] json) {
+        this.in = null;
+        this.buf = json;
+        this.limit = json.length;
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    JSONPullParser(String json) {
+        this(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Repositions a parser reading a byte array at the value starting at the given offset, as returned by
+     * {@link #position()}. The parser then reads that single value.
+     *
+     * @param offset offset of the value in the byte array
+     */
+    void seek(int offset) {
+        if (in != null) {
+            throw new IllegalStateException("Cannot seek in a stream");
+        }
+        pos = offset;
+        stackSize = 1;
+        stack[0] = EMPTY_DOCUMENT;
+        peeked = null;
+    }
+
+    /**
+     * @return offset of the next token in the input
+     * @throws JSONException when the input is malformed or cannot be read
+     */
+    int position() throws JSONException {
+        peek();
+        return (int) (consumed + pos);
+    }
+
+    /**
+     * @return the type of the next token without consuming it
+     * @throws JSONException when the input is malformed or cannot be read
+     */
+    Token peek() throws JSONException {
+        if (peeked != null) {
+            return peeked;
+        }
+        byte scope = stack[stackSize - 1];
+        int c;
+        switch (scope) {
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    pos--;
+                    return peeked = Token.END_ARRAY;
+                }
+                break;
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    pos--;
+                    return peeked = Token.END_ARRAY;
+                } else if (c != ',') {
+                    throw syntaxError("Unterminated array");
+                }
+                c = nextNonWhitespace();
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    pos--;
+                    return peeked = Token.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Unterminated object");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Names must be strings");
+                }
+                stack[stackSize - 1] = DANGLING_NAME;
+                pos--;
+                return peeked = Token.NAME;
+            case DANGLING_NAME:
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                c = nextNonWhitespace();
+                break;
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                c = nextNonWhitespace();
+                break;
+            default: // NONEMPTY_DOCUMENT
+                if (nextNonWhitespace() != -1) {
+                    throw syntaxError("Unexpected data after the end of the document");
+                }
+                return peeked = Token.END_DOCUMENT;
+        }
+        if (c == -1) {
+            throw syntaxError("End of input");
+        }
+        pos--;
+        switch (c) {
+            case '{':
+                return peeked = Token.BEGIN_OBJECT;
+            case '[':
+                return peeked = Token.BEGIN_ARRAY;
+            case '"':
+                return peeked = Token.STRING;
+            case 't':
+            case 'f':
+                return peeked = Token.BOOLEAN;
+            case 'n':
+                return peeked = Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return peeked = Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    void beginObject() throws JSONException {
+        expect(Token.BEGIN_OBJECT);
+        pos++;
+        push(EMPTY_OBJECT);
+    }
+
+    void endObject() throws JSONException {
+        expect(Token.END_OBJECT);
+        pos++;
+        stackSize--;
+    }
+
+    void beginArray() throws JSONException {
+        expect(Token.BEGIN_ARRAY);
+        pos++;
+        push(EMPTY_ARRAY);
+    }
+
+    void endArray() throws JSONException {
+        expect(Token.END_ARRAY);
+        pos++;
+        stackSize--;
+    }
+
+    /**
+     * @return true if the current object or array has another element
+     * @throws JSONException when the input is malformed or cannot be read
+     */
+    boolean hasNext() throws JSONException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    String nextName() throws JSONException {
+        expect(Token.NAME);
+        pos++;
+        int length = readChars();
+        String name = JSONNames.canonical(chars, length);
+        return name != null ? name : new String(chars, 0, length);
+    }
+
+    /**
+     * Reads the next name and looks it up without decoding it.
+     *
+     * @param names candidate names, as ASCII bytes
+     * @return index of the name in the candidates, or -1 if it is not one of them
+     * @throws JSONException when the next token is not a name
+     */
+    int nextName(byte[][] names) throws JSONException {
+        expect(Token.NAME);
+        pos++;
+        int length = 0;
+        while (true) {
+            if (length + 1 > buf.length) {
+                return indexOf(names, readString());
+            }
+            if (!fill(length + 1)) {
+                throw syntaxError("Unterminated string");
+            }
+            int b = buf[pos + length];
+            if (b == '"') {
+                break;
+            } else if (b == '\\' || b < 0) {
+                // escaped or non ASCII
+                return indexOf(names, readString());
+            }
+            length++;
+        }
+        int found = -1;
+        for (int i = 0; i < names.length && found == -1; i++) {
+            byte[] name = names[i];
+            if (name.length == length) {
+                found = i;
+                for (int j = 0; j < length; j++) {
+                    if (name[j] != buf[pos + j]) {
+                        found = -1;
+                        break;
+                    }
+                }
+            }
+        }
+        pos += length + 1;
+        return found;
+    }
+
+    private static int indexOf(byte[][] names, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < names.length; i++) {
+            if (Arrays.equals(names[i], bytes)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    String nextString() throws JSONException {
+        expect(Token.STRING);
+        pos++;
+        return readString();
+    }
+
+    boolean nextBoolean() throws JSONException {
+        expect(Token.BOOLEAN);
+        if (fill(1) && buf[pos] == 't') {
+            readKeyword("true");
+            return true;
+        }
+        readKeyword("false");
+        return false;
+    }
+
+    void nextNull() throws JSONException {
+        expect(Token.NULL);
+        readKeyword("null");
+    }
+
+    /**
+     * @return the next number, typed as Integer, Long or Double in that order of preference
+     * @throws JSONException when the next token is not a number
+     */
+    Number nextNumber() throws JSONException {
+        expect(Token.NUMBER);
+        boolean integral = true;
+        boolean negative = false;
+        long value = 0;
+        int length = 0;
+        int digits = 0;
+        while (fill(1)) {
+            int c = buf[pos];
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (integral && value >= 0) {
+                    value = value * 10 + (c - '0');
+                    // wraps to negative on overflow, handled below by falling back to double
+                }
+            } else if (c == '-' && length == 0) {
+                negative = true;
+            } else if (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                integral = false;
+            } else {
+                break;
+            }
+            appendChar(length++, (char) c);
+            pos++;
+        }
+        if (digits == 0) {
+            throw syntaxError("Expected literal value");
+        }
+        // numbers with 19 digits or more may exceed long
+        if (integral && value >= 0 && digits < 19) {
+            long signed = negative ? -value : value;
+            if (signed <= Integer.MAX_VALUE && signed >= Integer.MIN_VALUE) {
+                return (int) signed;
+            }
+            return signed;
+        }
+        String literal = new String(chars, 0, length);
+        if (integral) {
+            try {
+                long longValue = Long.parseLong(literal);
+                if (longValue <= Integer.MAX_VALUE && longValue >= Integer.MIN_VALUE) {
+                    return (int) longValue;
+                }
+                return longValue;
+            } catch (NumberFormatException ignore) {
+            }
+        }
+        try {
+            return Double.valueOf(literal);
+        } catch (NumberFormatException nfe) {
+            throw syntaxError("Invalid number: " + literal);
+        }
+    }
+
+    long nextLong() throws JSONException {
+        return nextNumber().longValue();
+    }
+
+    int nextInt() throws JSONException {
+        return nextNumber().intValue();
+    }
+
+    double nextDouble() throws JSONException {
+        return nextNumber().doubleValue();
+    }
+
+    /**
+     * Skips the next value, including nested objects and arrays, without decoding strings.
+     *
+     * @throws JSONException when the input is malformed or cannot be read
+     */
+    void skipValue() throws JSONException {
+        int depth = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    depth++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    depth--;
+                    break;
+                case NAME:
+                case STRING:
+                    peeked = null;
+                    pos++;
+                    skipString();
+                    break;
+                case NUMBER:
+                    peeked = null;
+                    skipNumber();
+                    break;
+                case BOOLEAN:
+                    nextBoolean();
+                    break;
+                case NULL:
+                    nextNull();
+                    break;
+                default:
+                    throw syntaxError("End of input");
+            }
+        } while (depth != 0);
+    }
+
+    /**
+     * Reads the next value into the same representation {@link JSONTokener#nextValue()} produces.
+     *
+     * @return a JSONObject, JSONArray, String, Boolean, Integer, Long, Double or {@link JSONObject#NULL}
+     * @throws JSONException when the input is malformed or cannot be read
+     */
+    Object nextValue() throws JSONException {
+        switch (peek()) {
+            case BEGIN_OBJECT:
+                return new JSONObject(this);
+            case BEGIN_ARRAY:
+                return new JSONArray(this);
+            case STRING:
+                return nextString();
+            case NUMBER:
+                return nextNumber();
+            case BOOLEAN:
+                return nextBoolean();
+            case NULL:
+                nextNull();
+                return JSONObject.NULL;
+            default:
+                throw syntaxError("Expected a value but was " + peek());
+        }
+    }
+
+    private void expect(Token expected) throws JSONException {
+        Token token = peek();
+        if (token != expected) {
+            throw syntaxError("Expected " + expected + " but was " + token);
+        }
+        peeked = null;
+    }
+
+    private void push(byte scope) {
+        if (stackSize == stack.length) {
+            byte[] newStack = new byte[stackSize * 2];
+            System.arraycopy(stack, 0, newStack, 0, stackSize);
+            stack = newStack;
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private void readKeyword(String keyword) throws JSONException {
+        for (int i = 0; i < keyword.length(); i++) {
+            if (!fill(1) || buf[pos] != keyword.charAt(i)) {
+                throw syntaxError("Expected literal value");
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Reads a string body; the opening quote has already been consumed.
+     */
+    private String readString() throws JSONException {
+        int length = readChars();
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Decodes a string body into the char buffer; the opening quote has already been consumed.
+     *
+     * @return length of the decoded string
+     */
+    private int readChars() throws JSONException {
+        int length = 0;
+        while (true) {
+            if (!fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+            int b = buf[pos++];
+            if (b == '"') {
+                return length;
+            } else if (b == '\\') {
+                length = readEscape(length);
+            } else if (b >= 0) {
+                appendChar(length++, (char) b);
+            } else {
+                int codePoint = readMultiByte(b & 0xff);
+                if (codePoint < 0x10000) {
+                    appendChar(length++, (char) codePoint);
+                } else {
+                    appendChar(length++, Character.highSurrogate(codePoint));
+                    appendChar(length++, Character.lowSurrogate(codePoint));
+                }
+            }
+        }
+    }
+
+    private void skipNumber() throws JSONException {
+        int digits = 0;
+        while (fill(1)) {
+            int c = buf[pos];
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+                break;
+            }
+            pos++;
+        }
+        if (digits == 0) {
+            throw syntaxError("Expected literal value");
+        }
+    }
+
+    private void skipString() throws JSONException {
+        while (true) {
+            if (!fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+            int b = buf[pos++];
+            if (b == '"') {
+                return;
+            } else if (b == '\\') {
+                if (!fill(1)) {
+                    throw syntaxError("Unterminated escape sequence");
+                }
+                pos++;
+            }
+        }
+    }
+
+    private int readEscape(int length) throws JSONException {
+        if (!fill(1)) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        int escaped = buf[pos++];
+        char c;
+        switch (escaped) {
+            case 'u':
+                if (!fill(4)) {
+                    throw syntaxError("Unterminated escape sequence");
+                }
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(buf[pos + i], 16);
+                    if (digit == -1) {
+                        throw syntaxError("Invalid escape sequence: "
+                                + new String(buf, pos, 4, StandardCharsets.US_ASCII));
+                    }
+                    value = (value << 4) + digit;
+                }
+                pos += 4;
+                c = (char) value;
+                break;
+            case 't':
+                c = '\t';
+                break;
+            case 'b':
+                c = '\b';
+                break;
+            case 'n':
+                c = '\n';
+                break;
+            case 'r':
+                c = '\r';
+                break;
+            case 'f':
+                c = '\f';
+                break;
+            default:
+                c = (char) escaped;
+        }
+        appendChar(length, c);
+        return length + 1;
+    }
+
+    private int readMultiByte(int first) throws JSONException {
+        int extra;
+        int codePoint;
+        if ((first & 0xe0) == 0xc0) {
+            extra = 1;
+            codePoint = first & 0x1f;
+        } else if ((first & 0xf0) == 0xe0) {
+            extra = 2;
+            codePoint = first & 0x0f;
+        } else if ((first & 0xf8) == 0xf0) {
+            extra = 3;
+            codePoint = first & 0x07;
+        } else {
+            return 0xfffd;
+        }
+        if (!fill(extra)) {
+            throw syntaxError("Unterminated string");
+        }
+        for (int i = 0; i < extra; i++) {
+            int b = buf[pos];
+            if ((b & 0xc0) != 0x80) {
+                // malformed sequence: leave the offending byte for the next read
+                return 0xfffd;
+            }
+            codePoint = (codePoint << 6) | (b & 0x3f);
+            pos++;
+        }
+        return codePoint <= Character.MAX_CODE_POINT ? codePoint : 0xfffd;
+    }
+
+    private void appendChar(int index, char c) {
+        if (index == chars.length) {
+            char[] newChars = new char[chars.length * 2];
+            System.arraycopy(chars, 0, newChars, 0, index);
+            chars = newChars;
+        }
+        chars[index] = c;
+    }
+
+    private int nextNonWhitespace() throws JSONException {
+        while (fill(1)) {
+            int c = buf[pos++];
+            if (c != ' ' && c != '\n' && c != '\t' && c != '\r') {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Ensures at least {@code minimum} unread bytes are buffered.
+     *
+     * @return false when the end of the stream is reached first
+     */
+    private boolean fill(int minimum) throws JSONException {
+        if (limit - pos >= minimum) {
+            return true;
+        } else if (in == null) {
+            return false;
+        }
+        consumed += pos;
+        int remaining = limit - pos;
+        System.arraycopy(buf, pos, buf, 0, remaining);
+        pos = 0;
+        limit = remaining;
+        try {
+            while (limit < minimum) {
+                int read = in.read(buf, limit, buf.length - limit);
+                if (read == -1) {
+                    return false;
+                }
+                limit += read;
+            }
+        } catch (IOException ioe) {
+            throw new JSONException(ioe);
+        }
+        return true;
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at byte " + (consumed + pos));
+    }
+
+    @Override
+    public String toString() {
+        return "JSONPullParser{" +
+                "position=" + (consumed + pos) +
+                ", depth=" + (stackSize - 1) +
+                '}';
+    }
+}
@@ -413,7 +413,7 @@ class JSONTokener {
                 pos++;
             }
 
-            result.put((String) name, nextValue());
+            result.put(JSONNames.canonical((String) name), nextValue());
 
             switch (nextCleanInternal()) {
                 case '}':
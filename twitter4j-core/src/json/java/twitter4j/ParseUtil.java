@@ -177,6 +177,82 @@ final class ParseUtil {
     }
 
 
+    /**
+     * Reads the next value as {@link #getRawString(String, JSONObject)} would return it.
+     *
+     * @param parser parser positioned at a value
+     * @return value as string, or null if the value is null
+     * @throws JSONException when the input is malformed
+     */
+    static String getRawString(JSONPullParser parser) throws JSONException {
+        switch (parser.peek()) {
+            case STRING:
+                return parser.nextString();
+            case NULL:
+                parser.nextNull();
+                return null;
+            case NUMBER:
+                return String.valueOf(parser.nextNumber());
+            case BOOLEAN:
+                return String.valueOf(parser.nextBoolean());
+            default:
+                return String.valueOf(parser.nextValue());
+        }
+    }
+
+    static String getUnescapedString(JSONPullParser parser) throws JSONException {
+        return HTMLEntity.unescape(getRawString(parser));
+    }
+
+    static int getInt(JSONPullParser parser) throws JSONException {
+        if (parser.peek() == JSONPullParser.Token.NUMBER) {
+            Number number = parser.nextNumber();
+            return number instanceof Integer ? (Integer) number : getInt(String.valueOf(number));
+        }
+        return getInt(getRawString(parser));
+    }
+
+    static long getLong(JSONPullParser parser) throws JSONException {
+        if (parser.peek() == JSONPullParser.Token.NUMBER) {
+            Number number = parser.nextNumber();
+            return number instanceof Double ? getLong(String.valueOf(number)) : number.longValue();
+        }
+        return getLong(getRawString(parser));
+    }
+
+    static boolean getBoolean(JSONPullParser parser) throws JSONException {
+        if (parser.peek() == JSONPullParser.Token.BOOLEAN) {
+            return parser.nextBoolean();
+        }
+        return Boolean.parseBoolean(getRawString(parser));
+    }
+
+    static LocalDateTime getDate(JSONPullParser parser, String format) throws JSONException, TwitterException {
+        return getDate(parser, getFormat(format));
+    }
+
+    static LocalDateTime getDate(JSONPullParser parser, DateTimeFormatter format) throws JSONException, TwitterException {
+        String dateStr = getUnescapedString(parser);
+        if ("null".equals(dateStr) || null == dateStr) {
+            return null;
+        } else {
+            return getDate(dateStr, format);
+        }
+    }
+
+    static String[] getStringArray(JSONPullParser parser) throws JSONException {
+        if (parser.peek() == JSONPullParser.Token.NULL) {
+            parser.nextNull();
+            return null;
+        }
+        JSONArray array = new JSONArray(parser);
+        String[] strings = new String[array.length()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = array.getString(i);
+        }
+        return strings;
+    }
+
     public static TwitterResponse.AccessLevel toAccessLevel(HttpResponse res) {
         if (null == res) {
             return TwitterResponse.AccessLevel.NONE;
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * Bound object retaining the raw JSON form it was bound from, when jsonStoreEnabled is true.<br>
+ * The raw form is held by the object itself, so it is reachable from any thread for as long as the object is.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+/*package*/ interface RawJSONHolder {
+    /**
+     * @return the raw JSON form as String, UTF-8 bytes, JSONObject or JSONArray, or null if not retained
+     */
+    Object getRawJSONForm();
+
+    /**
+     * @param rawJSON the raw JSON form as String, UTF-8 bytes, JSONObject or JSONArray
+     */
+    void setRawJSONForm(Object rawJSON);
+}
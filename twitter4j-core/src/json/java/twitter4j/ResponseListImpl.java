@@ -25,10 +25,11 @@ import java.util.ArrayList;
  * @author Yusuke Yamamoto - yusuke at mac.com
  * @since Twitter4J 2.1.3
  */
-class ResponseListImpl<T> extends ArrayList<T> implements ResponseList<T> {
+class ResponseListImpl<T> extends ArrayList<T> implements ResponseList<T>, RawJSONHolder {
     private static final long serialVersionUID = 9105950888010803544L;
     private transient RateLimitStatus rateLimitStatus = null;
     private transient AccessLevel accessLevel;
+    private transient Object rawJSON;
 
     ResponseListImpl(HttpResponse res) {
         super();
@@ -60,4 +61,14 @@ class ResponseListImpl<T> extends ArrayList<T> implements ResponseList<T> {
     public AccessLevel getAccessLevel() {
         return accessLevel;
     }
+
+    @Override
+    public Object getRawJSONForm() {
+        return rawJSON;
+    }
+
+    @Override
+    public void setRawJSONForm(Object rawJSON) {
+        this.rawJSON = rawJSON;
+    }
 }
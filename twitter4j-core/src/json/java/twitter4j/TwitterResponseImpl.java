@@ -32,11 +32,12 @@ import static twitter4j.TwitterResponse.AccessLevel.NONE;
  * @see Status
  * @see User
  */
-/*package*/ abstract class TwitterResponseImpl implements TwitterResponse, java.io.Serializable {
+/*package*/ abstract class TwitterResponseImpl implements TwitterResponse, RawJSONHolder, java.io.Serializable {
 
     private static final long serialVersionUID = 7422171124869859808L;
     private transient RateLimitStatus rateLimitStatus = null;
     private final transient AccessLevel accessLevel;
+    private transient Object rawJSON;
 
     public TwitterResponseImpl() {
         accessLevel = NONE;
@@ -56,4 +57,14 @@ import static twitter4j.TwitterResponse.AccessLevel.NONE;
     public AccessLevel getAccessLevel() {
         return accessLevel;
     }
+
+    @Override
+    public Object getRawJSONForm() {
+        return rawJSON;
+    }
+
+    @Override
+    public void setRawJSONForm(Object rawJSON) {
+        this.rawJSON = rawJSON;
+    }
 }
@@ -17,11 +17,15 @@
 package twitter4j;
 
 import org.jetbrains.annotations.Nullable;
+import twitter4j.v1.RateLimitPolicy;
+import twitter4j.v1.StreamOverflowPolicy;
+import twitter4j.v1.StreamPartitionKey;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -31,6 +35,13 @@ import java.util.function.Consumer;
 class Configuration<T2 extends Configuration> {
     List<Consumer<RateLimitStatusEvent>> rateLimitStatusListeners = new ArrayList<>(0);
     List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners = new ArrayList<>(0);
+    RateLimitPolicy rateLimitPolicy = RateLimitPolicy.NONE;
+    int lookupCoalescingWindowMillis = 0;
+    int lookupCoalescingBatchSize = 100;
+    SingleFlight singleFlight = null;
+    ResponseCache responseCache = null;
+    UserCache userCache = null;
+    StringPool stringPool = null;
 
     String user = null;
     String password = null;
@@ -50,6 +61,8 @@ class Configuration<T2 extends Configuration> {
     private int httpStreamingReadTimeout = 40 * 1000;
     int httpRetryCount = 0;
     int httpRetryIntervalSeconds = 5;
+    String httpTransport = HttpTransport.HTTP_URL_CONNECTION;
+    int httpConnectionPoolSize = -1;
 
     String oAuthConsumerKey = null;
     String oAuthConsumerSecret = null;
@@ -78,6 +91,7 @@ class Configuration<T2 extends Configuration> {
     boolean includeExtAltTextEnabled = true;
     boolean tweetModeExtended = true;
     boolean jsonStoreEnabled = false;
+    FieldProjection fieldProjection = FieldProjection.ALL;
 
     boolean mbeanEnabled = false;
 
@@ -86,13 +100,25 @@ class Configuration<T2 extends Configuration> {
     boolean applicationOnlyAuthEnabled = false;
 
     String streamThreadName = "";
+    int streamQueueCapacity = -1;
+    StreamOverflowPolicy streamOverflowPolicy = StreamOverflowPolicy.BLOCK;
+    int streamDispatchThreads = 1;
+    StreamPartitionKey streamPartitionKey = StreamPartitionKey.USER_ID;
+    boolean streamLazyStatusEnabled = false;
+    int streamStallTimeout = 90 * 1000;
+    int streamFilterOverlap = 10 * 1000;
+
+    int asyncNumThreads = 5;
+    Executor asyncExecutor = null;
 
     Configuration() {
         PropertyConfiguration.loadDefaultProperties(this);
     }
 
+    Authorization authorization = null;
     Authorization auth;
     HttpClient http;
+    HttpClient streamHttp;
 
     ObjectFactory factory;
 
@@ -101,12 +127,12 @@ class Configuration<T2 extends Configuration> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Configuration<?> that = (Configuration<?>) o;
-        return httpProxySocks == that.httpProxySocks && httpProxyPort == that.httpProxyPort && httpConnectionTimeout == that.httpConnectionTimeout && httpReadTimeout == that.httpReadTimeout && prettyDebug == that.prettyDebug && gzipEnabled == that.gzipEnabled && httpStreamingReadTimeout == that.httpStreamingReadTimeout && httpRetryCount == that.httpRetryCount && httpRetryIntervalSeconds == that.httpRetryIntervalSeconds && contributingTo == that.contributingTo && includeEntitiesEnabled == that.includeEntitiesEnabled && trimUserEnabled == that.trimUserEnabled && includeExtAltTextEnabled == that.includeExtAltTextEnabled && tweetModeExtended == that.tweetModeExtended && jsonStoreEnabled == that.jsonStoreEnabled && mbeanEnabled == that.mbeanEnabled && stallWarningsEnabled == that.stallWarningsEnabled && applicationOnlyAuthEnabled == that.applicationOnlyAuthEnabled && Objects.equals(rateLimitStatusListeners, that.rateLimitStatusListeners) && Objects.equals(rateLimitReachedListeners, that.rateLimitReachedListeners) && Objects.equals(user, that.user) && Objects.equals(password, that.password) && Objects.equals(httpProxyHost, that.httpProxyHost) && Objects.equals(httpProxyUser, that.httpProxyUser) && Objects.equals(httpProxyPassword, that.httpProxyPassword) && Objects.equals(oAuthConsumerKey, that.oAuthConsumerKey) && Objects.equals(oAuthConsumerSecret, that.oAuthConsumerSecret) && Objects.equals(oAuthAccessToken, that.oAuthAccessToken) && Objects.equals(oAuthAccessTokenSecret, that.oAuthAccessTokenSecret) && Objects.equals(oAuthRealm, that.oAuthRealm) && Objects.equals(oAuth2TokenType, that.oAuth2TokenType) && Objects.equals(oAuth2AccessToken, that.oAuth2AccessToken) && Objects.equals(oAuth2Scope, that.oAuth2Scope) && Objects.equals(oAuthRequestTokenURL, that.oAuthRequestTokenURL) && Objects.equals(oAuthAuthorizationURL, that.oAuthAuthorizationURL) && Objects.equals(oAuthAccessTokenURL, that.oAuthAccessTokenURL) && Objects.equals(oAuthAuthenticationURL, that.oAuthAuthenticationURL) && Objects.equals(oAuthInvalidateTokenURL, that.oAuthInvalidateTokenURL) && Objects.equals(oAuth2TokenURL, that.oAuth2TokenURL) && Objects.equals(oAuth2InvalidateTokenURL, that.oAuth2InvalidateTokenURL) && Objects.equals(restBaseURL, that.restBaseURL) && Objects.equals(streamBaseURL, that.streamBaseURL) && Objects.equals(uploadBaseURL, that.uploadBaseURL) && Objects.equals(streamThreadName, that.streamThreadName) && Objects.equals(auth, that.auth) && Objects.equals(http, that.http) && Objects.equals(factory, that.factory);
+        return httpProxySocks == that.httpProxySocks && httpProxyPort == that.httpProxyPort && httpConnectionTimeout == that.httpConnectionTimeout && httpReadTimeout == that.httpReadTimeout && prettyDebug == that.prettyDebug && gzipEnabled == that.gzipEnabled && httpStreamingReadTimeout == that.httpStreamingReadTimeout && httpRetryCount == that.httpRetryCount && httpRetryIntervalSeconds == that.httpRetryIntervalSeconds && httpConnectionPoolSize == that.httpConnectionPoolSize && contributingTo == that.contributingTo && includeEntitiesEnabled == that.includeEntitiesEnabled && trimUserEnabled == that.trimUserEnabled && includeExtAltTextEnabled == that.includeExtAltTextEnabled && tweetModeExtended == that.tweetModeExtended && jsonStoreEnabled == that.jsonStoreEnabled && Objects.equals(fieldProjection, that.fieldProjection) && mbeanEnabled == that.mbeanEnabled && stallWarningsEnabled == that.stallWarningsEnabled && applicationOnlyAuthEnabled == that.applicationOnlyAuthEnabled && Objects.equals(rateLimitStatusListeners, that.rateLimitStatusListeners) && Objects.equals(rateLimitReachedListeners, that.rateLimitReachedListeners) && rateLimitPolicy == that.rateLimitPolicy && lookupCoalescingWindowMillis == that.lookupCoalescingWindowMillis && lookupCoalescingBatchSize == that.lookupCoalescingBatchSize && Objects.equals(singleFlight, that.singleFlight) && Objects.equals(responseCache, that.responseCache) && Objects.equals(userCache, that.userCache) && Objects.equals(stringPool, that.stringPool) && Objects.equals(user, that.user) && Objects.equals(password, that.password) && Objects.equals(httpProxyHost, that.httpProxyHost) && Objects.equals(httpProxyUser, that.httpProxyUser) && Objects.equals(httpProxyPassword, that.httpProxyPassword) && Objects.equals(httpTransport, that.httpTransport) && Objects.equals(oAuthConsumerKey, that.oAuthConsumerKey) && Objects.equals(oAuthConsumerSecret, that.oAuthConsumerSecret) && Objects.equals(oAuthAccessToken, that.oAuthAccessToken) && Objects.equals(oAuthAccessTokenSecret, that.oAuthAccessTokenSecret) && Objects.equals(oAuthRealm, that.oAuthRealm) && Objects.equals(oAuth2TokenType, that.oAuth2TokenType) && Objects.equals(oAuth2AccessToken, that.oAuth2AccessToken) && Objects.equals(oAuth2Scope, that.oAuth2Scope) && Objects.equals(oAuthRequestTokenURL, that.oAuthRequestTokenURL) && Objects.equals(oAuthAuthorizationURL, that.oAuthAuthorizationURL) && Objects.equals(oAuthAccessTokenURL, that.oAuthAccessTokenURL) && Objects.equals(oAuthAuthenticationURL, that.oAuthAuthenticationURL) && Objects.equals(oAuthInvalidateTokenURL, that.oAuthInvalidateTokenURL) && Objects.equals(oAuth2TokenURL, that.oAuth2TokenURL) && Objects.equals(oAuth2InvalidateTokenURL, that.oAuth2InvalidateTokenURL) && Objects.equals(restBaseURL, that.restBaseURL) && Objects.equals(streamBaseURL, that.streamBaseURL) && Objects.equals(uploadBaseURL, that.uploadBaseURL) && Objects.equals(streamThreadName, that.streamThreadName) && streamQueueCapacity == that.streamQueueCapacity && streamOverflowPolicy == that.streamOverflowPolicy && streamDispatchThreads == that.streamDispatchThreads && streamPartitionKey == that.streamPartitionKey && streamLazyStatusEnabled == that.streamLazyStatusEnabled && streamStallTimeout == that.streamStallTimeout && streamFilterOverlap == that.streamFilterOverlap && asyncNumThreads == that.asyncNumThreads && Objects.equals(asyncExecutor, that.asyncExecutor) && Objects.equals(auth, that.auth) && Objects.equals(http, that.http) && Objects.equals(streamHttp, that.streamHttp) && Objects.equals(factory, that.factory);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(rateLimitStatusListeners, rateLimitReachedListeners, user, password, httpProxyHost, httpProxyUser, httpProxyPassword, httpProxySocks, httpProxyPort, httpConnectionTimeout, httpReadTimeout, prettyDebug, gzipEnabled, httpStreamingReadTimeout, httpRetryCount, httpRetryIntervalSeconds, oAuthConsumerKey, oAuthConsumerSecret, oAuthAccessToken, oAuthAccessTokenSecret, oAuthRealm, oAuth2TokenType, oAuth2AccessToken, oAuth2Scope, oAuthRequestTokenURL, oAuthAuthorizationURL, oAuthAccessTokenURL, oAuthAuthenticationURL, oAuthInvalidateTokenURL, oAuth2TokenURL, oAuth2InvalidateTokenURL, restBaseURL, streamBaseURL, uploadBaseURL, contributingTo, includeEntitiesEnabled, trimUserEnabled, includeExtAltTextEnabled, tweetModeExtended, jsonStoreEnabled, mbeanEnabled, stallWarningsEnabled, applicationOnlyAuthEnabled, streamThreadName, auth, http, factory);
+        return Objects.hash(rateLimitStatusListeners, rateLimitReachedListeners, rateLimitPolicy, lookupCoalescingWindowMillis, lookupCoalescingBatchSize, singleFlight, responseCache, userCache, stringPool, user, password, httpProxyHost, httpProxyUser, httpProxyPassword, httpProxySocks, httpProxyPort, httpConnectionTimeout, httpReadTimeout, prettyDebug, gzipEnabled, httpStreamingReadTimeout, httpRetryCount, httpRetryIntervalSeconds, httpTransport, httpConnectionPoolSize, oAuthConsumerKey, oAuthConsumerSecret, oAuthAccessToken, oAuthAccessTokenSecret, oAuthRealm, oAuth2TokenType, oAuth2AccessToken, oAuth2Scope, oAuthRequestTokenURL, oAuthAuthorizationURL, oAuthAccessTokenURL, oAuthAuthenticationURL, oAuthInvalidateTokenURL, oAuth2TokenURL, oAuth2InvalidateTokenURL, restBaseURL, streamBaseURL, uploadBaseURL, contributingTo, includeEntitiesEnabled, trimUserEnabled, includeExtAltTextEnabled, tweetModeExtended, jsonStoreEnabled, fieldProjection, mbeanEnabled, stallWarningsEnabled, applicationOnlyAuthEnabled, streamThreadName, streamQueueCapacity, streamOverflowPolicy, streamDispatchThreads, streamPartitionKey, streamLazyStatusEnabled, streamStallTimeout, streamFilterOverlap, asyncNumThreads, asyncExecutor, auth, http, streamHttp, factory);
     }
 
     @Override
@@ -126,6 +152,8 @@ class Configuration<T2 extends Configuration> {
                 ", httpStreamingReadTimeout=" + httpStreamingReadTimeout +
                 ", httpRetryCount=" + httpRetryCount +
                 ", httpRetryIntervalSeconds=" + httpRetryIntervalSeconds +
+                ", httpTransport='" + httpTransport + '\'' +
+                ", httpConnectionPoolSize=" + httpConnectionPoolSize +
                 ", oAuthConsumerKey='" + oAuthConsumerKey + '\'' +
                 ", oAuthConsumerSecret='" + mask(oAuthConsumerSecret) + '\'' +
                 ", oAuth2AccessToken='" + mask(oAuth2AccessToken) + '\'' +
@@ -149,10 +177,27 @@ class Configuration<T2 extends Configuration> {
                 ", includeExtAltTextEnabled=" + includeExtAltTextEnabled +
                 ", tweetModeExtended=" + tweetModeExtended +
                 ", jsonStoreEnabled=" + jsonStoreEnabled +
+                ", fieldProjection=" + fieldProjection +
+                ", rateLimitPolicy=" + rateLimitPolicy +
+                ", lookupCoalescingWindowMillis=" + lookupCoalescingWindowMillis +
+                ", lookupCoalescingBatchSize=" + lookupCoalescingBatchSize +
+                ", singleFlight=" + singleFlight +
+                ", responseCache=" + responseCache +
+                ", userCache=" + userCache +
+                ", stringPool=" + stringPool +
                 ", mbeanEnabled=" + mbeanEnabled +
                 ", stallWarningsEnabled=" + stallWarningsEnabled +
                 ", applicationOnlyAuthEnabled=" + applicationOnlyAuthEnabled +
                 ", streamThreadName='" + streamThreadName + '\'' +
+                ", streamQueueCapacity=" + streamQueueCapacity +
+                ", streamOverflowPolicy=" + streamOverflowPolicy +
+                ", streamDispatchThreads=" + streamDispatchThreads +
+                ", streamPartitionKey=" + streamPartitionKey +
+                ", streamLazyStatusEnabled=" + streamLazyStatusEnabled +
+                ", streamStallTimeout=" + streamStallTimeout +
+                ", streamFilterOverlap=" + streamFilterOverlap +
+                ", asyncNumThreads=" + asyncNumThreads +
+                ", asyncExecutor=" + asyncExecutor +
                 '}';
     }
 
@@ -191,6 +236,19 @@ class Configuration<T2 extends Configuration> {
         return (T2) this;
     }
 
+    /**
+     * Specifies the credentials to use instead of the ones built from the OAuth consumer key and access token, e.g. an
+     * {@link AuthorizationPool} spreading requests over multiple credentials.
+     *
+     * @param authorization credentials
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 authorization(Authorization authorization) {
+        this.authorization = authorization;
+        return (T2) this;
+    }
+
     /**
      * @param props props
      * @return this instance
@@ -264,7 +322,7 @@ class Configuration<T2 extends Configuration> {
     }
 
     /**
-     * @param httpStreamingReadTimeout http streaming timeout in milliseconds
+     * @param httpStreamingReadTimeout read timeout of stream connections in milliseconds. 40000 by default
      * @return this instance
      */
     public T2 httpStreamingReadTimeout(int httpStreamingReadTimeout) {
@@ -290,6 +348,31 @@ class Configuration<T2 extends Configuration> {
         return (T2) this;
     }
 
+    /**
+     * Selects the HTTP transport.<br>
+     * "HttpURLConnection" (default) uses java.net.HttpURLConnection. "HttpClient" uses java.net.http.HttpClient, which
+     * negotiates HTTP/2 and shares pooled connections. "HttpClient" requires Java 11 or later and falls back to
+     * "HttpURLConnection" on older runtimes or when a SOCKS proxy is configured.
+     *
+     * @param httpTransport transport name
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 httpTransport(String httpTransport) {
+        this.httpTransport = httpTransport;
+        return (T2) this;
+    }
+
+    /**
+     * @param httpConnectionPoolSize maximum number of concurrent requests on the pooled transport. -1 for no limit
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 httpConnectionPoolSize(int httpConnectionPoolSize) {
+        this.httpConnectionPoolSize = httpConnectionPoolSize;
+        return (T2) this;
+    }
+
     /**
      * @param oAuthConsumerKey OAuth consumer key
      * @param oAuthConsumerSecret OAuth consumer secret
@@ -406,6 +489,20 @@ class Configuration<T2 extends Configuration> {
         return (T2) this;
     }
 
+    /**
+     * Materializes only the listed members of statuses, users and places returned by the REST resources, the others
+     * are skipped while parsing and left to their defaults. Shrinks the heap and the parse time of applications
+     * retaining many users or statuses while reading a few of their members.
+     *
+     * @param fieldProjection members to materialize. {@link FieldProjection#ALL} by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 fieldProjection(FieldProjection fieldProjection) {
+        this.fieldProjection = fieldProjection;
+        return (T2) this;
+    }
+
     /**
      * @param enabled mbean enabled
      * @return this instance
@@ -415,6 +512,126 @@ class Configuration<T2 extends Configuration> {
         return (T2) this;
     }
 
+    /**
+     * Bounds the queue between the stream reader and the listeners. Messages are handled according to
+     * streamOverflowPolicy when listeners can't keep up and the queue is full.
+     *
+     * @param streamQueueCapacity capacity of the stream dispatch queue. -1 for unbounded (default)
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 streamQueueCapacity(int streamQueueCapacity) {
+        this.streamQueueCapacity = streamQueueCapacity;
+        return (T2) this;
+    }
+
+    /**
+     * @param streamOverflowPolicy what to do when the stream dispatch queue is full. {@link StreamOverflowPolicy#BLOCK} by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 streamOverflowPolicy(StreamOverflowPolicy streamOverflowPolicy) {
+        this.streamOverflowPolicy = streamOverflowPolicy;
+        return (T2) this;
+    }
+
+    /**
+     * Dispatches stream messages on multiple threads. Messages are partitioned by streamPartitionKey, and messages
+     * sharing the key are delivered in order. Listeners must be thread safe when more than one thread is used.
+     *
+     * @param streamDispatchThreads number of stream dispatch threads. 1 by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 streamDispatchThreads(int streamDispatchThreads) {
+        this.streamDispatchThreads = streamDispatchThreads;
+        return (T2) this;
+    }
+
+    /**
+     * @param streamPartitionKey key to partition stream messages across dispatch threads. {@link StreamPartitionKey#USER_ID} by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 streamPartitionKey(StreamPartitionKey streamPartitionKey) {
+        this.streamPartitionKey = streamPartitionKey;
+        return (T2) this;
+    }
+
+    /**
+     * Delivers stream statuses which keep the raw message and build their text, entities, user, place, retweeted and
+     * quoted statuses only when first accessed. Saves most of the per-status allocation when listeners read only a few
+     * members, e.g. the id, the text and the user id. With the raw JSON store enabled, the raw JSON of a lazy status
+     * is the message as received.
+     *
+     * @param enabled lazy stream statuses enabled. false by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 streamLazyStatusEnabled(boolean enabled) {
+        this.streamLazyStatusEnabled = enabled;
+        return (T2) this;
+    }
+
+    /**
+     * Reconnects a stream which has received no data, including the keep-alive newlines sent every 30 seconds, for
+     * longer than the stall timeout. Guards against half-open connections the read timeout does not catch, e.g. with
+     * the "HttpClient" transport, which applies no read timeout to the response body.
+     *
+     * @param streamStallTimeout stall timeout in milliseconds. 90000 by default. 0 disables stall detection
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 streamStallTimeout(int streamStallTimeout) {
+        if (streamStallTimeout < 0) {
+            throw new IllegalArgumentException("streamStallTimeout must not be negative: " + streamStallTimeout);
+        }
+        this.streamStallTimeout = streamStallTimeout;
+        return (T2) this;
+    }
+
+    /**
+     * @param streamFilterOverlap how long the current and new connection run in parallel when the filter query is
+     *                            updated, in milliseconds. 10000 by default
+     * @return this instance
+     * @see twitter4j.v1.TwitterStream#updateFilter(twitter4j.v1.FilterQuery)
+     * @since Twitter4J 4.1.3
+     */
+    public T2 streamFilterOverlap(int streamFilterOverlap) {
+        if (streamFilterOverlap < 0) {
+            throw new IllegalArgumentException("streamFilterOverlap must not be negative: " + streamFilterOverlap);
+        }
+        this.streamFilterOverlap = streamFilterOverlap;
+        return (T2) this;
+    }
+
+    /**
+     * @param asyncNumThreads number of threads executing requests made through {@link twitter4j.v1.TwitterV1#async()}
+     *                        in parallel. 5 by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 asyncNumThreads(int asyncNumThreads) {
+        if (asyncNumThreads < 1) {
+            throw new IllegalArgumentException("asyncNumThreads must be positive: " + asyncNumThreads);
+        }
+        this.asyncNumThreads = asyncNumThreads;
+        return (T2) this;
+    }
+
+    /**
+     * Specifies the executor running requests made through {@link twitter4j.v1.TwitterV1#async()}.<br>
+     * The executor is not serialized and the default executor with asyncNumThreads threads is used after deserialization.
+     *
+     * @param asyncExecutor executor
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 asyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        return (T2) this;
+    }
+
     /**
      * Registers a lambda action for account associated rate limits
      *
@@ -441,17 +658,127 @@ class Configuration<T2 extends Configuration> {
         return (T2) this;
     }
 
+    /**
+     * Holds back requests which would exceed the rate limit of their endpoint instead of sending them and receiving
+     * 429. The remaining calls of each endpoint are seeded from application/rate_limit_status.json on the first request
+     * and tracked with the X-Rate-Limit headers of every response.
+     *
+     * @param rateLimitPolicy what to do with requests whose rate limit window is exhausted. {@link RateLimitPolicy#NONE} by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 rateLimitPolicy(RateLimitPolicy rateLimitPolicy) {
+        this.rateLimitPolicy = rateLimitPolicy;
+        return (T2) this;
+    }
+
+    /**
+     * Coalesces {@link twitter4j.v1.UsersResources#showUser(long)} and {@link twitter4j.v1.TweetsResources#showStatus(long)}
+     * calls made concurrently into one users/lookup or statuses/lookup request. The first call waits up to the window for
+     * other calls, or until the batch size is reached.
+     *
+     * @param lookupCoalescingWindowMillis how long a call waits for other calls to coalesce with. 0 (disabled) by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 lookupCoalescingWindowMillis(int lookupCoalescingWindowMillis) {
+        this.lookupCoalescingWindowMillis = lookupCoalescingWindowMillis;
+        return (T2) this;
+    }
+
+    /**
+     * @param lookupCoalescingBatchSize maximum number of calls coalesced into one request, up to 100. 100 by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 lookupCoalescingBatchSize(int lookupCoalescingBatchSize) {
+        if (lookupCoalescingBatchSize < 1 || lookupCoalescingBatchSize > 100) {
+            throw new IllegalArgumentException("lookupCoalescingBatchSize must be between 1 and 100: " + lookupCoalescingBatchSize);
+        }
+        this.lookupCoalescingBatchSize = lookupCoalescingBatchSize;
+        return (T2) this;
+    }
+
+    /**
+     * Collapses identical GET requests to the endpoints of the given {@link SingleFlight} made concurrently into one
+     * request whose response is shared by all callers, e.g. help/configuration or trends/place polled by many threads.
+     *
+     * @param singleFlight endpoints to collapse requests of. null (disabled) by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 singleFlight(SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+        return (T2) this;
+    }
+
+    /**
+     * Serves responses of GET requests to the endpoints cached by the given {@link ResponseCache} from memory until
+     * their time to live expires, e.g. help/languages or trends/available. The hit and miss counts are registered to
+     * JMX when mbeanEnabled is true.
+     *
+     * @param responseCache response cache. null (disabled) by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 responseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        return (T2) this;
+    }
+
+    /**
+     * Shares one {@link twitter4j.v1.User} instance per user among the statuses and users bound from REST responses
+     * and streams, and answers {@link twitter4j.v1.UsersResources#showUser(long)} from the users seen within the max
+     * age of the {@link UserCache}. Ignored when jsonStoreEnabled is true.
+     *
+     * @param userCache user cache. null (disabled) by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 userCache(UserCache userCache) {
+        this.userCache = userCache;
+        return (T2) this;
+    }
+
+    /**
+     * Shares one String instance per distinct value of the members of the {@link StringPool}, e.g. the language of
+     * statuses, among the statuses, users, places and media bound from REST responses and streams. The pool is
+     * registered to JMX when mbeanEnabled is true.
+     *
+     * @param stringPool string pool. null (disabled) by default
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    public T2 stringPool(StringPool stringPool) {
+        this.stringPool = stringPool;
+        return (T2) this;
+    }
+
     T2 buildConfiguration() {
-        factory = new JSONImplFactory(this.jsonStoreEnabled);
+        if (stringPool != null && mbeanEnabled) {
+            stringPool.register();
+        }
+        factory = new JSONImplFactory(this.jsonStoreEnabled, this.fieldProjection.withStringPool(this.stringPool), this.userCache);
         http = new HttpClient(httpProxyHost
                 , httpProxyPort, httpProxyUser, httpProxyPassword, httpProxySocks, httpRetryCount
                 , httpRetryIntervalSeconds, httpConnectionTimeout, httpReadTimeout, prettyDebug
                 ,
-                gzipEnabled);
+                gzipEnabled, httpTransport, httpConnectionPoolSize);
+        streamHttp = new HttpClient(httpProxyHost
+                , httpProxyPort, httpProxyUser, httpProxyPassword, httpProxySocks, httpRetryCount
+                , httpRetryIntervalSeconds, httpConnectionTimeout, httpStreamingReadTimeout, prettyDebug
+                ,
+                gzipEnabled, httpTransport, httpConnectionPoolSize);
+        // turning off keepalive connection explicitly because Streaming API doesn't need keepalive connection.
+        // and this will reduce the shutdown latency of streaming api connection
+        // see also - http://jira.twitter4j.org/browse/TFJ-556
+        streamHttp.addDefaultRequestHeader("Connection", "close");
         String consumerKey = this.oAuthConsumerKey;
         String consumerSecret = this.oAuthConsumerSecret;
 
-        if (consumerKey != null && consumerSecret != null) {
+        if (authorization != null) {
+            auth = authorization;
+        } else if (consumerKey != null && consumerSecret != null) {
             if (this.applicationOnlyAuthEnabled) {
                 auth = new OAuth2Authorization(this);
             } else {
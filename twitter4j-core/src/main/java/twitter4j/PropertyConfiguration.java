@@ -16,6 +16,10 @@
 
 package twitter4j;
 
+import twitter4j.v1.RateLimitPolicy;
+import twitter4j.v1.StreamOverflowPolicy;
+import twitter4j.v1.StreamPartitionKey;
+
 import java.io.*;
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -47,6 +51,8 @@ final class PropertyConfiguration {
 
     private static final String HTTP_RETRY_COUNT = "http.retryCount";
     private static final String HTTP_RETRY_INTERVAL_SECS = "http.retryIntervalSecs";
+    private static final String HTTP_TRANSPORT = "http.transport";
+    private static final String HTTP_CONNECTION_POOL_SIZE = "http.connectionPoolSize";
 
     private static final String OAUTH_CONSUMER_KEY = "oauth.consumerKey";
     private static final String OAUTH_CONSUMER_SECRET = "oauth.consumerSecret";
@@ -66,13 +72,34 @@ final class PropertyConfiguration {
     private static final String REST_BASE_URL = "restBaseURL";
     private static final String STREAM_BASE_URL = "streamBaseURL";
     private static final String STREAM_THREAD_NAME = "streamThreadName";
+    private static final String ASYNC_NUM_THREADS = "async.numThreads";
+    private static final String STREAM_QUEUE_CAPACITY = "stream.queueCapacity";
+    private static final String STREAM_OVERFLOW_POLICY = "stream.overflowPolicy";
+    private static final String STREAM_DISPATCH_THREADS = "stream.dispatchThreads";
+    private static final String STREAM_PARTITION_KEY = "stream.partitionKey";
+    private static final String STREAM_LAZY_STATUS_ENABLED = "stream.lazyStatusEnabled";
+    private static final String STREAM_STALL_TIMEOUT = "stream.stallTimeout";
+    private static final String STREAM_FILTER_OVERLAP = "stream.filterOverlap";
 
     private static final String CONTRIBUTING_TO = "contributingTo";
     private static final String INCLUDE_ENTITIES = "includeEntities";
     private static final String INCLUDE_EXT_ALT_TEXT = "includeExtAltText";
     private static final String TWEET_MODE_EXTENDED = "tweetModeExtended";
     private static final String JSON_STORE_ENABLED = "jsonStoreEnabled";
+    private static final String PROJECTION_STATUS_FIELDS = "projection.statusFields";
+    private static final String PROJECTION_USER_FIELDS = "projection.userFields";
+    private static final String PROJECTION_PLACE_FIELDS = "projection.placeFields";
     private static final String MBEAN_ENABLED = "mbeanEnabled";
+    private static final String RATE_LIMIT_POLICY = "rateLimitPolicy";
+    private static final String LOOKUP_COALESCING_WINDOW_MILLIS = "lookupCoalescing.windowMillis";
+    private static final String LOOKUP_COALESCING_BATCH_SIZE = "lookupCoalescing.batchSize";
+    private static final String SINGLE_FLIGHT_ENDPOINTS = "singleFlight.endpoints";
+    private static final String RESPONSE_CACHE_MAX_ENTRIES = "responseCache.maxEntries";
+    private static final String RESPONSE_CACHE_TTLS = "responseCache.ttls";
+    private static final String USER_CACHE_MAX_ENTRIES = "userCache.maxEntries";
+    private static final String USER_CACHE_MAX_AGE_SECONDS = "userCache.maxAgeSeconds";
+    private static final String STRING_POOL_MAX_ENTRIES = "stringPool.maxEntries";
+    private static final String STRING_POOL_FIELDS = "stringPool.fields";
     private static final String STREAM_STALL_WARNINGS_ENABLED = "stream.enableStallWarnings";
     private static final String APPLICATION_ONLY_AUTH_ENABLED = "enableApplicationOnlyAuth";
 
@@ -199,6 +226,12 @@ final class PropertyConfiguration {
         if (notNull(props, HTTP_RETRY_INTERVAL_SECS)) {
             conf.httpRetryIntervalSeconds(getIntProperty(props, HTTP_RETRY_INTERVAL_SECS));
         }
+        if (notNull(props, HTTP_TRANSPORT)) {
+            conf.httpTransport(getString(props, HTTP_TRANSPORT));
+        }
+        if (notNull(props, HTTP_CONNECTION_POOL_SIZE)) {
+            conf.httpConnectionPoolSize(getIntProperty(props, HTTP_CONNECTION_POOL_SIZE));
+        }
         if (notNull(props, OAUTH_CONSUMER_KEY)) {
             conf.oAuthConsumerKey = getString(props, OAUTH_CONSUMER_KEY);
         }
@@ -223,6 +256,67 @@ final class PropertyConfiguration {
         if (notNull(props, STREAM_THREAD_NAME)) {
             conf.streamThreadName = getString(props, STREAM_THREAD_NAME);
         }
+        if (notNull(props, STREAM_QUEUE_CAPACITY)) {
+            conf.streamQueueCapacity(getIntProperty(props, STREAM_QUEUE_CAPACITY));
+        }
+        if (notNull(props, STREAM_OVERFLOW_POLICY)) {
+            conf.streamOverflowPolicy(StreamOverflowPolicy.valueOf(getString(props, STREAM_OVERFLOW_POLICY).toUpperCase()));
+        }
+        if (notNull(props, STREAM_DISPATCH_THREADS)) {
+            conf.streamDispatchThreads(getIntProperty(props, STREAM_DISPATCH_THREADS));
+        }
+        if (notNull(props, STREAM_PARTITION_KEY)) {
+            conf.streamPartitionKey(StreamPartitionKey.valueOf(getString(props, STREAM_PARTITION_KEY).toUpperCase()));
+        }
+        if (notNull(props, STREAM_LAZY_STATUS_ENABLED)) {
+            conf.streamLazyStatusEnabled(getBoolean(props, STREAM_LAZY_STATUS_ENABLED));
+        }
+        if (notNull(props, STREAM_STALL_TIMEOUT)) {
+            conf.streamStallTimeout(getIntProperty(props, STREAM_STALL_TIMEOUT));
+        }
+        if (notNull(props, STREAM_FILTER_OVERLAP)) {
+            conf.streamFilterOverlap(getIntProperty(props, STREAM_FILTER_OVERLAP));
+        }
+        if (notNull(props, RATE_LIMIT_POLICY)) {
+            conf.rateLimitPolicy(RateLimitPolicy.valueOf(getString(props, RATE_LIMIT_POLICY).toUpperCase()));
+        }
+        if (notNull(props, LOOKUP_COALESCING_WINDOW_MILLIS)) {
+            conf.lookupCoalescingWindowMillis(getIntProperty(props, LOOKUP_COALESCING_WINDOW_MILLIS));
+        }
+        if (notNull(props, LOOKUP_COALESCING_BATCH_SIZE)) {
+            conf.lookupCoalescingBatchSize(getIntProperty(props, LOOKUP_COALESCING_BATCH_SIZE));
+        }
+        if (notNull(props, SINGLE_FLIGHT_ENDPOINTS)) {
+            conf.singleFlight(SingleFlight.of(getString(props, SINGLE_FLIGHT_ENDPOINTS).split(",")));
+        }
+        if (notNull(props, RESPONSE_CACHE_TTLS)) {
+            // e.g. /help/languages:86400,/trends/available:3600
+            ResponseCache responseCache = ResponseCache.of(notNull(props, RESPONSE_CACHE_MAX_ENTRIES)
+                    ? getIntProperty(props, RESPONSE_CACHE_MAX_ENTRIES) : 1000);
+            for (String ttl : getString(props, RESPONSE_CACHE_TTLS).split(",")) {
+                int colon = ttl.lastIndexOf(':');
+                responseCache.ttl(ttl.substring(0, colon), Integer.parseInt(ttl.substring(colon + 1).trim()));
+            }
+            conf.responseCache(responseCache);
+        }
+        if (notNull(props, USER_CACHE_MAX_ENTRIES)) {
+            UserCache userCache = UserCache.of(getIntProperty(props, USER_CACHE_MAX_ENTRIES));
+            if (notNull(props, USER_CACHE_MAX_AGE_SECONDS)) {
+                userCache.maxAge(getIntProperty(props, USER_CACHE_MAX_AGE_SECONDS));
+            }
+            conf.userCache(userCache);
+        }
+        if (notNull(props, STRING_POOL_MAX_ENTRIES)) {
+            StringPool stringPool = StringPool.of(getIntProperty(props, STRING_POOL_MAX_ENTRIES));
+            if (notNull(props, STRING_POOL_FIELDS)) {
+                // e.g. status.lang,user.lang,user.time_zone
+                stringPool.fields(getString(props, STRING_POOL_FIELDS).split(","));
+            }
+            conf.stringPool(stringPool);
+        }
+        if (notNull(props, ASYNC_NUM_THREADS)) {
+            conf.asyncNumThreads(getIntProperty(props, ASYNC_NUM_THREADS));
+        }
         if (notNull(props, CONTRIBUTING_TO)) {
             conf.contributingTo = getLongProperty(props, CONTRIBUTING_TO);
         }
@@ -269,6 +363,15 @@ final class PropertyConfiguration {
         if (notNull(props, JSON_STORE_ENABLED)) {
             conf.jsonStoreEnabled = getBoolean(props, JSON_STORE_ENABLED);
         }
+        if (notNull(props, PROJECTION_STATUS_FIELDS)) {
+            conf.fieldProjection(conf.fieldProjection.statusFields(getFieldNames(props, PROJECTION_STATUS_FIELDS)));
+        }
+        if (notNull(props, PROJECTION_USER_FIELDS)) {
+            conf.fieldProjection(conf.fieldProjection.userFields(getFieldNames(props, PROJECTION_USER_FIELDS)));
+        }
+        if (notNull(props, PROJECTION_PLACE_FIELDS)) {
+            conf.fieldProjection(conf.fieldProjection.placeFields(getFieldNames(props, PROJECTION_PLACE_FIELDS)));
+        }
         if (notNull(props, MBEAN_ENABLED)) {
             conf.mbeanEnabled = getBoolean(props, MBEAN_ENABLED);
         }
@@ -306,4 +409,8 @@ final class PropertyConfiguration {
     private static String getString(Properties props, String name) {
         return props.getProperty(name);
     }
+
+    private static String[] getFieldNames(Properties props, String name) {
+        return props.getProperty(name).trim().split("\\s*,\\s*");
+    }
 }
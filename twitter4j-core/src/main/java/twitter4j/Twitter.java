@@ -103,6 +103,36 @@ public interface Twitter extends java.io.Serializable {
         }
 
 
+        /**
+         * Messages still waiting in a batch are delivered when the stream is closed.
+         *
+         * @param statusBatchListener receives statuses, deletion notices and track limitation notices in batches
+         * @param maxBatchSize        number of messages delivered as a batch at most
+         * @param maxLatencyMillis    milliseconds the first message of a batch waits at most before being delivered
+         * @return this instance
+         * @since Twitter4J 4.1.3
+         */
+        public Twitter.TwitterBuilder listener(@NotNull StatusBatchListener statusBatchListener, int maxBatchSize,
+                                               int maxLatencyMillis) {
+            this.streamListeners.add(new BatchingStatusListener(statusBatchListener, maxBatchSize, maxLatencyMillis));
+            return this;
+        }
+
+        /**
+         * The list handed to the listener is reused for the following batches and cleared once the call returns. Copy
+         * it, like {@code new ArrayList<>(statuses)}, to keep the statuses or to hand them to another thread.
+         *
+         * @param maxBatchSize     number of statuses delivered as a batch at most
+         * @param maxLatencyMillis milliseconds the first status of a batch waits at most before being delivered
+         * @param onStatusBatch    listener. the list is valid only during the call and must be copied to be retained
+         * @return this instance
+         * @since Twitter4J 4.1.3
+         */
+        public Twitter.TwitterBuilder onStatusBatch(int maxBatchSize, int maxLatencyMillis,
+                                                    @NotNull Consumer<List<Status>> onStatusBatch) {
+            return listener((StatusBatchListener) onStatusBatch::accept, maxBatchSize, maxLatencyMillis);
+        }
+
         /**
          * @param onStatus listener
          * @return this instance
@@ -51,6 +51,10 @@ public class TwitterException extends Exception implements TwitterResponse, Http
      * errorMessage
      */
     private String errorMessage = null;
+    /**
+     * rate limit status of a request held back by the client
+     */
+    private RateLimitStatus rateLimitStatus;
 
     /**
      * @param message message
@@ -99,6 +103,16 @@ public class TwitterException extends Exception implements TwitterResponse, Http
         this.statusCode = statusCode;
     }
 
+    /**
+     * @param message         message
+     * @param rateLimitStatus rate limit status of the request held back by the client
+     * @since Twitter4J 4.1.3
+     */
+    TwitterException(String message, RateLimitStatus rateLimitStatus) {
+        this(message, null, TOO_MANY_REQUESTS);
+        this.rateLimitStatus = rateLimitStatus;
+    }
+
     @Override
     public String getMessage() {
         StringBuilder value = new StringBuilder();
@@ -163,7 +177,7 @@ public class TwitterException extends Exception implements TwitterResponse, Http
     @Override
     public RateLimitStatus getRateLimitStatus() {
         if (null == response) {
-            return null;
+            return rateLimitStatus;
         }
         return JSONImplFactory.createRateLimitStatusFromResponseHeader(response);
     }
@@ -188,7 +202,7 @@ public class TwitterException extends Exception implements TwitterResponse, Http
      */
     public int getRetryAfter() {
         int retryAfter = -1;
-        if (this.statusCode == 400) {
+        if (this.statusCode == 400 || this.rateLimitStatus != null) {
             RateLimitStatus rateLimitStatus = getRateLimitStatus();
             if (rateLimitStatus != null) {
                 retryAfter = rateLimitStatus.getSecondsUntilReset();
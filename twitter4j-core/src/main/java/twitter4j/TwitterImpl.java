@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import static twitter4j.HttpResponseCode.*;
@@ -43,6 +44,7 @@ class TwitterImpl implements Twitter, HttpResponseListener, Serializable {
     private static final long serialVersionUID = 9170943084096085770L;
 
     private final HttpClient http;
+    private final HttpClient streamHttp;
     private final String IMPLICIT_PARAMS_STR;
     private final HttpParameter[] IMPLICIT_PARAMS;
     private final ObjectFactory factory;
@@ -57,6 +59,21 @@ class TwitterImpl implements Twitter, HttpResponseListener, Serializable {
     private final boolean stallWarningsEnabled;
     private final boolean prettyDebug;
     private final boolean jsonStoreEnabled;
+    private final boolean streamLazyStatusEnabled;
+    private final int asyncNumThreads;
+    private final int streamQueueCapacity;
+    private final StreamOverflowPolicy streamOverflowPolicy;
+    private final RateLimitPolicy rateLimitPolicy;
+    private final int lookupCoalescingWindowMillis;
+    private final int lookupCoalescingBatchSize;
+    private final SingleFlight singleFlight;
+    private final ResponseCache responseCache;
+    private final UserCache userCache;
+    private final int streamDispatchThreads;
+    private final StreamPartitionKey streamPartitionKey;
+    private final int streamStallTimeout;
+    private final int streamFilterOverlap;
+    private transient Executor asyncExecutor;
 
 
     private transient List<Consumer<RateLimitStatusEvent>> rateLimitStatusListeners;
@@ -75,6 +92,7 @@ class TwitterImpl implements Twitter, HttpResponseListener, Serializable {
         this.uploadBaseURL = conf.uploadBaseURL;
 
         this.http = conf.http;
+        this.streamHttp = conf.streamHttp;
         this.auth = conf.auth;
         this.mbeanEnabled = conf.mbeanEnabled;
 
@@ -119,7 +137,22 @@ class TwitterImpl implements Twitter, HttpResponseListener, Serializable {
         streamBaseURL = conf.streamBaseURL;
         streamThreadName = conf.streamThreadName;
         jsonStoreEnabled = conf.jsonStoreEnabled;
+        streamLazyStatusEnabled = conf.streamLazyStatusEnabled;
         prettyDebug = conf.prettyDebug;
+        asyncNumThreads = conf.asyncNumThreads;
+        streamQueueCapacity = conf.streamQueueCapacity;
+        streamOverflowPolicy = conf.streamOverflowPolicy;
+        rateLimitPolicy = conf.rateLimitPolicy;
+        lookupCoalescingWindowMillis = conf.lookupCoalescingWindowMillis;
+        lookupCoalescingBatchSize = conf.lookupCoalescingBatchSize;
+        singleFlight = conf.singleFlight;
+        responseCache = conf.responseCache;
+        userCache = conf.userCache;
+        streamDispatchThreads = conf.streamDispatchThreads;
+        streamPartitionKey = conf.streamPartitionKey;
+        streamStallTimeout = conf.streamStallTimeout;
+        streamFilterOverlap = conf.streamFilterOverlap;
+        asyncExecutor = conf.asyncExecutor;
         if (conf instanceof TwitterBuilder) {
             TwitterBuilder builder = (TwitterBuilder) conf;
             connectionLifeCycleListeners = builder.connectionLifeCycleListeners;
@@ -138,9 +171,15 @@ class TwitterImpl implements Twitter, HttpResponseListener, Serializable {
     }
 
     void initTransients() {
+        if (asyncExecutor == null) {
+            asyncExecutor = AsyncResourceBase.newExecutor(asyncNumThreads);
+        }
         twitterV1 = new TwitterV1Impl(http, factory, restBaseURL, streamBaseURL, uploadBaseURL, auth, mbeanEnabled, IMPLICIT_PARAMS,
-                IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners, streamThreadName, connectionLifeCycleListeners,
-                streamListeners, rawStreamListeners, jsonStoreEnabled, prettyDebug, stallWarningsEnabled);
+                IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners, rateLimitPolicy,
+                lookupCoalescingWindowMillis, lookupCoalescingBatchSize, singleFlight, responseCache, userCache, streamThreadName, connectionLifeCycleListeners,
+                streamListeners, rawStreamListeners, jsonStoreEnabled, streamLazyStatusEnabled, prettyDebug, stallWarningsEnabled,
+                streamHttp, streamQueueCapacity, streamOverflowPolicy, streamDispatchThreads, streamPartitionKey,
+                streamStallTimeout, streamFilterOverlap, asyncExecutor);
     }
 
     @Override
@@ -186,7 +225,7 @@ class TwitterImpl implements Twitter, HttpResponseListener, Serializable {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         TwitterImpl twitter = (TwitterImpl) o;
-        return mbeanEnabled == twitter.mbeanEnabled && stallWarningsEnabled == twitter.stallWarningsEnabled && prettyDebug == twitter.prettyDebug && jsonStoreEnabled == twitter.jsonStoreEnabled && Objects.equals(http, twitter.http) && Objects.equals(IMPLICIT_PARAMS_STR, twitter.IMPLICIT_PARAMS_STR) && Arrays.equals(IMPLICIT_PARAMS, twitter.IMPLICIT_PARAMS) && Objects.equals(factory, twitter.factory) && Objects.equals(restBaseURL, twitter.restBaseURL) && Objects.equals(uploadBaseURL, twitter.uploadBaseURL) && Objects.equals(streamBaseURL, twitter.streamBaseURL) && Objects.equals(streamThreadName, twitter.streamThreadName) && Objects.equals(connectionLifeCycleListeners, twitter.connectionLifeCycleListeners) && Objects.equals(streamListeners, twitter.streamListeners) && Objects.equals(rawStreamListeners, twitter.rawStreamListeners) && Objects.equals(rateLimitStatusListeners, twitter.rateLimitStatusListeners) && Objects.equals(rateLimitReachedListeners, twitter.rateLimitReachedListeners) && Objects.equals(twitterV1, twitter.twitterV1) && auth.equals(twitter.auth);
+        return mbeanEnabled == twitter.mbeanEnabled && stallWarningsEnabled == twitter.stallWarningsEnabled && prettyDebug == twitter.prettyDebug && jsonStoreEnabled == twitter.jsonStoreEnabled && streamLazyStatusEnabled == twitter.streamLazyStatusEnabled && Objects.equals(http, twitter.http) && Objects.equals(IMPLICIT_PARAMS_STR, twitter.IMPLICIT_PARAMS_STR) && Arrays.equals(IMPLICIT_PARAMS, twitter.IMPLICIT_PARAMS) && Objects.equals(factory, twitter.factory) && Objects.equals(restBaseURL, twitter.restBaseURL) && Objects.equals(uploadBaseURL, twitter.uploadBaseURL) && Objects.equals(streamBaseURL, twitter.streamBaseURL) && Objects.equals(streamThreadName, twitter.streamThreadName) && Objects.equals(connectionLifeCycleListeners, twitter.connectionLifeCycleListeners) && Objects.equals(streamListeners, twitter.streamListeners) && Objects.equals(rawStreamListeners, twitter.rawStreamListeners) && Objects.equals(rateLimitStatusListeners, twitter.rateLimitStatusListeners) && Objects.equals(rateLimitReachedListeners, twitter.rateLimitReachedListeners) && Objects.equals(twitterV1, twitter.twitterV1) && auth.equals(twitter.auth);
     }
 
     @Override
@@ -212,6 +251,7 @@ class TwitterImpl implements Twitter, HttpResponseListener, Serializable {
                 ", stallWarningsEnabled=" + stallWarningsEnabled +
                 ", prettyDebug=" + prettyDebug +
                 ", jsonStoreEnabled=" + jsonStoreEnabled +
+                ", streamLazyStatusEnabled=" + streamLazyStatusEnabled +
                 ", rateLimitStatusListeners=" + rateLimitStatusListeners +
                 ", rateLimitReachedListeners=" + rateLimitReachedListeners +
                 ", twitterV1=" + twitterV1 +
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import twitter4j.v1.StallWarning;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusBatchListener;
+import twitter4j.v1.StatusDeletionNotice;
+import twitter4j.v1.StatusListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Collects the messages delivered by the dispatcher into batches for a {@link StatusBatchListener}.<br>
+ * A batch is delivered on the dispatcher thread adding the message that fills it, or on the batching timer thread
+ * once its first message has waited for the maximum latency. The buffer of each kind of message is reused, and the
+ * dispatcher waits while a batch is being delivered.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class BatchingStatusListener implements StatusListener {
+    private static final Logger logger = Logger.getLogger();
+    private static final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread thread = new Thread(r, "Twitter4J Stream Batching Timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        // batches filled up before the latency expires cancel their flush
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    private final StatusBatchListener listener;
+    private final int maxBatchSize;
+    private final int maxLatencyMillis;
+    private final Batch<Status> statuses;
+    private final Batch<StatusDeletionNotice> deletionNotices;
+    private final Batch<Integer> trackLimitationNotices;
+
+    /**
+     * @param listener         listener receiving the batches
+     * @param maxBatchSize     number of messages delivered as a batch at most
+     * @param maxLatencyMillis milliseconds the first message of a batch waits at most
+     */
+    BatchingStatusListener(StatusBatchListener listener, int maxBatchSize, int maxLatencyMillis) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (maxLatencyMillis < 1) {
+            throw new IllegalArgumentException("maxLatencyMillis must be positive: " + maxLatencyMillis);
+        }
+        this.listener = listener;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.statuses = new Batch<>(listener::onStatusBatch);
+        this.deletionNotices = new Batch<>(listener::onDeletionNoticeBatch);
+        this.trackLimitationNotices = new Batch<>(listener::onTrackLimitationNoticeBatch);
+    }
+
+    /**
+     * Delivers the pending messages without waiting for the batches to fill up.
+     */
+    void flush() {
+        statuses.flush();
+        deletionNotices.flush();
+        trackLimitationNotices.flush();
+    }
+
+    @Override
+    public void onStatus(Status status) {
+        statuses.add(status);
+    }
+
+    @Override
+    public void onDeletionNotice(StatusDeletionNotice statusDeletionNotice) {
+        deletionNotices.add(statusDeletionNotice);
+    }
+
+    @Override
+    public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+        trackLimitationNotices.add(numberOfLimitedStatuses);
+    }
+
+    @Override
+    public void onScrubGeo(long userId, long upToStatusId) {
+        listener.onScrubGeo(userId, upToStatusId);
+    }
+
+    @Override
+    public void onStallWarning(StallWarning warning) {
+        listener.onStallWarning(warning);
+    }
+
+    @Override
+    public void onException(Exception ex) {
+        listener.onException(ex);
+    }
+
+    @Override
+    public void onMessageDropped(String rawMessage, long droppedCount) {
+        listener.onMessageDropped(rawMessage, droppedCount);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchingStatusListener{" +
+                "listener=" + listener +
+                ", maxBatchSize=" + maxBatchSize +
+                ", maxLatencyMillis=" + maxLatencyMillis +
+                '}';
+    }
+
+    private final class Batch<T> implements Runnable {
+        private final List<T> buffer = new ArrayList<>(maxBatchSize);
+        private final List<T> view = Collections.unmodifiableList(buffer);
+        private final Consumer<List<T>> delivery;
+        private ScheduledFuture<?> latency = null;
+
+        Batch(Consumer<List<T>> delivery) {
+            this.delivery = delivery;
+        }
+
+        synchronized void add(T message) {
+            buffer.add(message);
+            if (buffer.size() >= maxBatchSize) {
+                flush();
+            } else if (latency == null) {
+                latency = timer.schedule(this, maxLatencyMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public synchronized void run() {
+            if (latency != null && latency.getDelay(TimeUnit.MILLISECONDS) <= 0) {
+                flush();
+            }
+            // otherwise the batch has been delivered meanwhile, and a new one is waiting for its own flush
+        }
+
+        synchronized void flush() {
+            if (latency != null) {
+                latency.cancel(false);
+                latency = null;
+            }
+            if (buffer.isEmpty()) {
+                return;
+            }
+            try {
+                delivery.accept(view);
+            } catch (Exception e) {
+                logger.warn(e.getMessage());
+            } finally {
+                buffer.clear();
+            }
+        }
+    }
+}
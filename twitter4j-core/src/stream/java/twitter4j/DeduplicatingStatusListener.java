@@ -0,0 +1,124 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import twitter4j.v1.StallWarning;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusDeletionNotice;
+import twitter4j.v1.StatusListener;
+import twitter4j.v1.StreamListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Merges the messages of multiple connections into the listeners, delivering each status and deletion notice once.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class DeduplicatingStatusListener implements StatusListener {
+    /**
+     * number of recent status ids remembered to drop duplicates. Duplicates arrive within moments of each other
+     */
+    private static final int WINDOW = 10000;
+
+    private final List<StreamListener> listeners;
+    private final boolean serializeDelivery;
+    private final StatusIdWindow statuses = new StatusIdWindow(WINDOW);
+    private final StatusIdWindow deletions = new StatusIdWindow(WINDOW);
+    private final LongAdder duplicates = new LongAdder();
+
+    /**
+     * @param listeners         listeners receiving the merged messages
+     * @param serializeDelivery true to call the listeners from one thread at a time
+     */
+    DeduplicatingStatusListener(List<StreamListener> listeners, boolean serializeDelivery) {
+        this.listeners = listeners;
+        this.serializeDelivery = serializeDelivery;
+    }
+
+    /**
+     * @return number of statuses and deletion notices dropped as already delivered
+     */
+    long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    @Override
+    public void onStatus(Status status) {
+        if (statuses.add(status.getId())) {
+            deliver(listener -> ((StatusListener) listener).onStatus(status));
+        } else {
+            duplicates.increment();
+        }
+    }
+
+    @Override
+    public void onDeletionNotice(StatusDeletionNotice statusDeletionNotice) {
+        if (deletions.add(statusDeletionNotice.getStatusId())) {
+            deliver(listener -> ((StatusListener) listener).onDeletionNotice(statusDeletionNotice));
+        } else {
+            duplicates.increment();
+        }
+    }
+
+    @Override
+    public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+        deliver(listener -> ((StatusListener) listener).onTrackLimitationNotice(numberOfLimitedStatuses));
+    }
+
+    @Override
+    public void onScrubGeo(long userId, long upToStatusId) {
+        deliver(listener -> ((StatusListener) listener).onScrubGeo(userId, upToStatusId));
+    }
+
+    @Override
+    public void onStallWarning(StallWarning warning) {
+        deliver(listener -> ((StatusListener) listener).onStallWarning(warning));
+    }
+
+    @Override
+    public void onException(Exception ex) {
+        deliver(listener -> listener.onException(ex));
+    }
+
+    @Override
+    public void onMessageDropped(String rawMessage, long droppedCount) {
+        // called on the reader thread of the connection
+        listeners.forEach(listener -> listener.onMessageDropped(rawMessage, droppedCount));
+    }
+
+    private void deliver(Consumer<StreamListener> event) {
+        if (serializeDelivery) {
+            synchronized (this) {
+                listeners.forEach(event);
+            }
+        } else {
+            listeners.forEach(event);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DeduplicatingStatusListener{" +
+                "listeners=" + listeners +
+                ", serializeDelivery=" + serializeDelivery +
+                ", duplicates=" + duplicates +
+                '}';
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Splits a filter query across multiple connections and merges their statuses into the listeners of one stream.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+class ShardedFilterStreamImpl implements ShardedFilterStream {
+    private final TwitterStream[] shards;
+    private final FilterQuery[] queries;
+    /**
+     * connection of each predicate, in the order added
+     */
+    private final Map<Long, Integer> follows = new LinkedHashMap<>();
+    private final Map<String, Integer> tracks = new LinkedHashMap<>();
+    /**
+     * number of follow ids and track terms of each connection
+     */
+    private final int[] followLoad;
+    private final int[] trackLoad;
+    private FilterQuery base = null;
+    private final DeduplicatingStatusListener merger;
+
+    /**
+     * @param connections       number of connections
+     * @param listeners         listeners receiving the merged statuses
+     * @param serializeDelivery true to call the listeners from one thread at a time
+     * @param newShard          creates the connection of the given index delivering to the given listener
+     */
+    ShardedFilterStreamImpl(int connections, List<StreamListener> listeners, boolean serializeDelivery,
+                            BiFunction<Integer, StatusListener, TwitterStream> newShard) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be positive: " + connections);
+        }
+        this.merger = new DeduplicatingStatusListener(listeners, serializeDelivery);
+        this.shards = new TwitterStream[connections];
+        this.queries = new FilterQuery[connections];
+        this.followLoad = new int[connections];
+        this.trackLoad = new int[connections];
+        for (int i = 0; i < connections; i++) {
+            shards[i] = newShard.apply(i, merger);
+        }
+    }
+
+    @Override
+    public synchronized ShardedFilterStream filter(FilterQuery query) {
+        base = query;
+        Set<Long> follow = new LinkedHashSet<>();
+        if (query.follow != null) {
+            for (long id : query.follow) {
+                follow.add(id);
+            }
+        }
+        Set<String> track = new LinkedHashSet<>();
+        if (query.track != null) {
+            track.addAll(Arrays.asList(query.track));
+        }
+        new ArrayList<>(follows.keySet()).stream().filter(id -> !follow.contains(id))
+                .forEach(id -> unassign(follows, followLoad, id));
+        new ArrayList<>(tracks.keySet()).stream().filter(term -> !track.contains(term))
+                .forEach(term -> unassign(tracks, trackLoad, term));
+        follow.forEach(id -> assign(follows, followLoad, id));
+        track.forEach(term -> assign(tracks, trackLoad, term));
+        apply();
+        return this;
+    }
+
+    @Override
+    public synchronized ShardedFilterStream follow(long... follow) {
+        for (long id : follow) {
+            assign(follows, followLoad, id);
+        }
+        apply();
+        return this;
+    }
+
+    @Override
+    public synchronized ShardedFilterStream unfollow(long... follow) {
+        for (long id : follow) {
+            unassign(follows, followLoad, id);
+        }
+        apply();
+        return this;
+    }
+
+    @Override
+    public synchronized ShardedFilterStream track(String... track) {
+        for (String term : track) {
+            assign(tracks, trackLoad, term);
+        }
+        apply();
+        return this;
+    }
+
+    @Override
+    public synchronized ShardedFilterStream untrack(String... track) {
+        for (String term : track) {
+            unassign(tracks, trackLoad, term);
+        }
+        apply();
+        return this;
+    }
+
+    @Override
+    public synchronized List<FilterQuery> getShardQueries() {
+        return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(queries)));
+    }
+
+    @Override
+    public long getDuplicateCount() {
+        return merger.getDuplicateCount();
+    }
+
+    @Override
+    public synchronized void cleanUp() {
+        for (TwitterStream shard : shards) {
+            shard.cleanUp();
+        }
+        Arrays.fill(queries, null);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        for (TwitterStream shard : shards) {
+            shard.shutdown();
+        }
+        Arrays.fill(queries, null);
+    }
+
+    /**
+     * assigns the predicate to the connection having the fewest predicates of the kind, unless already assigned
+     */
+    private <K> void assign(Map<K, Integer> assignments, int[] load, K predicate) {
+        if (assignments.containsKey(predicate)) {
+            return;
+        }
+        int leastLoaded = 0;
+        for (int i = 1; i < load.length; i++) {
+            if (load[i] < load[leastLoaded]) {
+                leastLoaded = i;
+            }
+        }
+        assignments.put(predicate, leastLoaded);
+        load[leastLoaded]++;
+    }
+
+    private <K> void unassign(Map<K, Integer> assignments, int[] load, K predicate) {
+        Integer shard = assignments.remove(predicate);
+        if (shard != null) {
+            load[shard]--;
+        }
+    }
+
+    /**
+     * reconnects the connections whose query changed, overlapping the old and new connection
+     */
+    private void apply() {
+        if (base == null) {
+            // not started yet
+            return;
+        }
+        for (int i = 0; i < shards.length; i++) {
+            FilterQuery query = queryOf(i);
+            // FilterQuery#equals does not compare locations
+            if (!Objects.equals(query, queries[i])
+                    || query != null && !Arrays.deepEquals(query.locations, queries[i].locations)) {
+                FilterQuery previous = queries[i];
+                queries[i] = query;
+                if (query == null) {
+                    shards[i].cleanUp();
+                } else if (previous == null) {
+                    shards[i].filter(query);
+                } else {
+                    shards[i].updateFilter(query);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return query of the connection, or null if the connection has no predicate
+     */
+    private FilterQuery queryOf(int shard) {
+        long[] follow = follows.entrySet().stream().filter(e -> e.getValue() == shard)
+                .mapToLong(Map.Entry::getKey).toArray();
+        String[] track = tracks.entrySet().stream().filter(e -> e.getValue() == shard)
+                .map(Map.Entry::getKey).toArray(String[]::new);
+        double[][] locations = shard == 0 && base.locations != null ? base.locations : new double[0][];
+        if (follow.length == 0 && track.length == 0 && locations.length == 0) {
+            return null;
+        }
+        FilterQuery query = FilterQuery.ofFollow(follow).track(track).locations(locations).count(base.count);
+        if (base.language != null) {
+            query = query.language(base.language);
+        }
+        if (base.filterLevel != null) {
+            query = query.filterLevel(base.filterLevel);
+        }
+        return query;
+    }
+
+    /**
+     * @return listener receiving the messages of every connection
+     */
+    StatusListener getMerger() {
+        return merger;
+    }
+
+    @Override
+    public String toString() {
+        return "ShardedFilterStreamImpl{" +
+                "connections=" + shards.length +
+                ", queries=" + Arrays.toString(queries) +
+                ", duplicates=" + merger.getDuplicateCount() +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import java.util.Arrays;
+
+/**
+ * Set of the most recently added status ids, held in two generations of open addressing tables of primitive longs.
+ * Once the current generation holds capacity ids, it becomes the previous one and the oldest generation is dropped,
+ * so that the window remembers at least the last capacity ids.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class StatusIdWindow {
+    /**
+     * marks a free slot. status ids are positive
+     */
+    private static final long FREE = 0L;
+
+    private final int capacity;
+    private long[] current;
+    private long[] previous;
+    private int size = 0;
+
+    StatusIdWindow(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        // keeps the load factor at or below 0.5
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        this.current = new long[tableSize];
+        this.previous = new long[tableSize];
+    }
+
+    /**
+     * @param id status id
+     * @return true if the id was not in the window
+     */
+    synchronized boolean add(long id) {
+        if (id == FREE) {
+            return true;
+        }
+        if (contains(previous, id)) {
+            return false;
+        }
+        int slot = slot(current, id);
+        if (current[slot] == id) {
+            return false;
+        }
+        if (size == capacity) {
+            long[] oldest = previous;
+            previous = current;
+            Arrays.fill(oldest, FREE);
+            current = oldest;
+            size = 0;
+            slot = slot(current, id);
+        }
+        current[slot] = id;
+        size++;
+        return true;
+    }
+
+    private static boolean contains(long[] table, long id) {
+        return table[slot(table, id)] == id;
+    }
+
+    /**
+     * @return slot holding the id, or the free slot the id belongs to
+     */
+    private static int slot(long[] table, long id) {
+        int mask = table.length - 1;
+        long hash = id * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (table[slot] != FREE && table[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
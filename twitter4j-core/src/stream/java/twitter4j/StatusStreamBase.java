@@ -19,13 +19,13 @@ package twitter4j;
 import twitter4j.v1.*;
 
 import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -34,34 +34,49 @@ import java.util.concurrent.Executors;
 @SuppressWarnings({"unused", "RedundantThrows"})
 abstract class StatusStreamBase implements StatusStream {
     static final Logger logger = Logger.getLogger();
+    /**
+     * names of the member a message other than a status starts with. events start with their target or source
+     */
+    private static final String[] CONTROL_MESSAGE_NAMES = {"delete", "limit", "warning", "scrub_geo", "friends",
+            "friends_str", "direct_message", "disconnect", "status_withheld", "user_withheld", "event", "target",
+            "source"};
 
     private boolean streamAlive = true;
+    private volatile boolean stalled = false;
     private final BufferedReader br;
-    private final InputStream is;
+    private final ActivityTrackingInputStream is;
     private HttpResponse response;
-    private final ExecutorService dispatcher = Executors.newFixedThreadPool(1);
+    private final StreamDispatcher dispatcher;
     private final boolean jsonStoreEnabled;
+    private final boolean streamLazyStatusEnabled;
     private final boolean prettyDebug;
     private final List<StreamListener> streamListeners;
     private final List<RawStreamListener> rawStreamListeners;
+    private final UserCache userCache;
 
     /*package*/
 
     StatusStreamBase(InputStream stream, List<StreamListener> streamListeners
-            , List<RawStreamListener> rawStreamListeners, boolean jsonStoreEnabled, boolean prettyDebug) {
-        this.is = stream;
-        this.br = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            , List<RawStreamListener> rawStreamListeners, boolean jsonStoreEnabled, boolean streamLazyStatusEnabled, boolean prettyDebug
+            , StreamDispatcher dispatcher, UserCache userCache) {
+        this.is = new ActivityTrackingInputStream(stream);
+        this.dispatcher = dispatcher;
+        this.br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
         this.streamListeners = streamListeners;
         this.rawStreamListeners = rawStreamListeners;
         this.jsonStoreEnabled = jsonStoreEnabled;
+        this.streamLazyStatusEnabled = streamLazyStatusEnabled;
         this.prettyDebug = prettyDebug;
+        // each bound user retains its own raw JSON form, so the bound users are kept as they are
+        this.userCache = jsonStoreEnabled ? null : userCache;
     }
     /*package*/
 
     StatusStreamBase(HttpResponse response, List<StreamListener> streamListeners
-            , List<RawStreamListener> rawStreamListeners, boolean jsonStoreEnabled, boolean prettyDebug) {
+            , List<RawStreamListener> rawStreamListeners, boolean jsonStoreEnabled, boolean streamLazyStatusEnabled, boolean prettyDebug
+            , StreamDispatcher dispatcher, UserCache userCache) {
         this(response.asStream(), streamListeners
-                , rawStreamListeners, jsonStoreEnabled, prettyDebug);
+                , rawStreamListeners, jsonStoreEnabled, streamLazyStatusEnabled, prettyDebug, dispatcher, userCache);
         this.response = response;
     }
 
@@ -88,7 +103,7 @@ abstract class StatusStreamBase implements StatusStream {
                 //invalidate this status stream
                 throw new IOException("the end of the stream has been reached");
             }
-            dispatcher.execute(new StreamEvent(line) {
+            dispatcher.dispatch(new StreamEvent(line) {
                 @Override
                 public void run() {
                     try {
@@ -102,15 +117,29 @@ abstract class StatusStreamBase implements StatusStream {
                         // SiteStreamsImpl will parse "forUser" attribute
                         line = parseLine(line);
                         if (line != null && line.length() > 0) {
+                            if (logger.isDebugEnabled()) {
+                                // logged apart from parsing, so that debugging takes the same path as production
+                                logger.debug("Received:", prettyDebug ? prettyPrint(line) : line);
+                            }
                             // parsing JSON is an expensive process and can be avoided when all listener are instanceof RawStreamListener
-                            if (jsonStoreEnabled) {
-                                TwitterObjectFactory.clearThreadLocalMap();
+                            if (!isControlMessage(line)) {
+                                // statuses dominate the stream: bind or skim them without building the JSONObject tree
+                                byte[] bytes = streamLazyStatusEnabled ? line.getBytes(StandardCharsets.UTF_8) : null;
+                                Status status = streamLazyStatusEnabled
+                                        ? LazyStatusImpl.createStatus(bytes)
+                                        : StatusJSONImpl.bindStatus(new JSONPullParser(line));
+                                if (status != null) {
+                                    if (jsonStoreEnabled) {
+                                        // the skimmed status already holds the bytes
+                                        TwitterObjectFactory.registerJSONObject(status, streamLazyStatusEnabled ? bytes : line);
+                                    }
+                                    onStatus(userCache == null ? status : userCache.canonicalize(status), listeners);
+                                    return;
+                                }
                             }
+                            // control messages and events, parsed once. or anything the status binding rejected
                             JSONObject json = new JSONObject(line);
                             JSONObjectType.Type event = JSONObjectType.determine(json);
-                            if (logger.isDebugEnabled()) {
-                                logger.debug("Received:", prettyDebug ? json.toString(1) : json.toString());
-                            }
                             switch (event) {
                                 case SENDER:
                                     onSender(json, listeners);
@@ -214,15 +243,50 @@ abstract class StatusStreamBase implements StatusStream {
             });
 
         } catch (IOException ioe) {
+            if (ioe instanceof SocketTimeoutException) {
+                // the streaming read timeout elapsed
+                stalled = true;
+            }
             try {
                 is.close();
             } catch (IOException ignore) {
             }
             boolean isUnexpectedException = streamAlive;
             streamAlive = false;
+            dispatcher.shutdown();
             onClose();
             if (isUnexpectedException) {
-                throw new TwitterException("Stream closed.", ioe);
+                throw new TwitterException(stalled ? "Stream stalled." : "Stream closed.", ioe);
+            }
+        }
+    }
+
+    /**
+     * @return milliseconds elapsed since the last byte, including keep-alive newlines, was read from the connection
+     */
+    long getIdleMillis() {
+        return (System.nanoTime() - is.lastActivity) / 1_000_000;
+    }
+
+    /**
+     * @return true if the connection was lost because no data arrived within the read timeout or the stall timeout
+     */
+    boolean isStalled() {
+        return stalled;
+    }
+
+    /**
+     * Fails the pending read as a network error so that the consumer reconnects. Unlike {@link #close()}, the stream
+     * is not closed on purpose and next() throws TwitterException.
+     */
+    void abort() {
+        stalled = true;
+        if (response != null) {
+            response.disconnect();
+        } else {
+            try {
+                is.close();
+            } catch (IOException ignore) {
             }
         }
     }
@@ -239,6 +303,47 @@ abstract class StatusStreamBase implements StatusStream {
         logger.warn("Unhandled event: onStatus");
     }
 
+    void onStatus(Status status, List<StreamListener> listeners) throws TwitterException {
+        logger.warn("Unhandled event: onStatus");
+    }
+
+    /**
+     * @param line raw message
+     * @return true if the first member of the message names a message other than a status, like {"delete":...}
+     */
+    static boolean isControlMessage(String line) {
+        int pos = skipWhitespace(line, 0);
+        if (pos == line.length() || line.charAt(pos) != '{') {
+            return false;
+        }
+        pos = skipWhitespace(line, pos + 1);
+        if (pos == line.length() || line.charAt(pos) != '"') {
+            return false;
+        }
+        pos++;
+        for (String name : CONTROL_MESSAGE_NAMES) {
+            if (line.startsWith(name, pos) && line.startsWith("\"", pos + name.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(String line, int pos) {
+        while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static String prettyPrint(String line) {
+        try {
+            return new JSONObject(line).toString(1);
+        } catch (JSONException e) {
+            return line;
+        }
+    }
+
     void onDirectMessage(JSONObject json, List<StreamListener> listeners) throws TwitterException, JSONException {
         logger.warn("Unhandled event: onDirectMessage");
     }
@@ -360,6 +465,7 @@ abstract class StatusStreamBase implements StatusStream {
     @Override
     public void close() throws IOException {
         streamAlive = false;
+        dispatcher.shutdown();
         is.close();
         br.close();
         if (response != null) {
@@ -370,6 +476,9 @@ abstract class StatusStreamBase implements StatusStream {
 
     Status asStatus(JSONObject json) throws TwitterException {
         Status status = new StatusJSONImpl(json);
+        if (userCache != null) {
+            userCache.canonicalize(status);
+        }
 
         if (jsonStoreEnabled) {
             TwitterObjectFactory.registerJSONObject(status, json);
@@ -441,4 +550,33 @@ abstract class StatusStreamBase implements StatusStream {
             }
         });
     }
+
+    /**
+     * Records the time of the last read returning data.
+     */
+    private static final class ActivityTrackingInputStream extends FilterInputStream {
+        private volatile long lastActivity = System.nanoTime();
+
+        ActivityTrackingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                lastActivity = System.nanoTime();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                lastActivity = System.nanoTime();
+            }
+            return read;
+        }
+    }
 }
@@ -17,6 +17,9 @@
 package twitter4j;
 
 import twitter4j.v1.RawStreamListener;
+import twitter4j.v1.StallWarning;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusDeletionNotice;
 import twitter4j.v1.StatusListener;
 import twitter4j.v1.StreamListener;
 
@@ -31,9 +34,10 @@ import java.util.List;
  */
 class StatusStreamImpl extends StatusStreamBase {
     StatusStreamImpl(HttpResponse response, List<StreamListener> streamListeners
-            , List<RawStreamListener> rawStreamListeners, boolean jsonStoreEnabled, boolean prettyDebug) throws IOException {
+            , List<RawStreamListener> rawStreamListeners, boolean jsonStoreEnabled, boolean streamLazyStatusEnabled, boolean prettyDebug
+            , StreamDispatcher dispatcher, UserCache userCache) throws IOException {
         super(response, streamListeners
-                , rawStreamListeners, jsonStoreEnabled, prettyDebug);
+                , rawStreamListeners, jsonStoreEnabled, streamLazyStatusEnabled, prettyDebug, dispatcher, userCache);
     }
 
     String line;
@@ -67,8 +71,14 @@ class StatusStreamImpl extends StatusStreamBase {
 
     @Override
     protected void onStatus(JSONObject json, List<StreamListener> listeners) throws TwitterException {
+        onStatus(asStatus(json), listeners);
+    }
+
+    @Override
+    protected void onStatus(Status status, List<StreamListener> listeners) {
+        // parse once and share the instance among the listeners
         for (StreamListener listener : listeners) {
-            ((StatusListener) listener).onStatus(asStatus(json));
+            ((StatusListener) listener).onStatus(status);
         }
     }
 
@@ -76,32 +86,36 @@ class StatusStreamImpl extends StatusStreamBase {
     protected void onDelete(JSONObject json, List<StreamListener> listeners) throws JSONException {
         JSONObject deletionNotice = json.getJSONObject("delete");
         if (deletionNotice.has("status")) {
+            StatusDeletionNotice statusDeletionNotice = new StatusDeletionNoticeImpl(deletionNotice.getJSONObject("status"));
             for (StreamListener listener : listeners) {
-                ((StatusListener) listener).onDeletionNotice(new StatusDeletionNoticeImpl(deletionNotice.getJSONObject("status")));
+                ((StatusListener) listener).onDeletionNotice(statusDeletionNotice);
             }
         }
     }
 
     @Override
     protected void onLimit(JSONObject json, List<StreamListener> listeners) throws JSONException {
+        int numberOfLimitedStatuses = ParseUtil.getInt("track", json.getJSONObject("limit"));
         for (StreamListener listener : listeners) {
-            ((StatusListener) listener).onTrackLimitationNotice(ParseUtil.getInt("track", json.getJSONObject("limit")));
+            ((StatusListener) listener).onTrackLimitationNotice(numberOfLimitedStatuses);
         }
     }
 
     @Override
     protected void onStallWarning(JSONObject json, List<StreamListener> listeners) throws TwitterException, JSONException {
+        StallWarning warning = new StallWarningImpl(json);
         for (StreamListener listener : listeners) {
-            ((StatusListener) listener).onStallWarning(new StallWarningImpl(json));
+            ((StatusListener) listener).onStallWarning(warning);
         }
     }
 
     @Override
     protected void onScrubGeo(JSONObject json, List<StreamListener> listeners) throws TwitterException, JSONException {
         JSONObject scrubGeo = json.getJSONObject("scrub_geo");
+        long userId = ParseUtil.getLong("user_id", scrubGeo);
+        long upToStatusId = ParseUtil.getLong("up_to_status_id", scrubGeo);
         for (StreamListener listener : listeners) {
-            ((StatusListener) listener).onScrubGeo(ParseUtil.getLong("user_id", scrubGeo)
-                    , ParseUtil.getLong("up_to_status_id", scrubGeo));
+            ((StatusListener) listener).onScrubGeo(userId, upToStatusId);
         }
 
     }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.StreamListener;
+import twitter4j.v1.StreamOverflowPolicy;
+import twitter4j.v1.StreamPartitionKey;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands stream messages over from the reader thread to the dispatch threads through queues bounded by
+ * streamQueueCapacity. {@link StreamOverflowPolicy} decides what happens when a queue is full.<br>
+ * With more than one dispatch thread, messages are partitioned by {@link StreamPartitionKey} and each partition has
+ * its own queue and thread, so messages with the same key are delivered in order.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+class StreamDispatcher {
+    private static final Logger logger = Logger.getLogger();
+
+    private final int capacity;
+    private final StreamOverflowPolicy policy;
+    private final StreamStatistics statistics;
+    private final List<StreamListener> streamListeners;
+    private final StreamPartitionKey partitionKey;
+    private final ThreadPoolExecutor[] partitions;
+
+    StreamDispatcher(int capacity, StreamOverflowPolicy policy, StreamStatistics statistics,
+                     List<StreamListener> streamListeners) {
+        this(capacity, policy, statistics, streamListeners, 1, StreamPartitionKey.STATUS_ID);
+    }
+
+    StreamDispatcher(int capacity, StreamOverflowPolicy policy, StreamStatistics statistics,
+                     List<StreamListener> streamListeners, int threads, StreamPartitionKey partitionKey) {
+        this.capacity = capacity;
+        this.policy = policy;
+        this.statistics = statistics;
+        this.streamListeners = streamListeners;
+        this.partitionKey = partitionKey;
+        this.partitions = new ThreadPoolExecutor[Math.max(1, threads)];
+        for (int i = 0; i < partitions.length; i++) {
+            BlockingQueue<Runnable> queue = capacity > 0 ? new ArrayBlockingQueue<>(capacity) : new LinkedBlockingQueue<>();
+            partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue, new OverflowHandler()) {
+                @Override
+                protected void afterExecute(Runnable r, Throwable t) {
+                    statistics.dispatched();
+                }
+            };
+        }
+        statistics.setDispatcher(this);
+    }
+
+    /**
+     * @param event event to be dispatched
+     */
+    void dispatch(StatusStreamBase.StreamEvent event) {
+        statistics.received();
+        ThreadPoolExecutor executor = partitions[StreamPartitioner.partition(partitionKey, event.line, partitions.length)];
+        if (policy == StreamOverflowPolicy.SAMPLE && capacity > 0) {
+            int threshold = capacity / 2;
+            int size = executor.getQueue().size();
+            if (size >= threshold && ThreadLocalRandom.current().nextInt(capacity - threshold) >= capacity - size) {
+                dropped(event);
+                return;
+            }
+        }
+        executor.execute(event);
+    }
+
+    int getQueueSize() {
+        int size = 0;
+        for (ThreadPoolExecutor partition : partitions) {
+            size += partition.getQueue().size();
+        }
+        return size;
+    }
+
+    int[] getPartitionQueueSizes() {
+        int[] sizes = new int[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            sizes[i] = partitions[i].getQueue().size();
+        }
+        return sizes;
+    }
+
+    /**
+     * stops accepting messages. queued messages will be dispatched.
+     */
+    void shutdown() {
+        for (ThreadPoolExecutor partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    private void dropped(Runnable runnable) {
+        long droppedCount = statistics.dropped();
+        String line = ((StatusStreamBase.StreamEvent) runnable).line;
+        if (logger.isDebugEnabled()) {
+            logger.debug("Dropped: ", line);
+        }
+        for (StreamListener listener : streamListeners) {
+            try {
+                listener.onMessageDropped(line, droppedCount);
+            } catch (Exception ex) {
+                logger.warn(ex.getMessage());
+            }
+        }
+    }
+
+    private class OverflowHandler implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                // stream closed
+                return;
+            }
+            BlockingQueue<Runnable> queue = executor.getQueue();
+            switch (policy) {
+                case BLOCK:
+                    try {
+                        queue.put(r);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped(r);
+                    }
+                    break;
+                case DROP_OLDEST:
+                    while (!queue.offer(r)) {
+                        Runnable oldest = queue.poll();
+                        if (oldest != null) {
+                            dropped(oldest);
+                        }
+                    }
+                    break;
+                case DROP_NEWEST:
+                case SAMPLE:
+                default:
+                    dropped(r);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.StallWarning;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusDeletionNotice;
+
+/**
+ * Message of a status stream, published by StreamPublisher.events().
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public final class StreamEvent {
+    /**
+     * kind of the message
+     */
+    public enum Type {
+        STATUS, DELETION_NOTICE, TRACK_LIMITATION_NOTICE, SCRUB_GEO, STALL_WARNING
+    }
+
+    private final Type type;
+    private final Status status;
+    private final StatusDeletionNotice deletionNotice;
+    private final int numberOfLimitedStatuses;
+    private final long userId;
+    private final long upToStatusId;
+    private final StallWarning stallWarning;
+
+    StreamEvent(Type type, Status status, StatusDeletionNotice deletionNotice, int numberOfLimitedStatuses,
+                long userId, long upToStatusId, StallWarning stallWarning) {
+        this.type = type;
+        this.status = status;
+        this.deletionNotice = deletionNotice;
+        this.numberOfLimitedStatuses = numberOfLimitedStatuses;
+        this.userId = userId;
+        this.upToStatusId = upToStatusId;
+        this.stallWarning = stallWarning;
+    }
+
+    /**
+     * @return kind of the message
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return status, or null unless {@link Type#STATUS}
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return deletion notice, or null unless {@link Type#DELETION_NOTICE}
+     */
+    public StatusDeletionNotice getDeletionNotice() {
+        return deletionNotice;
+    }
+
+    /**
+     * @return number of statuses not delivered since the connection was opened, for
+     * {@link Type#TRACK_LIMITATION_NOTICE}
+     */
+    public int getNumberOfLimitedStatuses() {
+        return numberOfLimitedStatuses;
+    }
+
+    /**
+     * @return user whose geo information is to be scrubbed, for {@link Type#SCRUB_GEO}
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * @return status up to which the geo information is to be scrubbed, for {@link Type#SCRUB_GEO}
+     */
+    public long getUpToStatusId() {
+        return upToStatusId;
+    }
+
+    /**
+     * @return stall warning, or null unless {@link Type#STALL_WARNING}
+     */
+    public StallWarning getStallWarning() {
+        return stallWarning;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamEvent{" +
+                "type=" + type +
+                ", status=" + status +
+                ", deletionNotice=" + deletionNotice +
+                ", numberOfLimitedStatuses=" + numberOfLimitedStatuses +
+                ", userId=" + userId +
+                ", upToStatusId=" + upToStatusId +
+                ", stallWarning=" + stallWarning +
+                '}';
+    }
+}
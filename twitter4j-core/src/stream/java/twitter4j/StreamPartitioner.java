@@ -0,0 +1,172 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.StreamPartitionKey;
+
+/**
+ * Extracts the partition key from a raw stream message without parsing the whole JSON.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class StreamPartitioner {
+    private static final long NOT_FOUND = -1L;
+    private static final String[][] STATUS_ID_PATHS = {{"id"}, {"delete", "status", "id"}};
+    private static final String[][] USER_ID_PATHS = {{"user", "id"}, {"delete", "status", "user_id"},
+            {"scrub_geo", "user_id"}};
+
+    private final String[][] paths;
+    private final String line;
+    private int pos;
+
+    private StreamPartitioner(String[][] paths, String line) {
+        this.paths = paths;
+        this.line = line;
+    }
+
+    /**
+     * @param key        partition key
+     * @param line       raw message
+     * @param partitions number of partitions
+     * @return partition for the message, 0 when the message has no key
+     */
+    static int partition(StreamPartitionKey key, String line, int partitions) {
+        if (partitions <= 1) {
+            return 0;
+        }
+        long id = new StreamPartitioner(key == StreamPartitionKey.USER_ID ? USER_ID_PATHS : STATUS_ID_PATHS, line).find();
+        if (id == NOT_FOUND) {
+            return 0;
+        }
+        // spread sequential ids
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) partitions);
+    }
+
+    private long find() {
+        for (String[] path : paths) {
+            pos = 0;
+            try {
+                skipWhitespace();
+                if (pos < line.length() && line.charAt(pos) == '{') {
+                    long id = findInObject(path, 0);
+                    if (id != NOT_FOUND) {
+                        return id;
+                    }
+                }
+            } catch (IndexOutOfBoundsException | NumberFormatException malformed) {
+                return NOT_FOUND;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @param path  path to the id
+     * @param level index of path to be matched in this object
+     * @return id, or NOT_FOUND
+     */
+    private long findInObject(String[] path, int level) {
+        // skip '{'
+        pos++;
+        while (true) {
+            skipWhitespace();
+            char c = line.charAt(pos);
+            if (c == '}') {
+                pos++;
+                return NOT_FOUND;
+            }
+            if (c == ',') {
+                pos++;
+                continue;
+            }
+            int keyStart = pos + 1;
+            skipString();
+            int keyEnd = pos - 1;
+            skipWhitespace();
+            // skip ':'
+            pos++;
+            skipWhitespace();
+            String name = path[level];
+            if (keyEnd - keyStart == name.length() && line.startsWith(name, keyStart)) {
+                if (level == path.length - 1) {
+                    return readLong();
+                } else if (line.charAt(pos) == '{') {
+                    return findInObject(path, level + 1);
+                } else {
+                    return NOT_FOUND;
+                }
+            }
+            skipValue();
+        }
+    }
+
+    private long readLong() {
+        int start = pos;
+        while (pos < line.length() && (Character.isDigit(line.charAt(pos)) || line.charAt(pos) == '-')) {
+            pos++;
+        }
+        return start == pos ? NOT_FOUND : Long.parseLong(line.substring(start, pos));
+    }
+
+    private void skipValue() {
+        char c = line.charAt(pos);
+        if (c == '"') {
+            skipString();
+        } else if (c == '{' || c == '[') {
+            int depth = 0;
+            do {
+                c = line.charAt(pos);
+                if (c == '"') {
+                    skipString();
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+                pos++;
+            } while (depth > 0);
+        } else {
+            // number, true, false or null
+            while (c != ',' && c != '}' && c != ']') {
+                c = line.charAt(++pos);
+            }
+        }
+    }
+
+    private void skipString() {
+        // skip opening quote
+        pos++;
+        while (true) {
+            char c = line.charAt(pos++);
+            if (c == '\\') {
+                pos++;
+            } else if (c == '"') {
+                return;
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) {
+            pos++;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.Status;
+import twitter4j.v1.TwitterStream;
+
+import java.util.function.Consumer;
+
+/**
+ * Reactive Streams publisher of a status stream, implementing java.util.concurrent.Flow.Publisher.<br>
+ * Requires Java 11 or later, where the version of this class in META-INF/versions/11 is loaded instead. This version
+ * is loaded on earlier versions, and throws UnsupportedOperationException.
+ *
+ * @param <T> type of the published items
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public final class StreamPublisher<T> {
+    private StreamPublisher() {
+        throw new AssertionError("not intended to be instantiated.");
+    }
+
+    /**
+     * @param stream  stream providing the configuration and the credentials
+     * @param connect starts the connection, like {@code stream -> stream.sample()}
+     * @return publisher of the statuses
+     * @throws UnsupportedOperationException always, as Java 11 or later is required
+     */
+    public static StreamPublisher<Status> statuses(TwitterStream stream, Consumer<TwitterStream> connect) {
+        throw unsupported();
+    }
+
+    /**
+     * @param stream     stream providing the configuration and the credentials
+     * @param connect    starts the connection, like {@code stream -> stream.sample()}
+     * @param bufferSize number of messages queued while the subscriber has no outstanding demand
+     * @return publisher of the statuses
+     * @throws UnsupportedOperationException always, as Java 11 or later is required
+     */
+    public static StreamPublisher<Status> statuses(TwitterStream stream, Consumer<TwitterStream> connect,
+                                                   int bufferSize) {
+        throw unsupported();
+    }
+
+    /**
+     * @param stream  stream providing the configuration and the credentials
+     * @param connect starts the connection, like {@code stream -> stream.sample()}
+     * @return publisher of statuses, deletion notices, track limitation notices, scrub geo events and stall warnings
+     * @throws UnsupportedOperationException always, as Java 11 or later is required
+     */
+    public static StreamPublisher<StreamEvent> events(TwitterStream stream, Consumer<TwitterStream> connect) {
+        throw unsupported();
+    }
+
+    /**
+     * @param stream     stream providing the configuration and the credentials
+     * @param connect    starts the connection, like {@code stream -> stream.sample()}
+     * @param bufferSize number of messages queued while the subscriber has no outstanding demand
+     * @return publisher of statuses, deletion notices, track limitation notices, scrub geo events and stall warnings
+     * @throws UnsupportedOperationException always, as Java 11 or later is required
+     */
+    public static StreamPublisher<StreamEvent> events(TwitterStream stream, Consumer<TwitterStream> connect,
+                                                      int bufferSize) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("StreamPublisher requires Java 11 or later. Running on Java "
+                + System.getProperty("java.specification.version"));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.management.StreamStatisticsMBean;
+import twitter4j.v1.StreamOverflowPolicy;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatch statistics of a TwitterStream. Survives reconnections.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+class StreamStatistics implements StreamStatisticsMBean {
+    private static final Logger logger = Logger.getLogger();
+    private static final AtomicInteger count = new AtomicInteger();
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+    private final int queueCapacity;
+    private final StreamOverflowPolicy overflowPolicy;
+    private volatile StreamDispatcher dispatcher;
+    private volatile StatusStreamBase stream;
+    private ObjectName objectName;
+
+    StreamStatistics(int queueCapacity, StreamOverflowPolicy overflowPolicy) {
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    void setDispatcher(StreamDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    synchronized void setStream(StatusStreamBase stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * @param stream stream to stop watching. ignored if another stream has been set since, like on a filter update
+     */
+    synchronized void clearStream(StatusStreamBase stream) {
+        if (this.stream == stream) {
+            this.stream = null;
+        }
+    }
+
+    void stalled() {
+        stalls.increment();
+    }
+
+    void received() {
+        received.increment();
+    }
+
+    void dispatched() {
+        dispatched.increment();
+    }
+
+    long dropped() {
+        dropped.increment();
+        return dropped.sum();
+    }
+
+    @Override
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    @Override
+    public long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public long getStallCount() {
+        return stalls.sum();
+    }
+
+    @Override
+    public long getIdleMillis() {
+        StatusStreamBase stream = this.stream;
+        return stream == null ? -1 : stream.getIdleMillis();
+    }
+
+    @Override
+    public int getQueueSize() {
+        StreamDispatcher dispatcher = this.dispatcher;
+        return dispatcher == null ? 0 : dispatcher.getQueueSize();
+    }
+
+    @Override
+    public int[] getPartitionQueueSizes() {
+        StreamDispatcher dispatcher = this.dispatcher;
+        return dispatcher == null ? new int[0] : dispatcher.getPartitionQueueSizes();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity > 0 ? queueCapacity : -1;
+    }
+
+    @Override
+    public String getOverflowPolicy() {
+        return overflowPolicy.name();
+    }
+
+    @Override
+    public void reset() {
+        received.reset();
+        dispatched.reset();
+        dropped.reset();
+        stalls.reset();
+    }
+
+    /**
+     * registers this instance to the platform MBeanServer as twitter4j.mbean:type=StreamStatistics,name=[streamThreadName]-[n]
+     *
+     * @param streamThreadName stream thread name
+     */
+    synchronized void register(String streamThreadName) {
+        if (objectName != null) {
+            return;
+        }
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName oName = new ObjectName("twitter4j.mbean:type=StreamStatistics,name="
+                    + ObjectName.quote(streamThreadName + "-" + count.incrementAndGet()));
+            mbs.registerMBean(new StandardMBean(this, StreamStatisticsMBean.class), oName);
+            objectName = oName;
+        } catch (InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException |
+                 MalformedObjectNameException e) {
+            logger.error(e.getMessage());
+        }
+    }
+
+    synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (InstanceNotFoundException | MBeanRegistrationException e) {
+            logger.error(e.getMessage());
+        }
+        objectName = null;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamStatistics{" +
+                "received=" + received +
+                ", dispatched=" + dispatched +
+                ", dropped=" + dropped +
+                ", stalls=" + stalls +
+                ", queueCapacity=" + queueCapacity +
+                ", overflowPolicy=" + overflowPolicy +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aborts a stream connection which has received no data for longer than the stall timeout, so that the consumer
+ * reconnects. One daemon thread checks all streams.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class StreamWatchdog implements Runnable {
+    private static final Logger logger = Logger.getLogger();
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "Twitter4J Stream Watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final StatusStreamBase stream;
+    private final int stallTimeout;
+    private volatile ScheduledFuture<?> future;
+
+    private StreamWatchdog(StatusStreamBase stream, int stallTimeout) {
+        this.stream = stream;
+        this.stallTimeout = stallTimeout;
+    }
+
+    /**
+     * @param stream       stream to watch
+     * @param stallTimeout stall timeout in milliseconds
+     * @return watchdog to be cancelled once the stream is closed
+     */
+    static StreamWatchdog watch(StatusStreamBase stream, int stallTimeout) {
+        StreamWatchdog watchdog = new StreamWatchdog(stream, stallTimeout);
+        long interval = Math.max(stallTimeout / 4, 10);
+        watchdog.future = scheduler.scheduleWithFixedDelay(watchdog, interval, interval, TimeUnit.MILLISECONDS);
+        return watchdog;
+    }
+
+    @Override
+    public void run() {
+        long idleMillis = stream.getIdleMillis();
+        if (idleMillis > stallTimeout) {
+            logger.warn("No data received for " + idleMillis + " milliseconds. Reconnecting.");
+            cancel();
+            // disconnecting may block until the pending read fails, so the other streams are not held up
+            Thread aborter = new Thread(stream::abort, "Twitter4J Stream Watchdog abort");
+            aborter.setDaemon(true);
+            aborter.start();
+        }
+    }
+
+    void cancel() {
+        ScheduledFuture<?> future = this.future;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+}
@@ -19,9 +19,14 @@ import org.jetbrains.annotations.NotNull;
 import twitter4j.v1.*;
 
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static twitter4j.HttpResponseCode.FORBIDDEN;
@@ -42,36 +47,63 @@ class TwitterStreamImpl implements TwitterStream {
     private final List<StreamListener> streamListeners;
     private final List<RawStreamListener> rawStreamListeners;
     private final boolean jsonStoreEnabled;
+    private final boolean streamLazyStatusEnabled;
     private final boolean prettyDebug;
 
     private TwitterStreamConsumer handler = null;
+    /**
+     * consumer closed once the handler replacing it has been connected for the filter overlap
+     */
+    private TwitterStreamConsumer retiring = null;
 
+    private final boolean stallWarningsEnabled;
     private final String stallWarningsGetParam;
     private final HttpParameter stallWarningsParam;
 
     private final HttpClient http;
     private final Authorization auth;
 
+    private final int streamQueueCapacity;
+    private final StreamOverflowPolicy streamOverflowPolicy;
+    private final int streamDispatchThreads;
+    private final StreamPartitionKey streamPartitionKey;
+    private final boolean mbeanEnabled;
+    final StreamStatistics statistics;
+    private final UserCache userCache;
+    private final int streamStallTimeout;
+    private final int streamFilterOverlap;
+
     TwitterStreamImpl(String streamBaseURL, String streamThreadName,
                       List<ConnectionLifeCycleListener> connectionLifeCycleListeners,
                       List<StreamListener> streamListeners, List<RawStreamListener> rawStreamListeners,
-                      boolean jsonStoreEnabled, boolean prettyDebug,
-                      boolean stallWarningsEnabled, HttpClient http, Authorization auth) {
+                      boolean jsonStoreEnabled, boolean streamLazyStatusEnabled, boolean prettyDebug,
+                      boolean stallWarningsEnabled, HttpClient http, Authorization auth,
+                      int streamQueueCapacity, StreamOverflowPolicy streamOverflowPolicy,
+                      int streamDispatchThreads, StreamPartitionKey streamPartitionKey, boolean mbeanEnabled,
+                      UserCache userCache, int streamStallTimeout, int streamFilterOverlap) {
         this.streamBaseURL = streamBaseURL;
         this.streamThreadName = streamThreadName;
         this.connectionLifeCycleListeners = connectionLifeCycleListeners;
         this.streamListeners = streamListeners;
         this.rawStreamListeners = rawStreamListeners;
         this.jsonStoreEnabled = jsonStoreEnabled;
+        this.streamLazyStatusEnabled = streamLazyStatusEnabled;
         this.prettyDebug = prettyDebug;
+        this.stallWarningsEnabled = stallWarningsEnabled;
         this.stallWarningsGetParam = "stall_warnings=" + (stallWarningsEnabled ? "true" : "false");
         this.stallWarningsParam = new HttpParameter("stall_warnings", stallWarningsEnabled);
+        // dedicated to streams: applies the streaming read timeout and turns off keepalive connection
         this.http = http;
-        // turning off keepalive connection explicitly because Streaming API doesn't need keepalive connection.
-        // and this will reduce the shutdown latency of streaming api connection
-        // see also - http://jira.twitter4j.org/browse/TFJ-556
-        http.addDefaultRequestHeader("Connection", "close");
         this.auth = auth;
+        this.streamQueueCapacity = streamQueueCapacity;
+        this.streamOverflowPolicy = streamOverflowPolicy;
+        this.streamDispatchThreads = streamDispatchThreads;
+        this.streamPartitionKey = streamPartitionKey;
+        this.mbeanEnabled = mbeanEnabled;
+        this.statistics = new StreamStatistics(streamQueueCapacity, streamOverflowPolicy);
+        this.userCache = userCache;
+        this.streamStallTimeout = streamStallTimeout;
+        this.streamFilterOverlap = streamFilterOverlap;
     }
 
     /* Streaming API */
@@ -133,7 +165,7 @@ class TwitterStreamImpl implements TwitterStream {
             return new StatusStreamImpl(http.post(streamBaseURL + relativeUrl
                     , new HttpParameter[]{new HttpParameter("count", String.valueOf(count))
                             , stallWarningsParam}, auth, null), streamListeners, rawStreamListeners,
-                    jsonStoreEnabled, prettyDebug);
+                    jsonStoreEnabled, streamLazyStatusEnabled, prettyDebug, newDispatcher(), userCache);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -164,7 +196,7 @@ class TwitterStreamImpl implements TwitterStream {
         try {
             return new StatusStreamImpl(http.post(streamBaseURL + "statuses/retweet.json"
                     , new HttpParameter[]{stallWarningsParam}, auth, null), streamListeners, rawStreamListeners,
-                    jsonStoreEnabled, prettyDebug);
+                    jsonStoreEnabled, streamLazyStatusEnabled, prettyDebug, newDispatcher(), userCache);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -208,7 +240,7 @@ class TwitterStreamImpl implements TwitterStream {
         try {
             return new StatusStreamImpl(http.get(streamBaseURL + "statuses/sample.json?"
                     + stallWarningsGetParam, null, auth, null), streamListeners, rawStreamListeners,
-                    jsonStoreEnabled, prettyDebug);
+                    jsonStoreEnabled, streamLazyStatusEnabled, prettyDebug, newDispatcher(), userCache);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -228,7 +260,7 @@ class TwitterStreamImpl implements TwitterStream {
         try {
             return new StatusStreamImpl(http.get(streamBaseURL + "statuses/sample.json?"
                     + stallWarningsGetParam + "&language=" + language, null, auth, null), streamListeners, rawStreamListeners,
-                    jsonStoreEnabled, prettyDebug);
+                    jsonStoreEnabled, streamLazyStatusEnabled, prettyDebug, newDispatcher(), userCache);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -239,15 +271,79 @@ class TwitterStreamImpl implements TwitterStream {
     public TwitterStream filter(final FilterQuery query) {
         auth.isEnabled();
         ensureStatusStreamListenerIsSet();
-        startHandler(new TwitterStreamConsumer(Mode.status) {
-            @Override
-            public StatusStream getStream() throws TwitterException {
-                return getFilterStream(query);
-            }
-        });
+        startHandler(new FilterConsumer(query));
+        return this;
+    }
+
+    @Override
+    public synchronized TwitterStream updateFilter(final FilterQuery query) {
+        if (!(handler instanceof FilterConsumer) || handler.closed) {
+            return filter(query);
+        }
+        auth.isEnabled();
+        ensureStatusStreamListenerIsSet();
+        if (retiring != null && retiring.closed) {
+            // gave up on its own, like on 403
+            retiring = null;
+        }
+        TwitterStreamConsumer current;
+        List<StreamListener> merged;
+        if (retiring != null) {
+            // the previous update is still overlapping. keeps the consumer being retired, which has been connected,
+            // until the next one is connected and drops the one the previous update started
+            current = retiring;
+            merged = retiring.listeners;
+            handler.closeReplaced();
+        } else {
+            current = handler;
+            merged = Collections.singletonList(
+                    new DeduplicatingStatusListener(streamListeners, streamDispatchThreads == 1));
+        }
+        TwitterStreamConsumer next = new FilterConsumer(query);
+        // the next connection keeps de-duplicating to drop statuses the current one delivered first
+        current.listeners = merged;
+        next.listeners = merged;
+        retiring = current;
+        handler = next;
+        next.start();
+        Thread retire = new Thread(() -> retire(current, next), "Twitter4J filter update / " + streamThreadName);
+        retire.setDaemon(true);
+        retire.start();
         return this;
     }
 
+    /**
+     * Closes the current consumer once the next one has been connected for the filter overlap. Keeps the current
+     * consumer if the next one is closed before being connected.
+     */
+    private void retire(TwitterStreamConsumer current, TwitterStreamConsumer next) {
+        boolean connected = next.awaitConnection();
+        if (connected) {
+            try {
+                Thread.sleep(streamFilterOverlap);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (retiring != current || handler != next) {
+                // closed by cleanUp() or superseded by a later update
+                return;
+            }
+            retiring = null;
+            if (connected) {
+                logger.info("Closing the replaced filter stream.");
+                current.closeReplaced();
+                // no more statuses to de-duplicate
+                next.listeners = streamListeners;
+            } else {
+                logger.warn("Keeping the current filter stream as the updated one closed before being connected.");
+                current.listeners = streamListeners;
+                handler = current;
+            }
+        }
+    }
+
     /**
      * Returns public statuses that match one or more filter predicates. At least one predicate parameter, follow, locations, or track must be specified. Multiple parameters may be specified which allows most clients to use a single connection to the Streaming API. Placing long parameters in the URL may cause the request to be rejected for excessive URL length.<br>
      * The default access level allows up to 200 track keywords, 400 follow userids and 10 1-degree location boxes. Increased access levels allow 80,000 follow userids ("shadow" role), 400,000 follow userids ("birddog" role), 10,000 track keywords ("restricted track" role),  200,000 track keywords ("partner track" role), and 200 10-degree location boxes ("locRestricted" role). Increased track access levels also pass a higher proportion of statuses before limiting the stream.
@@ -263,12 +359,58 @@ class TwitterStreamImpl implements TwitterStream {
             return new StatusStreamImpl(http.post(streamBaseURL
                             + "statuses/filter.json"
                     , getParameters(query, stallWarningsParam), auth, null), streamListeners, rawStreamListeners,
-                    jsonStoreEnabled, prettyDebug);
+                    jsonStoreEnabled, streamLazyStatusEnabled, prettyDebug, newDispatcher(), userCache);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
     }
 
+    @Override
+    public ShardedFilterStream shard(int connections) {
+        ensureStatusStreamListenerIsSet();
+        return new ShardedFilterStreamImpl(connections, streamListeners, streamDispatchThreads == 1,
+                (index, merger) -> sibling(streamThreadName + "-shard-" + index, connectionLifeCycleListeners,
+                        Collections.singletonList(merger), rawStreamListeners, streamQueueCapacity,
+                        streamDispatchThreads));
+    }
+
+    /**
+     * Returns a stream of its own delivering to the listener only, for StreamPublisher.<br>
+     * Messages are dispatched on one thread through a queue bounded to bufferSize, or to stream.queueCapacity if
+     * configured, so that a listener waiting for demand makes the overflow policy apply to the reader.
+     *
+     * @param index      number distinguishing the thread name and statistics of the stream
+     * @param listener   listener receiving the messages
+     * @param lifeCycle  listener notified in addition to the connection lifecycle listeners of this stream
+     * @param bufferSize queue capacity unless stream.queueCapacity is configured
+     * @return stream sharing the configuration of this stream
+     */
+    TwitterStreamImpl publisherStream(int index, StreamListener listener, ConnectionLifeCycleListener lifeCycle,
+                                      int bufferSize) {
+        List<ConnectionLifeCycleListener> lifeCycleListeners = new ArrayList<>(connectionLifeCycleListeners);
+        lifeCycleListeners.add(lifeCycle);
+        return sibling(streamThreadName + "-publisher-" + index, lifeCycleListeners,
+                Collections.singletonList(listener), Collections.emptyList(),
+                streamQueueCapacity > 0 ? streamQueueCapacity : bufferSize, 1);
+    }
+
+    /**
+     * @return stream sharing the configuration and the credentials of this stream
+     */
+    TwitterStreamImpl sibling(String name, List<ConnectionLifeCycleListener> connectionLifeCycleListeners,
+                              List<StreamListener> streamListeners, List<RawStreamListener> rawStreamListeners,
+                              int streamQueueCapacity, int streamDispatchThreads) {
+        return new TwitterStreamImpl(streamBaseURL, name, connectionLifeCycleListeners, streamListeners,
+                rawStreamListeners, jsonStoreEnabled, streamLazyStatusEnabled, prettyDebug, stallWarningsEnabled,
+                http, auth, streamQueueCapacity, streamOverflowPolicy, streamDispatchThreads, streamPartitionKey,
+                mbeanEnabled, userCache, streamStallTimeout, streamFilterOverlap);
+    }
+
+    private StreamDispatcher newDispatcher() {
+        return new StreamDispatcher(streamQueueCapacity, streamOverflowPolicy, statistics, streamListeners,
+                streamDispatchThreads, streamPartitionKey);
+    }
+
     @NotNull
     private HttpParameter[] getParameters(FilterQuery query, HttpParameter stallWarningsParam) {
         ArrayList<HttpParameter> params = new ArrayList<>();
@@ -323,12 +465,19 @@ class TwitterStreamImpl implements TwitterStream {
 
     private synchronized void startHandler(TwitterStreamConsumer handler) {
         cleanUp();
+        if (mbeanEnabled) {
+            statistics.register(streamThreadName);
+        }
         this.handler = handler;
         this.handler.start();
     }
 
     @Override
     public synchronized void cleanUp() {
+        if (retiring != null) {
+            retiring.close();
+            retiring = null;
+        }
         if (handler != null) {
             handler.close();
         }
@@ -337,6 +486,7 @@ class TwitterStreamImpl implements TwitterStream {
     @Override
     public synchronized void shutdown() {
         cleanUp();
+        statistics.unregister();
     }
 
 
@@ -362,8 +512,44 @@ class TwitterStreamImpl implements TwitterStream {
 
     abstract class TwitterStreamConsumer extends Thread {
         private StatusStreamBase stream = null;
+        private StreamWatchdog watchdog = null;
+        /**
+         * listeners the messages are delivered to. replaced while overlapping with another consumer
+         */
+        volatile List<StreamListener> listeners = streamListeners;
+        /**
+         * handed to the stream in place of listeners, so that messages read or queued before the replacement are
+         * delivered to the replaced listeners as well
+         */
+        private final List<StreamListener> listenersView = new AbstractList<StreamListener>() {
+            @Override
+            public StreamListener get(int index) {
+                return listeners.get(index);
+            }
+
+            @Override
+            public int size() {
+                return listeners.size();
+            }
+
+            @Override
+            public Iterator<StreamListener> iterator() {
+                return listeners.iterator();
+            }
+
+            @Override
+            public void forEach(Consumer<? super StreamListener> action) {
+                listeners.forEach(action);
+            }
+        };
+        private final CountDownLatch connection = new CountDownLatch(1);
+        private volatile boolean everConnected = false;
         private final String NAME;
         private volatile boolean closed = false;
+        /**
+         * replaced by a filter update. the listeners are cleaned up by the consumer replacing this one
+         */
+        private volatile boolean replaced = false;
         private final Mode mode;
 
         TwitterStreamConsumer(Mode mode) {
@@ -386,6 +572,12 @@ class TwitterStreamImpl implements TwitterStream {
                         setStatus("[Establishing connection]");
                         stream = (StatusStreamBase) getStream();
                         connected = true;
+                        everConnected = true;
+                        connection.countDown();
+                        statistics.setStream(stream);
+                        if (streamStallTimeout > 0) {
+                            watchdog = StreamWatchdog.watch(stream, streamStallTimeout);
+                        }
                         logger.info("Connection established.");
                         connectionLifeCycleListeners.forEach(e -> {
                             try {
@@ -401,7 +593,7 @@ class TwitterStreamImpl implements TwitterStream {
                         setStatus("[Receiving stream]");
                         while (!closed) {
                             try {
-                                stream.next(streamListeners, rawStreamListeners);
+                                stream.next(listenersView, rawStreamListeners);
                             } catch (IllegalStateException ise) {
                                 logger.warn(ise.getMessage());
                                 break;
@@ -421,6 +613,10 @@ class TwitterStreamImpl implements TwitterStream {
                     }
                 } catch (TwitterException te) {
                     logger.info(te.getMessage());
+                    unwatch();
+                    if (stream != null && stream.isStalled()) {
+                        statistics.stalled();
+                    }
                     if (!closed) {
                         if (NO_WAIT == timeToSleep) {
                             if (te.getStatusCode() == FORBIDDEN) {
@@ -478,6 +674,7 @@ class TwitterStreamImpl implements TwitterStream {
                     }
                 }
             }
+            unwatch();
             if (this.stream != null && connected) {
                 try {
                     this.stream.close();
@@ -495,6 +692,16 @@ class TwitterStreamImpl implements TwitterStream {
                     });
                 }
             }
+            connection.countDown();
+            if (replaced) {
+                return;
+            }
+            // delivers the messages held back for batching
+            streamListeners.forEach(listener -> {
+                if (listener instanceof BatchingStatusListener) {
+                    ((BatchingStatusListener) listener).flush();
+                }
+            });
             connectionLifeCycleListeners.forEach(listener -> {
                 try {
                     listener.onCleanUp();
@@ -504,6 +711,14 @@ class TwitterStreamImpl implements TwitterStream {
             });
         }
 
+        /**
+         * Closes the consumer replaced by a filter update, leaving the listeners to the consumer replacing it.
+         */
+        void closeReplaced() {
+            replaced = true;
+            close();
+        }
+
         public synchronized void close() {
             setStatus("[Disposing thread]");
             closed = true;
@@ -518,6 +733,27 @@ class TwitterStreamImpl implements TwitterStream {
             }
         }
 
+        /**
+         * @return true once connected, false if closed before being connected
+         */
+        boolean awaitConnection() {
+            try {
+                connection.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return everConnected;
+        }
+
+        private void unwatch() {
+            if (watchdog != null) {
+                watchdog.cancel();
+                watchdog = null;
+            }
+            statistics.clearStream(stream);
+        }
+
         private void setStatus(String message) {
             String actualMessage = NAME + message;
             setName(actualMessage);
@@ -528,6 +764,20 @@ class TwitterStreamImpl implements TwitterStream {
 
     }
 
+    private final class FilterConsumer extends TwitterStreamConsumer {
+        private final FilterQuery query;
+
+        FilterConsumer(FilterQuery query) {
+            super(Mode.status);
+            this.query = query;
+        }
+
+        @Override
+        StatusStream getStream() throws TwitterException {
+            return getFilterStream(query);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -550,6 +800,7 @@ class TwitterStreamImpl implements TwitterStream {
                 ", streamListeners=" + streamListeners +
                 ", rawStreamListeners=" + rawStreamListeners +
                 ", jsonStoreEnabled=" + jsonStoreEnabled +
+                ", streamLazyStatusEnabled=" + streamLazyStatusEnabled +
                 ", prettyDebug=" + prettyDebug +
                 ", handler=" + handler +
                 ", stallWarningsGetParam='" + stallWarningsGetParam + '\'' +
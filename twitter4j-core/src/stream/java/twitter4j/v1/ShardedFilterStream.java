@@ -0,0 +1,97 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.v1;
+
+import java.util.List;
+
+/**
+ * Filter stream split across multiple connections, to follow and track more than a single connection allows.<br>
+ * Follow ids and track terms are assigned to the least loaded connection and stay there, so adding or removing them
+ * reconnects only the connections whose predicates changed, without a gap as with
+ * {@link TwitterStream#updateFilter(FilterQuery)}. Locations are kept on the first connection, and count, language and
+ * filter level apply to every connection. Statuses and deletion notices received on more than one connection are
+ * delivered once to the status listeners. Raw stream listeners receive the messages of every connection.
+ * <pre>
+ * ShardedFilterStream stream = twitter.v1().stream().shard(4);
+ * stream.filter(FilterQuery.ofFollow(ids).track(terms));
+ * stream.track("twitter4j");
+ * </pre>
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public interface ShardedFilterStream {
+    /**
+     * Starts consuming public statuses that match the query, or replaces the current query. Predicates kept by the
+     * query stay on their connection.
+     *
+     * @param query filter query
+     * @return this instance
+     */
+    ShardedFilterStream filter(FilterQuery query);
+
+    /**
+     * Adds users to receive public statuses from.
+     *
+     * @param follow user ids
+     * @return this instance
+     */
+    ShardedFilterStream follow(long... follow);
+
+    /**
+     * Stops receiving public statuses from the users.
+     *
+     * @param follow user ids
+     * @return this instance
+     */
+    ShardedFilterStream unfollow(long... follow);
+
+    /**
+     * Adds keywords to track.
+     *
+     * @param track keywords
+     * @return this instance
+     */
+    ShardedFilterStream track(String... track);
+
+    /**
+     * Stops tracking the keywords.
+     *
+     * @param track keywords
+     * @return this instance
+     */
+    ShardedFilterStream untrack(String... track);
+
+    /**
+     * @return query of each connection. null for a connection which has no predicate and is not connected
+     */
+    List<FilterQuery> getShardQueries();
+
+    /**
+     * @return number of statuses and deletion notices dropped as already delivered by another connection
+     */
+    long getDuplicateCount();
+
+    /**
+     * Shuts down every connection.
+     */
+    void cleanUp();
+
+    /**
+     * Shuts down every connection and unregisters their statistics.
+     */
+    void shutdown();
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.v1;
+
+import java.util.List;
+
+/**
+ * Receives statuses, deletion notices and track limitation notices in batches, each kind in batches of its own.<br>
+ * A batch is delivered once it reaches the maximum size, or once its first message has waited for the maximum
+ * latency, whichever comes first, and when the stream is closed. Register with
+ * {@code Twitter.newBuilder().listener(statusBatchListener, maxBatchSize, maxLatencyMillis)}.<br>
+ * The lists are reused for the following batches: copy the elements to retain them after the call returns.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public interface StatusBatchListener extends StreamListener {
+    /**
+     * @param statuses statuses in the order received. valid only during the call
+     */
+    void onStatusBatch(List<Status> statuses);
+
+    /**
+     * @param statusDeletionNotices deletion notices in the order received. valid only during the call
+     */
+    default void onDeletionNoticeBatch(List<StatusDeletionNotice> statusDeletionNotices) {
+    }
+
+    /**
+     * @param numbersOfLimitedStatuses numbers of undelivered statuses of each track limitation notice received.
+     *                                 valid only during the call
+     */
+    default void onTrackLimitationNoticeBatch(List<Integer> numbersOfLimitedStatuses) {
+    }
+
+    /**
+     * Called without batching.
+     *
+     * @param userId       user id
+     * @param upToStatusId up to status id
+     */
+    default void onScrubGeo(long userId, long upToStatusId) {
+    }
+
+    /**
+     * Called without batching.
+     *
+     * @param warning the stall warning
+     */
+    default void onStallWarning(StallWarning warning) {
+    }
+
+    @Override
+    default void onException(Exception ex) {
+    }
+}
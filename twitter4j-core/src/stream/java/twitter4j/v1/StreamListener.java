@@ -25,4 +25,15 @@ public interface StreamListener {
      * @param ex exception
      */
     void onException(Exception ex);
+
+    /**
+     * Called on the reader thread when a message is dropped because the dispatch queue is full.
+     *
+     * @param rawMessage   dropped message
+     * @param droppedCount number of messages dropped so far
+     * @see StreamOverflowPolicy
+     * @since Twitter4J 4.1.3
+     */
+    default void onMessageDropped(String rawMessage, long droppedCount) {
+    }
 }
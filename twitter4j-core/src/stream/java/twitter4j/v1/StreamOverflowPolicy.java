@@ -0,0 +1,42 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+/**
+ * Specifies what happens when the stream dispatch queue is full, i.e. listeners can't keep up with the stream.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public enum StreamOverflowPolicy {
+    /**
+     * blocks the reader until the listeners catch up. no message is dropped, but the server may disconnect the stream if it falls too far behind
+     */
+    BLOCK,
+    /**
+     * drops the incoming message
+     */
+    DROP_NEWEST,
+    /**
+     * drops the oldest queued message to make room for the incoming message
+     */
+    DROP_OLDEST,
+    /**
+     * drops incoming messages with a probability growing linearly from 0 at half of the capacity to 1 at full capacity
+     */
+    SAMPLE
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+/**
+ * Key to distribute stream messages across dispatch threads. Messages with the same key are delivered to the
+ * listeners in the order received. Messages without the key, such as limit notices and stall warnings, go to the
+ * first dispatch thread.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public enum StreamPartitionKey {
+    /**
+     * partitions by status id. deletion notices go along with the deleted status
+     */
+    STATUS_ID,
+    /**
+     * partitions by user id. keeps the order of the statuses and deletion notices of each user
+     */
+    USER_ID
+}
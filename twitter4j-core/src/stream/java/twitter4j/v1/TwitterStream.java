@@ -85,6 +85,32 @@ public interface TwitterStream {
      */
     TwitterStream filter(final FilterQuery query);
 
+    /**
+     * Replaces the filter query without a gap in coverage. The new connection is opened while the current one keeps
+     * receiving, both run in parallel for the configured overlap, and then the current one is closed. Statuses and
+     * deletion notices received on both connections are delivered once to the status listeners. Raw stream listeners
+     * receive the messages of both connections. Starts consuming like {@link #filter(FilterQuery)} when no filter
+     * stream is running. The current connection is kept if the new one closes before being established. An update
+     * made while the previous one is still overlapping replaces the connection the previous update opened, and the
+     * connection established before keeps receiving until the new one is established.
+     *
+     * @param query Filter query
+     * @return this instance
+     * @since Twitter4J 4.1.3
+     */
+    TwitterStream updateFilter(final FilterQuery query);
+
+    /**
+     * Returns a filter stream split across the given number of connections, delivering to the listeners of this
+     * stream. Each connection is subject to the per-connection limits, so that a query can follow and track beyond
+     * the limits of a single connection.
+     *
+     * @param connections number of connections
+     * @return sharded filter stream
+     * @since Twitter4J 4.1.3
+     */
+    ShardedFilterStream shard(int connections);
+
     /**
      * shutdown internal stream consuming thread
      *
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.FilterQuery;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusAdapter;
+import twitter4j.v1.StatusBatchListener;
+import twitter4j.v1.StatusDeletionNotice;
+import twitter4j.v1.StreamListener;
+import twitter4j.v1.StreamOverflowPolicy;
+import twitter4j.v1.StreamPartitionKey;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class BatchingStatusListenerTest {
+
+    @Test
+    void fullBatchIsDeliveredRightAway() throws Exception {
+        List<List<Long>> batches = new CopyOnWriteArrayList<>();
+        List<List<Status>> lists = new CopyOnWriteArrayList<>();
+        BatchingStatusListener listener = new BatchingStatusListener(statuses -> {
+            lists.add(statuses);
+            batches.add(ids(statuses));
+        }, 3, 60 * 1000);
+        for (long id = 1; id <= 7; id++) {
+            listener.onStatus(TestFixtures.status(id));
+        }
+        assertEquals(Arrays.asList(Arrays.asList(1L, 2L, 3L), Arrays.asList(4L, 5L, 6L)), batches);
+        // the buffer is reused
+        assertSame(lists.get(0), lists.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> lists.get(0).add(TestFixtures.status(8)));
+
+        listener.flush();
+        assertEquals(Collections.singletonList(7L), batches.get(2));
+    }
+
+    @Test
+    void batchIsDeliveredAfterMaxLatency() throws Exception {
+        List<List<Long>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        BatchingStatusListener listener = new BatchingStatusListener(statuses -> {
+            batches.add(ids(statuses));
+            delivered.countDown();
+        }, 100, 50);
+        long start = System.nanoTime();
+        listener.onStatus(TestFixtures.status(1));
+        listener.onStatus(TestFixtures.status(2));
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        assertEquals(Collections.singletonList(Arrays.asList(1L, 2L)), batches);
+    }
+
+    @Test
+    void eachKindIsBatchedSeparately() throws Exception {
+        List<String> calls = new ArrayList<>();
+        BatchingStatusListener listener = new BatchingStatusListener(new StatusBatchListener() {
+            @Override
+            public void onStatusBatch(List<Status> statuses) {
+                calls.add("statuses" + ids(statuses));
+            }
+
+            @Override
+            public void onDeletionNoticeBatch(List<StatusDeletionNotice> statusDeletionNotices) {
+                List<Long> ids = new ArrayList<>();
+                statusDeletionNotices.forEach(notice -> ids.add(notice.getStatusId()));
+                calls.add("deletions" + ids);
+            }
+
+            @Override
+            public void onTrackLimitationNoticeBatch(List<Integer> numbersOfLimitedStatuses) {
+                calls.add("limits" + numbersOfLimitedStatuses);
+            }
+
+            @Override
+            public void onScrubGeo(long userId, long upToStatusId) {
+                calls.add("scrubGeo");
+            }
+        }, 2, 60 * 1000);
+        listener.onStatus(TestFixtures.status(1));
+        listener.onDeletionNotice(new StatusDeletionNoticeImpl(new JSONObject("{\"id\":10,\"user_id\":1}")));
+        listener.onTrackLimitationNotice(5);
+        listener.onScrubGeo(1, 2);
+        listener.onStatus(TestFixtures.status(2));
+        listener.onTrackLimitationNotice(6);
+        assertEquals(Arrays.asList("scrubGeo", "statuses[1, 2]", "limits[5, 6]"), calls);
+
+        listener.flush();
+        assertEquals("deletions[10]", calls.get(3));
+        assertEquals(4, calls.size());
+    }
+
+    @Test
+    void pendingBatchIsDeliveredWhenTheStreamIsClosed() throws Exception {
+        List<List<Long>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<StreamListener> listeners = new ArrayList<>();
+        listeners.add(new BatchingStatusListener(statuses -> {
+            batches.add(ids(statuses));
+            delivered.countDown();
+        }, 100, 60 * 1000));
+        listeners.add(new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                received.countDown();
+            }
+        });
+        TwitterStreamImpl twitterStream = new TwitterStreamImpl("https://stream.twitter.com/1.1/", "batching",
+                new ArrayList<>(), listeners, new ArrayList<>(), false, false, false, true, null,
+                NullAuthorization.getInstance(), 10, StreamOverflowPolicy.BLOCK, 1, StreamPartitionKey.USER_ID,
+                false, null, 0, 0) {
+            @Override
+            StatusStream getFilterStream(FilterQuery query) throws TwitterException {
+                try {
+                    TestFixtures.ScriptedResponse response = new TestFixtures.ScriptedResponse();
+                    response.send(TestFixtures.statusJSON(1));
+                    return new StatusStreamImpl(response, listeners, new ArrayList<>(), false, false, false,
+                            new StreamDispatcher(10, StreamOverflowPolicy.BLOCK,
+                                    new StreamStatistics(10, StreamOverflowPolicy.BLOCK), listeners), null);
+                } catch (IOException e) {
+                    throw new TwitterException(e);
+                }
+            }
+        };
+        twitterStream.filter(FilterQuery.ofTrack("twitter4j"));
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        assertTrue(batches.isEmpty());
+
+        twitterStream.cleanUp();
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(Collections.singletonList(1L)), batches);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchingStatusListener(statuses -> {
+        }, 0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new BatchingStatusListener(statuses -> {
+        }, 10, 0));
+    }
+
+    private static List<Long> ids(List<Status> statuses) {
+        List<Long> ids = new ArrayList<>();
+        statuses.forEach(status -> ids.add(status.getId()));
+        return ids;
+    }
+}
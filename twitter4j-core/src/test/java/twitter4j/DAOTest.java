@@ -39,12 +39,12 @@ class DAOTest extends TwitterTestBase {
     void testEmptyJSON() throws Exception {
 
         // empty User list
-        List<User> users = UserJSONImpl.createUserList(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/friends/T4J_hudson.json"), true);
+        List<User> users = UserJSONImpl.createUserList(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/friends/T4J_hudson.json"), true, FieldProjection.ALL);
         assertEquals(0, users.size());
         assertDeserializedFormIsEqual(users);
 
         // empty Status list
-        List<Status> statuses = StatusJSONImpl.createStatusList(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/friends/T4J_hudson.json"), true);
+        List<Status> statuses = StatusJSONImpl.createStatusList(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/friends/T4J_hudson.json"), true, FieldProjection.ALL);
         assertEquals(0, statuses.size());
         assertDeserializedFormIsEqual(statuses);
 
@@ -512,7 +512,7 @@ class DAOTest extends TwitterTestBase {
         List<User> users;
 
         // User list
-        users = UserJSONImpl.createUserList(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/followers/T4J_hudson.json"), true);
+        users = UserJSONImpl.createUserList(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/followers/T4J_hudson.json"), true, FieldProjection.ALL);
         assertTrue(users.size() > 0);
         assertDeserializedFormIsEqual(users);
     }
@@ -520,7 +520,7 @@ class DAOTest extends TwitterTestBase {
     @Test
     void testStatusAsJSON() throws Exception {
         // single Status
-        List<Status> statuses = StatusJSONImpl.createStatusList(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/public_timeline.json"), true);
+        List<Status> statuses = StatusJSONImpl.createStatusList(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/public_timeline.json"), true, FieldProjection.ALL);
         Status status = statuses.get(0);
         assertEquals(Instant.ofEpochMilli(1259041785000L)
                 .atZone(ZoneId.systemDefault())
@@ -540,7 +540,7 @@ class DAOTest extends TwitterTestBase {
     @Test
     void testRetweetStatusAsJSON() throws Exception {
         // single Status
-        Status status = new StatusJSONImpl(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/retweet/6010814202.json"), true);
+        Status status = new StatusJSONImpl(conf1.http.get("https://raw.githubusercontent.com/Twitter4J/Twitter4J/main/twitter4j-core/src/test/resources/dao/statuses/retweet/6010814202.json"), true, FieldProjection.ALL);
         assertEquals(Instant.ofEpochMilli(1259078050000L)
                 .atZone(ZoneId.systemDefault())
                 .toLocalDateTime(), status.getCreatedAt());
@@ -561,7 +561,7 @@ class DAOTest extends TwitterTestBase {
     void testPlaceAsJSON() throws Exception {
         List<Place> places = PlaceJSONImpl.createPlaceList(
                 getJSONObjectFromClassPath("/dao/reverse-geocode.json")
-                        .getJSONObject("result").getJSONArray("places"), null, true
+                        .getJSONObject("result").getJSONArray("places"), null, true, FieldProjection.ALL
         );
         Place place = places.get(0);
         assertEquals("SoMa", place.getName());
@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.ConnectionLifeCycleListener;
+import twitter4j.v1.FilterQuery;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusAdapter;
+import twitter4j.v1.StreamListener;
+import twitter4j.v1.StreamOverflowPolicy;
+import twitter4j.v1.StreamPartitionKey;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class FilterUpdateTest {
+
+    @Test
+    void statusIdWindow() {
+        StatusIdWindow window = new StatusIdWindow(3);
+        assertTrue(window.add(1));
+        assertFalse(window.add(1));
+        assertTrue(window.add(2));
+        assertTrue(window.add(3));
+        // rotates the generations. ids of the previous generation are still remembered
+        assertTrue(window.add(4));
+        assertFalse(window.add(1));
+        assertFalse(window.add(4));
+        assertTrue(window.add(5));
+        assertTrue(window.add(6));
+        // rotates again and forgets 1, 2 and 3
+        assertTrue(window.add(7));
+        assertTrue(window.add(1));
+        assertFalse(window.add(5));
+    }
+
+    @Test
+    void updateOverlapsConnections() throws Exception {
+        List<Long> received = new CopyOnWriteArrayList<>();
+        List<StreamListener> listeners = new ArrayList<>();
+        listeners.add(new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                received.add(status.getId());
+            }
+        });
+        AtomicInteger connects = new AtomicInteger();
+        List<ConnectionLifeCycleListener> connectionLifeCycleListeners = new ArrayList<>();
+        connectionLifeCycleListeners.add(new ConnectionLifeCycleListener() {
+            @Override
+            public void onConnect() {
+                connects.incrementAndGet();
+            }
+
+            @Override
+            public void onDisconnect() {
+            }
+
+            @Override
+            public void onCleanUp() {
+            }
+        });
+        List<FilterQuery> queries = new CopyOnWriteArrayList<>();
+        List<TestFixtures.ScriptedResponse> connections = new CopyOnWriteArrayList<>();
+        TwitterStreamImpl twitterStream = new TwitterStreamImpl("https://stream.twitter.com/1.1/", "update",
+                connectionLifeCycleListeners, listeners, new ArrayList<>(), false, false, false, true, null,
+                NullAuthorization.getInstance(), 10, StreamOverflowPolicy.BLOCK, 1, StreamPartitionKey.USER_ID,
+                false, null, 0, 300) {
+            @Override
+            StatusStream getFilterStream(FilterQuery query) throws TwitterException {
+                queries.add(query);
+                TestFixtures.ScriptedResponse response = new TestFixtures.ScriptedResponse();
+                connections.add(response);
+                try {
+                    return new StatusStreamImpl(response, listeners, new ArrayList<>(), false, false, false,
+                            new StreamDispatcher(10, StreamOverflowPolicy.BLOCK,
+                                    new StreamStatistics(10, StreamOverflowPolicy.BLOCK), listeners), null);
+                } catch (IOException e) {
+                    throw new TwitterException(e);
+                }
+            }
+        };
+        try {
+            twitterStream.filter(FilterQuery.ofTrack("a"));
+            TestFixtures.ScriptedResponse first = await(connections, 0);
+            first.send(TestFixtures.statusJSON(1));
+            awaitSize(received, 1);
+
+            twitterStream.updateFilter(FilterQuery.ofTrack("b"));
+            TestFixtures.ScriptedResponse second = await(connections, 1);
+            // both connections deliver while overlapping
+            first.send(TestFixtures.statusJSON(2));
+            second.send(TestFixtures.statusJSON(2));
+            second.send(TestFixtures.statusJSON(3));
+            awaitSize(received, 3);
+            assertTrue(first.disconnected.await(5, TimeUnit.SECONDS));
+            assertFalse(second.disconnected.await(100, TimeUnit.MILLISECONDS));
+
+            second.send(TestFixtures.statusJSON(4));
+            awaitSize(received, 4);
+            List<Long> ids = new ArrayList<>(received);
+            Collections.sort(ids);
+            assertEquals(Arrays.asList(1L, 2L, 3L, 4L), ids);
+
+            // the replaced connection is closed while holding the lock
+            synchronized (twitterStream) {
+                // statuses are no longer de-duplicated once the overlap is over
+                second.send(TestFixtures.statusJSON(4));
+            }
+            awaitSize(received, 5);
+            assertEquals(Arrays.asList(FilterQuery.ofTrack("a"), FilterQuery.ofTrack("b")), queries);
+            assertEquals(2, connects.get());
+        } finally {
+            twitterStream.cleanUp();
+        }
+    }
+
+    @Test
+    void updateWhileOverlappingKeepsTheConnectedStream() throws Exception {
+        List<Long> received = new CopyOnWriteArrayList<>();
+        List<StreamListener> listeners = new ArrayList<>();
+        listeners.add(new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                received.add(status.getId());
+            }
+        });
+        CountDownLatch connecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<TestFixtures.ScriptedResponse> connections = new CopyOnWriteArrayList<>();
+        TwitterStreamImpl twitterStream = new TwitterStreamImpl("https://stream.twitter.com/1.1/", "update",
+                new ArrayList<>(), listeners, new ArrayList<>(), false, false, false, true, null,
+                NullAuthorization.getInstance(), 10, StreamOverflowPolicy.BLOCK, 1, StreamPartitionKey.USER_ID,
+                false, null, 0, 300) {
+            @Override
+            StatusStream getFilterStream(FilterQuery query) throws TwitterException {
+                if (query.equals(FilterQuery.ofTrack("b"))) {
+                    // never gets connected
+                    connecting.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ignore) {
+                    }
+                    throw new TwitterException("timed out");
+                }
+                TestFixtures.ScriptedResponse response = new TestFixtures.ScriptedResponse();
+                connections.add(response);
+                try {
+                    return new StatusStreamImpl(response, listeners, new ArrayList<>(), false, false, false,
+                            new StreamDispatcher(10, StreamOverflowPolicy.BLOCK,
+                                    new StreamStatistics(10, StreamOverflowPolicy.BLOCK), listeners), null);
+                } catch (IOException e) {
+                    throw new TwitterException(e);
+                }
+            }
+        };
+        try {
+            twitterStream.filter(FilterQuery.ofTrack("a"));
+            TestFixtures.ScriptedResponse first = await(connections, 0);
+            twitterStream.updateFilter(FilterQuery.ofTrack("b"));
+            assertTrue(connecting.await(5, TimeUnit.SECONDS));
+
+            // "b" is still connecting. "a" is the only stream connected and is kept until "c" is connected
+            twitterStream.updateFilter(FilterQuery.ofTrack("c"));
+            release.countDown();
+            assertFalse(first.disconnected.await(100, TimeUnit.MILLISECONDS));
+            first.send(TestFixtures.statusJSON(1));
+            awaitSize(received, 1);
+
+            TestFixtures.ScriptedResponse third = await(connections, 1);
+            first.send(TestFixtures.statusJSON(2));
+            third.send(TestFixtures.statusJSON(2));
+            third.send(TestFixtures.statusJSON(3));
+            awaitSize(received, 3);
+            assertTrue(first.disconnected.await(5, TimeUnit.SECONDS));
+            assertFalse(third.disconnected.await(100, TimeUnit.MILLISECONDS));
+            assertEquals(2, connections.size());
+        } finally {
+            release.countDown();
+            twitterStream.cleanUp();
+        }
+    }
+
+    @Test
+    void replacedStreamLeavesTheCleanUpToTheUpdatedOne() throws Exception {
+        List<Long> batched = new CopyOnWriteArrayList<>();
+        List<StreamListener> listeners = new ArrayList<>();
+        listeners.add(new BatchingStatusListener(statuses -> statuses.forEach(status -> batched.add(status.getId())),
+                100, 60 * 1000));
+        AtomicInteger cleanUps = new AtomicInteger();
+        List<ConnectionLifeCycleListener> connectionLifeCycleListeners = new ArrayList<>();
+        connectionLifeCycleListeners.add(new ConnectionLifeCycleListener() {
+            @Override
+            public void onConnect() {
+            }
+
+            @Override
+            public void onDisconnect() {
+            }
+
+            @Override
+            public void onCleanUp() {
+                cleanUps.incrementAndGet();
+            }
+        });
+        List<TestFixtures.ScriptedResponse> connections = new CopyOnWriteArrayList<>();
+        TwitterStreamImpl twitterStream = new TwitterStreamImpl("https://stream.twitter.com/1.1/", "update",
+                connectionLifeCycleListeners, listeners, new ArrayList<>(), false, false, false, true, null,
+                NullAuthorization.getInstance(), 10, StreamOverflowPolicy.BLOCK, 1, StreamPartitionKey.USER_ID,
+                false, null, 0, 300) {
+            @Override
+            StatusStream getFilterStream(FilterQuery query) throws TwitterException {
+                TestFixtures.ScriptedResponse response = new TestFixtures.ScriptedResponse();
+                connections.add(response);
+                try {
+                    return new StatusStreamImpl(response, listeners, new ArrayList<>(), false, false, false,
+                            new StreamDispatcher(10, StreamOverflowPolicy.BLOCK,
+                                    new StreamStatistics(10, StreamOverflowPolicy.BLOCK), listeners), null);
+                } catch (IOException e) {
+                    throw new TwitterException(e);
+                }
+            }
+        };
+        try {
+            twitterStream.filter(FilterQuery.ofTrack("a"));
+            TestFixtures.ScriptedResponse first = await(connections, 0);
+            first.send(TestFixtures.statusJSON(1));
+            twitterStream.updateFilter(FilterQuery.ofTrack("b"));
+            await(connections, 1);
+            assertTrue(first.disconnected.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            // the batch is still pending, and the updated stream is still watched
+            assertEquals(Collections.emptyList(), batched);
+            assertEquals(0, cleanUps.get());
+            assertNotEquals(-1, twitterStream.statistics.getIdleMillis());
+        } finally {
+            twitterStream.cleanUp();
+        }
+        for (int i = 0; i < 500 && cleanUps.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, cleanUps.get());
+        assertEquals(Collections.singletonList(1L), batched);
+        assertEquals(-1, twitterStream.statistics.getIdleMillis());
+    }
+
+    private static TestFixtures.ScriptedResponse await(List<TestFixtures.ScriptedResponse> connections, int index)
+            throws InterruptedException {
+        for (int i = 0; i < 500 && connections.size() <= index; i++) {
+            Thread.sleep(10);
+        }
+        return connections.get(index);
+    }
+
+    private static void awaitSize(List<Long> received, int size) throws InterruptedException {
+        for (int i = 0; i < 500 && received.size() < size; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, received.size(), received.toString());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Execution(ExecutionMode.CONCURRENT)
+class HttpTransportTest {
+    private static HttpServer server;
+    private static String url;
+    private static final AtomicInteger unavailable = new AtomicInteger();
+    private static final CountDownLatch stalled = new CountDownLatch(1);
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", exchange -> {
+            String body;
+            try (InputStream is = exchange.getRequestBody()) {
+                body = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            String response = "{\"method\":\"" + exchange.getRequestMethod() + "\",\"query\":\""
+                    + exchange.getRequestURI().getRawQuery() + "\",\"body\":\"" + body + "\",\"header\":\""
+                    + exchange.getRequestHeaders().getFirst("X-Twitter-Client") + "\"}";
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("x-rate-limit-limit", "15");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        server.createContext("/unavailable", exchange -> {
+            unavailable.incrementAndGet();
+            byte[] bytes = "{\"errors\":[{\"message\":\"Over capacity\",\"code\":130}]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(503, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        server.createContext("/stall", exchange -> {
+            // sends the headers and a part of the body, and then nothing
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream os = exchange.getResponseBody();
+            os.write("{\"id\":".getBytes(StandardCharsets.UTF_8));
+            os.flush();
+            try {
+                stalled.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ignore) {
+            }
+            exchange.close();
+        });
+        // the stalled exchanges don't hold up the others
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/echo";
+    }
+
+    @AfterAll
+    static void stopServer() {
+        stalled.countDown();
+        server.stop(0);
+    }
+
+    private static HttpTransport newTransport(String name, boolean socks) {
+        return HttpTransport.newInstance(name, socks ? "127.0.0.1" : null, socks ? 1080 : -1, null, null, socks,
+                20000, 120000, 2, false);
+    }
+
+    @Test
+    void selection() {
+        assertTrue(newTransport(HttpTransport.HTTP_URL_CONNECTION, false) instanceof HttpURLConnectionTransport);
+        assertTrue(newTransport(HttpTransport.JAVA_NET_HTTP, false) instanceof JavaNetHttpTransport);
+        // SOCKS proxies and unknown names fall back to HttpURLConnection
+        assertTrue(newTransport(HttpTransport.JAVA_NET_HTTP, true) instanceof HttpURLConnectionTransport);
+        assertTrue(newTransport("unknown", false) instanceof HttpURLConnectionTransport);
+    }
+
+    @Test
+    void httpURLConnection() throws Exception {
+        assertExchange(newTransport(HttpTransport.HTTP_URL_CONNECTION, false));
+    }
+
+    @Test
+    void javaNetHttp() throws Exception {
+        HttpTransport transport = newTransport(HttpTransport.JAVA_NET_HTTP, false);
+        // more requests than the pool size to make sure permits are released
+        for (int i = 0; i < 5; i++) {
+            assertExchange(transport);
+        }
+    }
+
+    @Test
+    void retriedServerErrorsReleaseTheirConnections() {
+        // pool of 2 connections, 3 attempts per request
+        HttpClient http = new HttpClient(null, -1, null, null, false, 2, 0, 20000, 120000, false, false,
+                HttpTransport.JAVA_NET_HTTP, 2);
+        String unavailableURL = url.replace("/echo", "/unavailable");
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (int i = 0; i < 3; i++) {
+                TwitterException te = assertThrows(TwitterException.class,
+                        () -> http.get(unavailableURL, null, null, null));
+                assertEquals(503, te.getStatusCode());
+            }
+        });
+        assertEquals(9, unavailable.get());
+    }
+
+    @Test
+    void stalledBodyTimesOut() {
+        for (String name : new String[]{HttpTransport.HTTP_URL_CONNECTION, HttpTransport.JAVA_NET_HTTP}) {
+            HttpTransport transport = HttpTransport.newInstance(name, null, -1, null, null, false, 20000, 500, 2,
+                    false);
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                HttpResponse res = transport.execute(new HttpRequest(RequestMethod.GET, url.replace("/echo", "/stall"),
+                        null, null, new HashMap<>()));
+                assertEquals(200, res.getStatusCode());
+                InputStream is = res.asStream();
+                byte[] buf = new byte[16];
+                assertEquals(6, is.read(buf));
+                assertThrows(SocketTimeoutException.class, () -> is.read(buf), name);
+                res.disconnect();
+            });
+        }
+    }
+
+    private void assertExchange(HttpTransport transport) throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-Twitter-Client", "Twitter4J");
+        HttpResponse get = transport.execute(new HttpRequest(RequestMethod.GET, url,
+                new HttpParameter[]{new HttpParameter("q", "twitter4j")}, null, headers));
+        assertEquals(200, get.getStatusCode());
+        assertEquals("15", get.getResponseHeader("x-rate-limit-limit"));
+        JSONObject json = get.asJSONObject();
+        assertEquals("GET", json.getString("method"));
+        assertEquals("q=twitter4j", json.getString("query"));
+        assertEquals("Twitter4J", json.getString("header"));
+
+        HttpResponse post = transport.execute(new HttpRequest(RequestMethod.POST, url,
+                new HttpParameter[]{new HttpParameter("status", "hello")}, null, headers));
+        assertEquals(200, post.getStatusCode());
+        json = post.asJSONObject();
+        assertEquals("POST", json.getString("method"));
+        assertEquals("status=hello", json.getString("body"));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class JSONObjectTest {
+    @Test
+    void insertionOrder() throws Exception {
+        for (int size : new int[]{3, 8, 9, 100}) {
+            JSONObject json = new JSONObject();
+            for (int i = 0; i < size; i++) {
+                json.put("name" + i, i);
+            }
+            json.put("name1", "replaced");
+            assertEquals(size, json.length());
+            assertEquals("replaced", json.get("name1"));
+            List<String> names = new ArrayList<>(json.keySet());
+            for (int i = 0; i < size; i++) {
+                assertEquals("name" + i, names.get(i));
+                assertTrue(json.has("name" + i));
+            }
+            assertFalse(json.has("name" + size));
+            assertTrue(json.isNull("absent"));
+        }
+    }
+
+    @Test
+    void largeObject() throws Exception {
+        // more members than the positions the table can hold
+        int size = 40000;
+        JSONObject json = new JSONObject();
+        StringBuilder text = new StringBuilder("{");
+        for (int i = 0; i < size; i++) {
+            json.put("name" + i, i);
+            text.append(i == 0 ? "" : ",").append("\"name").append(i).append("\":").append(i);
+        }
+        text.append('}');
+        for (JSONObject object : new JSONObject[]{json, new JSONObject(text.toString()),
+                new JSONObject(new JSONPullParser(text.toString()))}) {
+            assertEquals(size, object.length());
+            for (int i = 0; i < size; i += 97) {
+                assertEquals(i, object.getInt("name" + i));
+            }
+            assertEquals(size - 1, object.getInt("name" + (size - 1)));
+            assertFalse(object.has("name" + size));
+        }
+    }
+
+    @Test
+    void remove() throws Exception {
+        for (int size : new int[]{4, 20}) {
+            JSONObject json = new JSONObject();
+            for (int i = 0; i < size; i++) {
+                json.put("name" + i, i);
+            }
+            assertEquals(1, json.remove("name1"));
+            assertNull(json.remove("name1"));
+            json.put("name2", (Object) null);
+            assertTrue(json.keySet().remove("name3"));
+            for (Iterator<String> keys = json.keys(); keys.hasNext(); ) {
+                if (keys.next().equals("name0")) {
+                    keys.remove();
+                }
+            }
+            assertEquals(size - 4, json.length());
+            for (int i = 4; i < size; i++) {
+                assertEquals(i, json.getInt("name" + i));
+            }
+            json.put("name1", 1);
+            assertEquals(1, json.get("name1"));
+            assertEquals("name1", json.names().getString(json.length() - 1));
+        }
+    }
+
+    @Test
+    void canonicalNames() throws Exception {
+        JSONObject pulled = new JSONObject(new JSONPullParser("{\"screen_name\":\"a\",\"unknown_name\":1}"));
+        JSONObject tokenized = new JSONObject("{\"screen_name\":\"a\",\"unknown_name\":1}");
+        for (JSONObject json : new JSONObject[]{pulled, tokenized}) {
+            Iterator<String> keys = json.keys();
+            assertSame("screen_name", keys.next());
+            assertEquals("unknown_name", keys.next());
+            assertEquals(1, json.get(new String("unknown_name".toCharArray())));
+        }
+        assertEquals(pulled.toString(), tokenized.toString());
+    }
+}
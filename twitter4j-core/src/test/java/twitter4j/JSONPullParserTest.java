@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class JSONPullParserTest {
+    @Test
+    void values() throws Exception {
+        JSONObject json = new JSONObject(new JSONPullParser("{\"int\":1,\"negative\":-2147483648,\"long\":1234567890123,"
+                + "\"big\":12345678901234567890,\"double\":1.5,\"exp\":1e3,\"t\":true,\"f\":false,\"n\":null,"
+                + "\"array\":[1,\"two\",{}],\"empty\":[]}"));
+        assertEquals(1, json.get("int"));
+        assertEquals(Integer.MIN_VALUE, json.get("negative"));
+        assertEquals(1234567890123L, json.get("long"));
+        assertEquals(12345678901234567890d, json.get("big"));
+        assertEquals(1.5d, json.get("double"));
+        assertEquals(1000d, json.get("exp"));
+        assertEquals(Boolean.TRUE, json.get("t"));
+        assertEquals(Boolean.FALSE, json.get("f"));
+        assertTrue(json.isNull("n"));
+        assertEquals("two", json.getJSONArray("array").getString(1));
+        assertEquals(0, json.getJSONArray("empty").length());
+    }
+
+    @Test
+    void strings() throws Exception {
+        String raw = "{\"escaped\":\"a\\\"b\\\\c\\/d\\n\\t\\u3042\",\"utf8\":\"あé😀\","
+                + "\"surrogates\":\"\\uD83D\\uDE00\"}";
+        // a small buffer forces multi byte sequences and escapes to straddle refills
+        JSONObject json = new JSONObject(new JSONPullParser(
+                new ByteArrayInputStream(raw.getBytes(StandardCharsets.UTF_8)), 5));
+        assertEquals("a\"b\\c/d\n\tあ", json.getString("escaped"));
+        assertEquals("あé😀", json.getString("utf8"));
+        assertEquals("😀", json.getString("surrogates"));
+    }
+
+    @Test
+    void skipValue() throws Exception {
+        JSONPullParser parser = new JSONPullParser("{\"skip\":{\"a\":[1,{\"b\":\"}\"}]},\"keep\":\"value\"}");
+        parser.beginObject();
+        assertEquals("skip", parser.nextName());
+        parser.skipValue();
+        assertEquals("keep", parser.nextName());
+        assertEquals("value", parser.nextString());
+        parser.endObject();
+        assertEquals(JSONPullParser.Token.END_DOCUMENT, parser.peek());
+    }
+
+    @Test
+    void malformed() {
+        assertThrows(JSONException.class, () -> new JSONObject(new JSONPullParser("{\"a\":1")));
+        assertThrows(JSONException.class, () -> new JSONObject(new JSONPullParser("{\"a\" 1}")));
+        assertThrows(JSONException.class, () -> new JSONArray(new JSONPullParser("[1 2]")));
+        assertThrows(JSONException.class, () -> new JSONArray(new JSONPullParser("{}")));
+    }
+
+    @Test
+    void sameTreeAsTokener() throws Exception {
+        for (String path : new String[]{"src/test/resources/dao/statuses/home_timeline.json",
+                "src/test/resources/dao/user.json", "src/test/resources/dao/direct_messages.json"}) {
+            byte[] bytes = Files.readAllBytes(Paths.get(path));
+            Object expected = new JSONTokener(new String(bytes, StandardCharsets.UTF_8)).nextValue();
+            Object actual = new JSONPullParser(new ByteArrayInputStream(bytes), 64).nextValue();
+            assertEquals(expected.toString(), actual.toString(), path);
+        }
+    }
+}
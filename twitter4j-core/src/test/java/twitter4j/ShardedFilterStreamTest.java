@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.FilterQuery;
+import twitter4j.v1.ShardedFilterStream;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusAdapter;
+import twitter4j.v1.StatusDeletionNotice;
+import twitter4j.v1.StatusListener;
+import twitter4j.v1.StreamListener;
+import twitter4j.v1.TwitterStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class ShardedFilterStreamTest {
+    private final List<FakeStream> connections = new ArrayList<>();
+
+    private ShardedFilterStreamImpl newStream(int shards, List<StreamListener> listeners) {
+        return new ShardedFilterStreamImpl(shards, listeners, true, (index, merger) -> {
+            FakeStream stream = new FakeStream();
+            connections.add(stream);
+            return stream;
+        });
+    }
+
+    @Test
+    void queryIsSplitAcrossConnections() {
+        ShardedFilterStream stream = newStream(3, new ArrayList<>());
+        double[][] locations = {{-122.75, 36.8}, {-121.75, 37.8}};
+        stream.filter(FilterQuery.ofFollow(1, 2, 3, 4, 5, 6, 7).track("a", "b").locations(locations).language("en"));
+        List<FilterQuery> queries = stream.getShardQueries();
+        assertEquals(3, queries.size());
+        Set<Long> follow = new HashSet<>();
+        Set<String> track = new HashSet<>();
+        for (FilterQuery query : queries) {
+            assertTrue(query.follow.length == 2 || query.follow.length == 3);
+            assertArrayEquals(new String[]{"en"}, query.language);
+            for (long id : query.follow) {
+                assertTrue(follow.add(id));
+            }
+            track.addAll(Arrays.asList(query.track));
+        }
+        assertEquals(7, follow.size());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), track);
+        assertSame(locations, queries.get(0).locations);
+        assertEquals(0, queries.get(1).locations.length);
+        for (FakeStream connection : connections) {
+            assertEquals(1, connection.filtered.size());
+        }
+    }
+
+    @Test
+    void onlyChangedConnectionsReconnect() {
+        ShardedFilterStream stream = newStream(3, new ArrayList<>());
+        stream.filter(FilterQuery.ofTrack("a", "b", "c"));
+        stream.track("d");
+        assertEquals(Arrays.asList(2, 1, 1), filterCounts());
+        assertArrayEquals(new String[]{"a", "d"}, stream.getShardQueries().get(0).track);
+
+        // already tracked
+        stream.track("b");
+        assertEquals(Arrays.asList(2, 1, 1), filterCounts());
+
+        stream.untrack("b");
+        assertEquals(Arrays.asList(2, 1, 1), filterCounts());
+        assertNull(stream.getShardQueries().get(1));
+        assertEquals(1, connections.get(1).cleanedUp);
+
+        // the emptied connection is the least loaded
+        stream.track("e");
+        assertArrayEquals(new String[]{"e"}, stream.getShardQueries().get(1).track);
+        assertEquals(Arrays.asList(2, 2, 1), filterCounts());
+
+        // replacing the query keeps the predicates it still has where they are
+        stream.filter(FilterQuery.ofTrack("a", "c", "e", "f"));
+        assertArrayEquals(new String[]{"a", "f"}, stream.getShardQueries().get(0).track);
+        assertArrayEquals(new String[]{"e"}, stream.getShardQueries().get(1).track);
+        assertArrayEquals(new String[]{"c"}, stream.getShardQueries().get(2).track);
+        assertEquals(Arrays.asList(3, 2, 1), filterCounts());
+
+        stream.shutdown();
+        for (FakeStream connection : connections) {
+            assertTrue(connection.shutdown);
+        }
+    }
+
+    @Test
+    void duplicatesAreDeliveredOnce() throws Exception {
+        List<Long> statuses = new ArrayList<>();
+        List<Long> deletions = new ArrayList<>();
+        StatusListener listener = new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                statuses.add(status.getId());
+            }
+
+            @Override
+            public void onDeletionNotice(StatusDeletionNotice statusDeletionNotice) {
+                deletions.add(statusDeletionNotice.getStatusId());
+            }
+        };
+        ShardedFilterStreamImpl stream = newStream(2, Collections.singletonList(listener));
+        StatusListener merger = stream.getMerger();
+        merger.onStatus(TestFixtures.status(1));
+        merger.onStatus(TestFixtures.status(2));
+        merger.onStatus(TestFixtures.status(1));
+        StatusDeletionNotice deletion = new StatusDeletionNoticeImpl(new JSONObject("{\"id\":1,\"user_id\":10}"));
+        merger.onDeletionNotice(deletion);
+        merger.onDeletionNotice(deletion);
+        assertEquals(Arrays.asList(1L, 2L), statuses);
+        assertEquals(Collections.singletonList(1L), deletions);
+        assertEquals(2, stream.getDuplicateCount());
+    }
+
+    private List<Integer> filterCounts() {
+        List<Integer> counts = new ArrayList<>();
+        for (FakeStream connection : connections) {
+            counts.add(connection.filtered.size());
+        }
+        return counts;
+    }
+
+    private static final class FakeStream implements TwitterStream {
+        private final List<FilterQuery> filtered = new ArrayList<>();
+        private int cleanedUp = 0;
+        private boolean shutdown = false;
+
+        @Override
+        public TwitterStream firehose(int count) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TwitterStream links(int count) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TwitterStream retweet() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TwitterStream sample() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TwitterStream sample(String language) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TwitterStream filter(FilterQuery query) {
+            filtered.add(query);
+            return this;
+        }
+
+        @Override
+        public TwitterStream updateFilter(FilterQuery query) {
+            filtered.add(query);
+            return this;
+        }
+
+        @Override
+        public ShardedFilterStream shard(int connections) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void cleanUp() {
+            cleanedUp++;
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+    }
+}
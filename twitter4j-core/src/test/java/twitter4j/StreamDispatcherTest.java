@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.StreamListener;
+import twitter4j.v1.StreamOverflowPolicy;
+import twitter4j.v1.StreamPartitionKey;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class StreamDispatcherTest {
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+    private final List<String> dropped = new CopyOnWriteArrayList<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private StreamDispatcher newDispatcher(int capacity, StreamOverflowPolicy policy, StreamStatistics statistics) {
+        StreamListener listener = new StreamListener() {
+            @Override
+            public void onException(Exception ex) {
+            }
+
+            @Override
+            public void onMessageDropped(String rawMessage, long droppedCount) {
+                dropped.add(rawMessage);
+                assertEquals(dropped.size(), droppedCount);
+            }
+        };
+        return new StreamDispatcher(capacity, policy, statistics, Collections.singletonList(listener));
+    }
+
+    private StatusStreamBase.StreamEvent event(String line) {
+        return new StatusStreamBase.StreamEvent(line) {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ignore) {
+                }
+                processed.add(line);
+            }
+        };
+    }
+
+    /**
+     * occupies the dispatch thread with "1" and dispatches "2" to "5" to a queue with capacity 2
+     */
+    private void dispatchFive(StreamDispatcher dispatcher) throws InterruptedException {
+        dispatcher.dispatch(event("1"));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        for (int i = 2; i <= 5; i++) {
+            dispatcher.dispatch(event(String.valueOf(i)));
+        }
+    }
+
+    private void drain(StreamDispatcher dispatcher, int expected) throws InterruptedException {
+        release.countDown();
+        dispatcher.shutdown();
+        for (int i = 0; i < 100 && processed.size() < expected; i++) {
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    void dropNewest() throws Exception {
+        StreamStatistics statistics = new StreamStatistics(2, StreamOverflowPolicy.DROP_NEWEST);
+        StreamDispatcher dispatcher = newDispatcher(2, StreamOverflowPolicy.DROP_NEWEST, statistics);
+        dispatchFive(dispatcher);
+        assertEquals(2, statistics.getQueueSize());
+        drain(dispatcher, 3);
+        assertEquals(Arrays.asList("1", "2", "3"), processed);
+        assertEquals(Arrays.asList("4", "5"), dropped);
+        assertEquals(5, statistics.getReceivedCount());
+        assertEquals(2, statistics.getDroppedCount());
+    }
+
+    @Test
+    void dropOldest() throws Exception {
+        StreamStatistics statistics = new StreamStatistics(2, StreamOverflowPolicy.DROP_OLDEST);
+        StreamDispatcher dispatcher = newDispatcher(2, StreamOverflowPolicy.DROP_OLDEST, statistics);
+        dispatchFive(dispatcher);
+        drain(dispatcher, 3);
+        assertEquals(Arrays.asList("1", "4", "5"), processed);
+        assertEquals(Arrays.asList("2", "3"), dropped);
+        assertEquals(2, statistics.getDroppedCount());
+    }
+
+    @Test
+    void block() throws Exception {
+        StreamStatistics statistics = new StreamStatistics(2, StreamOverflowPolicy.BLOCK);
+        StreamDispatcher dispatcher = newDispatcher(2, StreamOverflowPolicy.BLOCK, statistics);
+        Thread reader = new Thread(() -> {
+            try {
+                dispatchFive(dispatcher);
+            } catch (InterruptedException ignore) {
+            }
+        });
+        reader.start();
+        reader.join(500);
+        // the reader is blocked as the listener is not consuming
+        assertTrue(reader.isAlive());
+        release.countDown();
+        reader.join(10000);
+        assertFalse(reader.isAlive());
+        drain(dispatcher, 5);
+        assertEquals(Arrays.asList("1", "2", "3", "4", "5"), processed);
+        assertEquals(0, dropped.size());
+        for (int i = 0; i < 100 && statistics.getDispatchedCount() < 5; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(5, statistics.getDispatchedCount());
+    }
+
+    @Test
+    void sample() throws Exception {
+        StreamStatistics statistics = new StreamStatistics(2, StreamOverflowPolicy.SAMPLE);
+        StreamDispatcher dispatcher = newDispatcher(2, StreamOverflowPolicy.SAMPLE, statistics);
+        dispatchFive(dispatcher);
+        assertTrue(statistics.getQueueSize() <= 2);
+        drain(dispatcher, 5 - dropped.size());
+        assertEquals(5, processed.size() + dropped.size());
+        assertTrue(dropped.size() >= 2);
+    }
+
+    @Test
+    void partitionKey() {
+        String status = "{\"created_at\":\"Sat Dec 19 16:01:35 +0000 2009\",\"text\":\"\\\"id\\\":1 {[\",\"entities\":{\"urls\":[{\"id\":5}]},"
+                + "\"id\":42,\"retweeted_status\":null,\"user\":{\"name\":\"a\",\"id\":7}}";
+        assertEquals(partition(42), StreamPartitioner.partition(StreamPartitionKey.STATUS_ID, status, 16));
+        assertEquals(partition(7), StreamPartitioner.partition(StreamPartitionKey.USER_ID, status, 16));
+
+        String delete = "{\"delete\":{\"status\":{\"id\":42,\"user_id\":7}}}";
+        assertEquals(partition(42), StreamPartitioner.partition(StreamPartitionKey.STATUS_ID, delete, 16));
+        assertEquals(partition(7), StreamPartitioner.partition(StreamPartitionKey.USER_ID, delete, 16));
+
+        assertEquals(0, StreamPartitioner.partition(StreamPartitionKey.USER_ID, "{\"limit\":{\"track\":3}}", 16));
+        assertEquals(0, StreamPartitioner.partition(StreamPartitionKey.USER_ID, "{\"user\":{\"id\":", 16));
+        assertEquals(0, StreamPartitioner.partition(StreamPartitionKey.USER_ID, status, 1));
+    }
+
+    private int partition(long id) {
+        return StreamPartitioner.partition(StreamPartitionKey.STATUS_ID, "{\"id\":" + id + "}", 16);
+    }
+
+    @Test
+    void partitioned() throws Exception {
+        Map<Long, List<Long>> received = new ConcurrentHashMap<>();
+        StreamStatistics statistics = new StreamStatistics(10, StreamOverflowPolicy.BLOCK);
+        StreamDispatcher dispatcher = new StreamDispatcher(10, StreamOverflowPolicy.BLOCK, statistics,
+                Collections.emptyList(), 4, StreamPartitionKey.USER_ID);
+        int count = 400;
+        CountDownLatch done = new CountDownLatch(count);
+        for (long statusId = 0; statusId < count; statusId++) {
+            long userId = statusId % 10;
+            long id = statusId;
+            dispatcher.dispatch(new StatusStreamBase.StreamEvent("{\"id\":" + id + ",\"user\":{\"id\":" + userId + "}}") {
+                @Override
+                public void run() {
+                    received.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(id);
+                    done.countDown();
+                }
+            });
+        }
+        assertEquals(4, statistics.getPartitionQueueSizes().length);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        dispatcher.shutdown();
+        assertEquals(10, received.size());
+        received.forEach((userId, ids) -> {
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(userId + i * 10, (long) ids.get(i));
+            }
+        });
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusAdapter;
+import twitter4j.v1.StreamListener;
+import twitter4j.v1.StreamOverflowPolicy;
+import twitter4j.v1.StreamPartitionKey;
+import twitter4j.v1.TwitterStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class StreamPublisherTest {
+
+    @Test
+    void deliversOnlyWhatIsRequested() throws Exception {
+        RecordingSubscriber<Status> subscriber = new RecordingSubscriber<>();
+        StreamPublisher.StreamSubscription<Status> subscription = subscribe(subscriber, StreamEvent::getStatus);
+        subscription.request(2);
+        Thread reader = new Thread(() -> {
+            for (long id = 1; id <= 3; id++) {
+                subscription.onStatus(TestFixtures.status(id));
+            }
+        });
+        reader.start();
+        // waits for demand
+        reader.join(200);
+        assertTrue(reader.isAlive());
+        assertEquals(2, subscriber.items.size());
+
+        subscription.request(1);
+        reader.join(5000);
+        assertFalse(reader.isAlive());
+        assertEquals(3, subscriber.items.size());
+        assertEquals(3L, subscriber.items.get(2).getId());
+    }
+
+    @Test
+    void statusesSkipOtherMessages() {
+        RecordingSubscriber<Status> subscriber = new RecordingSubscriber<>();
+        StreamPublisher.StreamSubscription<Status> subscription = subscribe(subscriber, StreamEvent::getStatus);
+        // doesn't wait for demand
+        subscription.onTrackLimitationNotice(10);
+        subscription.request(1);
+        subscription.onStatus(TestFixtures.status(1));
+        assertEquals(1, subscriber.items.size());
+    }
+
+    @Test
+    void events() {
+        RecordingSubscriber<StreamEvent> subscriber = new RecordingSubscriber<>();
+        StreamPublisher.StreamSubscription<StreamEvent> subscription = subscribe(subscriber, event -> event);
+        subscription.request(Long.MAX_VALUE);
+        subscription.request(Long.MAX_VALUE);
+        subscription.onStatus(TestFixtures.status(1));
+        subscription.onScrubGeo(10, 20);
+        assertEquals(2, subscriber.items.size());
+        assertEquals(StreamEvent.Type.STATUS, subscriber.items.get(0).getType());
+        assertEquals(1L, subscriber.items.get(0).getStatus().getId());
+        StreamEvent scrubGeo = subscriber.items.get(1);
+        assertEquals(StreamEvent.Type.SCRUB_GEO, scrubGeo.getType());
+        assertNull(scrubGeo.getStatus());
+        assertEquals(10L, scrubGeo.getUserId());
+        assertEquals(20L, scrubGeo.getUpToStatusId());
+    }
+
+    @Test
+    void cancelReleasesTheReaderAndClosesTheConnection() throws Exception {
+        RecordingSubscriber<Status> subscriber = new RecordingSubscriber<>();
+        CountDownLatch shutdown = new CountDownLatch(1);
+        StreamPublisher.StreamSubscription<Status> subscription = subscribe(subscriber, StreamEvent::getStatus);
+        subscription.connection = new TwitterStreamImpl("https://stream.twitter.com/1.1/", "publisher",
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, false, false, true, null,
+                NullAuthorization.getInstance(), 10, StreamOverflowPolicy.BLOCK, 1, StreamPartitionKey.USER_ID,
+                false, null, 0, 0) {
+            @Override
+            public synchronized void shutdown() {
+                shutdown.countDown();
+            }
+        };
+        Thread reader = new Thread(() -> subscription.onStatus(TestFixtures.status(1)));
+        reader.start();
+        reader.join(100);
+        assertTrue(reader.isAlive());
+
+        subscription.cancel();
+        reader.join(5000);
+        assertFalse(reader.isAlive());
+        assertTrue(shutdown.await(5, TimeUnit.SECONDS));
+        subscription.request(1);
+        subscription.onStatus(TestFixtures.status(2));
+        assertEquals(0, subscriber.items.size());
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void nonPositiveRequestIsAnError() {
+        RecordingSubscriber<Status> subscriber = new RecordingSubscriber<>();
+        StreamPublisher.StreamSubscription<Status> subscription = subscribe(subscriber, StreamEvent::getStatus);
+        subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void closedConnectionTerminates() {
+        RecordingSubscriber<Status> completed = new RecordingSubscriber<>();
+        subscribe(completed, StreamEvent::getStatus).onCleanUp();
+        assertTrue(completed.completed);
+        assertNull(completed.error);
+
+        RecordingSubscriber<Status> failed = new RecordingSubscriber<>();
+        StreamPublisher.StreamSubscription<Status> subscription = subscribe(failed, StreamEvent::getStatus);
+        TwitterException forbidden = new TwitterException("forbidden");
+        subscription.onException(forbidden);
+        subscription.onCleanUp();
+        assertSame(forbidden, failed.error);
+        assertFalse(failed.completed);
+    }
+
+    @Test
+    void subscriberGetsConnectionOfItsOwn() {
+        List<StreamListener> listeners = new ArrayList<>();
+        listeners.add(new StatusAdapter());
+        TwitterStreamImpl twitterStream = new TwitterStreamImpl("https://stream.twitter.com/1.1/", "publisher",
+                new ArrayList<>(), listeners, new ArrayList<>(), false, false, false, true, null,
+                NullAuthorization.getInstance(), -1, StreamOverflowPolicy.BLOCK, 4, StreamPartitionKey.USER_ID,
+                false, null, 0, 0);
+        List<TwitterStream> connections = new CopyOnWriteArrayList<>();
+        StreamPublisher<Status> publisher = StreamPublisher.statuses(twitterStream, connections::add, 16);
+        RecordingSubscriber<Status> first = new RecordingSubscriber<>();
+        RecordingSubscriber<Status> second = new RecordingSubscriber<>();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        assertEquals(2, connections.size());
+        assertNotSame(twitterStream, connections.get(0));
+        assertNotSame(connections.get(0), connections.get(1));
+        assertNotNull(first.subscription);
+        first.subscription.cancel();
+        second.subscription.cancel();
+
+        assertThrows(IllegalArgumentException.class, () -> StreamPublisher.statuses(twitterStream, connections::add, 0));
+    }
+
+    private static <T> StreamPublisher.StreamSubscription<T> subscribe(RecordingSubscriber<T> subscriber,
+                                                                       Function<StreamEvent, T> mapper) {
+        StreamPublisher.StreamSubscription<T> subscription = new StreamPublisher.StreamSubscription<>(subscriber, mapper);
+        subscriber.onSubscribe(subscription);
+        return subscription;
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed = false;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
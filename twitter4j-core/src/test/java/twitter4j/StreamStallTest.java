@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.ConnectionLifeCycleListener;
+import twitter4j.v1.StreamListener;
+import twitter4j.v1.StreamOverflowPolicy;
+import twitter4j.v1.StreamPartitionKey;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class StreamStallTest {
+
+    @Test
+    void idleMillisIsResetByKeepAlive() throws Exception {
+        TestFixtures.ScriptedResponse response = new TestFixtures.ScriptedResponse("\r\n\r\n");
+        StatusStreamBase stream = newStream(response, new StreamStatistics(10, StreamOverflowPolicy.BLOCK));
+        Thread.sleep(50);
+        assertTrue(stream.getIdleMillis() >= 50);
+        // keep-alive newlines are data
+        stream.next(new ArrayList<>(), new ArrayList<>());
+        assertTrue(stream.getIdleMillis() < 50);
+        assertFalse(stream.isStalled());
+        stream.close();
+    }
+
+    @Test
+    void abortedStreamThrowsTwitterException() throws Exception {
+        TestFixtures.ScriptedResponse response = new TestFixtures.ScriptedResponse("\r\n");
+        StatusStreamBase stream = newStream(response, new StreamStatistics(10, StreamOverflowPolicy.BLOCK));
+        stream.next(new ArrayList<>(), new ArrayList<>());
+        new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignore) {
+            }
+            stream.abort();
+        }).start();
+        TwitterException te = assertThrows(TwitterException.class, () -> stream.next(new ArrayList<>(), new ArrayList<>()));
+        assertEquals("Stream stalled.", te.getMessage());
+        assertTrue(stream.isStalled());
+    }
+
+    @Test
+    void silentStreamIsReconnected() throws Exception {
+        List<StreamListener> listeners = new ArrayList<>();
+        List<ConnectionLifeCycleListener> connectionLifeCycleListeners = new ArrayList<>();
+        TwitterStreamImpl twitterStream = new TwitterStreamImpl("https://stream.twitter.com/1.1/", "stall",
+                connectionLifeCycleListeners, listeners, new ArrayList<>(), false, false, false, true, null,
+                NullAuthorization.getInstance(), 10, StreamOverflowPolicy.BLOCK, 1, StreamPartitionKey.USER_ID,
+                false, null, 200, 0);
+        AtomicInteger connections = new AtomicInteger();
+        CountDownLatch reconnected = new CountDownLatch(2);
+        TwitterStreamImpl.TwitterStreamConsumer consumer = twitterStream.new TwitterStreamConsumer(TwitterStreamImpl.Mode.status) {
+            @Override
+            StatusStream getStream() throws TwitterException {
+                connections.incrementAndGet();
+                reconnected.countDown();
+                try {
+                    return newStream(new TestFixtures.ScriptedResponse("\r\n"), twitterStream.statistics);
+                } catch (IOException e) {
+                    throw new TwitterException(e);
+                }
+            }
+        };
+        consumer.start();
+        try {
+            assertTrue(reconnected.await(10, TimeUnit.SECONDS));
+            assertTrue(twitterStream.statistics.getStallCount() >= 1);
+            assertTrue(twitterStream.statistics.getIdleMillis() >= -1);
+        } finally {
+            consumer.close();
+        }
+        assertTrue(connections.get() >= 2);
+    }
+
+    private static StatusStreamBase newStream(HttpResponse response, StreamStatistics statistics) throws IOException {
+        List<StreamListener> listeners = new ArrayList<>();
+        StreamDispatcher dispatcher = new StreamDispatcher(10, StreamOverflowPolicy.BLOCK, statistics, listeners);
+        return new StatusStreamImpl(response, listeners, new ArrayList<>(), false, false, false, dispatcher, null);
+    }
+}
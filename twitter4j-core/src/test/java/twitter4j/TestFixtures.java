@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package twitter4j;
+
+import twitter4j.v1.Status;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Statuses and responses shared by the tests.
+ */
+final class TestFixtures {
+    private TestFixtures() {
+        throw new AssertionError("not intended to be instantiated.");
+    }
+
+    /**
+     * @param id status id
+     * @return status posted by user 10
+     */
+    static String statusJSON(long id) {
+        return statusJSON(id, "\"user\":{\"id\":10,\"screen_name\":\"twit4j\"}");
+    }
+
+    /**
+     * @param id      status id
+     * @param members additional members, like "\"lang\":\"en\""
+     * @return status
+     */
+    static String statusJSON(long id, String members) {
+        return "{\"id\":" + id + ",\"text\":\"tweet\",\"created_at\":\"Tue Apr 07 22:52:51 +0000 2009\","
+                + members + "}";
+    }
+
+    /**
+     * @param id status id
+     * @return status posted by user 10
+     */
+    static Status status(long id) {
+        try {
+            return new StatusJSONImpl(new JSONObject(statusJSON(id)));
+        } catch (TwitterException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Stream response sending the data given to the constructor and to send(), and blocking in between until
+     * disconnected or closed, like a connection which is open but silent.
+     */
+    static final class ScriptedResponse extends HttpResponse {
+        private static final byte[] DISCONNECTED = new byte[0];
+        private final BlockingQueue<byte[]> data = new LinkedBlockingQueue<>();
+        final CountDownLatch disconnected = new CountDownLatch(1);
+
+        ScriptedResponse() {
+            super(false);
+            this.statusCode = 200;
+            this.is = new InputStream() {
+                private byte[] chunk = new byte[0];
+                private int pos = 0;
+
+                @Override
+                public int read() throws IOException {
+                    byte[] b = new byte[1];
+                    return read(b, 0, 1) == -1 ? -1 : b[0];
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    if (pos == chunk.length) {
+                        try {
+                            chunk = data.take();
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        pos = 0;
+                        if (chunk == DISCONNECTED) {
+                            // fails the reads after disconnection as well
+                            data.add(DISCONNECTED);
+                            throw new IOException("Connection reset");
+                        }
+                    }
+                    int read = Math.min(len, chunk.length - pos);
+                    System.arraycopy(chunk, pos, b, off, read);
+                    pos += read;
+                    return read;
+                }
+
+                @Override
+                public void close() {
+                    // unblocks the reader like closing a socket does
+                    data.add(DISCONNECTED);
+                }
+            };
+        }
+
+        /**
+         * @param data data sent first, like keep-alive newlines
+         */
+        ScriptedResponse(String data) {
+            this();
+            this.data.add(data.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @param line message sent, followed by CRLF
+         */
+        void send(String line) {
+            data.add((line + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        String getResponseHeader(String name) {
+            return null;
+        }
+
+        @Override
+        Map<String, List<String>> getResponseHeaderFields() {
+            return null;
+        }
+
+        @Override
+        void disconnect() {
+            disconnected.countDown();
+            data.add(DISCONNECTED);
+        }
+    }
+}
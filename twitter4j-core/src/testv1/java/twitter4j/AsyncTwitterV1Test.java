@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.AsyncTwitterV1;
+import twitter4j.v1.LookupResult;
+import twitter4j.v1.User;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class AsyncTwitterV1Test {
+    private static HttpServer server;
+    private static String restBaseURL;
+    private static final AtomicInteger idsRequests = new AtomicInteger();
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/users/show.json", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            boolean found = query.contains("user_id=");
+            String id = found ? query.replaceAll(".*user_id=(\\d+).*", "$1") : "0";
+            byte[] body = (found ? "{\"id\":" + id + ",\"screen_name\":\"user" + id + "\"}"
+                    : "{\"errors\":[{\"code\":50,\"message\":\"User not found.\"}]}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("x-rate-limit-limit", "900");
+            exchange.getResponseHeaders().add("x-rate-limit-remaining", "899");
+            exchange.getResponseHeaders().add("x-rate-limit-reset", "1700000000");
+            exchange.sendResponseHeaders(found ? 200 : 404, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.createContext("/users/lookup.json", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            String[] ids = query.replaceAll(".*user_id=([0-9,]+).*", "$1").split(",");
+            // users with ids divisible by 7 are suspended, ids over 1000 don't exist
+            StringBuilder json = new StringBuilder("[");
+            for (int i = ids.length - 1; i >= 0; i--) {
+                long id = Long.parseLong(ids[i]);
+                if (id % 7 != 0 && id <= 1000) {
+                    json.append(json.length() == 1 ? "" : ",").append("{\"id\":").append(id).append("}");
+                }
+            }
+            json.append("]");
+            boolean found = json.length() > 2;
+            byte[] body = (found ? json.toString() : "{\"errors\":[{\"code\":17,\"message\":\"No user matches for specified terms.\"}]}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(found ? 200 : 404, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.createContext("/followers/ids.json", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            long cursor = Long.parseLong(query.replaceAll(".*cursor=(-?\\d+).*", "$1"));
+            // three pages of two ids each: cursor -1 -> 2 -> 4 -> 0
+            long page = cursor == -1 ? 0 : cursor;
+            idsRequests.incrementAndGet();
+            byte[] body = ("{\"ids\":[" + (page + 1) + "," + (page + 2) + "],\"previous_cursor\":0,\"next_cursor\":"
+                    + (page == 4 ? 0 : page + 2) + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        restBaseURL = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void fanOut() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicInteger rateLimitStatusCount = new AtomicInteger();
+        try {
+            Twitter.TwitterBuilder builder = Twitter.newBuilder()
+                    .oAuthConsumer("consumerKey", "consumerSecret")
+                    .oAuthAccessToken("accessToken", "accessTokenSecret")
+                    .asyncExecutor(executor)
+                    .onRateLimitStatus(e -> rateLimitStatusCount.incrementAndGet());
+            builder.restBaseURL = restBaseURL;
+            AsyncTwitterV1 async = builder.build().v1().async();
+
+            List<CompletableFuture<User>> futures = new ArrayList<>();
+            for (long id = 1; id <= 20; id++) {
+                futures.add(async.users().showUser(id));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+            for (int i = 0; i < futures.size(); i++) {
+                User user = futures.get(i).get();
+                assertEquals(i + 1, user.getId());
+                assertEquals("user" + (i + 1), user.getScreenName());
+            }
+            assertEquals(20, rateLimitStatusCount.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void exceptionally() {
+        Twitter.TwitterBuilder builder = Twitter.newBuilder()
+                .oAuthConsumer("consumerKey", "consumerSecret")
+                .oAuthAccessToken("accessToken", "accessTokenSecret");
+        builder.restBaseURL = restBaseURL;
+        CompletableFuture<User> future = builder.build().v1().async().users().showUser("notfound");
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(30, TimeUnit.SECONDS));
+        TwitterException te = assertInstanceOf(TwitterException.class, e.getCause());
+        assertEquals(404, te.getStatusCode());
+        assertEquals(50, te.getErrorCode());
+    }
+
+    @Test
+    void idsStream() {
+        Twitter.TwitterBuilder builder = Twitter.newBuilder()
+                .oAuthConsumer("consumerKey", "consumerSecret")
+                .oAuthAccessToken("accessToken", "accessTokenSecret");
+        builder.restBaseURL = restBaseURL;
+        AsyncTwitterV1 async = builder.build().v1().async();
+
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5, 6}, async.friendsFollowers().getFollowersIDsStream(1L).toArray());
+
+        // early termination doesn't walk the rest of the chain
+        int before = idsRequests.get();
+        try (LongStream ids = async.friendsFollowers().getFollowersIDsStream("twit4j")) {
+            assertEquals(1, ids.findFirst().getAsLong());
+        }
+        assertTrue(idsRequests.get() - before <= 2);
+    }
+
+    @Test
+    void bulkLookup() throws Exception {
+        Twitter.TwitterBuilder builder = Twitter.newBuilder()
+                .oAuthConsumer("consumerKey", "consumerSecret")
+                .oAuthAccessToken("accessToken", "accessTokenSecret");
+        builder.restBaseURL = restBaseURL;
+        AsyncTwitterV1 async = builder.build().v1().async();
+
+        long[] ids = new long[350];
+        for (int i = 0; i < 250; i++) {
+            ids[i] = 250 - i;
+        }
+        for (int i = 250; i < ids.length; i++) {
+            // a whole request of unknown ids
+            ids[i] = 2000 + i;
+        }
+        LookupResult<User> result = async.users().bulkLookupUsers(ids, 2).get(30, TimeUnit.SECONDS);
+        List<Long> expected = new ArrayList<>();
+        List<Long> expectedMissing = new ArrayList<>();
+        for (long id : ids) {
+            (id % 7 != 0 && id <= 1000 ? expected : expectedMissing).add(id);
+        }
+        List<Long> found = new ArrayList<>();
+        for (User user : result.getFound()) {
+            found.add(user.getId());
+        }
+        assertEquals(expected, found);
+        assertEquals(expected, new ArrayList<>(result.asMap().keySet()));
+        assertArrayEquals(expectedMissing.stream().mapToLong(Long::longValue).toArray(), result.getMissingIDs());
+    }
+}
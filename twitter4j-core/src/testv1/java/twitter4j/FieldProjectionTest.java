@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.ResponseList;
+import twitter4j.v1.Status;
+import twitter4j.v1.User;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class FieldProjectionTest {
+    private static final FieldProjection PROJECTION = FieldProjection.ALL
+            .statusFields("text", "created_at", "user")
+            .userFields("screen_name", "followers_count");
+
+    @Test
+    void projectedMembers() throws Exception {
+        String json = read("src/test/resources/dao/statuses/retweet/6010814202.json");
+        Status all = TwitterObjectFactory.createStatus(json);
+        for (Status status : new Status[]{TwitterObjectFactory.createStatus(json, PROJECTION),
+                new StatusJSONImpl(new JSONObject(json), PROJECTION)}) {
+            assertEquals(all.getId(), status.getId());
+            assertEquals(all.getText(), status.getText());
+            assertEquals(all.getCreatedAt(), status.getCreatedAt());
+            assertNull(status.getSource());
+            assertNull(status.getRetweetedStatus());
+            assertEquals(-1L, status.getInReplyToStatusId());
+            assertEquals(0, status.getURLEntities().length);
+
+            User user = status.getUser();
+            assertEquals(all.getUser().getId(), user.getId());
+            assertEquals(all.getUser().getScreenName(), user.getScreenName());
+            assertEquals(all.getUser().getFollowersCount(), user.getFollowersCount());
+            assertNull(user.getName());
+            assertNull(user.getDescription());
+            assertEquals(-1, user.getFriendsCount());
+        }
+    }
+
+    @Test
+    void boundAsTree() throws Exception {
+        String json = read("src/test/resources/dao/statuses/home_timeline.json");
+        ResponseList<Status> expected = new JSONImplFactory(true, PROJECTION).createStatusList(new JSONBindingTest.MockHttpResponse(json));
+        ResponseList<Status> actual = new JSONImplFactory(false, PROJECTION).createStatusList(new JSONBindingTest.MockHttpResponse(json));
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getText(), actual.get(i).getText());
+            assertEquals(expected.get(i).getCreatedAt(), actual.get(i).getCreatedAt());
+            assertEquals(expected.get(i).getUser(), actual.get(i).getUser());
+            assertEquals(expected.get(i).getUser().getScreenName(), actual.get(i).getUser().getScreenName());
+            assertNull(actual.get(i).getUser().getLocation());
+        }
+    }
+
+    @Test
+    void all() throws Exception {
+        String json = read("src/test/resources/dao/statuses/retweet/6010814202.json");
+        assertEquals(TwitterObjectFactory.createStatus(json).toString(),
+                TwitterObjectFactory.createStatus(json, FieldProjection.ALL).toString());
+        assertNull(FieldProjection.ALL.getStatusFields());
+        assertTrue(PROJECTION.getUserFields().contains("id"));
+        assertEquals(PROJECTION, FieldProjection.ALL.statusFields("text", "created_at", "user")
+                .userFields("screen_name", "followers_count"));
+    }
+
+    private static String read(String path) throws Exception {
+        return new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+    }
+}
@@ -65,7 +65,7 @@ class FriendsFollowersResourcesTest extends TwitterTestBase {
 
         IDs obamaFriends;
         obamaFriends = twitter1.v1().friendsFollowers().getFriendsIDs("barackobama", -1, 100);
-        assertNull(TwitterObjectFactory.getRawJSON(obamaFollowers));
+        assertNotNull(TwitterObjectFactory.getRawJSON(obamaFollowers));
         assertNotNull(TwitterObjectFactory.getRawJSON(obamaFriends));
         assertEquals(obamaFriends, TwitterObjectFactory.createIDs(TwitterObjectFactory.getRawJSON(obamaFriends)));
         assertTrue(obamaFriends.hasNext());
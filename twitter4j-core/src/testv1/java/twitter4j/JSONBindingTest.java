@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.PagableResponseList;
+import twitter4j.v1.ResponseList;
+import twitter4j.v1.Status;
+import twitter4j.v1.User;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that binding straight from the token stream yields the same objects as the JSONObject tree.
+ */
+@Execution(ExecutionMode.CONCURRENT)
+class JSONBindingTest {
+    private final ObjectFactory tree = new JSONImplFactory(true);
+    private final ObjectFactory bound = new JSONImplFactory(false);
+
+    @Test
+    void statusList() throws Exception {
+        for (String path : new String[]{"src/test/resources/dao/statuses/home_timeline.json",
+                "src/test/resources/dao/statuses/public_timeline.json",
+                "src/test/resources/dao/statuses/user_timeline/testiverse.json"}) {
+            String json = read(path);
+            ResponseList<Status> expected = tree.createStatusList(new MockHttpResponse(json));
+            ResponseList<Status> actual = bound.createStatusList(new MockHttpResponse(json));
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertStatusEquals(expected.get(i), actual.get(i));
+            }
+        }
+    }
+
+    @Test
+    void status() throws Exception {
+        String json = read("src/test/resources/dao/statuses/retweet/6010814202.json");
+        assertStatusEquals(tree.createStatus(new MockHttpResponse(json)), bound.createStatus(new MockHttpResponse(json)));
+    }
+
+    @Test
+    void streamStatus() throws Exception {
+        for (String line : Files.readAllLines(Paths.get("src/test/resources/streamingapi-testcase.json"))) {
+            JSONObject json = new JSONObject(line);
+            Status status = StatusJSONImpl.bindStatus(new JSONPullParser(line));
+            if (JSONObjectType.determine(json) == JSONObjectType.Type.STATUS) {
+                assertNotNull(status);
+                assertStatusEquals(new StatusJSONImpl(json), status);
+            } else {
+                assertNull(status);
+            }
+        }
+    }
+
+    @Test
+    void user() throws Exception {
+        String json = read("src/test/resources/dao/user.json");
+        User expected = tree.createUser(new MockHttpResponse(json));
+        User actual = bound.createUser(new MockHttpResponse(json));
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getDescriptionURLEntities().length, actual.getDescriptionURLEntities().length);
+        assertEquals(expected.getURLEntity(), actual.getURLEntity());
+    }
+
+    @Test
+    void userList() throws Exception {
+        String json = read("src/test/resources/dao/statuses/followers/T4J_hudson.json");
+        ResponseList<User> expected = tree.createUserList(new MockHttpResponse(json));
+        ResponseList<User> actual = bound.createUserList(new MockHttpResponse(json));
+        assertEquals(expected.toString(), actual.toString());
+
+        String pagable = "{\"previous_cursor\":0,\"users\":" + json + ",\"next_cursor\":1234}";
+        PagableResponseList<User> expectedPage = tree.createPagableUserList(new MockHttpResponse(pagable));
+        PagableResponseList<User> actualPage = bound.createPagableUserList(new MockHttpResponse(pagable));
+        assertEquals(expectedPage.toString(), actualPage.toString());
+        assertEquals(0, actualPage.getPreviousCursor());
+        assertEquals(1234, actualPage.getNextCursor());
+    }
+
+    private static void assertStatusEquals(Status expected, Status actual) {
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getDisplayTextRangeStart(), actual.getDisplayTextRangeStart());
+        assertEquals(expected.getDisplayTextRangeEnd(), actual.getDisplayTextRangeEnd());
+        assertEquals(expected.getQuotedStatusPermalink(), actual.getQuotedStatusPermalink());
+        assertEquals(expected.getScopes(), actual.getScopes());
+        assertEquals(expected.getRateLimitStatus(), actual.getRateLimitStatus());
+    }
+
+    private static String read(String path) throws Exception {
+        return new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+    }
+
+    static class MockHttpResponse extends HttpResponse {
+        MockHttpResponse(String body) {
+            super(false);
+            statusCode = 200;
+            is = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        String getResponseHeader(String name) {
+            return null;
+        }
+
+        @Override
+        Map<String, List<String>> getResponseHeaderFields() {
+            return null;
+        }
+
+        @Override
+        void disconnect() {
+        }
+    }
+}
@@ -3,6 +3,22 @@ package twitter4j;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.StallWarning;
+import twitter4j.v1.Status;
+import twitter4j.v1.StatusDeletionNotice;
+import twitter4j.v1.StatusListener;
+import twitter4j.v1.StreamListener;
+import twitter4j.v1.StreamOverflowPolicy;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit test for JSONObjectType
@@ -58,5 +74,76 @@ class JSONObjectTypeTest {
         }
 
     }
-}
 
+    @Test
+    void controlMessages() {
+        for (String line : new String[]{deleteJsonText, scrubGeoJsonText, limitJsonText, " { \"warning\":{}}",
+                "{\"disconnect\":{\"code\":3}}", "{\"target\":{\"id\":1},\"event\":\"favorite\"}"}) {
+            assertTrue(StatusStreamBase.isControlMessage(line), line);
+        }
+        for (String line : new String[]{statusJsonText, randomJsonText, "{\"limited\":1}", "{\"text\":\"limit\"}", "[]",
+                ""}) {
+            assertFalse(StatusStreamBase.isControlMessage(line), line);
+        }
+    }
+
+    @Test
+    void streamMessagesAreDelivered() throws Exception {
+        List<String> lines = Files.readAllLines(Paths.get("src/test/resources/streamingapi-testcase.json"));
+        for (boolean lazy : new boolean[]{false, true}) {
+            List<String> received = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(lines.size());
+            List<StreamListener> listeners = new ArrayList<>();
+            listeners.add(new StatusListener() {
+                @Override
+                public void onStatus(Status status) {
+                    received.add("status");
+                    done.countDown();
+                }
+
+                @Override
+                public void onDeletionNotice(StatusDeletionNotice statusDeletionNotice) {
+                    received.add("delete");
+                    done.countDown();
+                }
+
+                @Override
+                public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+                    received.add("limit");
+                    done.countDown();
+                }
+
+                @Override
+                public void onScrubGeo(long userId, long upToStatusId) {
+                    received.add("scrub_geo");
+                    done.countDown();
+                }
+
+                @Override
+                public void onStallWarning(StallWarning warning) {
+                    received.add("warning");
+                    done.countDown();
+                }
+
+                @Override
+                public void onException(Exception ex) {
+                    received.add(ex.toString());
+                    done.countDown();
+                }
+            });
+            StringBuilder payload = new StringBuilder();
+            lines.forEach(line -> payload.append(line).append('\n'));
+            StatusStreamImpl stream = new StatusStreamImpl(new JSONBindingTest.MockHttpResponse(payload.toString()),
+                    listeners, new ArrayList<>(), false, lazy, false, new StreamDispatcher(100, StreamOverflowPolicy.BLOCK,
+                    new StreamStatistics(100, StreamOverflowPolicy.BLOCK), listeners), null);
+            for (int i = 0; i < lines.size(); i++) {
+                stream.next(listeners, new ArrayList<>());
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(3, received.stream().filter("status"::equals).count(), received.toString());
+            assertTrue(received.contains("delete"));
+            assertTrue(received.contains("limit"));
+            assertTrue(received.contains("scrub_geo"));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.Status;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class LazyStatusImplTest {
+    @Test
+    void sameAsEager() throws Exception {
+        for (String path : new String[]{"src/test/resources/dao/statuses/home_timeline.json",
+                "src/test/resources/dao/statuses/public_timeline.json",
+                "src/test/resources/dao/statuses/user_timeline/testiverse.json"}) {
+            byte[] json = read(path).getBytes(StandardCharsets.UTF_8);
+            JSONArray expected = new JSONArray(new JSONPullParser(json));
+            JSONPullParser parser = new JSONPullParser(json);
+            parser.beginArray();
+            for (int i = 0; i < expected.length(); i++) {
+                assertStatusEquals(new StatusJSONImpl(expected.getJSONObject(i)), new LazyStatusImpl(json, parser));
+            }
+            parser.endArray();
+        }
+        String retweet = read("src/test/resources/dao/statuses/retweet/6010814202.json");
+        Status expected = new StatusJSONImpl(new JSONObject(retweet));
+        Status actual = lazy(retweet);
+        assertTrue(actual.isRetweet());
+        assertStatusEquals(expected, actual);
+        assertStatusEquals(expected.getRetweetedStatus(), actual.getRetweetedStatus());
+    }
+
+    @Test
+    void streamStatus() throws Exception {
+        for (String line : Files.readAllLines(Paths.get("src/test/resources/streamingapi-testcase.json"))) {
+            Status expected = StatusJSONImpl.bindStatus(new JSONPullParser(line));
+            Status actual = LazyStatusImpl.createStatus(line.getBytes(StandardCharsets.UTF_8));
+            if (expected == null) {
+                assertNull(actual);
+            } else {
+                assertStatusEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void memoized() throws Exception {
+        Status status = lazy(read("src/test/resources/dao/statuses/retweet/6010814202.json"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> new Object[]{status.getUser(), status.getURLEntities(),
+                        status.getCreatedAt(), status.getRetweetedStatus()}));
+            }
+            Object[] first = futures.get(0).get();
+            for (Future<Object[]> future : futures) {
+                Object[] members = future.get();
+                for (int i = 0; i < first.length; i++) {
+                    assertSame(first[i], members[i]);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void serializedAsEager() throws Exception {
+        String json = read("src/test/resources/dao/statuses/retweet/6010814202.json");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(lazy(json));
+        }
+        Object deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = in.readObject();
+        }
+        assertTrue(deserialized instanceof StatusJSONImpl);
+        assertEquals(new StatusJSONImpl(new JSONObject(json)).toString(), deserialized.toString());
+    }
+
+    private static void assertStatusEquals(Status expected, Status actual) {
+        assertEquals(expected, actual);
+        assertEquals(expected.getText(), actual.getText());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getSource(), actual.getSource());
+        assertEquals(expected.isTruncated(), actual.isTruncated());
+        assertEquals(expected.getInReplyToStatusId(), actual.getInReplyToStatusId());
+        assertEquals(expected.getInReplyToUserId(), actual.getInReplyToUserId());
+        assertEquals(expected.getInReplyToScreenName(), actual.getInReplyToScreenName());
+        assertEquals(expected.getGeoLocation(), actual.getGeoLocation());
+        assertEquals(expected.getPlace(), actual.getPlace());
+        assertEquals(expected.isFavorited(), actual.isFavorited());
+        assertEquals(expected.isRetweeted(), actual.isRetweeted());
+        assertEquals(expected.getFavoriteCount(), actual.getFavoriteCount());
+        assertEquals(expected.getUser(), actual.getUser());
+        assertEquals(expected.isRetweet(), actual.isRetweet());
+        assertEquals(expected.getRetweetedStatus(), actual.getRetweetedStatus());
+        assertArrayEquals(expected.getContributors(), actual.getContributors());
+        assertEquals(expected.getRetweetCount(), actual.getRetweetCount());
+        assertEquals(expected.getCurrentUserRetweetId(), actual.getCurrentUserRetweetId());
+        assertEquals(expected.isPossiblySensitive(), actual.isPossiblySensitive());
+        assertEquals(expected.getLang(), actual.getLang());
+        assertEquals(expected.getScopes(), actual.getScopes());
+        assertArrayEquals(expected.getWithheldInCountries(), actual.getWithheldInCountries());
+        assertEquals(expected.getQuotedStatusId(), actual.getQuotedStatusId());
+        assertEquals(expected.getQuotedStatus(), actual.getQuotedStatus());
+        assertEquals(expected.getQuotedStatusPermalink(), actual.getQuotedStatusPermalink());
+        assertEquals(expected.getDisplayTextRangeStart(), actual.getDisplayTextRangeStart());
+        assertEquals(expected.getDisplayTextRangeEnd(), actual.getDisplayTextRangeEnd());
+        assertArrayEquals(expected.getUserMentionEntities(), actual.getUserMentionEntities());
+        assertArrayEquals(expected.getURLEntities(), actual.getURLEntities());
+        assertArrayEquals(expected.getHashtagEntities(), actual.getHashtagEntities());
+        assertArrayEquals(expected.getMediaEntities(), actual.getMediaEntities());
+        assertArrayEquals(expected.getSymbolEntities(), actual.getSymbolEntities());
+    }
+
+    private static Status lazy(String json) throws JSONException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return new LazyStatusImpl(bytes, new JSONPullParser(bytes));
+    }
+
+    private static String read(String path) throws Exception {
+        return new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+    }
+}
@@ -73,7 +73,7 @@ class ListResourcesTest extends TwitterTestBase {
             assertEquals(statuses.get(0), TwitterObjectFactory.createStatus(TwitterObjectFactory.getRawJSON(statuses.get(0))));
         }
         assertNotNull(TwitterObjectFactory.getRawJSON(statuses));
-        assertNull(TwitterObjectFactory.getRawJSON(userList));
+        assertNotNull(TwitterObjectFactory.getRawJSON(userList));
         assertNotNull(statuses);
 
         userList = twitter1.v1().list().updateUserList(userList.getId(), "testpoint2", true, "description2");
@@ -119,7 +119,7 @@ class ListResourcesTest extends TwitterTestBase {
         PagableResponseList<User> users = twitter1.v1().list().getUserListMembers(userList.getId(), -1);
         assertEquals(users.get(0), TwitterObjectFactory.createUser(TwitterObjectFactory.getRawJSON(users.get(0))));
         assertNotNull(TwitterObjectFactory.getRawJSON(users));
-        assertNull(TwitterObjectFactory.getRawJSON(userList));
+        assertNotNull(TwitterObjectFactory.getRawJSON(userList));
 
         users = twitter1.v1().list().getUserListMembers(userList.getId(), -1);
         assertEquals(users.get(0), TwitterObjectFactory.createUser(TwitterObjectFactory.getRawJSON(users.get(0))));
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class LookupCoalescerTest {
+
+    @Test
+    void coalesce() throws Exception {
+        List<long[]> requests = new CopyOnWriteArrayList<>();
+        LookupCoalescer<Long> coalescer = new LookupCoalescer<>(500, 100, ids -> {
+            requests.add(ids);
+            List<Long> found = new ArrayList<>();
+            for (long id : ids) {
+                if (id % 7 != 0) {
+                    found.add(id);
+                }
+            }
+            return found;
+        }, Long::longValue, id -> new TwitterException("not found: " + id, null, 404));
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (long id = 1; id <= 10; id++) {
+                long userId = id;
+                futures.add(executor.submit(() -> coalescer.get(userId)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                long id = i + 1;
+                if (id % 7 != 0) {
+                    assertEquals(id, futures.get(i).get(5, TimeUnit.SECONDS));
+                } else {
+                    Exception e = assertThrows(Exception.class, () -> futures.get((int) id - 1).get(5, TimeUnit.SECONDS));
+                    assertEquals(404, ((TwitterException) e.getCause()).getStatusCode());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, requests.size());
+        assertEquals(10, requests.get(0).length);
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaiting() throws Exception {
+        List<long[]> requests = new CopyOnWriteArrayList<>();
+        LookupCoalescer<Long> coalescer = new LookupCoalescer<>(60_000, 2, ids -> {
+            requests.add(ids);
+            List<Long> found = new ArrayList<>();
+            for (long id : ids) {
+                found.add(id);
+            }
+            return found;
+        }, Long::longValue, id -> new TwitterException("not found: " + id, null, 404));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> first = executor.submit(() -> coalescer.get(1));
+            Future<Long> second = executor.submit(() -> coalescer.get(2));
+            assertEquals(1L, first.get(5, TimeUnit.SECONDS));
+            assertEquals(2L, second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void failure() {
+        TwitterException failure = new TwitterException("rate limited", null, 429);
+        LookupCoalescer<Long> coalescer = new LookupCoalescer<>(1, 100, ids -> {
+            throw failure;
+        }, Long::longValue, id -> new TwitterException("not found: " + id, null, 404));
+        assertSame(failure, assertThrows(TwitterException.class, () -> coalescer.get(1)));
+    }
+
+    @Test
+    void errorReleasesAllCallers() throws Exception {
+        LookupCoalescer<Long> coalescer = new LookupCoalescer<>(60_000, 2, ids -> {
+            throw new StackOverflowError();
+        }, Long::longValue, id -> new TwitterException("not found: " + id, null, 404));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> first = executor.submit(() -> coalescer.get(1));
+            Future<Long> second = executor.submit(() -> coalescer.get(2));
+            for (Future<Long> future : Arrays.asList(first, second)) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+                // the error itself on the caller sending the batch
+                Throwable cause = e.getCause() instanceof TwitterException ? e.getCause().getCause() : e.getCause();
+                assertTrue(cause instanceof StackOverflowError, String.valueOf(cause));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
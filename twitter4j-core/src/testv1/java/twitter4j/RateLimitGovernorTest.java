@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.RateLimitPolicy;
+import twitter4j.v1.RateLimitStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class RateLimitGovernorTest {
+    private static final String BASE = "https://api.twitter.com/1.1/";
+
+    @Test
+    void endpoint() {
+        assertEquals("/statuses/home_timeline", RateLimitGovernor.endpoint(BASE, BASE + "statuses/home_timeline.json?count=200"));
+        assertEquals("/statuses/show", RateLimitGovernor.endpoint(BASE, BASE + "statuses/show/1234.json"));
+        assertEquals("/statuses/retweets", RateLimitGovernor.endpoint(BASE, BASE + "statuses/retweets/1234.json?count=5"));
+        assertEquals("/users/show", RateLimitGovernor.endpoint(BASE, BASE + "users/show.json?screen_name=twit4j"));
+        assertEquals("/friendships/show", RateLimitGovernor.endpoint(BASE, BASE + "friendships/show.json"));
+        // path parameters other than ids
+        assertEquals("/users/show", RateLimitGovernor.endpoint(BASE, BASE + "users/show/twit4j.json"));
+        assertEquals("/geo/id", RateLimitGovernor.endpoint(BASE, BASE + "geo/id/df51dec6f4ee2b2c.json"));
+        assertEquals("/users/suggestions", RateLimitGovernor.endpoint(BASE, BASE + "users/suggestions/twitter.json"));
+        assertEquals("/users/suggestions/:slug/members",
+                RateLimitGovernor.endpoint(BASE, BASE + "users/suggestions/twitter/members.json"));
+        assertEquals("/users/suggestions", RateLimitGovernor.endpoint(BASE, BASE + "users/suggestions.json"));
+        assertEquals("/statuses/retweets_of_me", RateLimitGovernor.endpoint(BASE, BASE + "statuses/retweets_of_me.json"));
+        assertNull(RateLimitGovernor.endpoint(BASE, "https://upload.twitter.com/1.1/media/upload.json"));
+    }
+
+    @Test
+    void failFast() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(BASE, RateLimitPolicy.FAIL_FAST, NullAuthorization.getInstance());
+        int reset = (int) (System.currentTimeMillis() / 1000) + 60;
+        governor.seed(Collections.singletonMap("/statuses/show/:id", new RateLimitStatusJSONImpl(900, 2, reset)));
+
+        governor.acquire(BASE + "statuses/show/1.json");
+        // the response tells a call left, but one is still reserved by a request in flight
+        governor.update(BASE + "statuses/show/2.json", NullAuthorization.getInstance(), new RateLimitStatusJSONImpl(900, 1, reset), 200);
+        governor.acquire(BASE + "statuses/show/3.json");
+        TwitterException te = assertThrows(TwitterException.class, () -> governor.acquire(BASE + "statuses/show/4.json"));
+        assertTrue(te.exceededRateLimitation());
+        RateLimitStatus status = te.getRateLimitStatus();
+        assertEquals(0, status.getRemaining());
+        assertEquals(reset, status.getResetTimeInSeconds());
+        assertTrue(te.getRetryAfter() > 0);
+
+        // other endpoints and endpoints not known yet are not held back
+        governor.acquire(BASE + "statuses/home_timeline.json");
+        governor.update(BASE + "statuses/home_timeline.json", NullAuthorization.getInstance(), new RateLimitStatusJSONImpl(15, 10, reset), 429);
+        assertThrows(TwitterException.class, () -> governor.acquire(BASE + "statuses/home_timeline.json?count=200"));
+    }
+
+    @Test
+    void none() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(BASE, RateLimitPolicy.NONE, NullAuthorization.getInstance());
+        governor.seed(Collections.singletonMap("/statuses/show/:id",
+                new RateLimitStatusJSONImpl(900, 0, (int) (System.currentTimeMillis() / 1000) + 60)));
+        governor.acquire(BASE + "statuses/show/1.json");
+        assertFalse(governor.isEnabled());
+    }
+
+    @Test
+    void blockAndDelay() throws Exception {
+        for (RateLimitPolicy policy : new RateLimitPolicy[]{RateLimitPolicy.BLOCK, RateLimitPolicy.DELAY}) {
+            RateLimitGovernor governor = new RateLimitGovernor(BASE, policy, NullAuthorization.getInstance());
+            long resetMillis = (System.currentTimeMillis() / 1000 + 1) * 1000;
+            governor.seed(Collections.singletonMap("/users/show/:id", new RateLimitStatusJSONImpl(900, 0, (int) (resetMillis / 1000))));
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                AsyncResourceBase async = new AsyncResourceBase(executor) {
+                };
+                CompletableFuture<Long> future = async.async(() -> {
+                    governor.acquire(BASE + "users/show.json?user_id=1");
+                    return System.currentTimeMillis();
+                });
+                if (policy == RateLimitPolicy.DELAY) {
+                    // the dispatcher thread is not held while the request is deferred
+                    assertTrue(executor.submit(() -> true).get(500, TimeUnit.MILLISECONDS));
+                }
+                assertTrue(future.get(5, TimeUnit.SECONDS) >= resetMillis);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void pool() throws Exception {
+        Authorization first = new OAuth2Authorization(Twitter.newBuilder().oAuthConsumer("key1", "secret1"));
+        Authorization second = new OAuth2Authorization(Twitter.newBuilder().oAuthConsumer("key2", "secret2"));
+        AuthorizationPool pool = AuthorizationPool.of(first, second);
+        RateLimitGovernor governor = new RateLimitGovernor(BASE, RateLimitPolicy.FAIL_FAST, pool);
+        assertTrue(governor.isEnabled());
+        int reset = (int) (System.currentTimeMillis() / 1000) + 60;
+        String url = BASE + "statuses/user_timeline.json?user_id=1";
+
+        governor.update(url, first, new RateLimitStatusJSONImpl(900, 10, reset), 200);
+        governor.update(url, second, new RateLimitStatusJSONImpl(900, 1, reset), 200);
+        // the credential with the most calls remaining is picked
+        assertSame(first, governor.acquire(url));
+
+        // exhausted and revoked credentials are skipped
+        governor.update(url, first, new RateLimitStatusJSONImpl(900, 0, reset), 429);
+        assertSame(second, governor.acquire(url));
+        assertThrows(TwitterException.class, () -> governor.acquire(url));
+        // invalid or expired token
+        governor.update(url, second, null, 401, 89);
+        assertTrue(pool.getCredentials().get(1).isRevoked());
+
+        AuthorizationPool.Credential credential = pool.getCredentials().get(0);
+        assertEquals(1, credential.getRequestCount());
+        assertEquals(1, credential.getRateLimitedCount());
+        assertEquals(0, credential.getRateLimitStatus("/statuses/user_timeline").getRemaining());
+    }
+
+    @Test
+    void unauthorizedRequestKeepsTheCredential() throws Exception {
+        Authorization first = new OAuth2Authorization(Twitter.newBuilder().oAuthConsumer("key1", "secret1"));
+        Authorization second = new OAuth2Authorization(Twitter.newBuilder().oAuthConsumer("key2", "secret2"));
+        AuthorizationPool pool = AuthorizationPool.of(first, second);
+        RateLimitGovernor governor = new RateLimitGovernor(BASE, RateLimitPolicy.FAIL_FAST, pool);
+        String url = BASE + "statuses/user_timeline.json?screen_name=protected";
+
+        // "Sorry, you are not authorized to see this status." and 401 without error code, like a protected timeline
+        governor.update(url, first, null, 401, 179);
+        governor.update(url, second, null, 401);
+        assertFalse(pool.getCredentials().get(0).isRevoked());
+        assertFalse(pool.getCredentials().get(1).isRevoked());
+        assertEquals(1, pool.getCredentials().get(0).getErrorCount());
+        assertNotNull(governor.acquire(url));
+
+        // "Could not authenticate you."
+        governor.update(url, first, null, 401, 32);
+        assertTrue(pool.getCredentials().get(0).isRevoked());
+        assertSame(second, governor.acquire(url));
+    }
+
+    @Test
+    void poolReservesUnderContention() throws Exception {
+        Authorization first = new OAuth2Authorization(Twitter.newBuilder().oAuthConsumer("key1", "secret1"));
+        Authorization second = new OAuth2Authorization(Twitter.newBuilder().oAuthConsumer("key2", "secret2"));
+        Authorization third = new OAuth2Authorization(Twitter.newBuilder().oAuthConsumer("key3", "secret3"));
+        AuthorizationPool pool = AuthorizationPool.of(first, second, third);
+        RateLimitGovernor governor = new RateLimitGovernor(BASE, RateLimitPolicy.FAIL_FAST, pool);
+        int reset = (int) (System.currentTimeMillis() / 1000) + 60;
+        String url = BASE + "users/show.json?user_id=1";
+        governor.update(url, first, new RateLimitStatusJSONImpl(900, 50, reset), 200);
+        governor.update(url, second, new RateLimitStatusJSONImpl(900, 30, reset), 200);
+        governor.update(url, third, new RateLimitStatusJSONImpl(900, 20, reset), 200);
+
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 20; j++) {
+                        try {
+                            governor.acquire(url);
+                            acquired.incrementAndGet();
+                        } catch (TwitterException ignore) {
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // a call reserved by a concurrent request is never handed out twice, nor lost
+        assertEquals(100, acquired.get());
+        assertEquals(50, pool.getCredentials().get(0).getRequestCount());
+        assertEquals(30, pool.getCredentials().get(1).getRequestCount());
+        assertEquals(20, pool.getCredentials().get(2).getRequestCount());
+    }
+}
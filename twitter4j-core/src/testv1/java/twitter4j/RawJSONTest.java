@@ -0,0 +1,119 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class RawJSONTest {
+
+    @Test
+    void retainedAcrossCallsAndThreads() throws Exception {
+        String json = new String(Files.readAllBytes(Paths.get("src/test/resources/dao/statuses/home_timeline.json")),
+                StandardCharsets.UTF_8);
+        ObjectFactory factory = new JSONImplFactory(true);
+        ResponseList<Status> first = factory.createStatusList(new JSONBindingTest.MockHttpResponse(json));
+        ResponseList<Status> second = factory.createStatusList(new JSONBindingTest.MockHttpResponse(json));
+        assertNotNull(TwitterObjectFactory.getRawJSON(second));
+
+        // neither the later call nor another thread makes the raw JSON forms inaccessible
+        Status status = first.get(0);
+        String rawJSON = CompletableFuture.supplyAsync(() -> TwitterObjectFactory.getRawJSON(status)).get();
+        assertNotNull(rawJSON);
+        assertSame(rawJSON, TwitterObjectFactory.getRawJSON(status));
+        assertEquals(status, TwitterObjectFactory.createStatus(rawJSON));
+        assertArrayEquals(rawJSON.getBytes(StandardCharsets.UTF_8), TwitterObjectFactory.getRawJSONBytes(status));
+        assertNotNull(TwitterObjectFactory.getRawJSON(first));
+        assertNull(TwitterObjectFactory.getRawJSON(new Object()));
+
+        Map<String, RateLimitStatus> rateLimitStatuses = factory.createRateLimitStatuses(new JSONBindingTest.MockHttpResponse(
+                "{\"resources\":{\"statuses\":{\"/statuses/home_timeline\":{\"limit\":15,\"remaining\":15,\"reset\":1403602426}}}}"));
+        assertEquals(15, rateLimitStatuses.get("/statuses/home_timeline").getLimit());
+        assertThrows(UnsupportedOperationException.class, () -> rateLimitStatuses.remove("/statuses/home_timeline"));
+        assertTrue(TwitterObjectFactory.getRawJSON(rateLimitStatuses).contains("home_timeline"));
+    }
+
+    @Test
+    void streamStatusesRetainTheLine() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get("src/test/resources/streamingapi-testcase.json"))) {
+            if (line.startsWith("{\"text\"") && lines.size() < 3) {
+                lines.add(line);
+            }
+        }
+        for (boolean lazy : new boolean[]{false, true}) {
+            List<Status> statuses = stream(lines, lazy);
+            assertEquals(lines.size(), statuses.size());
+            for (int i = 0; i < lines.size(); i++) {
+                Status status = statuses.get(i);
+                String rawJSON = TwitterObjectFactory.getRawJSON(status);
+                assertEquals(lines.get(i), rawJSON);
+                assertEquals(status, TwitterObjectFactory.createStatus(rawJSON));
+                byte[] bytes = TwitterObjectFactory.getRawJSONBytes(status);
+                assertArrayEquals(lines.get(i).getBytes(StandardCharsets.UTF_8), bytes);
+                // a copy, which leaves the status intact
+                Arrays.fill(bytes, (byte) ' ');
+                assertEquals(lines.get(i), new String(TwitterObjectFactory.getRawJSONBytes(status),
+                        StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static List<Status> stream(List<String> lines, boolean lazy) throws Exception {
+        List<Status> statuses = new ArrayList<>();
+        CountDownLatch received = new CountDownLatch(lines.size());
+        List<StreamListener> listeners = new ArrayList<>();
+        listeners.add(new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                synchronized (statuses) {
+                    statuses.add(status);
+                }
+                received.countDown();
+            }
+        });
+        StringBuilder payload = new StringBuilder();
+        for (String line : lines) {
+            payload.append(line).append('\n');
+        }
+        StreamDispatcher dispatcher = new StreamDispatcher(100, StreamOverflowPolicy.BLOCK,
+                new StreamStatistics(100, StreamOverflowPolicy.BLOCK), listeners);
+        StatusStreamImpl stream = new StatusStreamImpl(new JSONBindingTest.MockHttpResponse(payload.toString()),
+                listeners, new ArrayList<>(), true, lazy, false, dispatcher, null);
+        for (int i = 0; i < lines.size(); i++) {
+            stream.next(listeners, new ArrayList<>());
+        }
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+        return statuses;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class ResponseCacheTest {
+    private static final String LANGUAGES = "https://api.twitter.com/1.1/help/languages.json";
+    private static final Authorization AUTH = NullAuthorization.getInstance();
+
+    @Test
+    void ttl() throws Exception {
+        ResponseCache cache = ResponseCache.of(10).ttl("/help/languages", 3600).ttl(" /users/show/:id", 0);
+        assertTrue(cache.isEnabled("/help/languages"));
+        assertTrue(cache.isEnabled("/users/show"));
+        assertFalse(cache.isEnabled("/trends/available"));
+        assertFalse(cache.isEnabled(null));
+
+        List<Map<String, String>> requests = new ArrayList<>();
+        ResponseCache.Fetch fetch = headers -> {
+            requests.add(headers);
+            return new Response(200, "[{\"code\":\"en\"}]", Collections.emptyMap());
+        };
+        HttpResponse first = cache.get("/help/languages", LANGUAGES, null, AUTH, fetch);
+        HttpResponse second = cache.get("/help/languages", LANGUAGES, null, AUTH, fetch);
+        assertEquals(1, requests.size());
+        assertSame(first, second);
+        assertEquals("en", second.asJSONArray().getJSONObject(0).getString("code"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getSize());
+
+        // expires immediately and has no validator to revalidate with
+        String show = "https://api.twitter.com/1.1/users/show.json";
+        cache.get("/users/show", show, new HttpParameter[]{new HttpParameter("screen_name", "twit4j")}, AUTH, fetch);
+        cache.get("/users/show", show, new HttpParameter[]{new HttpParameter("screen_name", "twit4j")}, AUTH, fetch);
+        assertEquals(3, requests.size());
+        assertNull(requests.get(2));
+        assertEquals(3, cache.getMissCount());
+
+        cache.reset();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void revalidate() throws Exception {
+        ResponseCache cache = ResponseCache.of(10).ttl("/help/languages", 0);
+        List<Map<String, String>> requests = new ArrayList<>();
+        ResponseCache.Fetch fetch = headers -> {
+            requests.add(headers);
+            if (headers != null && "\"v1\"".equals(headers.get("If-None-Match"))) {
+                return new Response(304, "", Collections.emptyMap());
+            }
+            Map<String, List<String>> responseHeaders = new HashMap<>();
+            responseHeaders.put("ETag", Collections.singletonList("\"v1\""));
+            responseHeaders.put("Last-Modified", Collections.singletonList("Sat, 17 Oct 2026 00:00:00 GMT"));
+            return new Response(200, "[{\"code\":\"en\"}]", responseHeaders);
+        };
+        HttpResponse first = cache.get("/help/languages", LANGUAGES, null, AUTH, fetch);
+        HttpResponse second = cache.get("/help/languages", LANGUAGES, null, AUTH, fetch);
+        assertEquals(2, requests.size());
+        assertNull(requests.get(0));
+        assertEquals("\"v1\"", requests.get(1).get("If-None-Match"));
+        assertEquals("Sat, 17 Oct 2026 00:00:00 GMT", requests.get(1).get("If-Modified-Since"));
+        assertSame(first, second);
+        assertEquals(200, second.getStatusCode());
+        assertEquals("\"v1\"", second.getResponseHeader("etag"));
+        assertEquals(1, cache.getRevalidatedCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() throws Exception {
+        ResponseCache cache = ResponseCache.of(2).ttl("/users/show", 3600);
+        String show = "https://api.twitter.com/1.1/users/show.json";
+        List<String> requests = new ArrayList<>();
+        ResponseCache.Fetch[] fetch = new ResponseCache.Fetch[1];
+        String[] screenName = new String[1];
+        fetch[0] = headers -> {
+            requests.add(screenName[0]);
+            return new Response(200, "{\"screen_name\":\"" + screenName[0] + "\"}", Collections.emptyMap());
+        };
+        for (String name : new String[]{"a", "b", "a", "c", "a", "b"}) {
+            screenName[0] = name;
+            cache.get("/users/show", show, new HttpParameter[]{new HttpParameter("screen_name", name)}, AUTH, fetch[0]);
+        }
+        // "b" was evicted by "c" as "a" had been used more recently
+        assertEquals(List.of("a", "b", "c", "b"), requests);
+        assertEquals(2, cache.getSize());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    void credentialsAreNotShared() throws Exception {
+        ResponseCache cache = ResponseCache.of(10).ttl("/help/languages", 3600);
+        int[] requests = new int[1];
+        ResponseCache.Fetch fetch = headers -> {
+            requests[0]++;
+            return new Response(200, "[]", Collections.emptyMap());
+        };
+        cache.get("/help/languages", LANGUAGES, null, OAuth2Authorization.getInstance("key1", "secret1"), fetch);
+        cache.get("/help/languages", LANGUAGES, null, OAuth2Authorization.getInstance("key2", "secret2"), fetch);
+        cache.get("/help/languages", LANGUAGES, null, OAuth2Authorization.getInstance("key1", "secret1"), fetch);
+        assertEquals(2, requests[0]);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    private static final class Response extends HttpResponse {
+        private final Map<String, List<String>> headers;
+
+        Response(int statusCode, String body, Map<String, List<String>> headers) {
+            super(false);
+            this.statusCode = statusCode;
+            this.is = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+            this.headers = headers;
+        }
+
+        @Override
+        String getResponseHeader(String name) {
+            List<String> values = headers.get(name);
+            return values == null ? null : values.get(0);
+        }
+
+        @Override
+        Map<String, List<String>> getResponseHeaderFields() {
+            return headers;
+        }
+
+        @Override
+        void disconnect() {
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class SingleFlightTest {
+    private static final String URL = "https://api.twitter.com/1.1/help/configuration.json";
+
+    @Test
+    void endpoints() {
+        SingleFlight singleFlight = SingleFlight.of("/help/configuration", " /users/show/:id");
+        assertTrue(singleFlight.isEnabled("/help/configuration"));
+        assertTrue(singleFlight.isEnabled("/users/show"));
+        assertFalse(singleFlight.isEnabled("/trends/place"));
+        assertFalse(singleFlight.isEnabled(null));
+        assertEquals(0, singleFlight.getCollapsedCount("/users/show/:id"));
+        assertEquals(0, singleFlight.getCollapsedCount("/trends/place"));
+    }
+
+    @Test
+    void collapse() throws Exception {
+        SingleFlight singleFlight = SingleFlight.of("/help/configuration");
+        Authorization auth = NullAuthorization.getInstance();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncResourceBase.Call<HttpResponse> call = () -> {
+            calls.incrementAndGet();
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new TwitterException(e);
+            }
+            return new JSONBindingTest.MockHttpResponse("{\"photo_size_limit\":3145728}");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<HttpResponse>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> singleFlight.execute("/help/configuration", URL, null, auth, null, call)));
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> singleFlight.execute("/help/configuration", URL, null, auth, null, call)));
+            }
+            // let the followers join the request in flight
+            Thread.sleep(300);
+            release.countDown();
+            for (Future<HttpResponse> future : futures) {
+                HttpResponse res = future.get(5, TimeUnit.SECONDS);
+                assertSame(futures.get(0).get(), res);
+                assertEquals(3145728, res.asJSONObject().getInt("photo_size_limit"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(4, singleFlight.getCollapsedCount());
+        assertEquals(4, singleFlight.getCollapsedCount("/help/configuration"));
+
+        // the request is sent again once the previous one has completed
+        singleFlight.execute("/help/configuration", URL, null, auth, null, call);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void sharedFailure() throws Exception {
+        SingleFlight singleFlight = SingleFlight.of("/help/configuration");
+        Authorization auth = NullAuthorization.getInstance();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncResourceBase.Call<HttpResponse> call = () -> {
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new TwitterException(e);
+            }
+            throw new TwitterException("unavailable", null, 503);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<HttpResponse> leader = executor.submit(() -> singleFlight.execute("/help/configuration", URL, null, auth, null, call));
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+            Future<HttpResponse> follower = executor.submit(() -> singleFlight.execute("/help/configuration", URL, null, auth, null, call));
+            Thread.sleep(300);
+            release.countDown();
+            for (Future<HttpResponse> future : Arrays.asList(leader, follower)) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+                assertEquals(503, ((TwitterException) e.getCause()).getStatusCode());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, singleFlight.getCollapsedCount());
+    }
+
+    @Test
+    void errorIsShared() throws Exception {
+        SingleFlight singleFlight = SingleFlight.of("/help/configuration");
+        Authorization auth = NullAuthorization.getInstance();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncResourceBase.Call<HttpResponse> call = () -> {
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new TwitterException(e);
+            }
+            throw new StackOverflowError();
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<HttpResponse> leader = executor.submit(() -> singleFlight.execute("/help/configuration", URL, null, auth, null, call));
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+            Future<HttpResponse> follower = executor.submit(() -> singleFlight.execute("/help/configuration", URL, null, auth, null, call));
+            Thread.sleep(300);
+            release.countDown();
+            ExecutionException e = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof StackOverflowError);
+            e = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause().getCause() instanceof StackOverflowError);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void differentRequestsAreNotShared() throws Exception {
+        SingleFlight singleFlight = SingleFlight.of("/users/show");
+        String url = "https://api.twitter.com/1.1/users/show.json";
+        Authorization auth1 = OAuth2Authorization.getInstance("consumerKey1", "consumerSecret1");
+        Authorization auth2 = OAuth2Authorization.getInstance("consumerKey2", "consumerSecret2");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch sending = new CountDownLatch(3);
+        AsyncResourceBase.Call<HttpResponse> call = () -> {
+            calls.incrementAndGet();
+            sending.countDown();
+            try {
+                // wait until all requests are in flight
+                sending.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new TwitterException(e);
+            }
+            return new JSONBindingTest.MockHttpResponse("{}");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<HttpResponse>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> singleFlight.execute("/users/show", url,
+                    new HttpParameter[]{new HttpParameter("screen_name", "twit4j")}, auth1, null, call)));
+            futures.add(executor.submit(() -> singleFlight.execute("/users/show", url,
+                    new HttpParameter[]{new HttpParameter("screen_name", "twit4j")}, auth2, null, call)));
+            futures.add(executor.submit(() -> singleFlight.execute("/users/show", url,
+                    new HttpParameter[]{new HttpParameter("screen_name", "twit4j2")}, auth1, null, call)));
+            for (Future<HttpResponse> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(3, calls.get());
+        assertEquals(0, singleFlight.getCollapsedCount());
+    }
+}
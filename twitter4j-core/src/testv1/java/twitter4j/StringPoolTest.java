@@ -0,0 +1,98 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.ResponseList;
+import twitter4j.v1.Status;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class StringPoolTest {
+
+    @Test
+    void timelineSharesValues() throws Exception {
+        String json = new String(Files.readAllBytes(Paths.get("src/test/resources/dao/statuses/home_timeline.json")),
+                StandardCharsets.UTF_8);
+        StringPool stringPool = StringPool.of(100);
+        ResponseList<Status> expected = new JSONImplFactory(false).createStatusList(new JSONBindingTest.MockHttpResponse(json));
+        ResponseList<Status> actual = new JSONImplFactory(false, FieldProjection.ALL.withStringPool(stringPool))
+                .createStatusList(new JSONBindingTest.MockHttpResponse(json));
+        assertTrue(actual.size() > 1);
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+        for (int i = 1; i < actual.size(); i++) {
+            if (actual.get(0).getSource().equals(actual.get(i).getSource())) {
+                assertSame(actual.get(0).getSource(), actual.get(i).getSource());
+            }
+            if (actual.get(0).getUser().getProfileTextColor().equals(actual.get(i).getUser().getProfileTextColor())) {
+                assertSame(actual.get(0).getUser().getProfileTextColor(), actual.get(i).getUser().getProfileTextColor());
+            }
+        }
+        assertTrue(stringPool.getHitCount() > 0);
+        assertTrue(stringPool.getHitRate() > 0.5);
+        assertEquals(stringPool.getMissCount(), stringPool.getSize());
+    }
+
+    @Test
+    void onlyListedFieldsArePooled() throws Exception {
+        StringPool stringPool = StringPool.of(100).fields("status.lang");
+        ObjectFactory factory = new JSONImplFactory(false, FieldProjection.ALL.withStringPool(stringPool));
+        Status first = factory.createStatus(new JSONBindingTest.MockHttpResponse(status(1)));
+        Status second = factory.createStatus(new JSONBindingTest.MockHttpResponse(status(2)));
+        assertSame(first.getLang(), second.getLang());
+        assertEquals(first.getSource(), second.getSource());
+        assertNotSame(first.getSource(), second.getSource());
+        assertEquals(1, stringPool.getHitCount());
+        assertEquals(1, stringPool.getSize());
+    }
+
+    @Test
+    void boundedPool() {
+        StringPool stringPool = StringPool.of(2);
+        assertEquals("ja", stringPool.pooled("status.lang", "ja"));
+        assertEquals("en", stringPool.pooled("status.lang", "en"));
+        String fr = new String("fr");
+        // the pool is full
+        assertSame(fr, stringPool.pooled("status.lang", fr));
+        assertNotSame(fr, stringPool.pooled("status.lang", new String("fr")));
+        assertEquals(2, stringPool.getSize());
+        assertNull(stringPool.pooled("status.lang", null));
+        assertSame(fr, stringPool.pooled("status.text", fr));
+
+        String ja = new String("ja");
+        assertNotSame(ja, stringPool.pooled("status.lang", ja));
+        assertEquals(1, stringPool.getHitCount());
+        stringPool.reset();
+        assertEquals(0, stringPool.getHitRate());
+        stringPool.clear();
+        assertEquals(0, stringPool.getSize());
+        assertSame(ja, stringPool.pooled("status.lang", ja));
+    }
+
+    private static String status(long id) {
+        return TestFixtures.statusJSON(id, "\"lang\":\"en\",\"source\":\"web\"");
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import twitter4j.v1.ResponseList;
+import twitter4j.v1.Status;
+import twitter4j.v1.User;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class UserCacheTest {
+
+    @Test
+    void timelineSharesAuthors() throws Exception {
+        String json = new String(Files.readAllBytes(Paths.get("src/test/resources/dao/statuses/user_timeline/testiverse.json")),
+                StandardCharsets.UTF_8);
+        UserCache userCache = UserCache.of(10);
+        ResponseList<Status> expected = new JSONImplFactory(false).createStatusList(new JSONBindingTest.MockHttpResponse(json));
+        ResponseList<Status> actual = new JSONImplFactory(false, FieldProjection.ALL, userCache)
+                .createStatusList(new JSONBindingTest.MockHttpResponse(json));
+        assertTrue(actual.size() > 1);
+        User author = actual.get(0).getUser();
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+            assertSame(author, actual.get(i).getUser());
+        }
+        assertEquals(actual.size() - 1, userCache.getSharedCount());
+        assertSame(author, userCache.getUser(author.getId()));
+        assertEquals(1, userCache.getSize());
+    }
+
+    @Test
+    void changedUserReplacesCachedOne() throws Exception {
+        UserCache userCache = UserCache.of(10);
+        ObjectFactory factory = new JSONImplFactory(false, FieldProjection.ALL, userCache);
+        Status first = factory.createStatus(new JSONBindingTest.MockHttpResponse(status(1, 100)));
+        Status second = factory.createStatus(new JSONBindingTest.MockHttpResponse(status(2, 100)));
+        Status third = factory.createStatus(new JSONBindingTest.MockHttpResponse(status(3, 101)));
+        assertSame(first.getUser(), second.getUser());
+        assertNotSame(second.getUser(), third.getUser());
+        assertEquals(101, third.getUser().getFollowersCount());
+        assertSame(third.getUser(), userCache.getUser(10));
+        assertEquals(1, userCache.getSharedCount());
+    }
+
+    @Test
+    void rawJSONStoreIsNotAffected() throws Exception {
+        UserCache userCache = UserCache.of(10);
+        ObjectFactory factory = new JSONImplFactory(true, FieldProjection.ALL, userCache);
+        Status first = factory.createStatus(new JSONBindingTest.MockHttpResponse(status(1, 100)));
+        Status second = factory.createStatus(new JSONBindingTest.MockHttpResponse(status(2, 100)));
+        assertNotSame(first.getUser(), second.getUser());
+        assertEquals(0, userCache.getSize());
+    }
+
+    @Test
+    void maxAgeAndEviction() throws Exception {
+        UserCache userCache = UserCache.of(2);
+        ObjectFactory factory = new JSONImplFactory(false, FieldProjection.ALL, userCache);
+        User user = factory.createUser(new JSONObject("{\"id\":10,\"screen_name\":\"twit4j\"}"));
+        // answered from the cache only with a max age
+        assertNull(userCache.getFresh(10));
+        userCache.maxAge(60);
+        assertSame(user, userCache.getFresh(10));
+        assertTrue(userCache.getLastSeen(10) > 0);
+        assertEquals(-1, userCache.getLastSeen(11));
+
+        factory.createUser(new JSONObject("{\"id\":11,\"screen_name\":\"twit4j2\"}"));
+        factory.createUser(new JSONObject("{\"id\":12,\"screen_name\":\"twit4j3\"}"));
+        assertEquals(2, userCache.getSize());
+        assertNull(userCache.getUser(10));
+        assertNotNull(userCache.getUser(12));
+        userCache.clear();
+        assertEquals(0, userCache.getSize());
+    }
+
+    private static String status(long id, int followersCount) {
+        return TestFixtures.statusJSON(id,
+                "\"user\":{\"id\":10,\"screen_name\":\"twit4j\",\"followers_count\":" + followersCount + "}");
+    }
+}
@@ -107,7 +107,7 @@ class UsersResourcesTest extends TwitterTestBase {
 
         user = twitter1.v1().users().showUser(numberId);
         assertEquals(numberIdId, user.getId());
-        assertNull(TwitterObjectFactory.getRawJSON(previousUser));
+        assertNotNull(TwitterObjectFactory.getRawJSON(previousUser));
         assertNotNull(TwitterObjectFactory.getRawJSON(user));
         assertEquals(user, TwitterObjectFactory.createUser(TwitterObjectFactory.getRawJSON(user)));
 
@@ -280,7 +280,7 @@ class UsersResourcesTest extends TwitterTestBase {
         assertEquals(twit4jblockID, users.get(0).getId());
 
         IDs ids = twitter1.v1().users().getBlocksIDs();
-        assertNull(TwitterObjectFactory.getRawJSON(users));
+        assertNotNull(TwitterObjectFactory.getRawJSON(users));
         assertNotNull(TwitterObjectFactory.getRawJSON(ids));
         assertTrue(ids.getIDs().length >= 1);
         assertEquals(twit4jblockID, ids.getIDs()[0]);
@@ -319,7 +319,7 @@ class UsersResourcesTest extends TwitterTestBase {
         assertEquals(twit4jblockID, users.get(0).getId());
 
         IDs ids = twitter1.v1().users().getMutesIDs(-1L);
-        assertNull(TwitterObjectFactory.getRawJSON(users));
+        assertNotNull(TwitterObjectFactory.getRawJSON(users));
         assertNotNull(TwitterObjectFactory.getRawJSON(ids));
         assertEquals(1, ids.getIDs().length);
         assertEquals(twit4jblockID, ids.getIDs()[0]);
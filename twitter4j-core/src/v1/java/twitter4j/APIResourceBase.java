@@ -7,6 +7,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -24,11 +25,14 @@ class APIResourceBase implements HttpResponseListener {
     private final HttpParameter[] IMPLICIT_PARAMS;
     private final List<Consumer<RateLimitStatusEvent>> rateLimitStatusListeners;
     private final List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners;
+    protected final RateLimitGovernor governor;
+    private final SingleFlight singleFlight;
+    private final ResponseCache responseCache;
 
     APIResourceBase(HttpClient http, ObjectFactory factory, String restBaseURL, Authorization auth, boolean mbeanEnabled, HttpParameter[] IMPLICIT_PARAMS,
                     String IMPLICIT_PARAMS_STR,
                     List<Consumer<RateLimitStatusEvent>> rateLimitStatusListeners,
-                    List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners) {
+                    List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners, RateLimitGovernor governor, SingleFlight singleFlight, ResponseCache responseCache) {
         this.http = http;
         this.factory = factory;
         this.restBaseURL = restBaseURL;
@@ -38,6 +42,9 @@ class APIResourceBase implements HttpResponseListener {
         this.IMPLICIT_PARAMS_STR = IMPLICIT_PARAMS_STR;
         this.rateLimitStatusListeners = rateLimitStatusListeners;
         this.rateLimitReachedListeners = rateLimitReachedListeners;
+        this.governor = governor;
+        this.singleFlight = singleFlight;
+        this.responseCache = responseCache;
     }
 
     protected HttpResponse get(String url) throws TwitterException {
@@ -48,31 +55,45 @@ class APIResourceBase implements HttpResponseListener {
                 url = url + "?" + IMPLICIT_PARAMS_STR;
             }
         }
-        if (!mbeanEnabled) {
-            return http.get(url, null, auth, this);
-        } else {
-            // intercept HTTP call for monitoring purposes
-            HttpResponse response = null;
-            long start = System.currentTimeMillis();
-            try {
-                response = http.get(url, null, auth, this);
-            } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+        return cachedGet(url, null);
+    }
+
+    protected HttpResponse get(String url, HttpParameter... params) throws TwitterException {
+        return cachedGet(url, mergeImplicitParams(params));
+    }
+
+    private HttpResponse cachedGet(String url, HttpParameter[] params) throws TwitterException {
+        if (responseCache != null) {
+            String endpoint = RateLimitGovernor.endpoint(restBaseURL, url);
+            if (responseCache.isEnabled(endpoint)) {
+                return responseCache.get(endpoint, url, params, auth,
+                        conditionalHeaders -> singleFlightGet(url, params, conditionalHeaders));
             }
-            return response;
         }
+        return singleFlightGet(url, params, null);
     }
 
-    protected HttpResponse get(String url, HttpParameter... params) throws TwitterException {
+    private HttpResponse singleFlightGet(String url, HttpParameter[] params, Map<String, String> conditionalHeaders) throws TwitterException {
+        if (singleFlight != null) {
+            String endpoint = RateLimitGovernor.endpoint(restBaseURL, url);
+            if (singleFlight.isEnabled(endpoint)) {
+                // identical requests in flight share one response
+                return singleFlight.execute(endpoint, url, params, auth, conditionalHeaders, () -> httpGet(url, params, conditionalHeaders));
+            }
+        }
+        return httpGet(url, params, conditionalHeaders);
+    }
+
+    private HttpResponse httpGet(String url, HttpParameter[] params, Map<String, String> conditionalHeaders) throws TwitterException {
+        Authorization authorization = governor.acquire(url);
         if (!mbeanEnabled) {
-            return http.get(url, mergeImplicitParams(params), auth, this);
+            return http.get(url, params, authorization, conditionalHeaders, this);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
             long start = System.currentTimeMillis();
             try {
-                response = http.get(url, mergeImplicitParams(params), auth, this);
+                response = http.get(url, params, authorization, conditionalHeaders, this);
             } finally {
                 long elapsedTime = System.currentTimeMillis() - start;
                 TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
@@ -82,14 +103,15 @@ class APIResourceBase implements HttpResponseListener {
     }
 
     protected HttpResponse post(String url) throws TwitterException {
+        Authorization authorization = governor.acquire(url);
         if (!mbeanEnabled) {
-            return http.post(url, IMPLICIT_PARAMS, auth, this);
+            return http.post(url, IMPLICIT_PARAMS, authorization, this);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
             long start = System.currentTimeMillis();
             try {
-                response = http.post(url, IMPLICIT_PARAMS, auth, this);
+                response = http.post(url, IMPLICIT_PARAMS, authorization, this);
             } finally {
                 long elapsedTime = System.currentTimeMillis() - start;
                 TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
@@ -99,14 +121,15 @@ class APIResourceBase implements HttpResponseListener {
     }
 
     protected HttpResponse post(String url, HttpParameter... params) throws TwitterException {
+        Authorization authorization = governor.acquire(url);
         if (!mbeanEnabled) {
-            return http.post(url, mergeImplicitParams(params), auth, this);
+            return http.post(url, mergeImplicitParams(params), authorization, this);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
             long start = System.currentTimeMillis();
             try {
-                response = http.post(url, mergeImplicitParams(params), auth, this);
+                response = http.post(url, mergeImplicitParams(params), authorization, this);
             } finally {
                 long elapsedTime = System.currentTimeMillis() - start;
                 TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
@@ -116,14 +139,15 @@ class APIResourceBase implements HttpResponseListener {
     }
 
     protected HttpResponse delete(String url) throws TwitterException {
+        Authorization authorization = governor.acquire(url);
         if (!mbeanEnabled) {
-            return http.delete(url, null, auth, this);
+            return http.delete(url, null, authorization, this);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
             long start = System.currentTimeMillis();
             try {
-                response = http.delete(url, null, auth, this);
+                response = http.delete(url, null, authorization, this);
             } finally {
                 long elapsedTime = System.currentTimeMillis() - start;
                 TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
@@ -133,14 +157,15 @@ class APIResourceBase implements HttpResponseListener {
     }
 
     protected HttpResponse post(String url, JSONObject json) throws TwitterException {
+        Authorization authorization = governor.acquire(url);
         if (!mbeanEnabled) {
-            return http.post(url, new HttpParameter[]{new HttpParameter(json)}, auth, this);
+            return http.post(url, new HttpParameter[]{new HttpParameter(json)}, authorization, this);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
             long start = System.currentTimeMillis();
             try {
-                response = http.post(url, new HttpParameter[]{new HttpParameter(json)}, auth, this);
+                response = http.post(url, new HttpParameter[]{new HttpParameter(json)}, authorization, this);
             } finally {
                 long elapsedTime = System.currentTimeMillis() - start;
                 TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
@@ -194,18 +219,24 @@ class APIResourceBase implements HttpResponseListener {
 
     @Override
     public void httpResponseReceived(HttpResponseEvent event) {
-        if (rateLimitStatusListeners.size() != 0 || rateLimitReachedListeners.size() != 0) {
+        if (governor.isEnabled() || rateLimitStatusListeners.size() != 0 || rateLimitReachedListeners.size() != 0) {
             HttpResponse res = event.getResponse();
             TwitterException te = event.getTwitterException();
             RateLimitStatus rateLimitStatus;
             int statusCode;
+            int errorCode = -1;
             if (te != null) {
                 rateLimitStatus = te.getRateLimitStatus();
                 statusCode = te.getStatusCode();
+                errorCode = te.getErrorCode();
             } else {
                 rateLimitStatus = JSONImplFactory.createRateLimitStatusFromResponseHeader(res);
                 statusCode = res.getStatusCode();
             }
+            if (governor.isEnabled()) {
+                governor.update(event.getRequest().getURL(), event.getRequest().getAuthorization(), rateLimitStatus, statusCode,
+                        errorCode);
+            }
             if (rateLimitStatus != null) {
                 RateLimitStatusEvent statusEvent = new RateLimitStatusEvent(this, rateLimitStatus, event.isAuthenticated());
                 if (statusCode == ENHANCE_YOUR_CLAIM || statusCode == SERVICE_UNAVAILABLE || statusCode == TOO_MANY_REQUESTS) {
@@ -42,7 +42,6 @@ class AccountTotalsJSONImpl extends TwitterResponseImpl implements AccountTotals
     /*package*/ AccountTotalsJSONImpl(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
         this(res, res.asJSONObject());
         if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, res.asJSONObject());
         }
     }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs {@link DirectMessagesResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncDirectMessagesResourcesImpl extends AsyncResourceBase implements AsyncDirectMessagesResources {
+    private final DirectMessagesResources directMessagesResources;
+
+    AsyncDirectMessagesResourcesImpl(DirectMessagesResources directMessagesResources, Executor executor) {
+        super(executor);
+        this.directMessagesResources = directMessagesResources;
+    }
+
+    @Override
+    public CompletableFuture<DirectMessageList> getDirectMessages(int count) {
+        return async(() -> directMessagesResources.getDirectMessages(count));
+    }
+
+    @Override
+    public CompletableFuture<DirectMessageList> getDirectMessages(int count, String cursor) {
+        return async(() -> directMessagesResources.getDirectMessages(count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<DirectMessage> showDirectMessage(long id) {
+        return async(() -> directMessagesResources.showDirectMessage(id));
+    }
+
+    @Override
+    public CompletableFuture<Void> destroyDirectMessage(long id) {
+        return async(() -> {
+            directMessagesResources.destroyDirectMessage(id);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<DirectMessage> sendDirectMessage(long userId, String text, QuickReply... quickReplies) {
+        return async(() -> directMessagesResources.sendDirectMessage(userId, text, quickReplies));
+    }
+
+    @Override
+    public CompletableFuture<DirectMessage> sendDirectMessage(long userId, String text, String quickReplyResponse) {
+        return async(() -> directMessagesResources.sendDirectMessage(userId, text, quickReplyResponse));
+    }
+
+    @Override
+    public CompletableFuture<DirectMessage> sendDirectMessage(long userId, String text, long mediaId) {
+        return async(() -> directMessagesResources.sendDirectMessage(userId, text, mediaId));
+    }
+
+    @Override
+    public CompletableFuture<DirectMessage> sendDirectMessage(long userId, String text) {
+        return async(() -> directMessagesResources.sendDirectMessage(userId, text));
+    }
+
+    @Override
+    public CompletableFuture<DirectMessage> sendDirectMessage(String screenName, String text) {
+        return async(() -> directMessagesResources.sendDirectMessage(screenName, text));
+    }
+
+    @Override
+    public CompletableFuture<InputStream> getDMImageAsStream(String url) {
+        return async(() -> directMessagesResources.getDMImageAsStream(url));
+    }
+}
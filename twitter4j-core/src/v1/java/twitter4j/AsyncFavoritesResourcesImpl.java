@@ -0,0 +1,76 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs {@link FavoritesResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncFavoritesResourcesImpl extends AsyncResourceBase implements AsyncFavoritesResources {
+    private final FavoritesResources favoritesResources;
+
+    AsyncFavoritesResourcesImpl(FavoritesResources favoritesResources, Executor executor) {
+        super(executor);
+        this.favoritesResources = favoritesResources;
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getFavorites() {
+        return async(() -> favoritesResources.getFavorites());
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getFavorites(long userId) {
+        return async(() -> favoritesResources.getFavorites(userId));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getFavorites(String screenName) {
+        return async(() -> favoritesResources.getFavorites(screenName));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getFavorites(Paging paging) {
+        return async(() -> favoritesResources.getFavorites(paging));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getFavorites(long userId, Paging paging) {
+        return async(() -> favoritesResources.getFavorites(userId, paging));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getFavorites(String screenName, Paging paging) {
+        return async(() -> favoritesResources.getFavorites(screenName, paging));
+    }
+
+    @Override
+    public CompletableFuture<Status> createFavorite(long id) {
+        return async(() -> favoritesResources.createFavorite(id));
+    }
+
+    @Override
+    public CompletableFuture<Status> destroyFavorite(long id) {
+        return async(() -> favoritesResources.destroyFavorite(id));
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.LongStream;
+
+/**
+ * Runs {@link FriendsFollowersResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncFriendsFollowersResourcesImpl extends AsyncResourceBase implements AsyncFriendsFollowersResources {
+    private final FriendsFollowersResources friendsFollowersResources;
+
+    AsyncFriendsFollowersResourcesImpl(FriendsFollowersResources friendsFollowersResources, Executor executor) {
+        super(executor);
+        this.friendsFollowersResources = friendsFollowersResources;
+    }
+
+    @Override
+    public CompletableFuture<IDs> getNoRetweetsFriendships() {
+        return async(() -> friendsFollowersResources.getNoRetweetsFriendships());
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFriendsIDs(long cursor) {
+        return async(() -> friendsFollowersResources.getFriendsIDs(cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFriendsIDs(long userId, long cursor) {
+        return async(() -> friendsFollowersResources.getFriendsIDs(userId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFriendsIDs(long userId, long cursor, int count) {
+        return async(() -> friendsFollowersResources.getFriendsIDs(userId, cursor, count));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFriendsIDs(String screenName, long cursor) {
+        return async(() -> friendsFollowersResources.getFriendsIDs(screenName, cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFriendsIDs(String screenName, long cursor, int count) {
+        return async(() -> friendsFollowersResources.getFriendsIDs(screenName, cursor, count));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFollowersIDs(long cursor) {
+        return async(() -> friendsFollowersResources.getFollowersIDs(cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFollowersIDs(long userId, long cursor) {
+        return async(() -> friendsFollowersResources.getFollowersIDs(userId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFollowersIDs(long userId, long cursor, int count) {
+        return async(() -> friendsFollowersResources.getFollowersIDs(userId, cursor, count));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFollowersIDs(String screenName, long cursor) {
+        return async(() -> friendsFollowersResources.getFollowersIDs(screenName, cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getFollowersIDs(String screenName, long cursor, int count) {
+        return async(() -> friendsFollowersResources.getFollowersIDs(screenName, cursor, count));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Friendship>> lookupFriendships(long... ids) {
+        return async(() -> friendsFollowersResources.lookupFriendships(ids));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Friendship>> lookupFriendships(String... screenNames) {
+        return async(() -> friendsFollowersResources.lookupFriendships(screenNames));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getIncomingFriendships(long cursor) {
+        return async(() -> friendsFollowersResources.getIncomingFriendships(cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getOutgoingFriendships(long cursor) {
+        return async(() -> friendsFollowersResources.getOutgoingFriendships(cursor));
+    }
+
+    @Override
+    public CompletableFuture<User> createFriendship(long userId) {
+        return async(() -> friendsFollowersResources.createFriendship(userId));
+    }
+
+    @Override
+    public CompletableFuture<User> createFriendship(String screenName) {
+        return async(() -> friendsFollowersResources.createFriendship(screenName));
+    }
+
+    @Override
+    public CompletableFuture<User> createFriendship(long userId, boolean follow) {
+        return async(() -> friendsFollowersResources.createFriendship(userId, follow));
+    }
+
+    @Override
+    public CompletableFuture<User> createFriendship(String screenName, boolean follow) {
+        return async(() -> friendsFollowersResources.createFriendship(screenName, follow));
+    }
+
+    @Override
+    public CompletableFuture<User> destroyFriendship(long userId) {
+        return async(() -> friendsFollowersResources.destroyFriendship(userId));
+    }
+
+    @Override
+    public CompletableFuture<User> destroyFriendship(String screenName) {
+        return async(() -> friendsFollowersResources.destroyFriendship(screenName));
+    }
+
+    @Override
+    public CompletableFuture<Relationship> updateFriendship(long userId, boolean enableDeviceNotification, boolean retweets) {
+        return async(() -> friendsFollowersResources.updateFriendship(userId, enableDeviceNotification, retweets));
+    }
+
+    @Override
+    public CompletableFuture<Relationship> updateFriendship(String screenName, boolean enableDeviceNotification, boolean retweets) {
+        return async(() -> friendsFollowersResources.updateFriendship(screenName, enableDeviceNotification, retweets));
+    }
+
+    @Override
+    public CompletableFuture<Relationship> showFriendship(long sourceId, long targetId) {
+        return async(() -> friendsFollowersResources.showFriendship(sourceId, targetId));
+    }
+
+    @Override
+    public CompletableFuture<Relationship> showFriendship(String sourceScreenName, String targetScreenName) {
+        return async(() -> friendsFollowersResources.showFriendship(sourceScreenName, targetScreenName));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFriendsList(long userId, long cursor) {
+        return async(() -> friendsFollowersResources.getFriendsList(userId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFriendsList(long userId, long cursor, int count) {
+        return async(() -> friendsFollowersResources.getFriendsList(userId, cursor, count));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFriendsList(String screenName, long cursor) {
+        return async(() -> friendsFollowersResources.getFriendsList(screenName, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFriendsList(String screenName, long cursor, int count) {
+        return async(() -> friendsFollowersResources.getFriendsList(screenName, cursor, count));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFriendsList(long userId, long cursor, int count, boolean skipStatus, boolean includeUserEntities) {
+        return async(() -> friendsFollowersResources.getFriendsList(userId, cursor, count, skipStatus, includeUserEntities));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFriendsList(String screenName, long cursor, int count, boolean skipStatus, boolean includeUserEntities) {
+        return async(() -> friendsFollowersResources.getFriendsList(screenName, cursor, count, skipStatus, includeUserEntities));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFollowersList(long userId, long cursor) {
+        return async(() -> friendsFollowersResources.getFollowersList(userId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFollowersList(String screenName, long cursor) {
+        return async(() -> friendsFollowersResources.getFollowersList(screenName, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFollowersList(long userId, long cursor, int count) {
+        return async(() -> friendsFollowersResources.getFollowersList(userId, cursor, count));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFollowersList(String screenName, long cursor, int count) {
+        return async(() -> friendsFollowersResources.getFollowersList(screenName, cursor, count));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFollowersList(long userId, long cursor, int count, boolean skipStatus, boolean includeUserEntities) {
+        return async(() -> friendsFollowersResources.getFollowersList(userId, cursor, count, skipStatus, includeUserEntities));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getFollowersList(String screenName, long cursor, int count, boolean skipStatus, boolean includeUserEntities) {
+        return async(() -> friendsFollowersResources.getFollowersList(screenName, cursor, count, skipStatus, includeUserEntities));
+    }
+
+    @Override
+    public LongStream getFriendsIDsStream() {
+        return idsStream(cursor -> friendsFollowersResources.getFriendsIDs(cursor));
+    }
+
+    @Override
+    public LongStream getFriendsIDsStream(long userId) {
+        return idsStream(cursor -> friendsFollowersResources.getFriendsIDs(userId, cursor, 5000));
+    }
+
+    @Override
+    public LongStream getFriendsIDsStream(String screenName) {
+        return idsStream(cursor -> friendsFollowersResources.getFriendsIDs(screenName, cursor, 5000));
+    }
+
+    @Override
+    public LongStream getFollowersIDsStream() {
+        return idsStream(cursor -> friendsFollowersResources.getFollowersIDs(cursor));
+    }
+
+    @Override
+    public LongStream getFollowersIDsStream(long userId) {
+        return idsStream(cursor -> friendsFollowersResources.getFollowersIDs(userId, cursor, 5000));
+    }
+
+    @Override
+    public LongStream getFollowersIDsStream(String screenName) {
+        return idsStream(cursor -> friendsFollowersResources.getFollowersIDs(screenName, cursor, 5000));
+    }
+
+    @Override
+    public LongStream getIncomingFriendshipsStream() {
+        return idsStream(cursor -> friendsFollowersResources.getIncomingFriendships(cursor));
+    }
+
+    @Override
+    public LongStream getOutgoingFriendshipsStream() {
+        return idsStream(cursor -> friendsFollowersResources.getOutgoingFriendships(cursor));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs {@link HelpResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncHelpResourcesImpl extends AsyncResourceBase implements AsyncHelpResources {
+    private final HelpResources helpResources;
+
+    AsyncHelpResourcesImpl(HelpResources helpResources, Executor executor) {
+        super(executor);
+        this.helpResources = helpResources;
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<HelpResources.Language>> getLanguages() {
+        return async(() -> helpResources.getLanguages());
+    }
+
+    @Override
+    public CompletableFuture<Map<String, RateLimitStatus>> getRateLimitStatus() {
+        return async(() -> helpResources.getRateLimitStatus());
+    }
+
+    @Override
+    public CompletableFuture<Map<String, RateLimitStatus>> getRateLimitStatus(String... resources) {
+        return async(() -> helpResources.getRateLimitStatus(resources));
+    }
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Runs {@link ListsResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncListsResourcesImpl extends AsyncResourceBase implements AsyncListsResources {
+    private final ListsResources listsResources;
+
+    AsyncListsResourcesImpl(ListsResources listsResources, Executor executor) {
+        super(executor);
+        this.listsResources = listsResources;
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<UserList>> getUserLists(String listOwnerScreenName) {
+        return async(() -> listsResources.getUserLists(listOwnerScreenName));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<UserList>> getUserLists(String listOwnerScreenName, boolean reverse) {
+        return async(() -> listsResources.getUserLists(listOwnerScreenName, reverse));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<UserList>> getUserLists(long listOwnerUserId) {
+        return async(() -> listsResources.getUserLists(listOwnerUserId));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<UserList>> getUserLists(long listOwnerUserId, boolean reverse) {
+        return async(() -> listsResources.getUserLists(listOwnerUserId, reverse));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getUserListStatuses(long listId, Paging paging) {
+        return async(() -> listsResources.getUserListStatuses(listId, paging));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getUserListStatuses(long ownerId, String slug, Paging paging) {
+        return async(() -> listsResources.getUserListStatuses(ownerId, slug, paging));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getUserListStatuses(String ownerScreenName, String slug, Paging paging) {
+        return async(() -> listsResources.getUserListStatuses(ownerScreenName, slug, paging));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListMember(long listId, long userId) {
+        return async(() -> listsResources.destroyUserListMember(listId, userId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListMember(long listId, String screenName) {
+        return async(() -> listsResources.destroyUserListMember(listId, screenName));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListMembers(long listId, String[] screenNames) {
+        return async(() -> listsResources.destroyUserListMembers(listId, screenNames));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListMembers(long listId, long[] userIds) {
+        return async(() -> listsResources.destroyUserListMembers(listId, userIds));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListMembers(String ownerScreenName, String slug, String[] screenNames) {
+        return async(() -> listsResources.destroyUserListMembers(ownerScreenName, slug, screenNames));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListMember(long ownerId, String slug, long userId) {
+        return async(() -> listsResources.destroyUserListMember(ownerId, slug, userId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListMember(String ownerScreenName, String slug, long userId) {
+        return async(() -> listsResources.destroyUserListMember(ownerScreenName, slug, userId));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long cursor) {
+        return async(() -> listsResources.getUserListMemberships(cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(int count, long cursor) {
+        return async(() -> listsResources.getUserListMemberships(count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long listMemberId, long cursor) {
+        return async(() -> listsResources.getUserListMemberships(listMemberId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long listMemberId, int count, long cursor) {
+        return async(() -> listsResources.getUserListMemberships(listMemberId, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, long cursor) {
+        return async(() -> listsResources.getUserListMemberships(listMemberScreenName, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, int count, long cursor) {
+        return async(() -> listsResources.getUserListMemberships(listMemberScreenName, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, long cursor, boolean filterToOwnedLists) {
+        return async(() -> listsResources.getUserListMemberships(listMemberScreenName, cursor, filterToOwnedLists));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, int count, long cursor, boolean filterToOwnedLists) {
+        return async(() -> listsResources.getUserListMemberships(listMemberScreenName, count, cursor, filterToOwnedLists));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long listMemberId, long cursor, boolean filterToOwnedLists) {
+        return async(() -> listsResources.getUserListMemberships(listMemberId, cursor, filterToOwnedLists));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long listMemberId, int count, long cursor, boolean filterToOwnedLists) {
+        return async(() -> listsResources.getUserListMemberships(listMemberId, count, cursor, filterToOwnedLists));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long listId, long cursor) {
+        return async(() -> listsResources.getUserListSubscribers(listId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long listId, int count, long cursor) {
+        return async(() -> listsResources.getUserListSubscribers(listId, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long listId, int count, long cursor, boolean skipStatus) {
+        return async(() -> listsResources.getUserListSubscribers(listId, count, cursor, skipStatus));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long ownerId, String slug, long cursor) {
+        return async(() -> listsResources.getUserListSubscribers(ownerId, slug, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long ownerId, String slug, int count, long cursor) {
+        return async(() -> listsResources.getUserListSubscribers(ownerId, slug, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long ownerId, String slug, int count, long cursor, boolean skipStatus) {
+        return async(() -> listsResources.getUserListSubscribers(ownerId, slug, count, cursor, skipStatus));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListSubscribers(String ownerScreenName, String slug, long cursor) {
+        return async(() -> listsResources.getUserListSubscribers(ownerScreenName, slug, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListSubscribers(String ownerScreenName, String slug, int count, long cursor) {
+        return async(() -> listsResources.getUserListSubscribers(ownerScreenName, slug, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListSubscribers(String ownerScreenName, String slug, int count, long cursor, boolean skipStatus) {
+        return async(() -> listsResources.getUserListSubscribers(ownerScreenName, slug, count, cursor, skipStatus));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListSubscription(long listId) {
+        return async(() -> listsResources.createUserListSubscription(listId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListSubscription(long ownerId, String slug) {
+        return async(() -> listsResources.createUserListSubscription(ownerId, slug));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListSubscription(String ownerScreenName, String slug) {
+        return async(() -> listsResources.createUserListSubscription(ownerScreenName, slug));
+    }
+
+    @Override
+    public CompletableFuture<User> showUserListSubscription(long listId, long userId) {
+        return async(() -> listsResources.showUserListSubscription(listId, userId));
+    }
+
+    @Override
+    public CompletableFuture<User> showUserListSubscription(long ownerId, String slug, long userId) {
+        return async(() -> listsResources.showUserListSubscription(ownerId, slug, userId));
+    }
+
+    @Override
+    public CompletableFuture<User> showUserListSubscription(String ownerScreenName, String slug, long userId) {
+        return async(() -> listsResources.showUserListSubscription(ownerScreenName, slug, userId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListSubscription(long listId) {
+        return async(() -> listsResources.destroyUserListSubscription(listId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListSubscription(long ownerId, String slug) {
+        return async(() -> listsResources.destroyUserListSubscription(ownerId, slug));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserListSubscription(String ownerScreenName, String slug) {
+        return async(() -> listsResources.destroyUserListSubscription(ownerScreenName, slug));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListMembers(long listId, long... userIds) {
+        return async(() -> listsResources.createUserListMembers(listId, userIds));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListMembers(long ownerId, String slug, long... userIds) {
+        return async(() -> listsResources.createUserListMembers(ownerId, slug, userIds));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListMembers(String ownerScreenName, String slug, long... userIds) {
+        return async(() -> listsResources.createUserListMembers(ownerScreenName, slug, userIds));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListMembers(long listId, String... screenNames) {
+        return async(() -> listsResources.createUserListMembers(listId, screenNames));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListMembers(long ownerId, String slug, String... screenNames) {
+        return async(() -> listsResources.createUserListMembers(ownerId, slug, screenNames));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListMembers(String ownerScreenName, String slug, String... screenNames) {
+        return async(() -> listsResources.createUserListMembers(ownerScreenName, slug, screenNames));
+    }
+
+    @Override
+    public CompletableFuture<User> showUserListMembership(long listId, long userId) {
+        return async(() -> listsResources.showUserListMembership(listId, userId));
+    }
+
+    @Override
+    public CompletableFuture<User> showUserListMembership(long ownerId, String slug, long userId) {
+        return async(() -> listsResources.showUserListMembership(ownerId, slug, userId));
+    }
+
+    @Override
+    public CompletableFuture<User> showUserListMembership(String ownerScreenName, String slug, long userId) {
+        return async(() -> listsResources.showUserListMembership(ownerScreenName, slug, userId));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListMembers(long listId, long cursor) {
+        return async(() -> listsResources.getUserListMembers(listId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListMembers(long listId, int count, long cursor) {
+        return async(() -> listsResources.getUserListMembers(listId, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListMembers(long listId, int count, long cursor, boolean skipStatus) {
+        return async(() -> listsResources.getUserListMembers(listId, count, cursor, skipStatus));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListMembers(long ownerId, String slug, long cursor) {
+        return async(() -> listsResources.getUserListMembers(ownerId, slug, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListMembers(long ownerId, String slug, int count, long cursor) {
+        return async(() -> listsResources.getUserListMembers(ownerId, slug, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListMembers(long ownerId, String slug, int count, long cursor, boolean skipStatus) {
+        return async(() -> listsResources.getUserListMembers(ownerId, slug, count, cursor, skipStatus));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListMembers(String ownerScreenName, String slug, long cursor) {
+        return async(() -> listsResources.getUserListMembers(ownerScreenName, slug, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListMembers(String ownerScreenName, String slug, int count, long cursor) {
+        return async(() -> listsResources.getUserListMembers(ownerScreenName, slug, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getUserListMembers(String ownerScreenName, String slug, int count, long cursor, boolean skipStatus) {
+        return async(() -> listsResources.getUserListMembers(ownerScreenName, slug, count, cursor, skipStatus));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListMember(long listId, long userId) {
+        return async(() -> listsResources.createUserListMember(listId, userId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListMember(long ownerId, String slug, long userId) {
+        return async(() -> listsResources.createUserListMember(ownerId, slug, userId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserListMember(String ownerScreenName, String slug, long userId) {
+        return async(() -> listsResources.createUserListMember(ownerScreenName, slug, userId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserList(long listId) {
+        return async(() -> listsResources.destroyUserList(listId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserList(long ownerId, String slug) {
+        return async(() -> listsResources.destroyUserList(ownerId, slug));
+    }
+
+    @Override
+    public CompletableFuture<UserList> destroyUserList(String ownerScreenName, String slug) {
+        return async(() -> listsResources.destroyUserList(ownerScreenName, slug));
+    }
+
+    @Override
+    public CompletableFuture<UserList> updateUserList(long listId, String newListName, boolean isPublicList, String newDescription) {
+        return async(() -> listsResources.updateUserList(listId, newListName, isPublicList, newDescription));
+    }
+
+    @Override
+    public CompletableFuture<UserList> updateUserList(long ownerId, String slug, String newListName, boolean isPublicList, String newDescription) {
+        return async(() -> listsResources.updateUserList(ownerId, slug, newListName, isPublicList, newDescription));
+    }
+
+    @Override
+    public CompletableFuture<UserList> updateUserList(String ownerScreenName, String slug, String newListName, boolean isPublicList, String newDescription) {
+        return async(() -> listsResources.updateUserList(ownerScreenName, slug, newListName, isPublicList, newDescription));
+    }
+
+    @Override
+    public CompletableFuture<UserList> createUserList(String listName, boolean isPublicList, String description) {
+        return async(() -> listsResources.createUserList(listName, isPublicList, description));
+    }
+
+    @Override
+    public CompletableFuture<UserList> showUserList(long listId) {
+        return async(() -> listsResources.showUserList(listId));
+    }
+
+    @Override
+    public CompletableFuture<UserList> showUserList(long ownerId, String slug) {
+        return async(() -> listsResources.showUserList(ownerId, slug));
+    }
+
+    @Override
+    public CompletableFuture<UserList> showUserList(String ownerScreenName, String slug) {
+        return async(() -> listsResources.showUserList(ownerScreenName, slug));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListSubscriptions(String listSubscriberScreenName, long cursor) {
+        return async(() -> listsResources.getUserListSubscriptions(listSubscriberScreenName, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListSubscriptions(String listSubscriberScreenName, int count, long cursor) {
+        return async(() -> listsResources.getUserListSubscriptions(listSubscriberScreenName, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListSubscriptions(long listSubscriberId, long cursor) {
+        return async(() -> listsResources.getUserListSubscriptions(listSubscriberId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListSubscriptions(long listSubscriberId, int count, long cursor) {
+        return async(() -> listsResources.getUserListSubscriptions(listSubscriberId, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListsOwnerships(String listOwnerScreenName, long cursor) {
+        return async(() -> listsResources.getUserListsOwnerships(listOwnerScreenName, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListsOwnerships(String listOwnerScreenName, int count, long cursor) {
+        return async(() -> listsResources.getUserListsOwnerships(listOwnerScreenName, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListsOwnerships(long listOwnerId, long cursor) {
+        return async(() -> listsResources.getUserListsOwnerships(listOwnerId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<UserList>> getUserListsOwnerships(long listOwnerId, int count, long cursor) {
+        return async(() -> listsResources.getUserListsOwnerships(listOwnerId, count, cursor));
+    }
+
+    @Override
+    public Stream<User> getUserListMembersStream(long listId) {
+        return listStream(cursor -> listsResources.getUserListMembers(listId, 5000, cursor));
+    }
+
+    @Override
+    public Stream<User> getUserListMembersStream(long ownerId, String slug) {
+        return listStream(cursor -> listsResources.getUserListMembers(ownerId, slug, 5000, cursor));
+    }
+
+    @Override
+    public Stream<User> getUserListMembersStream(String ownerScreenName, String slug) {
+        return listStream(cursor -> listsResources.getUserListMembers(ownerScreenName, slug, 5000, cursor));
+    }
+
+    @Override
+    public Stream<User> getUserListSubscribersStream(long listId) {
+        return listStream(cursor -> listsResources.getUserListSubscribers(listId, 5000, cursor));
+    }
+
+    @Override
+    public Stream<User> getUserListSubscribersStream(long ownerId, String slug) {
+        return listStream(cursor -> listsResources.getUserListSubscribers(ownerId, slug, 5000, cursor));
+    }
+
+    @Override
+    public Stream<User> getUserListSubscribersStream(String ownerScreenName, String slug) {
+        return listStream(cursor -> listsResources.getUserListSubscribers(ownerScreenName, slug, 5000, cursor));
+    }
+
+    @Override
+    public Stream<UserList> getUserListMembershipsStream(long listMemberId) {
+        return listStream(cursor -> listsResources.getUserListMemberships(listMemberId, 1000, cursor));
+    }
+
+    @Override
+    public Stream<UserList> getUserListMembershipsStream(String listMemberScreenName) {
+        return listStream(cursor -> listsResources.getUserListMemberships(listMemberScreenName, 1000, cursor));
+    }
+}
@@ -0,0 +1,102 @@
+package twitter4j;
+
+import twitter4j.v1.IDs;
+import twitter4j.v1.PagableResponseList;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Base class of asynchronous resources. Each call is dispatched to the blocking resource on the executor, so
+ * {@link TwitterAPIMonitor} and rate limit listeners are notified just like synchronous calls.
+ *
+ * @since Twitter4J 4.1.3
+ */
+abstract class AsyncResourceBase {
+    private final Executor executor;
+
+    AsyncResourceBase(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * blocking API call
+     *
+     * @param <T> return type
+     */
+    @FunctionalInterface
+    interface Call<T> {
+        T call() throws TwitterException;
+    }
+
+    /**
+     * blocking API call fetching a page at the cursor
+     *
+     * @param <P> page type
+     */
+    @FunctionalInterface
+    interface CursorCall<P> {
+        P call(long cursor) throws TwitterException;
+    }
+
+    <T> CompletableFuture<T> async(Call<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(call, future);
+        return future;
+    }
+
+    LongStream idsStream(CursorCall<IDs> call) {
+        return CursorPrefetcher.ids(cursor -> async(() -> call.call(cursor)));
+    }
+
+    <T extends TwitterResponse> Stream<T> listStream(CursorCall<PagableResponseList<T>> call) {
+        return CursorPrefetcher.list(cursor -> async(() -> call.call(cursor)));
+    }
+
+    private <T> void execute(Call<T> call, CompletableFuture<T> future) {
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    // cancelled before it starts
+                    return;
+                }
+                try {
+                    future.complete(RateLimitGovernor.callDeferrable(call));
+                } catch (RateLimitGovernor.Deferral deferral) {
+                    // rate limit exhausted. runs again when the window resets without occupying the thread
+                    RateLimitGovernor.schedule(() -> execute(call, future), deferral.getDelayMillis());
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Creates the default executor. Threads are daemon and terminated when idle.
+     *
+     * @param numThreads number of threads
+     * @return executor
+     */
+    static ExecutorService newExecutor(int numThreads) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(numThreads, numThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Twitter4J Async Dispatcher[" + count.incrementAndGet() + "]");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs {@link SavedSearchesResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncSavedSearchesResourcesImpl extends AsyncResourceBase implements AsyncSavedSearchesResources {
+    private final SavedSearchesResources savedSearchesResources;
+
+    AsyncSavedSearchesResourcesImpl(SavedSearchesResources savedSearchesResources, Executor executor) {
+        super(executor);
+        this.savedSearchesResources = savedSearchesResources;
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<SavedSearch>> getSavedSearches() {
+        return async(() -> savedSearchesResources.getSavedSearches());
+    }
+
+    @Override
+    public CompletableFuture<SavedSearch> showSavedSearch(long id) {
+        return async(() -> savedSearchesResources.showSavedSearch(id));
+    }
+
+    @Override
+    public CompletableFuture<SavedSearch> createSavedSearch(String query) {
+        return async(() -> savedSearchesResources.createSavedSearch(query));
+    }
+
+    @Override
+    public CompletableFuture<SavedSearch> destroySavedSearch(long id) {
+        return async(() -> savedSearchesResources.destroySavedSearch(id));
+    }
+}
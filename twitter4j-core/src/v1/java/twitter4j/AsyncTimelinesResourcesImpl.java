@@ -0,0 +1,96 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs {@link TimelinesResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncTimelinesResourcesImpl extends AsyncResourceBase implements AsyncTimelinesResources {
+    private final TimelinesResources timelinesResources;
+
+    AsyncTimelinesResourcesImpl(TimelinesResources timelinesResources, Executor executor) {
+        super(executor);
+        this.timelinesResources = timelinesResources;
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getMentionsTimeline() {
+        return async(() -> timelinesResources.getMentionsTimeline());
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getMentionsTimeline(Paging paging) {
+        return async(() -> timelinesResources.getMentionsTimeline(paging));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getUserTimeline(String screenName, Paging paging) {
+        return async(() -> timelinesResources.getUserTimeline(screenName, paging));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getUserTimeline(long userId, Paging paging) {
+        return async(() -> timelinesResources.getUserTimeline(userId, paging));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getUserTimeline(String screenName) {
+        return async(() -> timelinesResources.getUserTimeline(screenName));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getUserTimeline(long userId) {
+        return async(() -> timelinesResources.getUserTimeline(userId));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getUserTimeline() {
+        return async(() -> timelinesResources.getUserTimeline());
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getUserTimeline(Paging paging) {
+        return async(() -> timelinesResources.getUserTimeline(paging));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getHomeTimeline() {
+        return async(() -> timelinesResources.getHomeTimeline());
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getHomeTimeline(Paging paging) {
+        return async(() -> timelinesResources.getHomeTimeline(paging));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getRetweetsOfMe() {
+        return async(() -> timelinesResources.getRetweetsOfMe());
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getRetweetsOfMe(Paging paging) {
+        return async(() -> timelinesResources.getRetweetsOfMe(paging));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs {@link TrendsResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncTrendsResourcesImpl extends AsyncResourceBase implements AsyncTrendsResources {
+    private final TrendsResources trendsResources;
+
+    AsyncTrendsResourcesImpl(TrendsResources trendsResources, Executor executor) {
+        super(executor);
+        this.trendsResources = trendsResources;
+    }
+
+    @Override
+    public CompletableFuture<Trends> getPlaceTrends(int woeid) {
+        return async(() -> trendsResources.getPlaceTrends(woeid));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Location>> getAvailableTrends() {
+        return async(() -> trendsResources.getAvailableTrends());
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Location>> getClosestTrends(GeoLocation location) {
+        return async(() -> trendsResources.getClosestTrends(location));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs {@link TweetsResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncTweetsResourcesImpl extends AsyncResourceBase implements AsyncTweetsResources {
+    private final TweetsResources tweetsResources;
+
+    AsyncTweetsResourcesImpl(TweetsResources tweetsResources, Executor executor) {
+        super(executor);
+        this.tweetsResources = tweetsResources;
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> getRetweets(long statusId) {
+        return async(() -> tweetsResources.getRetweets(statusId));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getRetweeterIds(long statusId, long cursor) {
+        return async(() -> tweetsResources.getRetweeterIds(statusId, cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getRetweeterIds(long statusId, int count, long cursor) {
+        return async(() -> tweetsResources.getRetweeterIds(statusId, count, cursor));
+    }
+
+    @Override
+    public CompletableFuture<Status> showStatus(long id) {
+        return async(() -> tweetsResources.showStatus(id));
+    }
+
+    @Override
+    public CompletableFuture<Status> destroyStatus(long statusId) {
+        return async(() -> tweetsResources.destroyStatus(statusId));
+    }
+
+    @Override
+    public CompletableFuture<Status> updateStatus(String status) {
+        return async(() -> tweetsResources.updateStatus(status));
+    }
+
+    @Override
+    public CompletableFuture<Status> updateStatus(StatusUpdate latestStatus) {
+        return async(() -> tweetsResources.updateStatus(latestStatus));
+    }
+
+    @Override
+    public CompletableFuture<Status> retweetStatus(long statusId) {
+        return async(() -> tweetsResources.retweetStatus(statusId));
+    }
+
+    @Override
+    public CompletableFuture<Status> unRetweetStatus(long statusId) {
+        return async(() -> tweetsResources.unRetweetStatus(statusId));
+    }
+
+    @Override
+    public CompletableFuture<OEmbed> getOEmbed(OEmbedRequest req) {
+        return async(() -> tweetsResources.getOEmbed(req));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<Status>> lookup(long... ids) {
+        return async(() -> tweetsResources.lookup(ids));
+    }
+
+    @Override
+    public CompletableFuture<UploadedMedia> uploadMedia(File mediaFile) {
+        return async(() -> tweetsResources.uploadMedia(mediaFile));
+    }
+
+    @Override
+    public CompletableFuture<UploadedMedia> uploadMedia(String fileName, InputStream media) {
+        return async(() -> tweetsResources.uploadMedia(fileName, media));
+    }
+
+    @Override
+    public CompletableFuture<UploadedMedia> uploadMediaChunked(String fileName, InputStream media) {
+        return async(() -> tweetsResources.uploadMediaChunked(fileName, media));
+    }
+
+    @Override
+    public CompletableFuture<LookupResult<Status>> bulkLookup(long[] ids, int parallelism) {
+        return BulkLookup.lookup(ids, parallelism, chunk -> async(() -> tweetsResources.lookup(chunk)), Status::getId);
+    }
+}
@@ -0,0 +1,107 @@
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous facade of {@link TwitterV1Impl}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncTwitterV1Impl implements AsyncTwitterV1 {
+    private final AsyncTimelinesResources timelines;
+    private final AsyncTweetsResources tweets;
+    private final AsyncSearchResource search;
+    private final AsyncDirectMessagesResources directMessages;
+    private final AsyncFriendsFollowersResources friendsFollowers;
+    private final AsyncUsersResources users;
+    private final AsyncFavoritesResources favorites;
+    private final AsyncListsResources list;
+    private final AsyncSavedSearchesResources savedSearches;
+    private final AsyncPlacesGeoResources placesGeo;
+    private final AsyncTrendsResources trends;
+    private final AsyncSpamReportingResource spamReporting;
+    private final AsyncHelpResources help;
+
+    AsyncTwitterV1Impl(TwitterV1 twitter, Executor executor) {
+        this.timelines = new AsyncTimelinesResourcesImpl(twitter.timelines(), executor);
+        this.tweets = new AsyncTweetsResourcesImpl(twitter.tweets(), executor);
+        this.search = new AsyncSearchResourceImpl(twitter.search(), executor);
+        this.directMessages = new AsyncDirectMessagesResourcesImpl(twitter.directMessages(), executor);
+        this.friendsFollowers = new AsyncFriendsFollowersResourcesImpl(twitter.friendsFollowers(), executor);
+        this.users = new AsyncUsersResourcesImpl(twitter.users(), executor);
+        this.favorites = new AsyncFavoritesResourcesImpl(twitter.favorites(), executor);
+        this.list = new AsyncListsResourcesImpl(twitter.list(), executor);
+        this.savedSearches = new AsyncSavedSearchesResourcesImpl(twitter.savedSearches(), executor);
+        this.placesGeo = new AsyncPlacesGeoResourcesImpl(twitter.placesGeo(), executor);
+        this.trends = new AsyncTrendsResourcesImpl(twitter.trends(), executor);
+        this.spamReporting = new AsyncSpamReportingResourceImpl(twitter.spamReporting(), executor);
+        this.help = new AsyncHelpResourcesImpl(twitter.help(), executor);
+    }
+
+    @Override
+    public AsyncTimelinesResources timelines() {
+        return timelines;
+    }
+
+    @Override
+    public AsyncTweetsResources tweets() {
+        return tweets;
+    }
+
+    @Override
+    public AsyncSearchResource search() {
+        return search;
+    }
+
+    @Override
+    public AsyncDirectMessagesResources directMessages() {
+        return directMessages;
+    }
+
+    @Override
+    public AsyncFriendsFollowersResources friendsFollowers() {
+        return friendsFollowers;
+    }
+
+    @Override
+    public AsyncUsersResources users() {
+        return users;
+    }
+
+    @Override
+    public AsyncFavoritesResources favorites() {
+        return favorites;
+    }
+
+    @Override
+    public AsyncListsResources list() {
+        return list;
+    }
+
+    @Override
+    public AsyncSavedSearchesResources savedSearches() {
+        return savedSearches;
+    }
+
+    @Override
+    public AsyncPlacesGeoResources placesGeo() {
+        return placesGeo;
+    }
+
+    @Override
+    public AsyncTrendsResources trends() {
+        return trends;
+    }
+
+    @Override
+    public AsyncSpamReportingResource spamReporting() {
+        return spamReporting;
+    }
+
+    @Override
+    public AsyncHelpResources help() {
+        return help;
+    }
+}
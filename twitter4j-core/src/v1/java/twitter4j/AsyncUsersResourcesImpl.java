@@ -0,0 +1,217 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs {@link UsersResources} on the async executor.
+ *
+ * @since Twitter4J 4.1.3
+ */
+class AsyncUsersResourcesImpl extends AsyncResourceBase implements AsyncUsersResources {
+    private final UsersResources usersResources;
+
+    AsyncUsersResourcesImpl(UsersResources usersResources, Executor executor) {
+        super(executor);
+        this.usersResources = usersResources;
+    }
+
+    @Override
+    public CompletableFuture<AccountSettings> getAccountSettings() {
+        return async(() -> usersResources.getAccountSettings());
+    }
+
+    @Override
+    public CompletableFuture<User> verifyCredentials() {
+        return async(() -> usersResources.verifyCredentials());
+    }
+
+    @Override
+    public CompletableFuture<AccountSettings> updateAccountSettings(Integer trendLocationWoeid, Boolean sleepTimeEnabled, String startSleepTime, String endSleepTime, String timeZone, String lang) {
+        return async(() -> usersResources.updateAccountSettings(trendLocationWoeid, sleepTimeEnabled, startSleepTime, endSleepTime, timeZone, lang));
+    }
+
+    @Override
+    public CompletableFuture<AccountSettings> updateAllowDmsFrom(String allowDmsFrom) {
+        return async(() -> usersResources.updateAllowDmsFrom(allowDmsFrom));
+    }
+
+    @Override
+    public CompletableFuture<User> updateProfile(String name, String url, String location, String description) {
+        return async(() -> usersResources.updateProfile(name, url, location, description));
+    }
+
+    @Override
+    public CompletableFuture<User> updateProfileImage(File image) {
+        return async(() -> usersResources.updateProfileImage(image));
+    }
+
+    @Override
+    public CompletableFuture<User> updateProfileImage(InputStream image) {
+        return async(() -> usersResources.updateProfileImage(image));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getBlocksList() {
+        return async(() -> usersResources.getBlocksList());
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getBlocksList(long cursor) {
+        return async(() -> usersResources.getBlocksList(cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getBlocksIDs() {
+        return async(() -> usersResources.getBlocksIDs());
+    }
+
+    @Override
+    public CompletableFuture<IDs> getBlocksIDs(long cursor) {
+        return async(() -> usersResources.getBlocksIDs(cursor));
+    }
+
+    @Override
+    public CompletableFuture<User> createBlock(long userId) {
+        return async(() -> usersResources.createBlock(userId));
+    }
+
+    @Override
+    public CompletableFuture<User> createBlock(String screenName) {
+        return async(() -> usersResources.createBlock(screenName));
+    }
+
+    @Override
+    public CompletableFuture<User> destroyBlock(long userId) {
+        return async(() -> usersResources.destroyBlock(userId));
+    }
+
+    @Override
+    public CompletableFuture<User> destroyBlock(String screen_name) {
+        return async(() -> usersResources.destroyBlock(screen_name));
+    }
+
+    @Override
+    public CompletableFuture<PagableResponseList<User>> getMutesList(long cursor) {
+        return async(() -> usersResources.getMutesList(cursor));
+    }
+
+    @Override
+    public CompletableFuture<IDs> getMutesIDs(long cursor) {
+        return async(() -> usersResources.getMutesIDs(cursor));
+    }
+
+    @Override
+    public CompletableFuture<User> createMute(long userId) {
+        return async(() -> usersResources.createMute(userId));
+    }
+
+    @Override
+    public CompletableFuture<User> createMute(String screenName) {
+        return async(() -> usersResources.createMute(screenName));
+    }
+
+    @Override
+    public CompletableFuture<User> destroyMute(long userId) {
+        return async(() -> usersResources.destroyMute(userId));
+    }
+
+    @Override
+    public CompletableFuture<User> destroyMute(String screenName) {
+        return async(() -> usersResources.destroyMute(screenName));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<User>> lookupUsers(long... ids) {
+        return async(() -> usersResources.lookupUsers(ids));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<User>> lookupUsers(String... screenNames) {
+        return async(() -> usersResources.lookupUsers(screenNames));
+    }
+
+    @Override
+    public CompletableFuture<User> showUser(long userId) {
+        return async(() -> usersResources.showUser(userId));
+    }
+
+    @Override
+    public CompletableFuture<User> showUser(String screenName) {
+        return async(() -> usersResources.showUser(screenName));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<User>> searchUsers(String query, int page) {
+        return async(() -> usersResources.searchUsers(query, page));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<User>> getContributees(long userId) {
+        return async(() -> usersResources.getContributees(userId));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<User>> getContributees(String screenName) {
+        return async(() -> usersResources.getContributees(screenName));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<User>> getContributors(long userId) {
+        return async(() -> usersResources.getContributors(userId));
+    }
+
+    @Override
+    public CompletableFuture<ResponseList<User>> getContributors(String screenName) {
+        return async(() -> usersResources.getContributors(screenName));
+    }
+
+    @Override
+    public CompletableFuture<Void> removeProfileBanner() {
+        return async(() -> {
+            usersResources.removeProfileBanner();
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> updateProfileBanner(File image) {
+        return async(() -> {
+            usersResources.updateProfileBanner(image);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> updateProfileBanner(InputStream image) {
+        return async(() -> {
+            usersResources.updateProfileBanner(image);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<LookupResult<User>> bulkLookupUsers(long[] ids, int parallelism) {
+        return BulkLookup.lookup(ids, parallelism, chunk -> async(() -> usersResources.lookupUsers(chunk)), User::getId);
+    }
+}
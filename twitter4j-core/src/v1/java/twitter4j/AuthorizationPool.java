@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.jetbrains.annotations.Nullable;
+import twitter4j.v1.RateLimitStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static twitter4j.HttpResponseCode.TOO_MANY_REQUESTS;
+import static twitter4j.HttpResponseCode.UNAUTHORIZED;
+
+/**
+ * Authorization backed by multiple credentials, e.g. OAuth2 application-only tokens and user access tokens.<br>
+ * Each REST API request is sent with the credential having the most calls remaining for its endpoint, as told by the
+ * X-Rate-Limit headers of previous responses. Credentials exhausted for the endpoint are skipped until their window
+ * resets, and credentials whose token is rejected as invalid or expired (401 with error code 89 or 32) are skipped as
+ * revoked. Other 401 responses, like the one for the timeline of a protected account, fail the request and leave the
+ * credential in use. When all credentials are exhausted, the request is
+ * handled according to {@link twitter4j.v1.RateLimitPolicy}.
+ * <pre>
+ * AuthorizationPool pool = AuthorizationPool.of(authorization1, authorization2, authorization3);
+ * Twitter twitter = Twitter.newBuilder().authorization(pool).build();
+ * </pre>
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public final class AuthorizationPool implements Authorization, java.io.Serializable {
+    private static final long serialVersionUID = -1585239402736163419L;
+    /**
+     * error code of a 401 response telling that the token is invalid or expired
+     */
+    private static final int INVALID_OR_EXPIRED_TOKEN = 89;
+    /**
+     * error code of a 401 response telling that the credentials could not be authenticated
+     */
+    private static final int COULD_NOT_AUTHENTICATE = 32;
+    private final List<Credential> credentials;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private AuthorizationPool(List<Credential> credentials) {
+        this.credentials = credentials;
+    }
+
+    /**
+     * @param authorizations credentials to pool
+     * @return pool of the credentials
+     */
+    public static AuthorizationPool of(Authorization... authorizations) {
+        return of(Arrays.asList(authorizations));
+    }
+
+    /**
+     * @param authorizations credentials to pool
+     * @return pool of the credentials
+     */
+    public static AuthorizationPool of(List<? extends Authorization> authorizations) {
+        if (authorizations.isEmpty()) {
+            throw new IllegalArgumentException("no authorization specified");
+        }
+        List<Credential> credentials = new ArrayList<>(authorizations.size());
+        for (Authorization authorization : authorizations) {
+            credentials.add(new Credential(authorization));
+        }
+        return new AuthorizationPool(Collections.unmodifiableList(credentials));
+    }
+
+    /**
+     * @return credentials in the pool with their metrics
+     */
+    public List<Credential> getCredentials() {
+        return credentials;
+    }
+
+    /**
+     * Selects the credential with the most calls remaining for the endpoint and reserves a call from it. A credential
+     * exhausted by concurrent requests after its calls were counted is passed over for the next one.
+     *
+     * @param endpoint endpoint
+     * @param now      current time in milliseconds
+     * @return credential, or null if all credentials are exhausted or revoked
+     */
+    /*package*/ Authorization select(String endpoint, long now) {
+        int size = credentials.size();
+        Credential[] candidates = new Credential[size];
+        int[] available = new int[size];
+        // rotates the starting point to spread requests over credentials with the same quota
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            candidates[i] = credentials.get((start + i) % size);
+            available[i] = candidates[i].revoked ? 0 : candidates[i].available(endpoint, now);
+        }
+        while (true) {
+            int selected = -1;
+            for (int i = 0; i < size; i++) {
+                if (available[i] > 0 && (selected == -1 || available[i] > available[selected])) {
+                    selected = i;
+                }
+            }
+            if (selected == -1) {
+                return null;
+            }
+            Credential credential = candidates[selected];
+            RateLimitGovernor.Window window = credential.windows.get(endpoint);
+            if (window == null || window.reserve(now) <= 0) {
+                credential.requests.incrementAndGet();
+                return credential.authorization;
+            }
+            // exhausted by concurrent requests since its calls were counted
+            available[selected] = 0;
+        }
+    }
+
+    /**
+     * @param endpoint endpoint
+     * @param now      current time in milliseconds
+     * @return milliseconds until a credential has a call available, or -1 if all credentials are revoked
+     */
+    /*package*/ long waitMillis(String endpoint, long now) {
+        long waitMillis = -1;
+        for (Credential credential : credentials) {
+            if (!credential.revoked) {
+                RateLimitGovernor.Window window = credential.windows.get(endpoint);
+                long wait = window == null ? 0 : window.waitMillis(now);
+                waitMillis = waitMillis == -1 ? wait : Math.min(waitMillis, wait);
+            }
+        }
+        return waitMillis;
+    }
+
+    /**
+     * @param endpoint endpoint
+     * @param now      current time in milliseconds
+     * @return rate limit status of the credential resetting first
+     */
+    /*package*/ RateLimitStatus rateLimitStatus(String endpoint, long now) {
+        RateLimitGovernor.Window first = null;
+        long firstWait = Long.MAX_VALUE;
+        for (Credential credential : credentials) {
+            RateLimitGovernor.Window window = credential.windows.get(endpoint);
+            if (!credential.revoked && window != null && window.waitMillis(now) < firstWait) {
+                first = window;
+                firstWait = window.waitMillis(now);
+            }
+        }
+        return first == null ? null : first.toRateLimitStatus();
+    }
+
+    /**
+     * @param authorization   authorization the request was sent with
+     * @param endpoint        endpoint
+     * @param rateLimitStatus rate limit status in the response headers, or null if absent
+     * @param statusCode      response status code
+     * @param errorCode       error code in the response body, or -1 if absent
+     */
+    /*package*/ void update(Authorization authorization, String endpoint, @Nullable RateLimitStatus rateLimitStatus,
+                            int statusCode, int errorCode) {
+        for (Credential credential : credentials) {
+            if (credential.authorization == authorization) {
+                credential.update(endpoint, rateLimitStatus, statusCode, errorCode);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String getAuthorizationHeader(HttpRequest req) {
+        // requests not routed by endpoint, e.g. streams and uploads, rotate over the credentials
+        int start = Math.floorMod(next.getAndIncrement(), credentials.size());
+        for (int i = 0; i < credentials.size(); i++) {
+            Credential credential = credentials.get((start + i) % credentials.size());
+            if (!credential.revoked) {
+                return credential.authorization.getAuthorizationHeader(req);
+            }
+        }
+        return credentials.get(start).authorization.getAuthorizationHeader(req);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        for (Credential credential : credentials) {
+            if (credential.authorization.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthorizationPool{" +
+                "credentials=" + credentials +
+                '}';
+    }
+
+    /**
+     * A credential in the pool and its metrics.
+     */
+    public static final class Credential implements java.io.Serializable {
+        private static final long serialVersionUID = 6925048264305637215L;
+        private final Authorization authorization;
+        private final Map<String, RateLimitGovernor.Window> windows = new ConcurrentHashMap<>();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong rateLimited = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private volatile boolean revoked = false;
+
+        private Credential(Authorization authorization) {
+            this.authorization = authorization;
+        }
+
+        private int available(String endpoint, long now) {
+            RateLimitGovernor.Window window = windows.get(endpoint);
+            return window == null ? Integer.MAX_VALUE : window.available(now);
+        }
+
+        private void update(String endpoint, @Nullable RateLimitStatus rateLimitStatus, int statusCode, int errorCode) {
+            if (rateLimitStatus != null) {
+                windows.computeIfAbsent(endpoint, key -> new RateLimitGovernor.Window())
+                        .update(rateLimitStatus, statusCode == TOO_MANY_REQUESTS);
+            }
+            if (statusCode == TOO_MANY_REQUESTS) {
+                rateLimited.incrementAndGet();
+            }
+            if (statusCode >= 400) {
+                errors.incrementAndGet();
+            }
+            if (statusCode == UNAUTHORIZED
+                    && (errorCode == INVALID_OR_EXPIRED_TOKEN || errorCode == COULD_NOT_AUTHENTICATE)) {
+                revoked = true;
+            }
+        }
+
+        /**
+         * @return authorization
+         */
+        public Authorization getAuthorization() {
+            return authorization;
+        }
+
+        /**
+         * @return number of requests routed to the credential
+         */
+        public long getRequestCount() {
+            return requests.get();
+        }
+
+        /**
+         * @return number of requests answered with 429
+         */
+        public long getRateLimitedCount() {
+            return rateLimited.get();
+        }
+
+        /**
+         * @return number of requests answered with an error status
+         */
+        public long getErrorCount() {
+            return errors.get();
+        }
+
+        /**
+         * @return true if the token was rejected as invalid or expired and the credential is no longer used
+         */
+        public boolean isRevoked() {
+            return revoked;
+        }
+
+        /**
+         * Makes a revoked credential available again, e.g. after its token is renewed.
+         */
+        public void reinstate() {
+            revoked = false;
+        }
+
+        /**
+         * @param endpoint endpoint, e.g. "/statuses/user_timeline" or "/users/show/:id"
+         * @return rate limit status of the endpoint last told by the response headers, or null if unknown
+         */
+        @Nullable
+        public RateLimitStatus getRateLimitStatus(String endpoint) {
+            RateLimitGovernor.Window window = windows.get(RateLimitGovernor.normalize(endpoint));
+            return window == null ? null : window.toRateLimitStatus();
+        }
+
+        @Override
+        public String toString() {
+            return "Credential{" +
+                    "authorization=" + authorization +
+                    ", requests=" + requests +
+                    ", rateLimited=" + rateLimited +
+                    ", errors=" + errors +
+                    ", revoked=" + revoked +
+                    '}';
+        }
+    }
+}
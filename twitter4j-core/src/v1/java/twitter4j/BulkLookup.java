@@ -0,0 +1,141 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.LookupResult;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import static twitter4j.HttpResponseCode.NOT_FOUND;
+
+/**
+ * Splits a lookup of arbitrarily many ids into requests of up to {@value #CHUNK_SIZE} ids and runs them with bounded
+ * parallelism.
+ *
+ * @param <T> type of the looked up objects
+ * @since Twitter4J 4.1.3
+ */
+final class BulkLookup<T> {
+    /**
+     * maximum number of ids per request accepted by users/lookup and statuses/lookup
+     */
+    static final int CHUNK_SIZE = 100;
+    private final long[] ids;
+    private final Function<long[], CompletableFuture<? extends List<T>>> lookup;
+    private final ToLongFunction<T> idOf;
+    private final AtomicReferenceArray<List<T>> results;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final AtomicInteger remainingChunks;
+    private final CompletableFuture<LookupResult<T>> future = new CompletableFuture<>();
+
+    private BulkLookup(long[] ids, Function<long[], CompletableFuture<? extends List<T>>> lookup, ToLongFunction<T> idOf) {
+        this.ids = ids;
+        this.lookup = lookup;
+        this.idOf = idOf;
+        int chunks = (ids.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.results = new AtomicReferenceArray<>(chunks);
+        this.remainingChunks = new AtomicInteger(chunks);
+    }
+
+    /**
+     * @param ids         ids to look up
+     * @param parallelism maximum number of requests in flight
+     * @param lookup      looks up a chunk of ids asynchronously
+     * @param idOf        returns the id of a looked up object
+     * @param <T>         type of the looked up objects
+     * @return future of the objects found and the ids missing
+     */
+    static <T> CompletableFuture<LookupResult<T>> lookup(long[] ids, int parallelism,
+                                                         Function<long[], CompletableFuture<? extends List<T>>> lookup,
+                                                         ToLongFunction<T> idOf) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        BulkLookup<T> bulkLookup = new BulkLookup<>(ids, lookup, idOf);
+        if (bulkLookup.results.length() == 0) {
+            bulkLookup.complete();
+        }
+        for (int i = 0; i < Math.min(parallelism, bulkLookup.results.length()); i++) {
+            bulkLookup.next();
+        }
+        return bulkLookup.future;
+    }
+
+    /**
+     * Sends the next chunk, if any. Each completed request sends the next one so that at most parallelism requests
+     * are in flight.
+     */
+    private void next() {
+        int chunk = nextChunk.getAndIncrement();
+        if (chunk >= results.length() || future.isDone()) {
+            return;
+        }
+        long[] chunkIds = Arrays.copyOfRange(ids, chunk * CHUNK_SIZE, Math.min(ids.length, (chunk + 1) * CHUNK_SIZE));
+        lookup.apply(chunkIds).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+                if (!(cause instanceof TwitterException && ((TwitterException) cause).getStatusCode() == NOT_FOUND)) {
+                    future.completeExceptionally(cause);
+                    return;
+                }
+                // users/lookup answers 404 when none of the ids is found
+            } else {
+                results.set(chunk, result);
+            }
+            if (remainingChunks.decrementAndGet() == 0) {
+                complete();
+            } else {
+                next();
+            }
+        });
+    }
+
+    private void complete() {
+        Map<Long, T> byId = new HashMap<>(ids.length * 4 / 3 + 1);
+        for (int i = 0; i < results.length(); i++) {
+            List<T> result = results.get(i);
+            if (result != null) {
+                for (T t : result) {
+                    byId.put(idOf.applyAsLong(t), t);
+                }
+            }
+        }
+        LinkedHashMap<Long, T> found = new LinkedHashMap<>(byId.size() * 4 / 3 + 1);
+        long[] missingIDs = new long[ids.length];
+        int missing = 0;
+        for (long id : ids) {
+            T t = byId.get(id);
+            if (t != null) {
+                found.put(id, t);
+            } else {
+                missingIDs[missing++] = id;
+            }
+        }
+        future.complete(new LookupResultImpl<>(found, Arrays.copyOf(missingIDs, missing)));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.CursorSupport;
+import twitter4j.v1.IDs;
+import twitter4j.v1.PagableResponseList;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a cursor chain, fetching page N+1 while page N is consumed.<br>
+ * The first page is fetched on the first access to the stream. As the next page is requested as soon as a page is
+ * returned, a stream closed or abandoned before the end of the chain has fetched one page more than it consumed.
+ * Closing the stream drops that page: its request is not sent if it is still queued or deferred by the rate limit,
+ * but a request already sent completes and its call counts against the rate limit.
+ * Failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}.
+ *
+ * @param <P> page type
+ * @since Twitter4J 4.1.3
+ */
+final class CursorPrefetcher<P extends CursorSupport> {
+    private static final long[] EMPTY = new long[0];
+    private final LongFunction<CompletableFuture<P>> fetcher;
+    private volatile CompletableFuture<P> next;
+    private boolean started = false;
+    private volatile boolean closed = false;
+
+    /**
+     * @param fetcher fetches the page at the cursor
+     */
+    CursorPrefetcher(LongFunction<CompletableFuture<P>> fetcher) {
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * Called from the consuming thread only.
+     *
+     * @return next page, or null if the last page is consumed or the prefetcher is closed
+     */
+    P nextPage() {
+        if (!started) {
+            started = true;
+            next = fetcher.apply(CursorSupport.START);
+        }
+        CompletableFuture<P> current = next;
+        if (current == null || closed) {
+            return null;
+        }
+        P page = current.join();
+        next = page.hasNext() && page.getNextCursor() != 0 ? fetcher.apply(page.getNextCursor()) : null;
+        if (closed) {
+            // closed while waiting for the page
+            close();
+        }
+        return page;
+    }
+
+    /**
+     * Drops the page being prefetched. Doesn't abort its request if already sent.
+     */
+    void close() {
+        closed = true;
+        CompletableFuture<P> next = this.next;
+        if (next != null) {
+            next.cancel(false);
+        }
+    }
+
+    /**
+     * @param fetcher fetches the IDs page at the cursor
+     * @return stream of the IDs over all pages
+     */
+    static LongStream ids(LongFunction<CompletableFuture<IDs>> fetcher) {
+        CursorPrefetcher<IDs> prefetcher = new CursorPrefetcher<>(fetcher);
+        Spliterator.OfLong spliterator = new Spliterators.AbstractLongSpliterator(Long.MAX_VALUE, Spliterator.ORDERED) {
+            private long[] ids = EMPTY;
+            private int index = 0;
+
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                while (index == ids.length) {
+                    IDs page = prefetcher.nextPage();
+                    if (page == null) {
+                        return false;
+                    }
+                    ids = page.getIDs();
+                    index = 0;
+                }
+                action.accept(ids[index++]);
+                return true;
+            }
+        };
+        return StreamSupport.longStream(spliterator, false).onClose(prefetcher::close);
+    }
+
+    /**
+     * @param fetcher fetches the page at the cursor
+     * @param <T>     element type
+     * @return stream of the elements over all pages
+     */
+    static <T extends TwitterResponse> Stream<T> list(LongFunction<CompletableFuture<PagableResponseList<T>>> fetcher) {
+        CursorPrefetcher<PagableResponseList<T>> prefetcher = new CursorPrefetcher<>(fetcher);
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private List<T> elements = null;
+            private int index = 0;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                while (elements == null || index == elements.size()) {
+                    PagableResponseList<T> page = prefetcher.nextPage();
+                    if (page == null) {
+                        return false;
+                    }
+                    elements = page;
+                    index = 0;
+                }
+                action.accept(elements.get(index++));
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(prefetcher::close);
+    }
+}
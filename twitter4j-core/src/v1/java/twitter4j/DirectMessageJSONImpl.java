@@ -54,7 +54,6 @@ import java.util.Objects;
             JSONObject event = json.getJSONObject("event");
             init(event);
             if (jsonStoreEnabled) {
-                TwitterObjectFactory.clearThreadLocalMap();
                 TwitterObjectFactory.registerJSONObject(this, event);
             }
         } catch (JSONException jsone) {
@@ -134,9 +133,6 @@ import java.util.Objects;
 
     static DirectMessageList createDirectMessageList(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
         try {
-            if (jsonStoreEnabled) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONArray list;
             DirectMessageList directMessages;
             try {
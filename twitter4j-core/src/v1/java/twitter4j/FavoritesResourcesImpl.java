@@ -12,8 +12,8 @@ class FavoritesResourcesImpl extends  APIResourceBase implements FavoritesResour
     FavoritesResourcesImpl(HttpClient http, ObjectFactory factory, String restBaseURL, Authorization auth, boolean mbeanEnabled, HttpParameter[] IMPLICIT_PARAMS,
                        String IMPLICIT_PARAMS_STR,
                        List<Consumer<RateLimitStatusEvent>> rateLimitStatusListeners,
-                       List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners) {
-        super(http, factory, restBaseURL, auth, mbeanEnabled, IMPLICIT_PARAMS, IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners);
+                       List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners, RateLimitGovernor governor, SingleFlight singleFlight, ResponseCache responseCache) {
+        super(http, factory, restBaseURL, auth, mbeanEnabled, IMPLICIT_PARAMS, IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners, governor, singleFlight, responseCache);
     }
     @Override
     public ResponseList<Status> getFavorites() throws TwitterException {
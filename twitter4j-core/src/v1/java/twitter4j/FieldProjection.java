@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Declares which members of statuses, users and places are materialized.<br>
+ * Members are named as in the JSON responses, e.g. "text", "created_at", "user" for statuses and "screen_name",
+ * "followers_count" for users. Members not listed are skipped while parsing and their getters return the same defaults
+ * as when the member is absent from the response. "id" is always materialized. Nested objects follow the projection
+ * of their type, e.g. the user of a status follows the user fields.
+ * <pre>
+ * FieldProjection.ALL.userFields("screen_name", "followers_count", "created_at")
+ * </pre>
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public final class FieldProjection implements Serializable {
+    private static final long serialVersionUID = 4920183725612750198L;
+    /**
+     * materializes all members
+     */
+    public static final FieldProjection ALL = new FieldProjection(null, null, null, null);
+
+    private final Set<String> statusFields;
+    private final Set<String> userFields;
+    private final Set<String> placeFields;
+    private final StringPool stringPool;
+
+    private FieldProjection(Set<String> statusFields, Set<String> userFields, Set<String> placeFields,
+                            StringPool stringPool) {
+        this.statusFields = statusFields;
+        this.userFields = userFields;
+        this.placeFields = placeFields;
+        this.stringPool = stringPool;
+    }
+
+    /**
+     * @param names members of statuses to materialize
+     * @return projection materializing only the given members of statuses
+     */
+    public FieldProjection statusFields(String... names) {
+        return new FieldProjection(fields(names), userFields, placeFields, stringPool);
+    }
+
+    /**
+     * @param names members of users to materialize
+     * @return projection materializing only the given members of users
+     */
+    public FieldProjection userFields(String... names) {
+        return new FieldProjection(statusFields, fields(names), placeFields, stringPool);
+    }
+
+    /**
+     * @param names members of places to materialize
+     * @return projection materializing only the given members of places
+     */
+    public FieldProjection placeFields(String... names) {
+        return new FieldProjection(statusFields, userFields, fields(names), stringPool);
+    }
+
+    /**
+     * @return members of statuses to materialize, or null if all members are materialized
+     */
+    @Nullable
+    public Set<String> getStatusFields() {
+        return statusFields;
+    }
+
+    /**
+     * @return members of users to materialize, or null if all members are materialized
+     */
+    @Nullable
+    public Set<String> getUserFields() {
+        return userFields;
+    }
+
+    /**
+     * @return members of places to materialize, or null if all members are materialized
+     */
+    @Nullable
+    public Set<String> getPlaceFields() {
+        return placeFields;
+    }
+
+    private static Set<String> fields(String... names) {
+        Set<String> fields = new LinkedHashSet<>(Arrays.asList(names));
+        fields.add("id");
+        return Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * @param stringPool pool canonicalizing the values of repetitive members, or null
+     * @return projection materializing the same members, pooling their values
+     */
+    /*package*/ FieldProjection withStringPool(StringPool stringPool) {
+        return stringPool == this.stringPool ? this
+                : new FieldProjection(statusFields, userFields, placeFields, stringPool);
+    }
+
+    /**
+     * @param field member qualified with the type, e.g. "status.lang"
+     * @param value parsed value
+     * @return the pooled instance equal to the value, or the value if not pooled
+     */
+    /*package*/ String pooled(String field, String value) {
+        return stringPool == null ? value : stringPool.pooled(field, value);
+    }
+
+    /*package*/ boolean includesStatusField(String name) {
+        return statusFields == null || statusFields.contains(name);
+    }
+
+    /*package*/ boolean includesUserField(String name) {
+        return userFields == null || userFields.contains(name);
+    }
+
+    /*package*/ boolean includesPlaceField(String name) {
+        return placeFields == null || placeFields.contains(name);
+    }
+
+    /*package*/ JSONObject projectStatus(JSONObject json) throws JSONException {
+        return project(json, statusFields);
+    }
+
+    /*package*/ JSONObject projectUser(JSONObject json) throws JSONException {
+        return project(json, userFields);
+    }
+
+    /*package*/ JSONObject projectPlace(JSONObject json) throws JSONException {
+        return project(json, placeFields);
+    }
+
+    private static JSONObject project(JSONObject json, Set<String> fields) throws JSONException {
+        return fields == null ? json : new JSONObject(json, fields.toArray(new String[0]));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FieldProjection that = (FieldProjection) o;
+        return Objects.equals(statusFields, that.statusFields) && Objects.equals(userFields, that.userFields) && Objects.equals(placeFields, that.placeFields) && Objects.equals(stringPool, that.stringPool);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusFields, userFields, placeFields, stringPool);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldProjection{" +
+                "statusFields=" + statusFields +
+                ", userFields=" + userFields +
+                ", placeFields=" + placeFields +
+                ", stringPool=" + stringPool +
+                '}';
+    }
+}
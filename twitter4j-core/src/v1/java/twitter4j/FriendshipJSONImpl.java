@@ -24,13 +24,14 @@ import twitter4j.v1.ResponseList;
  * @author Yusuke Yamamoto - yusuke at mac.com
  * @since Twitter4J 2.1.9
  */
-class FriendshipJSONImpl implements Friendship {
+class FriendshipJSONImpl implements Friendship, RawJSONHolder {
     private static final long serialVersionUID = 6847273186993125826L;
     private final long id;
     private final String name;
     private final String screenName;
     private boolean following = false;
     private boolean followedBy = false;
+    private transient Object rawJSON;
 
     /*package*/ FriendshipJSONImpl(JSONObject json) throws TwitterException {
         super();
@@ -55,9 +56,6 @@ class FriendshipJSONImpl implements Friendship {
     /*package*/
     static ResponseList<Friendship> createFriendshipList(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
         try {
-            if (jsonStoreEnabled) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONArray list = res.asJSONArray();
             int size = list.length();
             ResponseList<Friendship> friendshipList = new ResponseListImpl<>(size, res);
@@ -103,6 +101,16 @@ class FriendshipJSONImpl implements Friendship {
         return followedBy;
     }
 
+    @Override
+    public Object getRawJSONForm() {
+        return rawJSON;
+    }
+
+    @Override
+    public void setRawJSONForm(Object rawJSON) {
+        this.rawJSON = rawJSON;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -13,8 +13,8 @@ class HelpResourcesImpl extends APIResourceBase implements HelpResources {
     HelpResourcesImpl(HttpClient http, ObjectFactory factory, String restBaseURL, Authorization auth, boolean mbeanEnabled, HttpParameter[] IMPLICIT_PARAMS,
                       String IMPLICIT_PARAMS_STR,
                       List<Consumer<RateLimitStatusEvent>> rateLimitStatusListeners,
-                      List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners) {
-        super(http, factory, restBaseURL, auth, mbeanEnabled, IMPLICIT_PARAMS, IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners);
+                      List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners, RateLimitGovernor governor, SingleFlight singleFlight, ResponseCache responseCache) {
+        super(http, factory, restBaseURL, auth, mbeanEnabled, IMPLICIT_PARAMS, IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners, governor, singleFlight, responseCache);
     }
     /* Help Resources */
 
@@ -25,11 +25,15 @@ class HelpResourcesImpl extends APIResourceBase implements HelpResources {
 
     @Override
     public Map<String, RateLimitStatus> getRateLimitStatus() throws TwitterException {
-        return factory.createRateLimitStatuses(get(restBaseURL + "application/rate_limit_status.json"));
+        Map<String, RateLimitStatus> rateLimitStatuses = factory.createRateLimitStatuses(get(restBaseURL + "application/rate_limit_status.json"));
+        governor.seed(rateLimitStatuses);
+        return rateLimitStatuses;
     }
 
     @Override
     public Map<String, RateLimitStatus> getRateLimitStatus(String... resources) throws TwitterException {
-        return factory.createRateLimitStatuses(get(restBaseURL + "application/rate_limit_status.json?resources=" + StringUtil.join(resources)));
+        Map<String, RateLimitStatus> rateLimitStatuses = factory.createRateLimitStatuses(get(restBaseURL + "application/rate_limit_status.json?resources=" + StringUtil.join(resources)));
+        governor.seed(rateLimitStatuses);
+        return rateLimitStatuses;
     }
 }
@@ -23,11 +23,12 @@ import twitter4j.v1.ResponseList;
  * @author Yusuke Yamamoto - yusuke at mac.com
  * @since Twitter4J 2.2.3
  */
-class LanguageJSONImpl implements HelpResources.Language {
+class LanguageJSONImpl implements HelpResources.Language, RawJSONHolder {
     private static final long serialVersionUID = 7494362811767097342L;
     private String name;
     private String code;
     private String status;
+    private transient Object rawJSON;
 
     LanguageJSONImpl(JSONObject json) throws TwitterException {
         super();
@@ -67,9 +68,6 @@ class LanguageJSONImpl implements HelpResources.Language {
     /*package*/
     static ResponseList<HelpResources.Language> createLanguageList(JSONArray list, HttpResponse res
             , boolean jsonStoreEnabled) throws TwitterException {
-        if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         try {
             int size = list.length();
             ResponseList<HelpResources.Language> languages =
@@ -90,4 +88,14 @@ class LanguageJSONImpl implements HelpResources.Language {
             throw new TwitterException(jsone);
         }
     }
+
+    @Override
+    public Object getRawJSONForm() {
+        return rawJSON;
+    }
+
+    @Override
+    public void setRawJSONForm(Object rawJSON) {
+        this.rawJSON = rawJSON;
+    }
 }
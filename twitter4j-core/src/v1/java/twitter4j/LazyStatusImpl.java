@@ -0,0 +1,571 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.*;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A Status keeping the UTF-8 source and materializing its members on first access, delivered on streams with
+ * {@link Configuration#streamLazyStatusEnabled(boolean)}.<br>
+ * Construction only skims the status: the id is read and the offsets of the other members are recorded, nothing else is
+ * decoded. The text and entities, the remaining scalars, the user, the place, the retweeted status and the quoted status
+ * are each built once, on demand, and memoized. Retweeted and quoted statuses are lazy as well and share the source.
+ * This class is thread safe.<br>
+ * Instances are serialized as an eagerly built {@link StatusJSONImpl}.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+/*package*/ final class LazyStatusImpl extends TwitterResponseImpl implements Status, java.io.Serializable {
+    private static final long serialVersionUID = 5246306627487658294L;
+    private static final Object UNRESOLVED = new Object();
+
+    // top level members, grouped by the object materializing them
+    private static final String[] MEMBERS = {
+            // text group: the text and the entity indices depend on each other
+            "text", "full_text", "entities", "extended_entities", "extended_tweet", "display_text_range",
+            "quoted_status_permalink",
+            // scalars, bound straight from the source
+            "created_at", "source", "truncated", "in_reply_to_status_id", "in_reply_to_user_id", "favorited",
+            "retweeted", "in_reply_to_screen_name", "retweet_count", "favorite_count", "possibly_sensitive", "lang",
+            "quoted_status_id",
+            // structures group
+            "coordinates", "contributors", "current_user_retweet", "scopes", "withheld_in_countries",
+            // nested objects
+            "user", "place", "retweeted_status", "quoted_status", "sender",
+            // read up front
+            "id"};
+    private static final int TEXT_GROUP = 0;
+    private static final int CREATED_AT = 7;
+    private static final int SOURCE = 8;
+    private static final int TRUNCATED = 9;
+    private static final int IN_REPLY_TO_STATUS_ID = 10;
+    private static final int IN_REPLY_TO_USER_ID = 11;
+    private static final int FAVORITED = 12;
+    private static final int RETWEETED = 13;
+    private static final int IN_REPLY_TO_SCREEN_NAME = 14;
+    private static final int RETWEET_COUNT = 15;
+    private static final int FAVORITE_COUNT = 16;
+    private static final int POSSIBLY_SENSITIVE = 17;
+    private static final int LANG = 18;
+    private static final int QUOTED_STATUS_ID = 19;
+    private static final int STRUCTURES_GROUP = 20;
+    private static final int USER = 25;
+    private static final int PLACE = 26;
+    private static final int RETWEETED_STATUS = 27;
+    private static final int QUOTED_STATUS = 28;
+    private static final int SENDER = 29;
+    private static final int ID = 30;
+    private static final byte[][] NAMES = new byte[MEMBERS.length][];
+
+    static {
+        for (int i = 0; i < MEMBERS.length; i++) {
+            NAMES[i] = MEMBERS[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private final transient byte[] source;
+    private final transient int start;
+    private final transient int[] offsets = new int[MEMBERS.length];
+    private transient long id = -1L;
+    private transient volatile StatusJSONImpl text;
+    private transient volatile Scalars scalars;
+    private transient volatile StatusJSONImpl structures;
+    private transient volatile Object user = UNRESOLVED;
+    private transient volatile Object place = UNRESOLVED;
+    private transient volatile Object retweetedStatus = UNRESOLVED;
+    private transient volatile Object quotedStatus = UNRESOLVED;
+
+    /**
+     * @param source UTF-8 source
+     * @param parser parser reading the source, positioned at the beginning of a status object
+     * @throws JSONException when the source is malformed
+     */
+    /*package*/ LazyStatusImpl(byte[] source, JSONPullParser parser) throws JSONException {
+        super();
+        this.source = source;
+        this.start = parser.position();
+        skim(parser);
+    }
+
+    private void skim(JSONPullParser parser) throws JSONException {
+        Arrays.fill(offsets, -1);
+        parser.beginObject();
+        while (parser.hasNext()) {
+            int index = parser.nextName(NAMES);
+            if (index == ID) {
+                id = ParseUtil.getLong(parser);
+            } else {
+                if (index != -1) {
+                    offsets[index] = parser.position();
+                }
+                parser.skipValue();
+            }
+        }
+        parser.endObject();
+    }
+
+    /**
+     * @return true if the member is present and not null
+     */
+    private boolean has(int index) {
+        return offsets[index] != -1 && source[offsets[index]] != 'n';
+    }
+
+    private StatusJSONImpl text() {
+        StatusJSONImpl value = text;
+        if (value == null) {
+            synchronized (this) {
+                value = text;
+                if (value == null) {
+                    text = value = group(TEXT_GROUP, CREATED_AT);
+                }
+            }
+        }
+        return value;
+    }
+
+    private StatusJSONImpl structures() {
+        StatusJSONImpl value = structures;
+        if (value == null) {
+            synchronized (this) {
+                value = structures;
+                if (value == null) {
+                    structures = value = group(STRUCTURES_GROUP, USER);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Scalar members, with the defaults {@link StatusJSONImpl} has for absent ones.
+     */
+    private static final class Scalars {
+        LocalDateTime createdAt;
+        String source;
+        boolean truncated;
+        long inReplyToStatusId = -1L;
+        long inReplyToUserId = -1L;
+        boolean favorited;
+        boolean retweeted;
+        String inReplyToScreenName;
+        int retweetCount = -1;
+        int favoriteCount = -1;
+        boolean possiblySensitive;
+        String lang;
+        long quotedStatusId = -1L;
+    }
+
+    private Scalars scalars() {
+        Scalars value = scalars;
+        if (value == null) {
+            synchronized (this) {
+                value = scalars;
+                if (value == null) {
+                    scalars = value = bindScalars();
+                }
+            }
+        }
+        return value;
+    }
+
+    private Scalars bindScalars() {
+        Scalars value = new Scalars();
+        try {
+            JSONPullParser parser = new JSONPullParser(source);
+            for (int i = CREATED_AT; i < STRUCTURES_GROUP; i++) {
+                if (offsets[i] == -1) {
+                    continue;
+                }
+                parser.seek(offsets[i]);
+                switch (i) {
+                    case CREATED_AT:
+                        value.createdAt = ParseUtil.getDate(parser, ParseUtil.formatterEEEYYYY);
+                        break;
+                    case SOURCE:
+                        value.source = ParseUtil.getUnescapedString(parser);
+                        break;
+                    case TRUNCATED:
+                        value.truncated = ParseUtil.getBoolean(parser);
+                        break;
+                    case IN_REPLY_TO_STATUS_ID:
+                        value.inReplyToStatusId = ParseUtil.getLong(parser);
+                        break;
+                    case IN_REPLY_TO_USER_ID:
+                        value.inReplyToUserId = ParseUtil.getLong(parser);
+                        break;
+                    case FAVORITED:
+                        value.favorited = ParseUtil.getBoolean(parser);
+                        break;
+                    case RETWEETED:
+                        value.retweeted = ParseUtil.getBoolean(parser);
+                        break;
+                    case IN_REPLY_TO_SCREEN_NAME:
+                        value.inReplyToScreenName = ParseUtil.getUnescapedString(parser);
+                        break;
+                    case RETWEET_COUNT:
+                        value.retweetCount = (int) ParseUtil.getLong(parser);
+                        break;
+                    case FAVORITE_COUNT:
+                        value.favoriteCount = ParseUtil.getInt(parser);
+                        break;
+                    case POSSIBLY_SENSITIVE:
+                        value.possiblySensitive = ParseUtil.getBoolean(parser);
+                        break;
+                    case LANG:
+                        value.lang = ParseUtil.getUnescapedString(parser);
+                        break;
+                    default: // QUOTED_STATUS_ID
+                        value.quotedStatusId = ParseUtil.getLong(parser);
+                        break;
+                }
+            }
+        } catch (JSONException | TwitterException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        return value;
+    }
+
+    /**
+     * Builds a status from the members in the given range only.
+     */
+    private StatusJSONImpl group(int from, int to) {
+        try {
+            JSONPullParser parser = new JSONPullParser(source);
+            JSONObject json = new JSONObject();
+            for (int i = from; i < to; i++) {
+                if (offsets[i] != -1) {
+                    parser.seek(offsets[i]);
+                    json.put(MEMBERS[i], parser.nextValue());
+                }
+            }
+            return new StatusJSONImpl(json);
+        } catch (JSONException | TwitterException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private JSONPullParser parserAt(int offset) {
+        JSONPullParser parser = new JSONPullParser(source);
+        parser.seek(offset);
+        return parser;
+    }
+
+    @Override
+    public User getUser() {
+        Object value = user;
+        if (value == UNRESOLVED) {
+            synchronized (this) {
+                value = user;
+                if (value == UNRESOLVED) {
+                    try {
+                        user = value = has(USER) ? new UserJSONImpl(parserAt(offsets[USER])) : null;
+                    } catch (TwitterException te) {
+                        throw new IllegalStateException(te.getMessage(), te);
+                    }
+                }
+            }
+        }
+        return (User) value;
+    }
+
+    @Override
+    public Place getPlace() {
+        Object value = place;
+        if (value == UNRESOLVED) {
+            synchronized (this) {
+                value = place;
+                if (value == UNRESOLVED) {
+                    try {
+                        place = value = has(PLACE)
+                                ? new PlaceJSONImpl(new JSONObject(parserAt(offsets[PLACE]))) : null;
+                    } catch (JSONException | TwitterException e) {
+                        throw new IllegalStateException(e.getMessage(), e);
+                    }
+                }
+            }
+        }
+        return (Place) value;
+    }
+
+    @Override
+    public Status getRetweetedStatus() {
+        Object value = retweetedStatus;
+        if (value == UNRESOLVED) {
+            synchronized (this) {
+                value = retweetedStatus;
+                if (value == UNRESOLVED) {
+                    retweetedStatus = value = nested(RETWEETED_STATUS);
+                }
+            }
+        }
+        return (Status) value;
+    }
+
+    @Override
+    public Status getQuotedStatus() {
+        Object value = quotedStatus;
+        if (value == UNRESOLVED) {
+            synchronized (this) {
+                value = quotedStatus;
+                if (value == UNRESOLVED) {
+                    quotedStatus = value = nested(QUOTED_STATUS);
+                }
+            }
+        }
+        return (Status) value;
+    }
+
+    private Status nested(int index) {
+        try {
+            return has(index) ? new LazyStatusImpl(source, parserAt(offsets[index])) : null;
+        } catch (JSONException jsone) {
+            throw new IllegalStateException(jsone.getMessage(), jsone);
+        }
+    }
+
+    @Override
+    public boolean isRetweet() {
+        return has(RETWEETED_STATUS);
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public String getText() {
+        return text().getText();
+    }
+
+    @Override
+    public int getDisplayTextRangeStart() {
+        return text().getDisplayTextRangeStart();
+    }
+
+    @Override
+    public int getDisplayTextRangeEnd() {
+        return text().getDisplayTextRangeEnd();
+    }
+
+    @Override
+    public UserMentionEntity[] getUserMentionEntities() {
+        return text().getUserMentionEntities();
+    }
+
+    @Override
+    public URLEntity[] getURLEntities() {
+        return text().getURLEntities();
+    }
+
+    @Override
+    public HashtagEntity[] getHashtagEntities() {
+        return text().getHashtagEntities();
+    }
+
+    @Override
+    public MediaEntity[] getMediaEntities() {
+        return text().getMediaEntities();
+    }
+
+    @Override
+    public SymbolEntity[] getSymbolEntities() {
+        return text().getSymbolEntities();
+    }
+
+    @Override
+    public URLEntity getQuotedStatusPermalink() {
+        return text().getQuotedStatusPermalink();
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return scalars().createdAt;
+    }
+
+    @Override
+    public String getSource() {
+        return scalars().source;
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return scalars().truncated;
+    }
+
+    @Override
+    public long getInReplyToStatusId() {
+        return scalars().inReplyToStatusId;
+    }
+
+    @Override
+    public long getInReplyToUserId() {
+        return scalars().inReplyToUserId;
+    }
+
+    @Override
+    public String getInReplyToScreenName() {
+        return scalars().inReplyToScreenName;
+    }
+
+    @Override
+    public GeoLocation getGeoLocation() {
+        return structures().getGeoLocation();
+    }
+
+    @Override
+    public boolean isFavorited() {
+        return scalars().favorited;
+    }
+
+    @Override
+    public boolean isRetweeted() {
+        return scalars().retweeted;
+    }
+
+    @Override
+    public int getFavoriteCount() {
+        return scalars().favoriteCount;
+    }
+
+    @Override
+    public long[] getContributors() {
+        return structures().getContributors();
+    }
+
+    @Override
+    public int getRetweetCount() {
+        return scalars().retweetCount;
+    }
+
+    @Override
+    public boolean isRetweetedByMe() {
+        return structures().isRetweetedByMe();
+    }
+
+    @Override
+    public long getCurrentUserRetweetId() {
+        return structures().getCurrentUserRetweetId();
+    }
+
+    @Override
+    public boolean isPossiblySensitive() {
+        return scalars().possiblySensitive;
+    }
+
+    @Override
+    public String getLang() {
+        return scalars().lang;
+    }
+
+    @Override
+    public Scopes getScopes() {
+        return structures().getScopes();
+    }
+
+    @Override
+    public String[] getWithheldInCountries() {
+        return structures().getWithheldInCountries();
+    }
+
+    @Override
+    public long getQuotedStatusId() {
+        return scalars().quotedStatusId;
+    }
+
+    @Override
+    public int compareTo(Status that) {
+        long delta = this.id - that.getId();
+        if (delta < Integer.MIN_VALUE) {
+            return Integer.MIN_VALUE;
+        } else if (delta > Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) delta;
+    }
+
+    /**
+     * Serializes as an eagerly built status, which keeps the serialized form of {@link StatusJSONImpl}.
+     *
+     * @return eagerly built status
+     * @throws ObjectStreamException when the source cannot be bound
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        try {
+            return new StatusJSONImpl(parserAt(start));
+        } catch (TwitterException te) {
+            InvalidObjectException ioe = new InvalidObjectException(te.getMessage());
+            ioe.initCause(te);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Skims a status received on a stream.
+     *
+     * @param line UTF-8 encoded message
+     * @return the status, or null if the message is not a status
+     * @throws JSONException when the message is malformed
+     */
+    /*package*/
+    static Status createStatus(byte[] line) throws JSONException {
+        LazyStatusImpl status = new LazyStatusImpl(line, new JSONPullParser(line));
+        // same distinction as JSONObjectType: direct messages have a sender, other events have no text
+        if (status.has(SENDER) || !status.has(TEXT_GROUP)) {
+            return null;
+        }
+        return status;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) id;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (null == obj) {
+            return false;
+        }
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof Status && ((Status) obj).getId() == this.id;
+    }
+
+    @Override
+    public String toString() {
+        Object json;
+        try {
+            json = parserAt(start).nextValue();
+        } catch (JSONException jsone) {
+            json = jsone.getMessage();
+        }
+        return "LazyStatusImpl{" +
+                "id=" + id +
+                ", source=" + json +
+                '}';
+    }
+}
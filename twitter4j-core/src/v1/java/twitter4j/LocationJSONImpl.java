@@ -24,7 +24,7 @@ import java.util.Objects;
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
  */
-/*package*/ final class LocationJSONImpl implements Location {
+/*package*/ final class LocationJSONImpl implements Location, RawJSONHolder {
     private static final long serialVersionUID = -1312752311160422264L;
     private final int woeid;
     private final String countryName;
@@ -33,6 +33,7 @@ import java.util.Objects;
     private final int placeCode;
     private final String name;
     private final String url;
+    private transient Object rawJSON;
 
     /*package*/ LocationJSONImpl(JSONObject location) throws TwitterException {
         try {
@@ -56,9 +57,6 @@ import java.util.Objects;
 
     /*package*/
     static ResponseList<Location> createLocationList(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
-        if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         return createLocationList(res.asJSONArray(), jsonStoreEnabled);
     }
 
@@ -120,6 +118,16 @@ import java.util.Objects;
         return url;
     }
 
+    @Override
+    public Object getRawJSONForm() {
+        return rawJSON;
+    }
+
+    @Override
+    public void setRawJSONForm(Object rawJSON) {
+        this.rawJSON = rawJSON;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+import static twitter4j.HttpResponseCode.NOT_FOUND;
+
+/**
+ * Coalesces single-id lookups issued concurrently into one bulk lookup.<br>
+ * The first caller of a batch waits for the window to elapse, or until the batch is full, and sends the bulk lookup.
+ * The other callers wait for its result. Each caller gets its own object, or the exception built by the notFound
+ * function when the id is missing in the result.
+ *
+ * @param <T> type of the looked up objects
+ * @since Twitter4J 4.1.3
+ */
+final class LookupCoalescer<T> {
+    private final long windowNanos;
+    private final int batchSize;
+    private final Lookup<T> lookup;
+    private final ToLongFunction<T> idOf;
+    private final LongFunction<TwitterException> notFound;
+    private Batch<T> pending = null;
+
+    /**
+     * blocking bulk lookup
+     *
+     * @param <T> type of the looked up objects
+     */
+    @FunctionalInterface
+    interface Lookup<T> {
+        List<T> lookup(long[] ids) throws TwitterException;
+    }
+
+    /**
+     * @param windowMillis how long the first caller of a batch waits for other callers
+     * @param batchSize    maximum number of ids per bulk lookup
+     * @param lookup       bulk lookup
+     * @param idOf         returns the id of a looked up object
+     * @param notFound     creates the exception thrown to callers whose id is missing in the result
+     */
+    LookupCoalescer(long windowMillis, int batchSize, Lookup<T> lookup, ToLongFunction<T> idOf,
+                    LongFunction<TwitterException> notFound) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.batchSize = batchSize;
+        this.lookup = lookup;
+        this.idOf = idOf;
+        this.notFound = notFound;
+    }
+
+    /**
+     * @param id id to look up
+     * @return object of the id
+     * @throws TwitterException when the bulk lookup fails, or the id is not found
+     */
+    T get(long id) throws TwitterException {
+        Batch<T> batch;
+        CompletableFuture<T> future;
+        boolean first;
+        boolean full;
+        synchronized (this) {
+            first = pending == null;
+            if (first) {
+                pending = new Batch<>();
+            }
+            batch = pending;
+            future = batch.futures.computeIfAbsent(id, key -> new CompletableFuture<>());
+            full = batch.futures.size() >= batchSize;
+            if (full) {
+                pending = null;
+            }
+        }
+        if (full) {
+            send(batch);
+        } else if (first) {
+            batch.await(windowNanos);
+            synchronized (this) {
+                if (pending == batch) {
+                    pending = null;
+                }
+            }
+            send(batch);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw (TwitterException) e.getCause();
+        }
+    }
+
+    private void send(Batch<T> batch) {
+        if (!batch.sent.compareAndSet(false, true)) {
+            // sent by the caller who filled the batch
+            return;
+        }
+        batch.signal();
+        long[] ids = new long[batch.futures.size()];
+        int i = 0;
+        for (Long id : batch.futures.keySet()) {
+            ids[i++] = id;
+        }
+        Map<Long, T> found = new HashMap<>(ids.length * 4 / 3 + 1);
+        try {
+            for (T t : lookup.lookup(ids)) {
+                found.put(idOf.applyAsLong(t), t);
+            }
+        } catch (TwitterException te) {
+            if (te.getStatusCode() != NOT_FOUND) {
+                for (CompletableFuture<T> future : batch.futures.values()) {
+                    future.completeExceptionally(te);
+                }
+                return;
+            }
+            // users/lookup answers 404 when none of the ids is found
+        } catch (RuntimeException e) {
+            for (CompletableFuture<T> future : batch.futures.values()) {
+                future.completeExceptionally(new TwitterException(e));
+            }
+            return;
+        } catch (Throwable t) {
+            // releases the other callers before the error reaches the caller sending the batch
+            for (CompletableFuture<T> future : batch.futures.values()) {
+                future.completeExceptionally(new TwitterException(t.getMessage(), t));
+            }
+            throw t;
+        }
+        for (Map.Entry<Long, CompletableFuture<T>> entry : batch.futures.entrySet()) {
+            T t = found.get(entry.getKey());
+            if (t != null) {
+                entry.getValue().complete(t);
+            } else {
+                entry.getValue().completeExceptionally(notFound.apply(entry.getKey()));
+            }
+        }
+    }
+
+    private static final class Batch<T> {
+        /**
+         * guarded by the enclosing LookupCoalescer until the batch is taken out of pending
+         */
+        private final Map<Long, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        private final AtomicBoolean sent = new AtomicBoolean();
+
+        private synchronized void await(long windowNanos) {
+            long deadline = System.nanoTime() + windowNanos;
+            long remaining = windowNanos;
+            boolean interrupted = false;
+            while (!sent.get() && remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    // other callers depend on this batch to be sent
+                    interrupted = true;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private synchronized void signal() {
+            notifyAll();
+        }
+    }
+}
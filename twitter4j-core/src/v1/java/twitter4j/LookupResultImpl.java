@@ -0,0 +1,77 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.LookupResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+final class LookupResultImpl<T> implements LookupResult<T> {
+    private static final long serialVersionUID = 3391857240937560124L;
+    private final LinkedHashMap<Long, T> found;
+    private final long[] missingIDs;
+
+    LookupResultImpl(LinkedHashMap<Long, T> found, long[] missingIDs) {
+        this.found = found;
+        this.missingIDs = missingIDs;
+    }
+
+    @Override
+    public List<T> getFound() {
+        return Collections.unmodifiableList(new ArrayList<>(found.values()));
+    }
+
+    @Override
+    public Map<Long, T> asMap() {
+        return Collections.unmodifiableMap(found);
+    }
+
+    @Override
+    public long[] getMissingIDs() {
+        return missingIDs.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LookupResultImpl<?> that = (LookupResultImpl<?>) o;
+        return found.equals(that.found) && Arrays.equals(missingIDs, that.missingIDs);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * found.hashCode() + Arrays.hashCode(missingIDs);
+    }
+
+    @Override
+    public String toString() {
+        return "LookupResultImpl{" +
+                "found=" + found.size() +
+                ", missingIDs=" + Arrays.toString(missingIDs) +
+                '}';
+    }
+}
@@ -44,6 +44,10 @@ class MediaEntityJSONImpl extends EntityIndex implements MediaEntity {
 
 
     MediaEntityJSONImpl(JSONObject json) throws TwitterException {
+        this(json, FieldProjection.ALL);
+    }
+
+    MediaEntityJSONImpl(JSONObject json, FieldProjection projection) throws TwitterException {
         try {
             JSONArray indicesArray = json.getJSONArray("indices");
             setStart(indicesArray.getInt(0));
@@ -64,7 +68,7 @@ class MediaEntityJSONImpl extends EntityIndex implements MediaEntity {
             addMediaEntitySizeIfNotNull(this.sizes, sizes, MediaEntity.Size.SMALL, "small");
             addMediaEntitySizeIfNotNull(this.sizes, sizes, MediaEntity.Size.THUMB, "thumb");
             if (!json.isNull("type")) {
-                this.type = json.getString("type");
+                this.type = projection.pooled("media.type", json.getString("type"));
             }
 
             if (json.has("video_info")) {
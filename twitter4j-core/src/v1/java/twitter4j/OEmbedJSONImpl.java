@@ -38,7 +38,6 @@ class OEmbedJSONImpl extends TwitterResponseImpl implements OEmbed, java.io.Seri
         JSONObject json = res.asJSONObject();
         init(json);
         if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, json);
         }
     }
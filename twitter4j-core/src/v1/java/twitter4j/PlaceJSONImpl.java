@@ -42,19 +42,22 @@ final class PlaceJSONImpl extends TwitterResponseImpl implements Place, java.io.
     private GeoLocation[][] geometryCoordinates;
     private Place[] containedWithIn;
 
-    /*package*/ PlaceJSONImpl(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
+    /*package*/ PlaceJSONImpl(HttpResponse res, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         super(res);
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, projection);
         if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, json);
         }
     }
 
     PlaceJSONImpl(JSONObject json) throws TwitterException {
+        this(json, FieldProjection.ALL);
+    }
+
+    PlaceJSONImpl(JSONObject json, FieldProjection projection) throws TwitterException {
         super();
-        init(json);
+        init(json, projection);
     }
 
     /* For serialization purposes only. */
@@ -62,11 +65,12 @@ final class PlaceJSONImpl extends TwitterResponseImpl implements Place, java.io.
 
     }
 
-    private void init(JSONObject json) throws TwitterException {
+    private void init(JSONObject json, FieldProjection projection) throws TwitterException {
         try {
+            json = projection.projectPlace(json);
             name = ParseUtil.getUnescapedString("name", json);
             streetAddress = ParseUtil.getUnescapedString("street_address", json);
-            countryCode = ParseUtil.getRawString("country_code", json);
+            countryCode = projection.pooled("place.country_code", ParseUtil.getRawString("country_code", json));
             id = ParseUtil.getRawString("id", json);
             country = ParseUtil.getRawString("country", json);
             if (!json.isNull("place_type")) {
@@ -109,7 +113,7 @@ final class PlaceJSONImpl extends TwitterResponseImpl implements Place, java.io.
                 JSONArray containedWithInJSON = json.getJSONArray("contained_within");
                 containedWithIn = new Place[containedWithInJSON.length()];
                 for (int i = 0; i < containedWithInJSON.length(); i++) {
-                    containedWithIn[i] = new PlaceJSONImpl(containedWithInJSON.getJSONObject(i));
+                    containedWithIn[i] = new PlaceJSONImpl(containedWithInJSON.getJSONObject(i), projection);
                 }
             } else {
                 containedWithIn = null;
@@ -125,11 +129,11 @@ final class PlaceJSONImpl extends TwitterResponseImpl implements Place, java.io.
     }
 
     /*package*/
-    static ResponseList<Place> createPlaceList(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
+    static ResponseList<Place> createPlaceList(HttpResponse res, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         JSONObject json = null;
         try {
             json = res.asJSONObject();
-            return createPlaceList(json.getJSONObject("result").getJSONArray("places"), res, jsonStoreEnabled);
+            return createPlaceList(json.getJSONObject("result").getJSONArray("places"), res, jsonStoreEnabled, projection);
         } catch (JSONException jsone) {
             throw new TwitterException(jsone.getMessage() + ":" + json, jsone);
         }
@@ -137,17 +141,14 @@ final class PlaceJSONImpl extends TwitterResponseImpl implements Place, java.io.
 
     /*package*/
     static ResponseList<Place> createPlaceList(JSONArray list, HttpResponse res
-            , boolean jsonStoreEnabled) throws TwitterException {
-        if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
+            , boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         try {
             int size = list.length();
             ResponseList<Place> places =
                     new ResponseListImpl<>(size, res);
             for (int i = 0; i < size; i++) {
                 JSONObject json = list.getJSONObject(i);
-                Place place = new PlaceJSONImpl(json);
+                Place place = new PlaceJSONImpl(json, projection);
                 places.add(place);
                 if (jsonStoreEnabled) {
                     TwitterObjectFactory.registerJSONObject(place, json);
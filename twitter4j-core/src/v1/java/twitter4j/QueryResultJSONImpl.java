@@ -44,7 +44,7 @@ import java.util.Map;
     private final List<Status> tweets;
     private String nextResults;
 
-    /*package*/ QueryResultJSONImpl(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
+    /*package*/ QueryResultJSONImpl(HttpResponse res, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         super(res);
         JSONObject json = res.asJSONObject();
         try {
@@ -59,12 +59,9 @@ import java.util.Map;
 
             JSONArray array = json.getJSONArray("statuses");
             tweets = new ArrayList<>(array.length());
-            if (jsonStoreEnabled) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             for (int i = 0; i < array.length(); i++) {
                 JSONObject tweet = array.getJSONObject(i);
-                tweets.add(new StatusJSONImpl(tweet, jsonStoreEnabled));
+                tweets.add(new StatusJSONImpl(tweet, jsonStoreEnabled, projection));
             }
         } catch (JSONException jsone) {
             throw new TwitterException(jsone.getMessage() + ":" + json, jsone);
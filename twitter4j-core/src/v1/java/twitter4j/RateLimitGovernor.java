@@ -0,0 +1,410 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.HelpResources;
+import twitter4j.v1.RateLimitPolicy;
+import twitter4j.v1.RateLimitStatus;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static twitter4j.HttpResponseCode.TOO_MANY_REQUESTS;
+import static twitter4j.HttpResponseCode.UNAUTHORIZED;
+
+/**
+ * Tracks the remaining quota and the reset time of each endpoint and holds back requests which would exceed the rate
+ * limit, according to {@link RateLimitPolicy}.<br>
+ * Windows are seeded from {@link HelpResources#getRateLimitStatus()} on the first request and kept up to date with the
+ * X-Rate-Limit headers of every response. Each request reserves one call from its window before it is sent, so
+ * concurrent requests don't overdraw the window while their responses are in flight.<br>
+ * With an {@link AuthorizationPool}, each request is routed to the credential with the most remaining calls and held
+ * back only when all credentials are exhausted.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+class RateLimitGovernor {
+    private static final Logger logger = Logger.getLogger();
+    /**
+     * length of a rate limit window, used when a window resets before any response tells the new reset time
+     */
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    /**
+     * endpoints taking path parameters, as listed in rate limit statuses
+     */
+    private static final String[][] TEMPLATES = split("/geo/id/:place_id", "/saved_searches/destroy/:id",
+            "/saved_searches/show/:id", "/statuses/destroy/:id", "/statuses/retweet/:id", "/statuses/retweets/:id",
+            "/statuses/show/:id", "/statuses/unretweet/:id", "/users/show/:id", "/users/suggestions/:slug",
+            "/users/suggestions/:slug/members");
+    private static final ThreadLocal<Boolean> deferrable = new ThreadLocal<>();
+    private static volatile ScheduledExecutorService scheduler;
+
+    private final String restBaseURL;
+    private final RateLimitPolicy policy;
+    private final Authorization auth;
+    private final AuthorizationPool pool;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicBoolean seeded = new AtomicBoolean();
+    private volatile HelpResources seeder;
+
+    RateLimitGovernor(String restBaseURL, RateLimitPolicy policy, Authorization auth) {
+        this.restBaseURL = restBaseURL;
+        this.policy = policy;
+        this.auth = auth;
+        this.pool = auth instanceof AuthorizationPool ? (AuthorizationPool) auth : null;
+    }
+
+    boolean isEnabled() {
+        return policy != RateLimitPolicy.NONE || pool != null;
+    }
+
+    /**
+     * @param seeder resources to fetch the initial rate limit status from
+     */
+    void seedFrom(HelpResources seeder) {
+        this.seeder = seeder;
+    }
+
+    /**
+     * Reserves one call from the window of the endpoint, waiting or failing when the window is exhausted.
+     *
+     * @param url request url
+     * @return authorization to send the request with
+     * @throws TwitterException when the window is exhausted and the policy is FAIL_FAST, when interrupted while
+     *                          waiting, when all credentials in the pool are revoked, or {@link Deferral} when the
+     *                          request is to be retried asynchronously
+     */
+    Authorization acquire(String url) throws TwitterException {
+        if (!isEnabled()) {
+            return auth;
+        }
+        String endpoint = endpoint(restBaseURL, url);
+        if (endpoint == null) {
+            return auth;
+        }
+        Window window = null;
+        if (pool == null) {
+            seed();
+            window = windows.get(endpoint);
+            if (window == null) {
+                return auth;
+            }
+        }
+        while (true) {
+            long now = System.currentTimeMillis();
+            long waitMillis;
+            if (pool != null) {
+                Authorization credential = pool.select(endpoint, now);
+                if (credential != null) {
+                    return credential;
+                }
+                waitMillis = pool.waitMillis(endpoint, now);
+                if (waitMillis == -1) {
+                    throw new TwitterException("All credentials in the pool are revoked", null, UNAUTHORIZED);
+                }
+                if (policy == RateLimitPolicy.NONE) {
+                    return pool;
+                }
+            } else if ((waitMillis = window.reserve(now)) <= 0) {
+                return auth;
+            }
+            if (policy == RateLimitPolicy.FAIL_FAST) {
+                throw new TwitterException("Rate limit of " + endpoint + " exhausted until the window resets in " + waitMillis + "ms",
+                        pool != null ? pool.rateLimitStatus(endpoint, now) : window.toRateLimitStatus());
+            }
+            if (policy == RateLimitPolicy.DELAY && deferrable.get() != null) {
+                throw new Deferral(waitMillis);
+            }
+            logger.debug("Rate limit of " + endpoint + " exhausted. waiting for " + waitMillis + "ms");
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TwitterException(e);
+            }
+        }
+    }
+
+    /**
+     * Updates the window of the endpoint with the rate limit status in response headers.
+     *
+     * @param url             request url
+     * @param credential      authorization the request was sent with
+     * @param rateLimitStatus rate limit status in the response headers, or null if absent
+     * @param statusCode      response status code
+     */
+    void update(String url, Authorization credential, RateLimitStatus rateLimitStatus, int statusCode) {
+        update(url, credential, rateLimitStatus, statusCode, -1);
+    }
+
+    /**
+     * Updates the window of the endpoint with the rate limit status in response headers.
+     *
+     * @param url             request url
+     * @param credential      authorization the request was sent with
+     * @param rateLimitStatus rate limit status in the response headers, or null if absent
+     * @param statusCode      response status code
+     * @param errorCode       error code in the response body, or -1 if absent
+     */
+    void update(String url, Authorization credential, RateLimitStatus rateLimitStatus, int statusCode, int errorCode) {
+        String endpoint = endpoint(restBaseURL, url);
+        if (endpoint == null) {
+            return;
+        }
+        if (pool != null) {
+            pool.update(credential, endpoint, rateLimitStatus, statusCode, errorCode);
+        } else if (rateLimitStatus != null && policy != RateLimitPolicy.NONE) {
+            windows.computeIfAbsent(endpoint, key -> new Window()).update(rateLimitStatus, statusCode == TOO_MANY_REQUESTS);
+        }
+    }
+
+    /**
+     * Updates windows with rate limit statuses returned by {@link HelpResources#getRateLimitStatus()}. Rate limit
+     * statuses are not attributable to a credential in a pool and are ignored then.
+     *
+     * @param rateLimitStatuses rate limit statuses keyed by endpoint
+     */
+    void seed(Map<String, RateLimitStatus> rateLimitStatuses) {
+        if (policy == RateLimitPolicy.NONE || pool != null) {
+            return;
+        }
+        for (Map.Entry<String, RateLimitStatus> entry : rateLimitStatuses.entrySet()) {
+            windows.computeIfAbsent(normalize(entry.getKey()), key -> new Window()).update(entry.getValue(), false);
+        }
+    }
+
+    private void seed() {
+        HelpResources seeder = this.seeder;
+        if (seeder != null && !seeded.get() && seeded.compareAndSet(false, true)) {
+            try {
+                // results are fed back through seed(Map)
+                seeder.getRateLimitStatus();
+            } catch (TwitterException te) {
+                logger.warn("Failed to retrieve rate limit status. Windows are tracked from response headers.", te);
+            }
+        }
+    }
+
+    /**
+     * @param restBaseURL REST base URL
+     * @param url         request url
+     * @return endpoint in the form of rate limit status keys, e.g. "/statuses/show" for statuses/show/123.json, or
+     * null for urls outside the REST API
+     */
+    static String endpoint(String restBaseURL, String url) {
+        if (!url.startsWith(restBaseURL)) {
+            return null;
+        }
+        int end = url.indexOf('?', restBaseURL.length());
+        if (end == -1) {
+            end = url.length();
+        }
+        if (url.startsWith(".json", end - 5)) {
+            end -= 5;
+        }
+        String[] segments = url.substring(restBaseURL.length(), end).split("/");
+        String[] template = template(segments);
+        StringBuilder endpoint = new StringBuilder(end - restBaseURL.length() + 8);
+        for (int i = 0; i < segments.length; i++) {
+            endpoint.append('/');
+            if (template != null) {
+                endpoint.append(template[i]);
+            } else if (isNumber(segments[i])) {
+                // not listed as a template. numbers are ids
+                endpoint.append(":id");
+            } else {
+                endpoint.append(segments[i]);
+            }
+        }
+        return normalize(endpoint.toString());
+    }
+
+    /**
+     * Trailing parameters are dropped as users/show.json is listed as "/users/show/:id" in rate limit statuses.
+     */
+    static String normalize(String endpoint) {
+        int slash = endpoint.lastIndexOf('/');
+        return slash > 0 && endpoint.startsWith(":", slash + 1) ? endpoint.substring(0, slash) : endpoint;
+    }
+
+    /**
+     * @param segments path segments of the request
+     * @return segments of the template matching the path, or null
+     */
+    private static String[] template(String[] segments) {
+        for (String[] template : TEMPLATES) {
+            if (matches(template, segments)) {
+                return template;
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(String[] template, String[] segments) {
+        if (template.length != segments.length) {
+            return false;
+        }
+        for (int i = 0; i < template.length; i++) {
+            if (!template[i].startsWith(":") && !template[i].equals(segments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[][] split(String... templates) {
+        String[][] split = new String[templates.length][];
+        for (int i = 0; i < templates.length; i++) {
+            split[i] = templates[i].substring(1).split("/");
+        }
+        return split;
+    }
+
+    private static boolean isNumber(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (!Character.isDigit(str.charAt(i))) {
+                return false;
+            }
+        }
+        return !str.isEmpty();
+    }
+
+    /**
+     * Runs the call allowing the DELAY policy to throw {@link Deferral} instead of blocking the thread.
+     */
+    static <T> T callDeferrable(AsyncResourceBase.Call<T> call) throws TwitterException {
+        deferrable.set(Boolean.TRUE);
+        try {
+            return call.call();
+        } finally {
+            deferrable.remove();
+        }
+    }
+
+    /**
+     * @param task        task
+     * @param delayMillis delay in milliseconds
+     */
+    static void schedule(Runnable task, long delayMillis) {
+        if (scheduler == null) {
+            synchronized (RateLimitGovernor.class) {
+                if (scheduler == null) {
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                        Thread thread = new Thread(runnable, "Twitter4J Rate Limit Scheduler");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.setRemoveOnCancelPolicy(true);
+                    scheduler = executor;
+                }
+            }
+        }
+        scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Thrown instead of blocking when the DELAY policy applies to an asynchronous request.
+     */
+    static final class Deferral extends TwitterException {
+        private static final long serialVersionUID = -3275604893301585117L;
+        private final long delayMillis;
+
+        Deferral(long delayMillis) {
+            super("deferred for " + delayMillis + "ms", (Throwable) null);
+            this.delayMillis = delayMillis;
+        }
+
+        long getDelayMillis() {
+            return delayMillis;
+        }
+    }
+
+    /**
+     * Rate limit window of an endpoint.
+     */
+    static final class Window implements java.io.Serializable {
+        private static final long serialVersionUID = 2815930482174617290L;
+        private int limit = -1;
+        private int remaining;
+        private long resetMillis;
+
+        /**
+         * @param now current time in milliseconds
+         * @return 0 if a call is reserved, or milliseconds until the window resets
+         */
+        synchronized long reserve(long now) {
+            if (limit == -1) {
+                return 0;
+            }
+            if (now >= resetMillis) {
+                // the window has reset. responses will tell the actual reset time
+                remaining = limit;
+                resetMillis = now + WINDOW_MILLIS;
+            }
+            if (remaining > 0) {
+                remaining--;
+                return 0;
+            }
+            return resetMillis - now;
+        }
+
+        /**
+         * @param now current time in milliseconds
+         * @return calls remaining in the window, Integer.MAX_VALUE if unknown
+         */
+        synchronized int available(long now) {
+            if (limit == -1) {
+                return Integer.MAX_VALUE;
+            }
+            return now >= resetMillis ? limit : remaining;
+        }
+
+        /**
+         * @param now current time in milliseconds
+         * @return milliseconds until a call is available
+         */
+        synchronized long waitMillis(long now) {
+            return available(now) > 0 ? 0 : resetMillis - now;
+        }
+
+        synchronized void update(RateLimitStatus status, boolean exceeded) {
+            long reset = status.getResetTimeInSeconds() * 1000L;
+            if (reset <= System.currentTimeMillis()) {
+                // response from a past window
+                return;
+            }
+            int remaining = exceeded ? 0 : status.getRemaining();
+            if (reset == resetMillis) {
+                // keep calls reserved by requests in flight
+                this.remaining = Math.min(this.remaining, remaining);
+            } else {
+                this.remaining = remaining;
+                this.resetMillis = reset;
+            }
+            this.limit = status.getLimit();
+        }
+
+        synchronized RateLimitStatus toRateLimitStatus() {
+            return new RateLimitStatusJSONImpl(limit, remaining, (int) (resetMillis / 1000));
+        }
+    }
+}
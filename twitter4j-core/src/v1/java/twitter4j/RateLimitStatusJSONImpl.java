@@ -18,10 +18,12 @@ package twitter4j;
 
 import twitter4j.v1.RateLimitStatus;
 
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A data class representing Twitter REST API's rate limit status
@@ -41,8 +43,7 @@ import java.util.Map;
         JSONObject json = res.asJSONObject();
         Map<String, RateLimitStatus> map = createRateLimitStatuses(json);
         if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
-            TwitterObjectFactory.registerJSONObject(map, json);
+            return TwitterObjectFactory.registerJSONObject(new RateLimitStatusMap(map), json);
         }
         return map;
     }
@@ -68,7 +69,7 @@ import java.util.Map;
         }
     }
 
-    private RateLimitStatusJSONImpl(int limit, int remaining, int resetTimeInSeconds) {
+    RateLimitStatusJSONImpl(int limit, int remaining, int resetTimeInSeconds) {
         this.limit = limit;
         this.remaining = remaining;
         this.resetTimeInSeconds = resetTimeInSeconds;
@@ -168,4 +169,47 @@ import java.util.Map;
                 '}';
     }
 
+    /**
+     * unmodifiable map of rate limit statuses retaining the raw JSON form
+     */
+    private static final class RateLimitStatusMap extends AbstractMap<String, RateLimitStatus>
+            implements RawJSONHolder, java.io.Serializable {
+        private static final long serialVersionUID = -3016640257931724105L;
+        private final Map<String, RateLimitStatus> map;
+        private transient Object rawJSON;
+
+        RateLimitStatusMap(Map<String, RateLimitStatus> map) {
+            this.map = map;
+        }
+
+        @Override
+        public RateLimitStatus get(Object key) {
+            return map.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Set<Entry<String, RateLimitStatus>> entrySet() {
+            return map.entrySet();
+        }
+
+        @Override
+        public Object getRawJSONForm() {
+            return rawJSON;
+        }
+
+        @Override
+        public void setRawJSONForm(Object rawJSON) {
+            this.rawJSON = rawJSON;
+        }
+    }
 }
@@ -0,0 +1,369 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.management.ResponseCacheMBean;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static twitter4j.HttpResponseCode.NOT_MODIFIED;
+import static twitter4j.HttpResponseCode.OK;
+
+/**
+ * Caches responses of GET requests to the REST API for a time to live configured per endpoint.<br>
+ * Entries are keyed by the request URL, parameters and credentials, and the least recently used entry is evicted when
+ * the cache is full. An expired entry whose response carried an ETag or Last-Modified header is revalidated with a
+ * conditional request, and served again when the server answers 304 Not Modified.
+ * <pre>
+ * ResponseCache cache = ResponseCache.of(1000)
+ *         .ttl("/help/languages", 86400)
+ *         .ttl("/trends/available", 3600)
+ *         .ttl("/users/show", 60);
+ * Twitter twitter = Twitter.newBuilder().responseCache(cache).build();
+ * </pre>
+ * A cache can be shared by multiple Twitter instances.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public final class ResponseCache implements ResponseCacheMBean, java.io.Serializable {
+    private static final long serialVersionUID = -2604186394739525071L;
+    private static final Logger logger = Logger.getLogger();
+    private static final AtomicInteger count = new AtomicInteger();
+
+    private final int maxEntries;
+    /**
+     * time to live in seconds keyed by endpoint
+     */
+    private final Map<String, Integer> ttls = new ConcurrentHashMap<>();
+    private final transient Map<Key, Entry> entries;
+    private final transient LongAdder hits = new LongAdder();
+    private final transient LongAdder revalidated = new LongAdder();
+    private final transient LongAdder misses = new LongAdder();
+    private final transient LongAdder evictions = new LongAdder();
+    private transient ObjectName objectName;
+
+    private ResponseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<Key, ResponseCache.Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 6024930163212340874L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ResponseCache.Entry> eldest) {
+                if (size() > ResponseCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @param maxEntries maximum number of cached responses
+     * @return response cache caching no endpoint until {@link #ttl(String, int)} is called
+     */
+    public static ResponseCache of(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        return new ResponseCache(maxEntries);
+    }
+
+    /**
+     * Enables caching of the endpoint.
+     *
+     * @param endpoint   endpoint in the form of rate limit status keys, e.g. "/help/languages" or "/users/show/:id"
+     * @param ttlSeconds how long a response is served without asking the server
+     * @return this instance
+     */
+    public ResponseCache ttl(String endpoint, int ttlSeconds) {
+        if (ttlSeconds < 0) {
+            throw new IllegalArgumentException("ttlSeconds must not be negative: " + ttlSeconds);
+        }
+        ttls.put(RateLimitGovernor.normalize(endpoint.trim()), ttlSeconds);
+        return this;
+    }
+
+    /**
+     * @return time to live in seconds keyed by cached endpoint
+     */
+    public Map<String, Integer> getTTLs() {
+        return Collections.unmodifiableMap(ttls);
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getRevalidatedCount() {
+        return revalidated.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    @Override
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    @Override
+    public void reset() {
+        hits.reset();
+        revalidated.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * @param endpoint endpoint, or null for urls outside the REST API
+     * @return true if responses of the endpoint are cached
+     */
+    /*package*/ boolean isEnabled(String endpoint) {
+        return endpoint != null && ttls.containsKey(endpoint);
+    }
+
+    /**
+     * sends a GET request with the given additional request headers
+     */
+    @FunctionalInterface
+    interface Fetch {
+        HttpResponse fetch(Map<String, String> conditionalHeaders) throws TwitterException;
+    }
+
+    /**
+     * Returns the cached response unless expired. Otherwise sends the request, conditional if the expired entry has
+     * validators, and caches the response.
+     *
+     * @param endpoint      endpoint
+     * @param url           request url
+     * @param params        request parameters
+     * @param authorization authorization
+     * @param fetch         sends the request
+     * @return response
+     * @throws TwitterException when the request fails
+     */
+    /*package*/ HttpResponse get(String endpoint, String url, HttpParameter[] params, Authorization authorization,
+                                 Fetch fetch) throws TwitterException {
+        Key key = new Key(url, params, authorization);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        long now = System.nanoTime();
+        if (entry != null && now - entry.expiresAt < 0) {
+            hits.increment();
+            return entry.response;
+        }
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttls.getOrDefault(endpoint, 0));
+        Map<String, String> conditionalHeaders = entry != null ? entry.conditionalHeaders() : null;
+        HttpResponse res = fetch.fetch(conditionalHeaders);
+        if (res.getStatusCode() == NOT_MODIFIED) {
+            // drain the empty body
+            res.asString();
+            if (entry != null && conditionalHeaders != null) {
+                revalidated.increment();
+                entry.expiresAt = now + ttlNanos;
+                synchronized (this) {
+                    entries.put(key, entry);
+                }
+                return entry.response;
+            }
+            // the entry was evicted or replaced while revalidating
+            res = fetch.fetch(null);
+        }
+        misses.increment();
+        if (res.getStatusCode() == OK) {
+            Entry newEntry = new Entry(new CachedResponse(res, res.asString()), now + ttlNanos);
+            synchronized (this) {
+                entries.put(key, newEntry);
+            }
+            return newEntry.response;
+        }
+        return res;
+    }
+
+    /**
+     * registers this instance to the platform MBeanServer as twitter4j.mbean:type=ResponseCache,name=[n]
+     */
+    synchronized void register() {
+        if (objectName != null) {
+            return;
+        }
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName oName = new ObjectName("twitter4j.mbean:type=ResponseCache,name=" + count.incrementAndGet());
+            mbs.registerMBean(new StandardMBean(this, ResponseCacheMBean.class), oName);
+            objectName = oName;
+        } catch (InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException |
+                 MalformedObjectNameException e) {
+            logger.error(e.getMessage());
+        }
+    }
+
+    private Object readResolve() {
+        ResponseCache cache = new ResponseCache(maxEntries);
+        cache.ttls.putAll(ttls);
+        return cache;
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCache{" +
+                "maxEntries=" + maxEntries +
+                ", ttls=" + ttls +
+                ", hits=" + hits +
+                ", revalidated=" + revalidated +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+
+    private static final class Key {
+        private final String url;
+        private final HttpParameter[] params;
+        private final Authorization authorization;
+        private final int hashCode;
+
+        Key(String url, HttpParameter[] params, Authorization authorization) {
+            this.url = url;
+            this.params = params;
+            this.authorization = authorization;
+            this.hashCode = 31 * (31 * url.hashCode() + Arrays.hashCode(params)) + Objects.hashCode(authorization);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return url.equals(key.url) && Arrays.equals(params, key.params) && Objects.equals(authorization, key.authorization);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Entry {
+        private final CachedResponse response;
+        private volatile long expiresAt;
+
+        Entry(CachedResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * @return If-None-Match and If-Modified-Since headers, or null if the response has no validator
+         */
+        Map<String, String> conditionalHeaders() {
+            String eTag = response.getResponseHeader("ETag");
+            String lastModified = response.getResponseHeader("Last-Modified");
+            if (eTag == null && lastModified == null) {
+                return null;
+            }
+            Map<String, String> headers = new HashMap<>(4);
+            if (eTag != null) {
+                headers.put("If-None-Match", eTag);
+            }
+            if (lastModified != null) {
+                headers.put("If-Modified-Since", lastModified);
+            }
+            return headers;
+        }
+    }
+
+    /**
+     * Response whose body is held in memory, shared by the requests answered from the cache.
+     */
+    private static final class CachedResponse extends HttpResponse {
+        private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        CachedResponse(HttpResponse res, String body) {
+            super(false);
+            this.statusCode = res.getStatusCode();
+            this.responseAsString = body;
+            Map<String, List<String>> fields = res.getResponseHeaderFields();
+            if (fields != null) {
+                for (Map.Entry<String, List<String>> field : fields.entrySet()) {
+                    // the status line is keyed by null
+                    if (field.getKey() != null) {
+                        headers.put(field.getKey(), field.getValue());
+                    }
+                }
+            }
+        }
+
+        @Override
+        String getResponseHeader(String name) {
+            List<String> values = headers.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+
+        @Override
+        Map<String, List<String>> getResponseHeaderFields() {
+            return headers;
+        }
+
+        @Override
+        void disconnect() {
+        }
+    }
+}
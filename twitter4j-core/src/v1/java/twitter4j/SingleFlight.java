@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collapses identical GET requests in flight at the same time into one network call.<br>
+ * Requests to the enabled endpoints with the same URL, parameters and authorization wait for the request already in
+ * flight and share its response, instead of sending the same request again. Each waiter binds its own result from the
+ * shared response body.
+ * <pre>
+ * SingleFlight singleFlight = SingleFlight.of("/help/configuration", "/trends/place", "/users/show");
+ * Twitter twitter = Twitter.newBuilder().singleFlight(singleFlight).build();
+ * </pre>
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public final class SingleFlight implements java.io.Serializable {
+    private static final long serialVersionUID = 4209364725107712839L;
+    /**
+     * collapsed request count keyed by enabled endpoint
+     */
+    private final Map<String, AtomicLong> collapsed;
+    private final transient Map<Key, CompletableFuture<HttpResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private SingleFlight(Map<String, AtomicLong> collapsed) {
+        this.collapsed = collapsed;
+    }
+
+    /**
+     * @param endpoints endpoints in the form of rate limit status keys, e.g. "/help/configuration" or "/users/show/:id"
+     * @return single flight for the endpoints
+     */
+    public static SingleFlight of(String... endpoints) {
+        Map<String, AtomicLong> collapsed = new LinkedHashMap<>();
+        for (String endpoint : endpoints) {
+            collapsed.put(RateLimitGovernor.normalize(endpoint.trim()), new AtomicLong());
+        }
+        return new SingleFlight(Collections.unmodifiableMap(collapsed));
+    }
+
+    /**
+     * @return enabled endpoints
+     */
+    public Set<String> getEndpoints() {
+        return collapsed.keySet();
+    }
+
+    /**
+     * @return number of requests which shared the response of a request already in flight, over all endpoints
+     */
+    public long getCollapsedCount() {
+        long count = 0;
+        for (AtomicLong value : collapsed.values()) {
+            count += value.get();
+        }
+        return count;
+    }
+
+    /**
+     * @param endpoint endpoint
+     * @return number of requests to the endpoint which shared the response of a request already in flight
+     */
+    public long getCollapsedCount(String endpoint) {
+        AtomicLong count = collapsed.get(RateLimitGovernor.normalize(endpoint));
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @param endpoint endpoint, or null for urls outside the REST API
+     * @return true if requests to the endpoint are collapsed
+     */
+    /*package*/ boolean isEnabled(String endpoint) {
+        return endpoint != null && collapsed.containsKey(endpoint);
+    }
+
+    /**
+     * Sends the request unless an identical request is in flight, in which case its response is shared.
+     *
+     * @param endpoint      endpoint
+     * @param url           request url
+     * @param params        request parameters
+     * @param authorization authorization
+     * @param headers       additional request headers, or null
+     * @param call          sends the request
+     * @return response whose body is buffered, so that it can be read by all waiters
+     * @throws TwitterException when the request fails
+     */
+    /*package*/ HttpResponse execute(String endpoint, String url, HttpParameter[] params, Authorization authorization,
+                                     Map<String, String> headers, AsyncResourceBase.Call<HttpResponse> call)
+            throws TwitterException {
+        Key key = new Key(url, params, authorization, headers);
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        CompletableFuture<HttpResponse> existing;
+        while ((existing = inFlight.putIfAbsent(key, future)) != null) {
+            try {
+                HttpResponse res = existing.join();
+                collapsed.get(endpoint).incrementAndGet();
+                return res;
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof RateLimitGovernor.Deferral)) {
+                    collapsed.get(endpoint).incrementAndGet();
+                    throw (TwitterException) e.getCause();
+                }
+                // the request in flight was deferred by the rate limit governor before being sent. try again
+            }
+        }
+        try {
+            HttpResponse res = call.call();
+            // read the body once, as the stream can't be read by multiple waiters
+            res.asString();
+            future.complete(res);
+            return res;
+        } catch (TwitterException te) {
+            future.completeExceptionally(te);
+            throw te;
+        } catch (Throwable t) {
+            // releases the followers on errors as well
+            future.completeExceptionally(new TwitterException(t.getMessage(), t));
+            throw t;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SingleFlight{" +
+                "collapsed=" + collapsed +
+                '}';
+    }
+
+    private Object readResolve() {
+        return new SingleFlight(collapsed);
+    }
+
+    private static final class Key {
+        private final String url;
+        private final HttpParameter[] params;
+        private final Authorization authorization;
+        private final Map<String, String> headers;
+        private final int hashCode;
+
+        Key(String url, HttpParameter[] params, Authorization authorization, Map<String, String> headers) {
+            this.url = url;
+            this.params = params;
+            this.authorization = authorization;
+            this.headers = headers;
+            this.hashCode = 31 * (31 * url.hashCode() + Arrays.hashCode(params)) + Objects.hashCode(headers);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            // requests made with different credentials are never shared
+            return authorization == key.authorization && url.equals(key.url) && Arrays.equals(params, key.params)
+                    && Objects.equals(headers, key.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
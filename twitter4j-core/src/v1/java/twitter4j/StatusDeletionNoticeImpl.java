@@ -25,11 +25,12 @@ import twitter4j.v1.StatusDeletionNotice;
  * @author Yusuke Yamamoto - yusuke at mac.com
  * @since Twitter4J 2.1.2
  */
-class StatusDeletionNoticeImpl implements StatusDeletionNotice, java.io.Serializable {
+class StatusDeletionNoticeImpl implements StatusDeletionNotice, RawJSONHolder, java.io.Serializable {
 
     private static final long serialVersionUID = 9144204870473786368L;
     private final long statusId;
     private final long userId;
+    private transient Object rawJSON;
 
     /*package*/ StatusDeletionNoticeImpl(JSONObject status) {
         this.statusId = ParseUtil.getLong("id", status);
@@ -57,6 +58,16 @@ class StatusDeletionNoticeImpl implements StatusDeletionNotice, java.io.Serializ
         return (int) delta;
     }
 
+    @Override
+    public Object getRawJSONForm() {
+        return rawJSON;
+    }
+
+    @Override
+    public void setRawJSONForm(Object rawJSON) {
+        this.rawJSON = rawJSON;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -67,27 +67,44 @@ import static twitter4j.ParseUtil.getDate;
     private long quotedStatusId = -1L;
     private URLEntity quotedStatusPermalink;
 
-    /*package*/StatusJSONImpl(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
+    /*package*/StatusJSONImpl(HttpResponse res, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         super(res);
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, projection);
         if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, json);
         }
     }
 
-    /*package*/StatusJSONImpl(JSONObject json, boolean jsonStoreEnabled) throws TwitterException {
+    /*package*/StatusJSONImpl(JSONObject json, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         super();
-        init(json);
+        init(json, projection);
         if (jsonStoreEnabled) {
             TwitterObjectFactory.registerJSONObject(this, json);
         }
     }
 
     /*package*/ StatusJSONImpl(JSONObject json) throws TwitterException {
+        this(json, FieldProjection.ALL);
+    }
+
+    /*package*/ StatusJSONImpl(JSONObject json, FieldProjection projection) throws TwitterException {
+        super();
+        init(json, projection);
+    }
+
+    /*package*/ StatusJSONImpl(HttpResponse res, JSONPullParser parser, FieldProjection projection) throws TwitterException {
+        super(res);
+        init(parser, projection);
+    }
+
+    /*package*/ StatusJSONImpl(JSONPullParser parser) throws TwitterException {
+        this(parser, FieldProjection.ALL);
+    }
+
+    /*package*/ StatusJSONImpl(JSONPullParser parser, FieldProjection projection) throws TwitterException {
         super();
-        init(json);
+        init(parser, projection);
     }
 
     /* Only for serialization purposes. */
@@ -95,9 +112,14 @@ import static twitter4j.ParseUtil.getDate;
 
     }
 
-    private void init(JSONObject json) throws TwitterException {
+    private void init(JSONObject json, FieldProjection projection) throws TwitterException {
+        try {
+            json = projection.projectStatus(json);
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
         id = ParseUtil.getLong("id", json);
-        source = ParseUtil.getUnescapedString("source", json);
+        source = projection.pooled("status.source", ParseUtil.getUnescapedString("source", json));
         createdAt = getDate("created_at", json);
         isTruncated = ParseUtil.getBoolean("truncated", json);
         inReplyToStatusId = ParseUtil.getLong("in_reply_to_status_id", json);
@@ -110,91 +132,227 @@ import static twitter4j.ParseUtil.getDate;
         isPossiblySensitive = ParseUtil.getBoolean("possibly_sensitive", json);
         try {
             if (!json.isNull("user")) {
-                user = new UserJSONImpl(json.getJSONObject("user"));
-            }
-            geoLocation = JSONImplFactory.createGeoLocation(json);
-            if (!json.isNull("place")) {
-                place = new PlaceJSONImpl(json.getJSONObject("place"));
+                user = new UserJSONImpl(json.getJSONObject("user"), projection);
             }
-
             if (!json.isNull("retweeted_status")) {
-                retweetedStatus = new StatusJSONImpl(json.getJSONObject("retweeted_status"));
+                retweetedStatus = new StatusJSONImpl(json.getJSONObject("retweeted_status"), projection);
             }
-            if (!json.isNull("contributors")) {
-                JSONArray contributorsArray = json.getJSONArray("contributors");
-                contributorsIDs = new long[contributorsArray.length()];
-                for (int i = 0; i < contributorsArray.length(); i++) {
-                    contributorsIDs[i] = Long.parseLong(contributorsArray.getString(i));
+            initStructures(json, projection);
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
+    /**
+     * Binds the status in one pass over the token stream, dispatching on field names.<br>
+     * Scalars are read straight into the fields and nested users and statuses are bound recursively. Entities and
+     * the other structured members are collected and resolved afterwards, as the text depends on the entities which may
+     * come later in the stream.
+     *
+     * @param parser     parser positioned at the beginning of a status object
+     * @param projection members to bind, the others are skipped
+     * @throws TwitterException when the status cannot be bound
+     */
+    private void init(JSONPullParser parser, FieldProjection projection) throws TwitterException {
+        try {
+            initStructures(bind(parser, projection), projection);
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
+    /**
+     * Binds the scalars and nested objects of the status.
+     *
+     * @return the structured members, to be resolved by {@link #initStructures(JSONObject, FieldProjection)}
+     */
+    private JSONObject bind(JSONPullParser parser, FieldProjection projection) throws TwitterException {
+        // defaults for absent members, as the ParseUtil getters return
+        id = -1L;
+        inReplyToStatusId = -1L;
+        inReplyToUserId = -1L;
+        retweetCount = -1L;
+        favoriteCount = -1;
+        try {
+            JSONObject structures = new JSONObject();
+            parser.beginObject();
+            while (parser.hasNext()) {
+                String name = parser.nextName();
+                if (!projection.includesStatusField(name)) {
+                    parser.skipValue();
+                    continue;
+                }
+                switch (name) {
+                    case "id":
+                        id = ParseUtil.getLong(parser);
+                        break;
+                    case "source":
+                        source = projection.pooled("status.source", ParseUtil.getUnescapedString(parser));
+                        break;
+                    case "created_at":
+                        createdAt = ParseUtil.getDate(parser, ParseUtil.formatterEEEYYYY);
+                        break;
+                    case "truncated":
+                        isTruncated = ParseUtil.getBoolean(parser);
+                        break;
+                    case "in_reply_to_status_id":
+                        inReplyToStatusId = ParseUtil.getLong(parser);
+                        break;
+                    case "in_reply_to_user_id":
+                        inReplyToUserId = ParseUtil.getLong(parser);
+                        break;
+                    case "favorited":
+                        isFavorited = ParseUtil.getBoolean(parser);
+                        break;
+                    case "retweeted":
+                        isRetweeted = ParseUtil.getBoolean(parser);
+                        break;
+                    case "in_reply_to_screen_name":
+                        inReplyToScreenName = ParseUtil.getUnescapedString(parser);
+                        break;
+                    case "retweet_count":
+                        retweetCount = ParseUtil.getLong(parser);
+                        break;
+                    case "favorite_count":
+                        favoriteCount = ParseUtil.getInt(parser);
+                        break;
+                    case "possibly_sensitive":
+                        isPossiblySensitive = ParseUtil.getBoolean(parser);
+                        break;
+                    case "lang":
+                        lang = projection.pooled("status.lang", ParseUtil.getUnescapedString(parser));
+                        break;
+                    case "quoted_status_id":
+                        quotedStatusId = ParseUtil.getLong(parser);
+                        break;
+                    case "user":
+                        if (parser.peek() == JSONPullParser.Token.NULL) {
+                            parser.nextNull();
+                        } else {
+                            user = new UserJSONImpl(parser, projection);
+                        }
+                        break;
+                    case "retweeted_status":
+                        if (parser.peek() == JSONPullParser.Token.NULL) {
+                            parser.nextNull();
+                        } else {
+                            retweetedStatus = new StatusJSONImpl(parser, projection);
+                        }
+                        break;
+                    case "quoted_status":
+                        if (parser.peek() == JSONPullParser.Token.NULL) {
+                            parser.nextNull();
+                        } else {
+                            quotedStatus = new StatusJSONImpl(parser, projection);
+                        }
+                        break;
+                    case "withheld_in_countries":
+                        withheldInCountries = ParseUtil.getStringArray(parser);
+                        break;
+                    case "sender":
+                    case "text":
+                    case "full_text":
+                    case "entities":
+                    case "extended_entities":
+                    case "extended_tweet":
+                    case "quoted_status_permalink":
+                    case "display_text_range":
+                    case "coordinates":
+                    case "place":
+                    case "contributors":
+                    case "current_user_retweet":
+                    case "scopes":
+                        structures.put(name, parser.nextValue());
+                        break;
+                    default:
+                        parser.skipValue();
                 }
-            } else {
-                contributorsIDs = new long[0];
             }
+            parser.endObject();
+            return structures;
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
 
-            collectEntities(json);
-            mergeExtendedEntities(json);
-            if (!json.isNull("quoted_status")) {
-                quotedStatus = new StatusJSONImpl(json.getJSONObject("quoted_status"));
-            }
-            if (!json.isNull("quoted_status_id")) {
-                quotedStatusId = ParseUtil.getLong("quoted_status_id", json);
-            }
-            if (!json.isNull("display_text_range")) {
-                JSONArray indicesArray = json.getJSONArray("display_text_range");
-                displayTextRangeStart = indicesArray.getInt(0);
-                displayTextRangeEnd = indicesArray.getInt(1);
-            }
+    private void initStructures(JSONObject json, FieldProjection projection) throws JSONException, TwitterException {
+        geoLocation = JSONImplFactory.createGeoLocation(json);
+        if (!json.isNull("place")) {
+            place = new PlaceJSONImpl(json.getJSONObject("place"), projection);
+        }
 
-            userMentionEntities = userMentionEntities == null ? new UserMentionEntity[0] : userMentionEntities;
-            urlEntities = urlEntities == null ? new URLEntity[0] : urlEntities;
-            hashtagEntities = hashtagEntities == null ? new HashtagEntity[0] : hashtagEntities;
-            symbolEntities = symbolEntities == null ? new SymbolEntity[0] : symbolEntities;
-            mediaEntities = mediaEntities == null ? new MediaEntity[0] : mediaEntities;
-            if (!json.isNull("text")) {
-                text = HTMLEntity.unescapeAndSlideEntityIncdices(json.getString("text"), userMentionEntities,
-                        urlEntities, hashtagEntities, mediaEntities);
-            }
-            if (!json.isNull("full_text")) {
-                text = HTMLEntity.unescapeAndSlideEntityIncdices(json.getString("full_text"), userMentionEntities,
-                        urlEntities, hashtagEntities, mediaEntities);
+        if (!json.isNull("contributors")) {
+            JSONArray contributorsArray = json.getJSONArray("contributors");
+            contributorsIDs = new long[contributorsArray.length()];
+            for (int i = 0; i < contributorsArray.length(); i++) {
+                contributorsIDs[i] = Long.parseLong(contributorsArray.getString(i));
             }
+        } else {
+            contributorsIDs = new long[0];
+        }
 
-            if (!json.isNull("extended_tweet")) {
-                mergeExtendedTweet(json.getJSONObject("extended_tweet"));
-            }
+        collectEntities(json, projection);
+        mergeExtendedEntities(json, projection);
+        if (!json.isNull("quoted_status")) {
+            quotedStatus = new StatusJSONImpl(json.getJSONObject("quoted_status"), projection);
+        }
+        if (!json.isNull("quoted_status_id")) {
+            quotedStatusId = ParseUtil.getLong("quoted_status_id", json);
+        }
+        if (!json.isNull("display_text_range")) {
+            JSONArray indicesArray = json.getJSONArray("display_text_range");
+            displayTextRangeStart = indicesArray.getInt(0);
+            displayTextRangeEnd = indicesArray.getInt(1);
+        }
 
-            if (!json.isNull("current_user_retweet")) {
-                currentUserRetweetId = json.getJSONObject("current_user_retweet").getLong("id");
-            }
-            if (!json.isNull("lang")) {
-                lang = ParseUtil.getUnescapedString("lang", json);
-            }
+        userMentionEntities = userMentionEntities == null ? new UserMentionEntity[0] : userMentionEntities;
+        urlEntities = urlEntities == null ? new URLEntity[0] : urlEntities;
+        hashtagEntities = hashtagEntities == null ? new HashtagEntity[0] : hashtagEntities;
+        symbolEntities = symbolEntities == null ? new SymbolEntity[0] : symbolEntities;
+        mediaEntities = mediaEntities == null ? new MediaEntity[0] : mediaEntities;
+        if (!json.isNull("text")) {
+            text = HTMLEntity.unescapeAndSlideEntityIncdices(json.getString("text"), userMentionEntities,
+                    urlEntities, hashtagEntities, mediaEntities);
+        }
+        if (!json.isNull("full_text")) {
+            text = HTMLEntity.unescapeAndSlideEntityIncdices(json.getString("full_text"), userMentionEntities,
+                    urlEntities, hashtagEntities, mediaEntities);
+        }
+
+        if (!json.isNull("extended_tweet")) {
+            mergeExtendedTweet(json.getJSONObject("extended_tweet"), projection);
+        }
 
-            if (!json.isNull("scopes")) {
-                JSONObject scopesJson = json.getJSONObject("scopes");
-                if (!scopesJson.isNull("place_ids")) {
-                    JSONArray placeIdsArray = scopesJson.getJSONArray("place_ids");
-                    int len = placeIdsArray.length();
-                    String[] placeIds = new String[len];
-                    for (int i = 0; i < len; i++) {
-                        placeIds[i] = placeIdsArray.getString(i);
-                    }
-                    scopes = new ScopesImpl(placeIds);
+        if (!json.isNull("current_user_retweet")) {
+            currentUserRetweetId = json.getJSONObject("current_user_retweet").getLong("id");
+        }
+        if (!json.isNull("lang")) {
+            lang = projection.pooled("status.lang", ParseUtil.getUnescapedString("lang", json));
+        }
+
+        if (!json.isNull("scopes")) {
+            JSONObject scopesJson = json.getJSONObject("scopes");
+            if (!scopesJson.isNull("place_ids")) {
+                JSONArray placeIdsArray = scopesJson.getJSONArray("place_ids");
+                int len = placeIdsArray.length();
+                String[] placeIds = new String[len];
+                for (int i = 0; i < len; i++) {
+                    placeIds[i] = placeIdsArray.getString(i);
                 }
+                scopes = new ScopesImpl(placeIds);
             }
-            if (!json.isNull("withheld_in_countries")) {
-                JSONArray withheld_in_countries = json.getJSONArray("withheld_in_countries");
-                int length = withheld_in_countries.length();
-                withheldInCountries = new String[length];
-                for (int i = 0; i < length; i++) {
-                    withheldInCountries[i] = withheld_in_countries.getString(i);
-                }
+        }
+        if (!json.isNull("withheld_in_countries")) {
+            JSONArray withheld_in_countries = json.getJSONArray("withheld_in_countries");
+            int length = withheld_in_countries.length();
+            withheldInCountries = new String[length];
+            for (int i = 0; i < length; i++) {
+                withheldInCountries[i] = withheld_in_countries.getString(i);
             }
-        } catch (JSONException jsone) {
-            throw new TwitterException(jsone);
         }
     }
 
-    private void collectEntities(JSONObject json) throws JSONException, TwitterException {
+    private void collectEntities(JSONObject json, FieldProjection projection) throws JSONException, TwitterException {
         if (!json.isNull("entities")) {
             JSONObject entities = json.getJSONObject("entities");
             userMentionEntities = EntitiesParseUtil.getUserMentions(entities);
@@ -204,7 +362,7 @@ import static twitter4j.ParseUtil.getDate;
             mediaEntities = EntitiesParseUtil.getMedia(entities);
         }
         if (!json.isNull("quoted_status")) {
-            quotedStatus = new StatusJSONImpl(json.getJSONObject("quoted_status"));
+            quotedStatus = new StatusJSONImpl(json.getJSONObject("quoted_status"), projection);
         }
         if (!json.isNull("quoted_status_id")) {
             quotedStatusId = ParseUtil.getLong("quoted_status_id", json);
@@ -214,7 +372,7 @@ import static twitter4j.ParseUtil.getDate;
         }
     }
 
-    private void mergeExtendedEntities(JSONObject json) throws JSONException, TwitterException {
+    private void mergeExtendedEntities(JSONObject json, FieldProjection projection) throws JSONException, TwitterException {
         if (!json.isNull("extended_entities")) {
             JSONObject extendedEntities = json.getJSONObject("extended_entities");
             if (!extendedEntities.isNull("media")) {
@@ -222,19 +380,19 @@ import static twitter4j.ParseUtil.getDate;
                 final int len = mediaArray.length();
                 mediaEntities = new MediaEntity[len];
                 for (int i = 0; i < len; i++) {
-                    mediaEntities[i] = new MediaEntityJSONImpl(mediaArray.getJSONObject(i));
+                    mediaEntities[i] = new MediaEntityJSONImpl(mediaArray.getJSONObject(i), projection);
                 }
             }
         }
     }
 
-    private void mergeExtendedTweet(JSONObject extendedTweet) throws TwitterException {
+    private void mergeExtendedTweet(JSONObject extendedTweet, FieldProjection projection) throws TwitterException {
         try {
             JSONArray indicesArray = extendedTweet.getJSONArray("display_text_range");
             displayTextRangeStart = indicesArray.getInt(0);
             displayTextRangeEnd = indicesArray.getInt(1);
 
-            collectEntities(extendedTweet);
+            collectEntities(extendedTweet, projection);
 
             userMentionEntities = userMentionEntities == null ? new UserMentionEntity[0] : userMentionEntities;
             urlEntities = urlEntities == null ? new URLEntity[0] : urlEntities;
@@ -432,17 +590,14 @@ import static twitter4j.ParseUtil.getDate;
     }
 
     /*package*/
-    static ResponseList<Status> createStatusList(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
+    static ResponseList<Status> createStatusList(HttpResponse res, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         try {
-            if (jsonStoreEnabled) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONArray list = res.asJSONArray();
             int size = list.length();
             ResponseList<Status> statuses = new ResponseListImpl<>(size, res);
             for (int i = 0; i < size; i++) {
                 JSONObject json = list.getJSONObject(i);
-                Status status = new StatusJSONImpl(json);
+                Status status = new StatusJSONImpl(json, projection);
                 if (jsonStoreEnabled) {
                     TwitterObjectFactory.registerJSONObject(status, json);
                 }
@@ -457,6 +612,64 @@ import static twitter4j.ParseUtil.getDate;
         }
     }
 
+    /*package*/
+    static Status createStatus(HttpResponse res, FieldProjection projection) throws TwitterException {
+        return res.asJSON(parser -> new StatusJSONImpl(res, parser, projection));
+    }
+
+    /**
+     * Binds a stream message if it is a status, as {@link JSONObjectType#determine(JSONObject)} would tell.
+     *
+     * @param parser parser positioned at the beginning of a message
+     * @return bound status, or null if the message is not a status
+     * @throws TwitterException when the message cannot be bound
+     */
+    /*package*/
+    static Status bindStatus(JSONPullParser parser) throws TwitterException {
+        StatusJSONImpl status = new StatusJSONImpl();
+        JSONObject structures = status.bind(parser, FieldProjection.ALL);
+        if (!structures.isNull("sender") || structures.isNull("text")) {
+            return null;
+        }
+        try {
+            status.initStructures(structures, FieldProjection.ALL);
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+        return status;
+    }
+
+    /*package*/
+    static ResponseList<Status> createStatusList(HttpResponse res, FieldProjection projection) throws TwitterException {
+        return res.asJSON(parser -> {
+            ResponseList<Status> statuses = new ResponseListImpl<>(res);
+            parser.beginArray();
+            while (parser.hasNext()) {
+                statuses.add(new StatusJSONImpl(parser, projection));
+            }
+            parser.endArray();
+            return statuses;
+        });
+    }
+
+    /**
+     * Replaces the users of this status, and of its retweeted and quoted statuses, with their canonical instances.
+     *
+     * @param userCache user cache
+     * @since Twitter4J 4.1.3
+     */
+    /*package*/ void canonicalizeUsers(UserCache userCache) {
+        if (user != null) {
+            user = userCache.canonical(user);
+        }
+        if (retweetedStatus instanceof StatusJSONImpl) {
+            ((StatusJSONImpl) retweetedStatus).canonicalizeUsers(userCache);
+        }
+        if (quotedStatus instanceof StatusJSONImpl) {
+            ((StatusJSONImpl) quotedStatus).canonicalizeUsers(userCache);
+        }
+    }
+
     @Override
     public int hashCode() {
         return (int) id;
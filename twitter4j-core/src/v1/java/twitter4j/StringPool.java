@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.management.StringPoolMBean;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonicalizes the values of members repeating the same few strings across statuses, users, places and media, e.g.
+ * the language of statuses or the profile colors of users, so that parsed objects share one String instance per
+ * distinct value instead of holding a copy each.<br>
+ * Members are named as in the JSON responses, qualified with the type: "status.", "user.", "place." or "media.".
+ * By default the following members are pooled:
+ * <ul>
+ *     <li>status.lang, status.source</li>
+ *     <li>user.lang, user.time_zone, user.profile_background_color, user.profile_text_color,
+ *     user.profile_link_color, user.profile_sidebar_fill_color, user.profile_sidebar_border_color</li>
+ *     <li>place.country_code</li>
+ *     <li>media.type</li>
+ * </ul>
+ * Once the pool is full, values not pooled yet are kept as parsed.
+ * <pre>
+ * StringPool stringPool = StringPool.of(10_000).fields("status.lang", "user.lang", "user.time_zone");
+ * Twitter twitter = Twitter.newBuilder().stringPool(stringPool).build();
+ * </pre>
+ * A pool can be shared by multiple Twitter instances.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public final class StringPool implements StringPoolMBean, java.io.Serializable {
+    private static final long serialVersionUID = -6493120742584092377L;
+    private static final Logger logger = Logger.getLogger();
+    private static final AtomicInteger count = new AtomicInteger();
+    private static final Set<String> DEFAULT_FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+            "status.lang", "status.source",
+            "user.lang", "user.time_zone", "user.profile_background_color", "user.profile_text_color",
+            "user.profile_link_color", "user.profile_sidebar_fill_color", "user.profile_sidebar_border_color",
+            "place.country_code",
+            "media.type")));
+
+    private final int maxEntries;
+    private volatile Set<String> fields = DEFAULT_FIELDS;
+    private final transient ConcurrentMap<String, String> values = new ConcurrentHashMap<>();
+    private final transient AtomicInteger size = new AtomicInteger();
+    private final transient LongAdder hits = new LongAdder();
+    private final transient LongAdder misses = new LongAdder();
+    private transient ObjectName objectName;
+
+    private StringPool(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param maxEntries maximum number of pooled values
+     * @return string pool pooling the default members
+     */
+    public static StringPool of(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        return new StringPool(maxEntries);
+    }
+
+    /**
+     * @param fields members to pool, e.g. "status.lang" or "user.time_zone"
+     * @return this instance
+     */
+    public StringPool fields(String... fields) {
+        Set<String> set = new LinkedHashSet<>();
+        for (String field : fields) {
+            set.add(field.trim());
+        }
+        this.fields = Collections.unmodifiableSet(set);
+        return this;
+    }
+
+    /**
+     * @return pooled members
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Removes all pooled values.
+     */
+    public synchronized void clear() {
+        values.clear();
+        size.set(0);
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        long hits = getHitCount();
+        long lookups = hits + getMissCount();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public int getSize() {
+        return size.get();
+    }
+
+    @Override
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    @Override
+    public void reset() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * @param field member qualified with the type, e.g. "status.lang"
+     * @param value parsed value
+     * @return the pooled instance equal to the value if the member is pooled, otherwise the value
+     */
+    /*package*/ String pooled(String field, String value) {
+        if (value == null || !fields.contains(field)) {
+            return value;
+        }
+        String pooled = values.get(value);
+        if (pooled != null) {
+            hits.increment();
+            return pooled;
+        }
+        misses.increment();
+        if (size.incrementAndGet() > maxEntries) {
+            size.decrementAndGet();
+            return value;
+        }
+        pooled = values.putIfAbsent(value, value);
+        if (pooled != null) {
+            // pooled by another thread meanwhile
+            size.decrementAndGet();
+            return pooled;
+        }
+        return value;
+    }
+
+    /**
+     * registers this instance to the platform MBeanServer as twitter4j.mbean:type=StringPool,name=[n]
+     */
+    synchronized void register() {
+        if (objectName != null) {
+            return;
+        }
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName oName = new ObjectName("twitter4j.mbean:type=StringPool,name=" + count.incrementAndGet());
+            mbs.registerMBean(new StandardMBean(this, StringPoolMBean.class), oName);
+            objectName = oName;
+        } catch (InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException |
+                 MalformedObjectNameException e) {
+            logger.error(e.getMessage());
+        }
+    }
+
+    private Object readResolve() {
+        StringPool pool = new StringPool(maxEntries);
+        pool.fields = fields;
+        return pool;
+    }
+
+    @Override
+    public String toString() {
+        return "StringPool{" +
+                "maxEntries=" + maxEntries +
+                ", fields=" + fields +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                '}';
+    }
+}
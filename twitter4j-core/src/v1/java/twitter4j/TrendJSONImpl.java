@@ -26,12 +26,13 @@ import java.util.Objects;
  * @author Yusuke Yamamoto - yusuke at mac.com
  * @since Twitter4J 2.0.2
  */
-/*package*/ final class TrendJSONImpl implements Trend, java.io.Serializable {
+/*package*/ final class TrendJSONImpl implements Trend, RawJSONHolder, java.io.Serializable {
     private static final long serialVersionUID = -4353426776065521132L;
     private final String name;
     private final String url;
     private final String query;
     private final int tweetVolume;
+    private transient Object rawJSON;
 
     /*package*/ TrendJSONImpl(JSONObject json, boolean storeJSON) {
         this.name = ParseUtil.getRawString("name", json);
@@ -67,6 +68,16 @@ import java.util.Objects;
         return tweetVolume;
     }
 
+    @Override
+    public Object getRawJSONForm() {
+        return rawJSON;
+    }
+
+    @Override
+    public void setRawJSONForm(Object rawJSON) {
+        this.rawJSON = rawJSON;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -49,7 +49,6 @@ import java.util.Objects;
         super(res);
         init(res.asString(), jsonStoreEnabled);
         if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, res.asString());
         }
     }
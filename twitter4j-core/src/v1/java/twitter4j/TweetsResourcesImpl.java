@@ -19,15 +19,19 @@ class TweetsResourcesImpl extends APIResourceBase implements TweetsResources {
     private static final int MAX_VIDEO_SIZE = 512 * MB; // 512MB is a constraint  imposed by Twitter for video files
     private static final int CHUNK_SIZE = 2 * MB; // max chunk size
     private final String uploadBaseURL;
+    private final LookupCoalescer<Status> statusCoalescer;
 
 
     TweetsResourcesImpl(HttpClient http, ObjectFactory factory, String restBaseURL, Authorization auth, boolean mbeanEnabled, HttpParameter[] IMPLICIT_PARAMS,
                         String IMPLICIT_PARAMS_STR,
                         List<Consumer<RateLimitStatusEvent>> rateLimitStatusListeners,
-                        List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners,
-                        String uploadBaseURL) {
-        super(http, factory, restBaseURL, auth, mbeanEnabled, IMPLICIT_PARAMS, IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners);
+                        List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners, RateLimitGovernor governor, SingleFlight singleFlight, ResponseCache responseCache,
+                        String uploadBaseURL, int lookupCoalescingWindowMillis, int lookupCoalescingBatchSize) {
+        super(http, factory, restBaseURL, auth, mbeanEnabled, IMPLICIT_PARAMS, IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners, governor, singleFlight, responseCache);
         this.uploadBaseURL = uploadBaseURL;
+        this.statusCoalescer = lookupCoalescingWindowMillis <= 0 ? null
+                : new LookupCoalescer<>(lookupCoalescingWindowMillis, lookupCoalescingBatchSize, this::lookup, Status::getId,
+                id -> new TwitterException("No status found with that ID: " + id, null, HttpResponseCode.NOT_FOUND));
     }
 
     @Override
@@ -47,6 +51,9 @@ class TweetsResourcesImpl extends APIResourceBase implements TweetsResources {
 
     @Override
     public Status showStatus(long id) throws TwitterException {
+        if (statusCoalescer != null) {
+            return statusCoalescer.get(id);
+        }
         return factory.createStatus(get(restBaseURL + "statuses/show/" + id + ".json", includeMyRetweet));
     }
 
@@ -2,7 +2,7 @@ package twitter4j;
 
 import twitter4j.v1.*;
 
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -14,29 +14,55 @@ public final class TwitterObjectFactory {
         throw new AssertionError("not intended to be instantiated.");
     }
 
-    private static final ThreadLocal<Map> rawJsonMap = ThreadLocal.withInitial(HashMap::new);
-
     /**
      * Returns a raw JSON form of the provided object.<br>
-     * Note that raw JSON forms can be retrieved only from the same thread invoked the last method call and will become inaccessible once another method call
+     * The raw JSON form is retained by the object itself while jsonStoreEnabled is true, so it can be retrieved from
+     * any thread for as long as the object is reachable. Objects bound from the streaming API retain the exact line
+     * received. Objects bound from REST API responses retain the parsed JSON and return it serialized again, with
+     * the same members and values but not necessarily the whitespace and escapes of the response received.
      *
      * @param obj target object to retrieve JSON
      * @return raw JSON
      * @since Twitter4J 2.1.7
      */
     public static String getRawJSON(Object obj) {
+        Object json = rawJSONForm(obj);
+        if (json == null || json instanceof String) {
+            return (String) json;
+        }
+        if (json instanceof byte[]) {
+            return new String((byte[]) json, StandardCharsets.UTF_8);
+        }
+        // JSONObject or JSONArray, serialized once
+        String rawJSON = json.toString();
+        ((RawJSONHolder) obj).setRawJSONForm(rawJSON);
+        return rawJSON;
+    }
+
+    /**
+     * Returns a raw JSON form of the provided object as UTF-8 bytes.<br>
+     * Statuses skimmed lazily from the streaming API return a copy of the bytes they were skimmed from, without
+     * decoding them. See {@link #getRawJSON(Object)} for what the raw JSON form of other objects is.
+     *
+     * @param obj target object to retrieve JSON
+     * @return raw JSON as UTF-8 bytes
+     * @since Twitter4J 4.1.3
+     */
+    public static byte[] getRawJSONBytes(Object obj) {
+        Object json = rawJSONForm(obj);
+        if (json instanceof byte[]) {
+            // the status keeps skimming the bytes
+            return ((byte[]) json).clone();
+        }
+        String rawJSON = getRawJSON(obj);
+        return rawJSON == null ? null : rawJSON.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Object rawJSONForm(Object obj) {
         if (!registeredAtleastOnce) {
             throw new IllegalStateException("Apparently jsonStoreEnabled is not set to true.");
         }
-        Object json = rawJsonMap.get().get(obj);
-        if (json instanceof String) {
-            return (String) json;
-        } else if (json != null) {
-            // object must be instance of JSONObject
-            return json.toString();
-        } else {
-            return null;
-        }
+        return obj instanceof RawJSONHolder ? ((RawJSONHolder) obj).getRawJSONForm() : null;
     }
 
     /**
@@ -55,6 +81,19 @@ public final class TwitterObjectFactory {
         }
     }
 
+    /**
+     * Constructs a Status object from rawJSON string, materializing only the members listed in the projection.
+     *
+     * @param rawJSON    raw JSON form as String
+     * @param projection members to materialize
+     * @return Status
+     * @throws TwitterException when provided string is not a valid JSON string.
+     * @since Twitter4J 4.1.3
+     */
+    public static Status createStatus(String rawJSON, FieldProjection projection) throws TwitterException {
+        return new StatusJSONImpl(new JSONPullParser(rawJSON), projection);
+    }
+
     /**
      * Constructs a User object from rawJSON string.
      *
@@ -71,6 +110,19 @@ public final class TwitterObjectFactory {
         }
     }
 
+    /**
+     * Constructs a User object from rawJSON string, materializing only the members listed in the projection.
+     *
+     * @param rawJSON    raw JSON form as String
+     * @param projection members to materialize
+     * @return User
+     * @throws TwitterException when provided string is not a valid JSON string.
+     * @since Twitter4J 4.1.3
+     */
+    public static User createUser(String rawJSON, FieldProjection projection) throws TwitterException {
+        return new UserJSONImpl(new JSONPullParser(rawJSON), projection);
+    }
+
     /**
      * Constructs an AccountTotals object from rawJSON string.
      *
@@ -119,6 +171,23 @@ public final class TwitterObjectFactory {
         }
     }
 
+    /**
+     * Constructs a Place object from rawJSON string, materializing only the members listed in the projection.
+     *
+     * @param rawJSON    raw JSON form as String
+     * @param projection members to materialize
+     * @return Place
+     * @throws TwitterException when provided string is not a valid JSON string.
+     * @since Twitter4J 4.1.3
+     */
+    public static Place createPlace(String rawJSON, FieldProjection projection) throws TwitterException {
+        try {
+            return new PlaceJSONImpl(new JSONObject(rawJSON), projection);
+        } catch (JSONException e) {
+            throw new TwitterException(e);
+        }
+    }
+
     /**
      * Constructs a SavedSearch object from rawJSON string.
      *
@@ -301,25 +370,20 @@ public final class TwitterObjectFactory {
         }
     }
 
-    /**
-     * clear raw JSON forms associated with the current thread.<br>
-     *
-     * @since Twitter4J 2.1.7
-     */
-    static void clearThreadLocalMap() {
-        rawJsonMap.get().clear();
-    }
-
-    private static boolean registeredAtleastOnce = false;
+    private static volatile boolean registeredAtleastOnce = false;
 
     /**
-     * associate a raw JSON form to the current thread<br>
+     * let the object retain its raw JSON form<br>
      *
+     * @param key  bound object
+     * @param json raw JSON form as String, UTF-8 bytes, JSONObject or JSONArray
      * @since Twitter4J 2.1.7
      */
     static <T> T registerJSONObject(T key, Object json) {
         registeredAtleastOnce = true;
-        rawJsonMap.get().put(key, json);
+        if (key instanceof RawJSONHolder) {
+            ((RawJSONHolder) key).setRawJSONForm(json);
+        }
         return key;
     }
 }
\ No newline at end of file
@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.v1.Status;
+import twitter4j.v1.User;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the users seen in every parsed payload, keyed by user id.<br>
+ * Statuses embed a full user object, so a timeline repeats the same authors many times. With a user cache, a user
+ * identical to the one last seen is replaced with the cached instance, so that statuses share one canonical
+ * {@link User} per author. A user whose members changed, e.g. followers count, replaces the cached one. The least
+ * recently seen user is evicted when the cache is full.
+ * <pre>
+ * UserCache userCache = UserCache.of(100_000).maxAge(60);
+ * Twitter twitter = Twitter.newBuilder().userCache(userCache).build();
+ * </pre>
+ * With a max age, {@link twitter4j.v1.UsersResources#showUser(long)} is answered from the cache without a request
+ * when the user has been seen within the max age. Such users have no rate limit status.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public final class UserCache implements java.io.Serializable {
+    private static final long serialVersionUID = 2360846108795219430L;
+    private final int maxEntries;
+    private volatile int maxAgeSeconds = 0;
+    private final transient Map<Long, Entry> entries;
+    private final transient LongAdder shared = new LongAdder();
+
+    private UserCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<Long, UserCache.Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = -4176328519834460178L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserCache.Entry> eldest) {
+                return size() > UserCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param maxEntries maximum number of cached users
+     * @return user cache
+     */
+    public static UserCache of(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        return new UserCache(maxEntries);
+    }
+
+    /**
+     * @param maxAgeSeconds how long after a user was last seen showUser is answered from the cache. 0 (never) by default
+     * @return this instance
+     */
+    public UserCache maxAge(int maxAgeSeconds) {
+        if (maxAgeSeconds < 0) {
+            throw new IllegalArgumentException("maxAgeSeconds must not be negative: " + maxAgeSeconds);
+        }
+        this.maxAgeSeconds = maxAgeSeconds;
+        return this;
+    }
+
+    /**
+     * @return how long after a user was last seen showUser is answered from the cache
+     */
+    public int getMaxAgeSeconds() {
+        return maxAgeSeconds;
+    }
+
+    /**
+     * @param userId user id
+     * @return the user last seen, or null if not cached
+     */
+    public synchronized User getUser(long userId) {
+        Entry entry = entries.get(userId);
+        return entry == null ? null : entry.user;
+    }
+
+    /**
+     * @param userId user id
+     * @return time the user was last seen in milliseconds since the epoch, or -1 if not cached
+     */
+    public synchronized long getLastSeen(long userId) {
+        Entry entry = entries.get(userId);
+        return entry == null ? -1 : entry.lastSeen;
+    }
+
+    /**
+     * @return number of cached users
+     */
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * @return maximum number of cached users
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return number of parsed users replaced with the cached instance
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    /**
+     * Removes all cached users.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @param userId user id
+     * @return the user if seen within the max age, otherwise null
+     */
+    /*package*/ User getFresh(long userId) {
+        int maxAgeSeconds = this.maxAgeSeconds;
+        if (maxAgeSeconds == 0) {
+            return null;
+        }
+        long oldest = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(maxAgeSeconds);
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            return entry == null || entry.lastSeen < oldest ? null : entry.user;
+        }
+    }
+
+    /**
+     * Records the user as seen now.
+     *
+     * @param user parsed user
+     * @return the cached instance if identical to the parsed user, otherwise the parsed user, which is cached
+     */
+    /*package*/ User canonical(User user) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry entry = entries.get(user.getId());
+            if (entry != null && entry.user != user && entry.user instanceof UserJSONImpl && user instanceof UserJSONImpl
+                    && ((UserJSONImpl) entry.user).sameAs((UserJSONImpl) user)) {
+                entry.lastSeen = now;
+                shared.increment();
+                return entry.user;
+            }
+            entries.put(user.getId(), new Entry(user, now));
+            return user;
+        }
+    }
+
+    /**
+     * Replaces the users of the statuses with their canonical instances.
+     *
+     * @param statuses statuses
+     */
+    /*package*/ void canonicalizeStatuses(List<Status> statuses) {
+        for (Status status : statuses) {
+            canonicalize(status);
+        }
+    }
+
+    /**
+     * Replaces the users of the status with their canonical instances.
+     *
+     * @param status status
+     * @return the status
+     */
+    /*package*/ Status canonicalize(Status status) {
+        if (status instanceof StatusJSONImpl) {
+            ((StatusJSONImpl) status).canonicalizeUsers(this);
+        }
+        return status;
+    }
+
+    /**
+     * Replaces the users in the list with their canonical instances.
+     *
+     * @param users users
+     * @param <T>   list type
+     * @return the list
+     */
+    /*package*/ <T extends List<User>> T canonicalizeUsers(T users) {
+        for (int i = 0; i < users.size(); i++) {
+            users.set(i, canonical(users.get(i)));
+        }
+        return users;
+    }
+
+    private Object readResolve() {
+        return new UserCache(maxEntries).maxAge(maxAgeSeconds);
+    }
+
+    @Override
+    public String toString() {
+        return "UserCache{" +
+                "maxEntries=" + maxEntries +
+                ", maxAgeSeconds=" + maxAgeSeconds +
+                ", shared=" + shared +
+                '}';
+    }
+
+    private static final class Entry {
+        private final User user;
+        /**
+         * guarded by the enclosing UserCache
+         */
+        private long lastSeen;
+
+        Entry(User user, long lastSeen) {
+            this.user = user;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
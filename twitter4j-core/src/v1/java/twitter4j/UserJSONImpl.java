@@ -19,7 +19,10 @@ package twitter4j;
 import twitter4j.v1.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * A data class representing Basic user information element
@@ -73,21 +76,36 @@ import java.util.Arrays;
     private boolean isFollowRequestSent;
     private String[] withheldInCountries;
 
-    /*package*/UserJSONImpl(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
+    /*package*/UserJSONImpl(HttpResponse res, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         super(res);
-        if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, projection);
         if (jsonStoreEnabled) {
             TwitterObjectFactory.registerJSONObject(this, json);
         }
     }
 
     /*package*/UserJSONImpl(JSONObject json) throws TwitterException {
+        this(json, FieldProjection.ALL);
+    }
+
+    /*package*/UserJSONImpl(JSONObject json, FieldProjection projection) throws TwitterException {
+        super();
+        init(json, projection);
+    }
+
+    /*package*/UserJSONImpl(HttpResponse res, JSONPullParser parser, FieldProjection projection) throws TwitterException {
+        super(res);
+        init(parser, projection);
+    }
+
+    /*package*/UserJSONImpl(JSONPullParser parser) throws TwitterException {
+        this(parser, FieldProjection.ALL);
+    }
+
+    /*package*/UserJSONImpl(JSONPullParser parser, FieldProjection projection) throws TwitterException {
         super();
-        init(json);
+        init(parser, projection);
     }
 
     /* Only for serialization purposes. */
@@ -95,28 +113,16 @@ import java.util.Arrays;
 
     }
 
-    private void init(JSONObject json) throws TwitterException {
+    private void init(JSONObject json, FieldProjection projection) throws TwitterException {
         try {
+            json = projection.projectUser(json);
             id = ParseUtil.getLong("id", json);
             name = ParseUtil.getRawString("name", json);
             email = ParseUtil.getRawString("email", json);
             screenName = ParseUtil.getRawString("screen_name", json);
             location = ParseUtil.getRawString("location", json);
 
-            // descriptionUrlEntities <=> entities/descriptions/urls[]
-            descriptionURLEntities = getURLEntitiesFromJSON(json, "description");
-
-            // urlEntity <=> entities/url/urls[]
-            URLEntity[] urlEntities = getURLEntitiesFromJSON(json, "url");
-            if (urlEntities.length > 0) {
-                urlEntity = urlEntities[0];
-            }
-
-            description = ParseUtil.getRawString("description", json);
-            if (description != null) {
-                description = HTMLEntity.unescapeAndSlideEntityIncdices(description,
-                        null, descriptionURLEntities, null, null);
-            }
+            initEntities(json, ParseUtil.getRawString("description", json));
 
             isContributorsEnabled = ParseUtil.getBoolean("contributors_enabled", json);
             profileImageUrl = ParseUtil.getRawString("profile_image_url", json);
@@ -129,11 +135,11 @@ import java.util.Arrays;
             translator = ParseUtil.getBoolean("is_translator", json);
             followersCount = ParseUtil.getInt("followers_count", json);
 
-            profileBackgroundColor = ParseUtil.getRawString("profile_background_color", json);
-            profileTextColor = ParseUtil.getRawString("profile_text_color", json);
-            profileLinkColor = ParseUtil.getRawString("profile_link_color", json);
-            profileSidebarFillColor = ParseUtil.getRawString("profile_sidebar_fill_color", json);
-            profileSidebarBorderColor = ParseUtil.getRawString("profile_sidebar_border_color", json);
+            profileBackgroundColor = projection.pooled("user.profile_background_color", ParseUtil.getRawString("profile_background_color", json));
+            profileTextColor = projection.pooled("user.profile_text_color", ParseUtil.getRawString("profile_text_color", json));
+            profileLinkColor = projection.pooled("user.profile_link_color", ParseUtil.getRawString("profile_link_color", json));
+            profileSidebarFillColor = projection.pooled("user.profile_sidebar_fill_color", ParseUtil.getRawString("profile_sidebar_fill_color", json));
+            profileSidebarBorderColor = projection.pooled("user.profile_sidebar_border_color", ParseUtil.getRawString("profile_sidebar_border_color", json));
             profileUseBackgroundImage = ParseUtil.getBoolean("profile_use_background_image", json);
             isDefaultProfile = ParseUtil.getBoolean("default_profile", json);
             showAllInlineMedia = ParseUtil.getBoolean("show_all_inline_media", json);
@@ -141,18 +147,18 @@ import java.util.Arrays;
             createdAt = ParseUtil.getDate("created_at", json, "EEE MMM dd HH:mm:ss Z yyyy");
             favouritesCount = ParseUtil.getInt("favourites_count", json);
             utcOffset = ParseUtil.getInt("utc_offset", json);
-            timeZone = ParseUtil.getRawString("time_zone", json);
+            timeZone = projection.pooled("user.time_zone", ParseUtil.getRawString("time_zone", json));
             profileBackgroundImageUrl = ParseUtil.getRawString("profile_background_image_url", json);
             profileBackgroundImageUrlHttps = ParseUtil.getRawString("profile_background_image_url_https", json);
             profileBannerImageUrl = ParseUtil.getRawString("profile_banner_url", json);
             profileBackgroundTiled = ParseUtil.getBoolean("profile_background_tile", json);
-            lang = ParseUtil.getRawString("lang", json);
+            lang = projection.pooled("user.lang", ParseUtil.getRawString("lang", json));
             statusesCount = ParseUtil.getInt("statuses_count", json);
             listedCount = ParseUtil.getInt("listed_count", json);
             isFollowRequestSent = ParseUtil.getBoolean("follow_request_sent", json);
             if (!json.isNull("status")) {
                 JSONObject statusJSON = json.getJSONObject("status");
-                status = new StatusJSONImpl(statusJSON);
+                status = new StatusJSONImpl(statusJSON, projection);
             }
             if (!json.isNull("withheld_in_countries")) {
                 JSONArray withheld_in_countries = json.getJSONArray("withheld_in_countries");
@@ -167,6 +173,185 @@ import java.util.Arrays;
         }
     }
 
+    /**
+     * Binds the user in one pass over the token stream, dispatching on field names.
+     *
+     * @param parser     parser positioned at the beginning of a user object
+     * @param projection members to bind, the others are skipped
+     * @throws TwitterException when the user cannot be bound
+     */
+    private void init(JSONPullParser parser, FieldProjection projection) throws TwitterException {
+        // defaults for absent members, as the ParseUtil getters return
+        id = -1L;
+        followersCount = -1;
+        friendsCount = -1;
+        favouritesCount = -1;
+        utcOffset = -1;
+        statusesCount = -1;
+        listedCount = -1;
+        try {
+            JSONObject entities = new JSONObject();
+            String rawDescription = null;
+            parser.beginObject();
+            while (parser.hasNext()) {
+                String member = parser.nextName();
+                if (!projection.includesUserField(member)) {
+                    parser.skipValue();
+                    continue;
+                }
+                switch (member) {
+                    case "id":
+                        id = ParseUtil.getLong(parser);
+                        break;
+                    case "name":
+                        name = ParseUtil.getRawString(parser);
+                        break;
+                    case "email":
+                        email = ParseUtil.getRawString(parser);
+                        break;
+                    case "screen_name":
+                        screenName = ParseUtil.getRawString(parser);
+                        break;
+                    case "location":
+                        location = ParseUtil.getRawString(parser);
+                        break;
+                    case "description":
+                        rawDescription = ParseUtil.getRawString(parser);
+                        break;
+                    case "entities":
+                        entities.put("entities", parser.nextValue());
+                        break;
+                    case "contributors_enabled":
+                        isContributorsEnabled = ParseUtil.getBoolean(parser);
+                        break;
+                    case "profile_image_url":
+                        profileImageUrl = ParseUtil.getRawString(parser);
+                        break;
+                    case "profile_image_url_https":
+                        profileImageUrlHttps = ParseUtil.getRawString(parser);
+                        break;
+                    case "default_profile_image":
+                        isDefaultProfileImage = ParseUtil.getBoolean(parser);
+                        break;
+                    case "url":
+                        url = ParseUtil.getRawString(parser);
+                        break;
+                    case "protected":
+                        isProtected = ParseUtil.getBoolean(parser);
+                        break;
+                    case "geo_enabled":
+                        isGeoEnabled = ParseUtil.getBoolean(parser);
+                        break;
+                    case "verified":
+                        isVerified = ParseUtil.getBoolean(parser);
+                        break;
+                    case "is_translator":
+                        translator = ParseUtil.getBoolean(parser);
+                        break;
+                    case "followers_count":
+                        followersCount = ParseUtil.getInt(parser);
+                        break;
+                    case "profile_background_color":
+                        profileBackgroundColor = projection.pooled("user.profile_background_color", ParseUtil.getRawString(parser));
+                        break;
+                    case "profile_text_color":
+                        profileTextColor = projection.pooled("user.profile_text_color", ParseUtil.getRawString(parser));
+                        break;
+                    case "profile_link_color":
+                        profileLinkColor = projection.pooled("user.profile_link_color", ParseUtil.getRawString(parser));
+                        break;
+                    case "profile_sidebar_fill_color":
+                        profileSidebarFillColor = projection.pooled("user.profile_sidebar_fill_color", ParseUtil.getRawString(parser));
+                        break;
+                    case "profile_sidebar_border_color":
+                        profileSidebarBorderColor = projection.pooled("user.profile_sidebar_border_color", ParseUtil.getRawString(parser));
+                        break;
+                    case "profile_use_background_image":
+                        profileUseBackgroundImage = ParseUtil.getBoolean(parser);
+                        break;
+                    case "default_profile":
+                        isDefaultProfile = ParseUtil.getBoolean(parser);
+                        break;
+                    case "show_all_inline_media":
+                        showAllInlineMedia = ParseUtil.getBoolean(parser);
+                        break;
+                    case "friends_count":
+                        friendsCount = ParseUtil.getInt(parser);
+                        break;
+                    case "created_at":
+                        createdAt = ParseUtil.getDate(parser, "EEE MMM dd HH:mm:ss Z yyyy");
+                        break;
+                    case "favourites_count":
+                        favouritesCount = ParseUtil.getInt(parser);
+                        break;
+                    case "utc_offset":
+                        utcOffset = ParseUtil.getInt(parser);
+                        break;
+                    case "time_zone":
+                        timeZone = projection.pooled("user.time_zone", ParseUtil.getRawString(parser));
+                        break;
+                    case "profile_background_image_url":
+                        profileBackgroundImageUrl = ParseUtil.getRawString(parser);
+                        break;
+                    case "profile_background_image_url_https":
+                        profileBackgroundImageUrlHttps = ParseUtil.getRawString(parser);
+                        break;
+                    case "profile_banner_url":
+                        profileBannerImageUrl = ParseUtil.getRawString(parser);
+                        break;
+                    case "profile_background_tile":
+                        profileBackgroundTiled = ParseUtil.getBoolean(parser);
+                        break;
+                    case "lang":
+                        lang = projection.pooled("user.lang", ParseUtil.getRawString(parser));
+                        break;
+                    case "statuses_count":
+                        statusesCount = ParseUtil.getInt(parser);
+                        break;
+                    case "listed_count":
+                        listedCount = ParseUtil.getInt(parser);
+                        break;
+                    case "follow_request_sent":
+                        isFollowRequestSent = ParseUtil.getBoolean(parser);
+                        break;
+                    case "status":
+                        if (parser.peek() == JSONPullParser.Token.NULL) {
+                            parser.nextNull();
+                        } else {
+                            status = new StatusJSONImpl(parser, projection);
+                        }
+                        break;
+                    case "withheld_in_countries":
+                        withheldInCountries = ParseUtil.getStringArray(parser);
+                        break;
+                    default:
+                        parser.skipValue();
+                }
+            }
+            parser.endObject();
+            initEntities(entities, rawDescription);
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
+    private void initEntities(JSONObject json, String rawDescription) throws JSONException, TwitterException {
+        // descriptionUrlEntities <=> entities/descriptions/urls[]
+        descriptionURLEntities = getURLEntitiesFromJSON(json, "description");
+
+        // urlEntity <=> entities/url/urls[]
+        URLEntity[] urlEntities = getURLEntitiesFromJSON(json, "url");
+        if (urlEntities.length > 0) {
+            urlEntity = urlEntities[0];
+        }
+
+        description = rawDescription;
+        if (description != null) {
+            description = HTMLEntity.unescapeAndSlideEntityIncdices(description,
+                    null, descriptionURLEntities, null, null);
+        }
+    }
+
     /**
      * Get URL Entities from JSON Object.
      * returns URLEntity array by entities/[category]/urls/url[]
@@ -512,11 +697,8 @@ import java.util.Arrays;
     }
 
     /*package*/
-    static PagableResponseList<User> createPagableUserList(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
+    static PagableResponseList<User> createPagableUserList(HttpResponse res, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         try {
-            if (jsonStoreEnabled) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("users");
             int size = list.length();
@@ -524,7 +706,7 @@ import java.util.Arrays;
                     new PagableResponseListImpl<>(size, json, res);
             for (int i = 0; i < size; i++) {
                 JSONObject userJson = list.getJSONObject(i);
-                User user = new UserJSONImpl(userJson);
+                User user = new UserJSONImpl(userJson, projection);
                 if (jsonStoreEnabled) {
                     TwitterObjectFactory.registerJSONObject(user, userJson);
                 }
@@ -540,22 +722,19 @@ import java.util.Arrays;
     }
 
     /*package*/
-    static ResponseList<User> createUserList(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
-        return createUserList(res.asJSONArray(), res, jsonStoreEnabled);
+    static ResponseList<User> createUserList(HttpResponse res, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
+        return createUserList(res.asJSONArray(), res, jsonStoreEnabled, projection);
     }
 
     /*package*/
-    static ResponseList<User> createUserList(JSONArray list, HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
+    static ResponseList<User> createUserList(JSONArray list, HttpResponse res, boolean jsonStoreEnabled, FieldProjection projection) throws TwitterException {
         try {
-            if (jsonStoreEnabled) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             int size = list.length();
             ResponseList<User> users =
                     new ResponseListImpl<>(size, res);
             for (int i = 0; i < size; i++) {
                 JSONObject json = list.getJSONObject(i);
-                User user = new UserJSONImpl(json);
+                User user = new UserJSONImpl(json, projection);
                 users.add(user);
                 if (jsonStoreEnabled) {
                     TwitterObjectFactory.registerJSONObject(user, json);
@@ -570,6 +749,85 @@ import java.util.Arrays;
         }
     }
 
+    /*package*/
+    static User createUser(HttpResponse res, FieldProjection projection) throws TwitterException {
+        return res.asJSON(parser -> new UserJSONImpl(res, parser, projection));
+    }
+
+    /*package*/
+    static ResponseList<User> createUserList(HttpResponse res, FieldProjection projection) throws TwitterException {
+        return res.asJSON(parser -> {
+            ResponseList<User> users = new ResponseListImpl<>(res);
+            parser.beginArray();
+            while (parser.hasNext()) {
+                users.add(new UserJSONImpl(parser, projection));
+            }
+            parser.endArray();
+            return users;
+        });
+    }
+
+    /*package*/
+    static PagableResponseList<User> createPagableUserList(HttpResponse res, FieldProjection projection) throws TwitterException {
+        return res.asJSON(parser -> {
+            List<User> list = new ArrayList<>();
+            long previousCursor = -1L;
+            long nextCursor = -1L;
+            parser.beginObject();
+            while (parser.hasNext()) {
+                switch (parser.nextName()) {
+                    case "users":
+                        parser.beginArray();
+                        while (parser.hasNext()) {
+                            list.add(new UserJSONImpl(parser, projection));
+                        }
+                        parser.endArray();
+                        break;
+                    case "previous_cursor":
+                        previousCursor = ParseUtil.getLong(parser);
+                        break;
+                    case "next_cursor":
+                        nextCursor = ParseUtil.getLong(parser);
+                        break;
+                    default:
+                        parser.skipValue();
+                }
+            }
+            parser.endObject();
+            PagableResponseList<User> users = new PagableResponseListImpl<>(list.size(), previousCursor, nextCursor, res);
+            users.addAll(list);
+            return users;
+        });
+    }
+
+    /**
+     * @param that user to compare with
+     * @return true if all the members of the users are equal, unlike {@link #equals(Object)} which compares ids only
+     * @since Twitter4J 4.1.3
+     */
+    /*package*/ boolean sameAs(UserJSONImpl that) {
+        return id == that.id && isContributorsEnabled == that.isContributorsEnabled && isDefaultProfileImage == that.isDefaultProfileImage
+                && isProtected == that.isProtected && followersCount == that.followersCount
+                && profileUseBackgroundImage == that.profileUseBackgroundImage && isDefaultProfile == that.isDefaultProfile
+                && showAllInlineMedia == that.showAllInlineMedia && friendsCount == that.friendsCount
+                && favouritesCount == that.favouritesCount && utcOffset == that.utcOffset
+                && profileBackgroundTiled == that.profileBackgroundTiled && statusesCount == that.statusesCount
+                && isGeoEnabled == that.isGeoEnabled && isVerified == that.isVerified && translator == that.translator
+                && listedCount == that.listedCount && isFollowRequestSent == that.isFollowRequestSent
+                && Objects.equals(name, that.name) && Objects.equals(email, that.email) && Objects.equals(screenName, that.screenName)
+                && Objects.equals(location, that.location) && Objects.equals(description, that.description)
+                && Arrays.equals(descriptionURLEntities, that.descriptionURLEntities) && Objects.equals(urlEntity, that.urlEntity)
+                && Objects.equals(profileImageUrl, that.profileImageUrl) && Objects.equals(profileImageUrlHttps, that.profileImageUrlHttps)
+                && Objects.equals(url, that.url) && Objects.equals(status, that.status)
+                && Objects.equals(profileBackgroundColor, that.profileBackgroundColor) && Objects.equals(profileTextColor, that.profileTextColor)
+                && Objects.equals(profileLinkColor, that.profileLinkColor) && Objects.equals(profileSidebarFillColor, that.profileSidebarFillColor)
+                && Objects.equals(profileSidebarBorderColor, that.profileSidebarBorderColor) && Objects.equals(createdAt, that.createdAt)
+                && Objects.equals(timeZone, that.timeZone) && Objects.equals(profileBackgroundImageUrl, that.profileBackgroundImageUrl)
+                && Objects.equals(profileBackgroundImageUrlHttps, that.profileBackgroundImageUrlHttps)
+                && Objects.equals(profileBannerImageUrl, that.profileBannerImageUrl) && Objects.equals(lang, that.lang)
+                && Arrays.equals(withheldInCountries, that.withheldInCountries);
+    }
+
     @Override
     public int hashCode() {
         return (int) id;
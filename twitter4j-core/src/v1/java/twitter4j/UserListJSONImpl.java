@@ -48,9 +48,6 @@ import java.time.LocalDateTime;
 
     /*package*/ UserListJSONImpl(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
         super(res);
-        if (jsonStoreEnabled) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         JSONObject json = res.asJSONObject();
         init(json);
         if (jsonStoreEnabled) {
@@ -163,9 +160,6 @@ import java.time.LocalDateTime;
     /*package*/
     static PagableResponseList<UserList> createPagableUserListList(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
         try {
-            if (jsonStoreEnabled) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("lists");
             int size = list.length();
@@ -191,9 +185,6 @@ import java.time.LocalDateTime;
     /*package*/
     static ResponseList<UserList> createUserListList(HttpResponse res, boolean jsonStoreEnabled) throws TwitterException {
         try {
-            if (jsonStoreEnabled) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONArray list = res.asJSONArray();
             int size = list.length();
             ResponseList<UserList> users =
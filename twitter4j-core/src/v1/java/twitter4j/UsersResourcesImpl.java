@@ -9,11 +9,19 @@ import java.util.List;
 import java.util.function.Consumer;
 
 class UsersResourcesImpl extends APIResourceBase implements UsersResources {
+    private final LookupCoalescer<User> userCoalescer;
+    private final UserCache userCache;
+
     UsersResourcesImpl(HttpClient http, ObjectFactory factory, String restBaseURL, Authorization auth, boolean mbeanEnabled, HttpParameter[] IMPLICIT_PARAMS,
                        String IMPLICIT_PARAMS_STR,
                        List<Consumer<RateLimitStatusEvent>> rateLimitStatusListeners,
-                       List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners) {
-        super(http, factory, restBaseURL, auth, mbeanEnabled, IMPLICIT_PARAMS, IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners);
+                       List<Consumer<RateLimitStatusEvent>> rateLimitReachedListeners, RateLimitGovernor governor, SingleFlight singleFlight, ResponseCache responseCache,
+                       int lookupCoalescingWindowMillis, int lookupCoalescingBatchSize, UserCache userCache) {
+        super(http, factory, restBaseURL, auth, mbeanEnabled, IMPLICIT_PARAMS, IMPLICIT_PARAMS_STR, rateLimitStatusListeners, rateLimitReachedListeners, governor, singleFlight, responseCache);
+        this.userCoalescer = lookupCoalescingWindowMillis <= 0 ? null
+                : new LookupCoalescer<>(lookupCoalescingWindowMillis, lookupCoalescingBatchSize, this::lookupUsers, User::getId,
+                id -> new TwitterException("User not found: " + id, null, HttpResponseCode.NOT_FOUND));
+        this.userCache = userCache;
     }
 
     @Override
@@ -176,6 +184,15 @@ class UsersResourcesImpl extends APIResourceBase implements UsersResources {
 
     @Override
     public User showUser(long userId) throws TwitterException {
+        if (userCache != null) {
+            User user = userCache.getFresh(userId);
+            if (user != null) {
+                return user;
+            }
+        }
+        if (userCoalescer != null) {
+            return userCoalescer.get(userId);
+        }
         return factory.createUser(get(restBaseURL + "users/show.json?user_id=" + userId));
     }
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.TwitterException;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link DirectMessagesResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncDirectMessagesResources {
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#getDirectMessages(int)}.
+     *
+     * @param count Max number of events to be returned. 20 default. 50 max.
+     * @return future of List
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<DirectMessageList> getDirectMessages(int count);
+
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#getDirectMessages(int, String)}.
+     *
+     * @param count  Max number of events to be returned. 20 default. 50 max.
+     * @param cursor For paging through result sets greater than 1 page, use the “next_cursor” property from the previous request.
+     * @return future of List
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<DirectMessageList> getDirectMessages(int count, String cursor);
+
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#showDirectMessage(long)}.
+     *
+     * @param id message id
+     * @return future of DirectMessage
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<DirectMessage> showDirectMessage(long id);
+
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#destroyDirectMessage(long)}.
+     *
+     * @param id The id of the Direct Message event that should be deleted.
+     * @return future completed when the request is done
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Void> destroyDirectMessage(long id);
+
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#sendDirectMessage(long, String, QuickReply...)}.
+     *
+     * @param userId       the user id of the user to whom send the direct message
+     * @param text         The text of your direct message.
+     * @param quickReplies Quick Replies
+     * @return future of DirectMessage
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<DirectMessage> sendDirectMessage(long userId, String text, QuickReply... quickReplies);
+
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#sendDirectMessage(long, String, String)}.
+     *
+     * @param userId             the user id of the user to whom send the direct message
+     * @param text               The text of your direct message.
+     * @param quickReplyResponse Quick Reply response
+     * @return future of DirectMessage
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<DirectMessage> sendDirectMessage(long userId, String text, String quickReplyResponse);
+
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#sendDirectMessage(long, String, long)}.
+     *
+     * @param userId  the user id of the user to whom send the direct message
+     * @param text    The text of your direct message.
+     * @param mediaId id of media attachment
+     * @return future of DirectMessage
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<DirectMessage> sendDirectMessage(long userId, String text, long mediaId);
+
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#sendDirectMessage(long, String)}.
+     *
+     * @param userId the user id of the user to whom send the direct message
+     * @param text   The text of your direct message.
+     * @return future of DirectMessage
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<DirectMessage> sendDirectMessage(long userId, String text);
+
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#sendDirectMessage(String, String)}.
+     *
+     * @param screenName the screen name of the user to whom send the direct message
+     * @param text       The text of your direct message.
+     * @return future of DirectMessage
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<DirectMessage> sendDirectMessage(String screenName, String text);
+
+    /**
+     * Asynchronous version of {@link DirectMessagesResources#getDMImageAsStream(String)}.
+     *
+     * @param url image url
+     * @return future of InputStream
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<InputStream> getDMImageAsStream(String url);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.TwitterException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link FavoritesResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncFavoritesResources {
+    /**
+     * Asynchronous version of {@link FavoritesResources#getFavorites()}.
+     *
+     * @return future of favorite statuses
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getFavorites();
+
+    /**
+     * Asynchronous version of {@link FavoritesResources#getFavorites(long)}.
+     *
+     * @param userId the id of the user for whom to request a list of favorite statuses
+     * @return future of favorite statuses
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getFavorites(long userId);
+
+    /**
+     * Asynchronous version of {@link FavoritesResources#getFavorites(String)}.
+     *
+     * @param screenName the screen name of the user for whom to request a list of favorite statuses
+     * @return future of favorite statuses
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getFavorites(String screenName);
+
+    /**
+     * Asynchronous version of {@link FavoritesResources#getFavorites(Paging)}.
+     *
+     * @param paging controls pagination. Supports sinceId and page parameters.
+     * @return future of favorite statuses
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getFavorites(Paging paging);
+
+    /**
+     * Asynchronous version of {@link FavoritesResources#getFavorites(long, Paging)}.
+     *
+     * @param userId the id of the user for whom to request a list of favorite statuses
+     * @param paging controls pagination. Supports sinceId and page parameters.
+     * @return future of favorite statuses
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getFavorites(long userId, Paging paging);
+
+    /**
+     * Asynchronous version of {@link FavoritesResources#getFavorites(String, Paging)}.
+     *
+     * @param screenName the screen name of the user for whom to request a list of favorite statuses
+     * @param paging     controls pagination. Supports sinceId and page parameters.
+     * @return future of favorite statuses
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getFavorites(String screenName, Paging paging);
+
+    /**
+     * Asynchronous version of {@link FavoritesResources#createFavorite(long)}.
+     *
+     * @param id the ID of the status to favorite
+     * @return future of created favorite status
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Status> createFavorite(long id);
+
+    /**
+     * Asynchronous version of {@link FavoritesResources#destroyFavorite(long)}.
+     *
+     * @param id the ID of the status to un-favorite
+     * @return future of destroyed statuses
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Status> destroyFavorite(long id);
+}
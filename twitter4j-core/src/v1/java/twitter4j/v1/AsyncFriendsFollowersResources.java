@@ -0,0 +1,486 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+/**
+ * Asynchronous version of {@link FriendsFollowersResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncFriendsFollowersResources {
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getNoRetweetsFriendships()}.
+     *
+     * @return future of a collection of numeric IDs that the currently authenticated user does not want to receive retweets from.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getNoRetweetsFriendships();
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsIDs(long)}.
+     *
+     * @param cursor Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @return future of an array of numeric IDs for every user the authenticating user is following
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFriendsIDs(long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsIDs(long, long)}.
+     *
+     * @param userId Specifies the ID of the user for whom to return the friends list.
+     * @param cursor Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @return future of an array of numeric IDs for every user the specified user is following
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFriendsIDs(long userId, long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsIDs(long, long, int)}.
+     *
+     * @param userId Specifies the ID of the user for whom to return the friends list.
+     * @param cursor Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @param count  Specifies the number of IDs attempt retrieval of, up to a maximum of 5,000 per distinct request. The value of count is best thought of as a limit to the number of results to return.<br> When using the count parameter with this method, it is wise to use a consistent count value across all requests to the same user's collection.<br> Usage of this parameter is encouraged in environments where all 5,000 IDs constitutes too large of a response.
+     * @return future of an array of numeric IDs for every user the specified user is following
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFriendsIDs(long userId, long cursor, int count);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsIDs(String, long)}.
+     *
+     * @param screenName Specifies the screen name of the user for whom to return the friends list.
+     * @param cursor     Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @return future of an array of numeric IDs for every user the specified user is following
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFriendsIDs(String screenName, long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsIDs(String, long, int)}.
+     *
+     * @param screenName Specifies the screen name of the user for whom to return the friends list.
+     * @param cursor     Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @param count      Specifies the number of IDs attempt retrieval of, up to a maximum of 5,000 per distinct request. The value of count is best thought of as a limit to the number of results to return.<br> When using the count parameter with this method, it is wise to use a consistent count value across all requests to the same user's collection.<br> Usage of this parameter is encouraged in environments where all 5,000 IDs constitutes too large of a response.
+     * @return future of an array of numeric IDs for every user the specified user is following
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFriendsIDs(String screenName, long cursor, int count);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersIDs(long)}.
+     *
+     * @param cursor Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @return future of The ID or screen_name of the user to retrieve the friends ID list for.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFollowersIDs(long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersIDs(long, long)}.
+     *
+     * @param userId Specifies the ID of the user for whom to return the followers list.
+     * @param cursor Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @return future of The ID or screen_name of the user to retrieve the friends ID list for.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFollowersIDs(long userId, long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersIDs(long, long, int)}.
+     *
+     * @param userId Specifies the ID of the user for whom to return the followers list.
+     * @param cursor Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @param count  Specifies the number of IDs attempt retrieval of, up to a maximum of 5,000 per distinct request. <br> The value of count is best thought of as a limit to the number of results to return. <br> When using the count parameter with this method, it is wise to use a consistent count value across all requests to the same user's collection. Usage of this parameter is encouraged in environments where all 5,000 IDs constitutes too large of a response.
+     * @return future of The ID or screen_name of the user to retrieve the friends ID list for.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFollowersIDs(long userId, long cursor, int count);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersIDs(String, long)}.
+     *
+     * @param screenName Specifies the screen name of the user for whom to return the followers list.
+     * @param cursor     Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @return future of The ID or screen_name of the user to retrieve the friends ID list for.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFollowersIDs(String screenName, long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersIDs(String, long, int)}.
+     *
+     * @param screenName Specifies the screen name of the user for whom to return the followers list.
+     * @param cursor     Causes the list of connections to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. <br> To begin paging provide a value of -1 as the cursor. The response from the API will include a previous_cursor and next_cursor to allow paging back and forth.
+     * @param count      Specifies the number of IDs attempt retrieval of, up to a maximum of 5,000 per distinct request. <br> The value of count is best thought of as a limit to the number of results to return. <br> When using the count parameter with this method, it is wise to use a consistent count value across all requests to the same user's collection. Usage of this parameter is encouraged in environments where all 5,000 IDs constitutes too large of a response.
+     * @return future of The ID or screen_name of the user to retrieve the friends ID list for.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getFollowersIDs(String screenName, long cursor, int count);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#lookupFriendships(long...)}.
+     *
+     * @param ids array of the ids to lookup
+     * @return future of list of Relationships
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Friendship>> lookupFriendships(long... ids);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#lookupFriendships(String...)}.
+     *
+     * @param screenNames array of the screen names to lookup
+     * @return future of list of Relationships
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Friendship>> lookupFriendships(String... screenNames);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getIncomingFriendships(long)}.
+     *
+     * @param cursor Breaks the results into pages. A single page contains 5000 identifiers. Provide a value of -1 to begin paging.
+     * @return future of an array of numeric IDs for every user who has a pending request to follow the authenticating user.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getIncomingFriendships(long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getOutgoingFriendships(long)}.
+     *
+     * @param cursor Breaks the results into pages. A single page contains 5000 identifiers. Provide a value of -1 to begin paging.
+     * @return future of an array of numeric IDs for every protected user for whom the authenticating user has a pending follow request.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getOutgoingFriendships(long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#createFriendship(long)}.
+     *
+     * @param userId the ID of the user to be befriended
+     * @return future of the befriended user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> createFriendship(long userId);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#createFriendship(String)}.
+     *
+     * @param screenName the screen name of the user to be befriended
+     * @return future of the befriended user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> createFriendship(String screenName);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#createFriendship(long, boolean)}.
+     *
+     * @param userId the ID of the user to be befriended
+     * @param follow Enable notifications for the target user in addition to becoming friends.
+     * @return future of the befriended user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> createFriendship(long userId, boolean follow);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#createFriendship(String, boolean)}.
+     *
+     * @param screenName the screen name of the user to be befriended
+     * @param follow     Enable notifications for the target user in addition to becoming friends.
+     * @return future of the befriended user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> createFriendship(String screenName, boolean follow);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#destroyFriendship(long)}.
+     *
+     * @param userId the ID of the user for whom to request a list of friends
+     * @return future of User
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> destroyFriendship(long userId);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#destroyFriendship(String)}.
+     *
+     * @param screenName the screen name of the user for whom to request a list of friends
+     * @return future of User
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> destroyFriendship(String screenName);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#updateFriendship(long, boolean, boolean)}.
+     *
+     * @param userId                   user id to update
+     * @param enableDeviceNotification set true to enable device notification
+     * @param retweets                 set true to enable retweets
+     * @return future of Relationship
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Relationship> updateFriendship(long userId, boolean enableDeviceNotification, boolean retweets);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#updateFriendship(String, boolean, boolean)}.
+     *
+     * @param screenName               screen name to update
+     * @param enableDeviceNotification set true to enable device notification
+     * @param retweets                 set true to enable retweets
+     * @return future of Relationship
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Relationship> updateFriendship(String screenName, boolean enableDeviceNotification, boolean retweets);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#showFriendship(long, long)}.
+     *
+     * @param sourceId the ID of the source user
+     * @param targetId the ID of the target user
+     * @return future of Relationship
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Relationship> showFriendship(long sourceId, long targetId);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#showFriendship(String, String)}.
+     *
+     * @param sourceScreenName the screen name of the source user
+     * @param targetScreenName the screen name of the target user
+     * @return future of Relationship
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Relationship> showFriendship(String sourceScreenName, String targetScreenName);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsList(long, long)}.
+     *
+     * @param userId The ID of the user for whom to return results for.
+     * @param cursor Causes the results to be broken into pages of no more than 20 records at a time.
+     * @return future of list of friends
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFriendsList(long userId, long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsList(long, long, int)}.
+     *
+     * @param userId The ID of the user for whom to return results for.
+     * @param cursor Causes the results to be broken into pages of no more than 20 records at a time.
+     * @param count  The number of users to return per page, up to a maximum of 200. Defaults to 20.
+     * @return future of list of friends
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFriendsList(long userId, long cursor, int count);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsList(String, long)}.
+     *
+     * @param screenName The screen name of the user for whom to return results for.
+     * @param cursor     Causes the results to be broken into pages of no more than 20 records at a time.
+     * @return future of list of friends
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFriendsList(String screenName, long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsList(String, long, int)}.
+     *
+     * @param screenName The screen name of the user for whom to return results for.
+     * @param cursor     Causes the results to be broken into pages of no more than 20 records at a time.
+     * @param count      The number of users to return per page, up to a maximum of 200. Defaults to 20.
+     * @return future of list of friends
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFriendsList(String screenName, long cursor, int count);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsList(long, long, int, boolean, boolean)}.
+     *
+     * @param userId              The ID of the user for whom to return results for.
+     * @param cursor              Causes the results to be broken into pages of no more than 20 records at a time.
+     * @param count               The number of users to return per page, up to a maximum of 200. Defaults to 20.
+     * @param skipStatus          When set to either true, statuses will not be included in the returned user objects.
+     * @param includeUserEntities The user object entities node will be disincluded when set to false.
+     * @return future of list of friends
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFriendsList(long userId, long cursor, int count, boolean skipStatus, boolean includeUserEntities);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFriendsList(String, long, int, boolean, boolean)}.
+     *
+     * @param screenName          The screen name of the user for whom to return results for.
+     * @param cursor              Causes the results to be broken into pages of no more than 20 records at a time.
+     * @param count               The number of users to return per page, up to a maximum of 200. Defaults to 20.
+     * @param skipStatus          When set to either true, statuses will not be included in the returned user objects.
+     * @param includeUserEntities The user object entities node will be disincluded when set to false.
+     * @return future of list of friends
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFriendsList(String screenName, long cursor, int count, boolean skipStatus, boolean includeUserEntities);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersList(long, long)}.
+     *
+     * @param userId The ID of the user for whom to return results for.
+     * @param cursor Causes the results to be broken into pages of no more than 20 records at a time.
+     * @return future of list of followers
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFollowersList(long userId, long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersList(String, long)}.
+     *
+     * @param screenName The screen name of the user for whom to return results for.
+     * @param cursor     Causes the results to be broken into pages of no more than 20 records at a time.
+     * @return future of list of followers
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFollowersList(String screenName, long cursor);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersList(long, long, int)}.
+     *
+     * @param userId The ID of the user for whom to return results for.
+     * @param cursor Causes the results to be broken into pages of no more than 20 records at a time.
+     * @param count  The number of users to return per page, up to a maximum of 200. Defaults to 20.
+     * @return future of list of followers
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFollowersList(long userId, long cursor, int count);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersList(String, long, int)}.
+     *
+     * @param screenName The screen name of the user for whom to return results for.
+     * @param cursor     Causes the results to be broken into pages of no more than 20 records at a time.
+     * @param count      The number of users to return per page, up to a maximum of 200. Defaults to 20.
+     * @return future of list of followers
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFollowersList(String screenName, long cursor, int count);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersList(long, long, int, boolean, boolean)}.
+     *
+     * @param userId              The ID of the user for whom to return results for.
+     * @param cursor              Causes the results to be broken into pages of no more than 20 records at a time.
+     * @param count               The number of users to return per page, up to a maximum of 200. Defaults to 20.
+     * @param skipStatus          When set to either true, statuses will not be included in the returned user objects.
+     * @param includeUserEntities The user object entities node will be disincluded when set to false.
+     * @return future of list of followers
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFollowersList(long userId, long cursor, int count, boolean skipStatus, boolean includeUserEntities);
+
+    /**
+     * Asynchronous version of {@link FriendsFollowersResources#getFollowersList(String, long, int, boolean, boolean)}.
+     *
+     * @param screenName          The screen name of the user for whom to return results for.
+     * @param cursor              Causes the results to be broken into pages of no more than 20 records at a time.
+     * @param count               The number of users to return per page, up to a maximum of 200. Defaults to 20.
+     * @param skipStatus          When set to either true, statuses will not be included in the returned user objects.
+     * @param includeUserEntities The user object entities node will be disincluded when set to false.
+     * @return future of list of followers
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getFollowersList(String screenName, long cursor, int count, boolean skipStatus, boolean includeUserEntities);
+
+    /**
+     * Returns the numeric IDs of every user the authenticating user is following, walking the cursor chain of {@link FriendsFollowersResources#getFriendsIDs(long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @return stream of numeric IDs. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    LongStream getFriendsIDsStream();
+
+    /**
+     * Returns the numeric IDs of every user the specified user is following, walking the cursor chain of {@link FriendsFollowersResources#getFriendsIDs(long, long, int)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param userId Specifies the ID of the user for whom to return the friends list.
+     * @return stream of numeric IDs. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    LongStream getFriendsIDsStream(long userId);
+
+    /**
+     * Returns the numeric IDs of every user the specified user is following, walking the cursor chain of {@link FriendsFollowersResources#getFriendsIDs(String, long, int)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param screenName Specifies the screen name of the user for whom to return the friends list.
+     * @return stream of numeric IDs. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    LongStream getFriendsIDsStream(String screenName);
+
+    /**
+     * Returns the numeric IDs of every user the authenticating user is followed by, walking the cursor chain of {@link FriendsFollowersResources#getFollowersIDs(long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @return stream of numeric IDs. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    LongStream getFollowersIDsStream();
+
+    /**
+     * Returns the numeric IDs of every user the specified user is followed by, walking the cursor chain of {@link FriendsFollowersResources#getFollowersIDs(long, long, int)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param userId Specifies the ID of the user for whom to return the followers list.
+     * @return stream of numeric IDs. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    LongStream getFollowersIDsStream(long userId);
+
+    /**
+     * Returns the numeric IDs of every user the specified user is followed by, walking the cursor chain of {@link FriendsFollowersResources#getFollowersIDs(String, long, int)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param screenName Specifies the screen name of the user for whom to return the followers list.
+     * @return stream of numeric IDs. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    LongStream getFollowersIDsStream(String screenName);
+
+    /**
+     * Returns the numeric IDs of every user who has a pending request to follow the authenticating user, walking the cursor chain of {@link FriendsFollowersResources#getIncomingFriendships(long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @return stream of numeric IDs. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    LongStream getIncomingFriendshipsStream();
+
+    /**
+     * Returns the numeric IDs of every protected user for whom the authenticating user has a pending follow request, walking the cursor chain of {@link FriendsFollowersResources#getOutgoingFriendships(long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @return stream of numeric IDs. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    LongStream getOutgoingFriendshipsStream();
+}
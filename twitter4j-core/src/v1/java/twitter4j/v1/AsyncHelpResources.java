@@ -0,0 +1,55 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.TwitterException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link HelpResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncHelpResources {
+    /**
+     * Asynchronous version of {@link HelpResources#getLanguages()}.
+     *
+     * @return future of list of languages supported by Twitter
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<HelpResources.Language>> getLanguages();
+
+    /**
+     * Asynchronous version of {@link HelpResources#getRateLimitStatus()}.
+     *
+     * @return future of the rate limit statuses
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Map<String, RateLimitStatus>> getRateLimitStatus();
+
+    /**
+     * Asynchronous version of {@link HelpResources#getRateLimitStatus(String...)}.
+     *
+     * @param resources resources
+     * @return future of the rate limit statuses
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Map<String, RateLimitStatus>> getRateLimitStatus(String... resources);
+}
@@ -0,0 +1,983 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Asynchronous version of {@link ListsResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncListsResources {
+    /**
+     * Asynchronous version of {@link ListsResources#getUserLists(String)}.
+     *
+     * @param listOwnerScreenName The screen name of the list owner as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<UserList>> getUserLists(String listOwnerScreenName);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserLists(String, boolean)}.
+     *
+     * @param listOwnerScreenName The screen name of the list owner as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param reverse             Set this to true if you would like owned lists to be returned first
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<UserList>> getUserLists(String listOwnerScreenName, boolean reverse);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserLists(long)}.
+     *
+     * @param listOwnerUserId The id of the list owner
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<UserList>> getUserLists(long listOwnerUserId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserLists(long, boolean)}.
+     *
+     * @param listOwnerUserId The id of the list owner
+     * @param reverse         Set this to true if you would like owned lists to be returned first
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<UserList>> getUserLists(long listOwnerUserId, boolean reverse);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListStatuses(long, Paging)}.
+     *
+     * @param listId The id of the list
+     * @param paging controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return future of list of statuses for members of the specified list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getUserListStatuses(long listId, Paging paging);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListStatuses(long, String, Paging)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param paging  controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return future of list of statuses for members of the specified list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getUserListStatuses(long ownerId, String slug, Paging paging);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListStatuses(String, String, Paging)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param paging          controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return future of list of statuses for members of the specified list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getUserListStatuses(String ownerScreenName, String slug, Paging paging);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListMember(long, long)}.
+     *
+     * @param listId The id of the list.
+     * @param userId The screen name of the member you wish to remove from the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListMember(long listId, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListMember(long, String)}.
+     *
+     * @param listId     The id of the list.
+     * @param screenName The screen name of the member you wish to remove from the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListMember(long listId, String screenName);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListMembers(long, String[])}.
+     *
+     * @param listId      The id of the list.
+     * @param screenNames The screen names of the members you wish to remove from the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListMembers(long listId, String[] screenNames);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListMembers(long, long[])}.
+     *
+     * @param listId  The id of the list.
+     * @param userIds The array of ids of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListMembers(long listId, long[] userIds);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListMembers(String, String, String[])}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param screenNames     The screen names of the members you wish to remove from the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListMembers(String ownerScreenName, String slug, String[] screenNames);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListMember(long, String, long)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userId  The screen name of the member you wish to remove from the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListMember(long ownerId, String slug, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListMember(String, String, long)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userId          The screen name of the member you wish to remove from the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListMember(String ownerScreenName, String slug, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(long)}.
+     *
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(int, long)}.
+     *
+     * @param count  The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(long, long)}.
+     *
+     * @param listMemberId The id of the list member
+     * @param cursor       Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long listMemberId, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(long, int, long)}.
+     *
+     * @param listMemberId The id of the list member
+     * @param count        The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor       Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long listMemberId, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(String, long)}.
+     *
+     * @param listMemberScreenName The screen name of the list member
+     * @param cursor               Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(String, int, long)}.
+     *
+     * @param listMemberScreenName The screen name of the list member
+     * @param count                The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor               Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(String, long, boolean)}.
+     *
+     * @param listMemberScreenName The screen name of the list member
+     * @param cursor               Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param filterToOwnedLists   Whether to return just lists the authenticating user owns, and the user represented by listMemberScreenName is a member of.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, long cursor, boolean filterToOwnedLists);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(String, int, long, boolean)}.
+     *
+     * @param listMemberScreenName The screen name of the list member
+     * @param count                The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor               Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param filterToOwnedLists   Whether to return just lists the authenticating user owns, and the user represented by listMemberScreenName is a member of.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, int count, long cursor, boolean filterToOwnedLists);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(long, long, boolean)}.
+     *
+     * @param listMemberId       The id of the list member
+     * @param cursor             Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param filterToOwnedLists Whether to return just lists the authenticating user owns, and the user represented by listMemberId is a member of.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long listMemberId, long cursor, boolean filterToOwnedLists);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMemberships(long, int, long, boolean)}.
+     *
+     * @param listMemberId       The id of the list member
+     * @param count              The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor             Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param filterToOwnedLists Whether to return just lists the authenticating user owns, and the user represented by listMemberId is a member of.
+     * @return future of the list of lists
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListMemberships(long listMemberId, int count, long cursor, boolean filterToOwnedLists);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscribers(long, long)}.
+     *
+     * @param listId The id of the list
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long listId, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscribers(long, int, long)}.
+     *
+     * @param listId The id of the list
+     * @param count  Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long listId, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscribers(long, int, long, boolean)}.
+     *
+     * @param listId     The id of the list
+     * @param count      Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor     Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long listId, int count, long cursor, boolean skipStatus);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscribers(long, String, long)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param cursor  Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long ownerId, String slug, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscribers(long, String, int, long)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param count   Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor  Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long ownerId, String slug, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscribers(long, String, int, long, boolean)}.
+     *
+     * @param ownerId    The user ID of the user who owns the list being requested by a slug.
+     * @param slug       slug of the list
+     * @param count      Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor     Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListSubscribers(long ownerId, String slug, int count, long cursor, boolean skipStatus);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscribers(String, String, long)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListSubscribers(String ownerScreenName, String slug, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscribers(String, String, int, long)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param count           Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListSubscribers(String ownerScreenName, String slug, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscribers(String, String, int, long, boolean)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param count           Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus      When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListSubscribers(String ownerScreenName, String slug, int count, long cursor, boolean skipStatus);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListSubscription(long)}.
+     *
+     * @param listId The id of the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListSubscription(long listId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListSubscription(long, String)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListSubscription(long ownerId, String slug);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListSubscription(String, String)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListSubscription(String ownerScreenName, String slug);
+
+    /**
+     * Asynchronous version of {@link ListsResources#showUserListSubscription(long, long)}.
+     *
+     * @param listId The id of the list.
+     * @param userId The id of the user who you want to know is a member or not of the specified list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> showUserListSubscription(long listId, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#showUserListSubscription(long, String, long)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userId  The id of the user who you want to know is a member or not of the specified list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> showUserListSubscription(long ownerId, String slug, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#showUserListSubscription(String, String, long)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userId          The id of the user who you want to know is a member or not of the specified list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> showUserListSubscription(String ownerScreenName, String slug, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListSubscription(long)}.
+     *
+     * @param listId The id of the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListSubscription(long listId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListSubscription(long, String)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListSubscription(long ownerId, String slug);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserListSubscription(String, String)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserListSubscription(String ownerScreenName, String slug);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListMembers(long, long...)}.
+     *
+     * @param listId  The id of the list.
+     * @param userIds The array of ids of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return future of the list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListMembers(long listId, long... userIds);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListMembers(long, String, long...)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userIds The array of ids of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return future of the list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListMembers(long ownerId, String slug, long... userIds);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListMembers(String, String, long...)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userIds         The array of ids of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return future of the list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListMembers(String ownerScreenName, String slug, long... userIds);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListMembers(long, String...)}.
+     *
+     * @param listId      The id of the list.
+     * @param screenNames The array of screen names of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return future of the list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListMembers(long listId, String... screenNames);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListMembers(long, String, String...)}.
+     *
+     * @param ownerId     The user ID of the user who owns the list being requested by a slug.
+     * @param slug        slug of the list
+     * @param screenNames The array of screen names of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return future of the list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListMembers(long ownerId, String slug, String... screenNames);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListMembers(String, String, String...)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param screenNames     The array of screen names of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return future of the list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListMembers(String ownerScreenName, String slug, String... screenNames);
+
+    /**
+     * Asynchronous version of {@link ListsResources#showUserListMembership(long, long)}.
+     *
+     * @param listId The id of the list.
+     * @param userId The id of the user who you want to know is a member or not of the specified list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> showUserListMembership(long listId, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#showUserListMembership(long, String, long)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userId  The id of the user who you want to know is a member or not of the specified list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> showUserListMembership(long ownerId, String slug, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#showUserListMembership(String, String, long)}.
+     *
+     * @param ownerScreenName Id The user ID of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userId          The id of the user who you want to know is a member or not of the specified list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> showUserListMembership(String ownerScreenName, String slug, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMembers(long, long)}.
+     *
+     * @param listId The id of the list
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListMembers(long listId, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMembers(long, int, long)}.
+     *
+     * @param listId The id of the list
+     * @param count  Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListMembers(long listId, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMembers(long, int, long, boolean)}.
+     *
+     * @param listId     The id of the list
+     * @param count      Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor     Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListMembers(long listId, int count, long cursor, boolean skipStatus);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMembers(long, String, long)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param cursor  Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListMembers(long ownerId, String slug, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMembers(long, String, int, long)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param count   Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor  Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListMembers(long ownerId, String slug, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMembers(long, String, int, long, boolean)}.
+     *
+     * @param ownerId    The user ID of the user who owns the list being requested by a slug.
+     * @param slug       slug of the list
+     * @param count      Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor     Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListMembers(long ownerId, String slug, int count, long cursor, boolean skipStatus);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMembers(String, String, long)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListMembers(String ownerScreenName, String slug, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMembers(String, String, int, long)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param count           Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListMembers(String ownerScreenName, String slug, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListMembers(String, String, int, long, boolean)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param count           Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus      When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return future of the members of the specified list.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getUserListMembers(String ownerScreenName, String slug, int count, long cursor, boolean skipStatus);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListMember(long, long)}.
+     *
+     * @param listId The id of the list.
+     * @param userId The id of the user to add as a member of the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListMember(long listId, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListMember(long, String, long)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userId  The id of the user to add as a member of the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListMember(long ownerId, String slug, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserListMember(String, String, long)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userId          The id of the user to add as a member of the list.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserListMember(String ownerScreenName, String slug, long userId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserList(long)}.
+     *
+     * @param listId The id of the list to delete
+     * @return future of the deleted list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserList(long listId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserList(long, String)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return future of the deleted list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserList(long ownerId, String slug);
+
+    /**
+     * Asynchronous version of {@link ListsResources#destroyUserList(String, String)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return future of the deleted list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> destroyUserList(String ownerScreenName, String slug);
+
+    /**
+     * Asynchronous version of {@link ListsResources#updateUserList(long, String, boolean, String)}.
+     *
+     * @param listId         The id of the list to update.
+     * @param newListName    What you'd like to change the list's name to.
+     * @param isPublicList   Whether your list is public or private. Optional. Values can be public or private. Lists are public by default if no mode is specified.
+     * @param newDescription What you'd like to change the list description to.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> updateUserList(long listId, String newListName, boolean isPublicList, String newDescription);
+
+    /**
+     * Asynchronous version of {@link ListsResources#updateUserList(long, String, String, boolean, String)}.
+     *
+     * @param ownerId        The user ID of the user who owns the list being requested by a slug.
+     * @param slug           slug of the list
+     * @param newListName    What you'd like to change the list's name to.
+     * @param isPublicList   Whether your list is public or private. Optional. Values can be public or private. Lists are public by default if no mode is specified.
+     * @param newDescription What you'd like to change the list description to.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> updateUserList(long ownerId, String slug, String newListName, boolean isPublicList, String newDescription);
+
+    /**
+     * Asynchronous version of {@link ListsResources#updateUserList(String, String, String, boolean, String)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param newListName     What you'd like to change the list's name to.
+     * @param isPublicList    Whether your list is public or private. Optional. Values can be public or private. Lists are public by default if no mode is specified.
+     * @param newDescription  What you'd like to change the list description to.
+     * @return future of the updated list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> updateUserList(String ownerScreenName, String slug, String newListName, boolean isPublicList, String newDescription);
+
+    /**
+     * Asynchronous version of {@link ListsResources#createUserList(String, boolean, String)}.
+     *
+     * @param listName     The name of the list you are creating. Required.
+     * @param isPublicList set true if you wish to make a public list
+     * @param description  The description of the list you are creating. Optional.
+     * @return future of the list that was created
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> createUserList(String listName, boolean isPublicList, String description);
+
+    /**
+     * Asynchronous version of {@link ListsResources#showUserList(long)}.
+     *
+     * @param listId The id of the list to show
+     * @return future of the specified list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> showUserList(long listId);
+
+    /**
+     * Asynchronous version of {@link ListsResources#showUserList(long, String)}.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return future of the specified list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> showUserList(long ownerId, String slug);
+
+    /**
+     * Asynchronous version of {@link ListsResources#showUserList(String, String)}.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return future of the specified list
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UserList> showUserList(String ownerScreenName, String slug);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscriptions(String, long)}.
+     *
+     * @param listSubscriberScreenName The screen name of the list subscriber
+     * @param cursor                   Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists the specified user is subscribed to
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListSubscriptions(String listSubscriberScreenName, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscriptions(String, int, long)}.
+     *
+     * @param listSubscriberScreenName The screen name of the list subscriber
+     * @param count                    The amount of results to return per page. Defaults to 20. No more than 1000 results will ever be returned in a single page.
+     * @param cursor                   Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists the specified user is subscribed to
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListSubscriptions(String listSubscriberScreenName, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscriptions(long, long)}.
+     *
+     * @param listSubscriberId The ID of the list subscriber
+     * @param cursor           Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists the specified user is subscribed to
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListSubscriptions(long listSubscriberId, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListSubscriptions(long, int, long)}.
+     *
+     * @param listSubscriberId The ID of the list subscriber
+     * @param count            The amount of results to return per page. Defaults to 20. No more than 1000 results will ever be returned in a single page.
+     * @param cursor           Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return future of the list of lists the specified user is subscribed to
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListSubscriptions(long listSubscriberId, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListsOwnerships(String, long)}.
+     *
+     * @param listOwnerScreenName The screen name of the list owner
+     * @param cursor              Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned in the response body's next_cursor and previous_cursor attributes to page back and forth in the list. It is recommended to always use cursors when the method supports them. See <a href="https://dev.twitter.com/docs/misc/cursoring">Using cursors</a> to navigate collections for more information.
+     * @return future of lists owned by the specified Twitter user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListsOwnerships(String listOwnerScreenName, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListsOwnerships(String, int, long)}.
+     *
+     * @param listOwnerScreenName The screen name of the list owner
+     * @param count               The amount of results to return per page. Defaults to 20. No more than 1000 results will ever be returned in a single page.
+     * @param cursor              Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned in the response body's next_cursor and previous_cursor attributes to page back and forth in the list. It is recommended to always use cursors when the method supports them. See <a href="https://dev.twitter.com/docs/misc/cursoring">Using cursors</a> to navigate collections for more information.
+     * @return future of lists owned by the specified Twitter user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListsOwnerships(String listOwnerScreenName, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListsOwnerships(long, long)}.
+     *
+     * @param listOwnerId The id of the list owner
+     * @param cursor      Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned in the response body's next_cursor and previous_cursor attributes to page back and forth in the list. It is recommended to always use cursors when the method supports them. See <a href="https://dev.twitter.com/docs/misc/cursoring">Using cursors</a> to navigate collections for more information.
+     * @return future of lists owned by the specified Twitter user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListsOwnerships(long listOwnerId, long cursor);
+
+    /**
+     * Asynchronous version of {@link ListsResources#getUserListsOwnerships(long, int, long)}.
+     *
+     * @param listOwnerId The id of the list owner
+     * @param count       The amount of results to return per page. Defaults to 20. No more than 1000 results will ever be returned in a single page.
+     * @param cursor      Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned in the response body's next_cursor and previous_cursor attributes to page back and forth in the list. It is recommended to always use cursors when the method supports them. See <a href="https://dev.twitter.com/docs/misc/cursoring">Using cursors</a> to navigate collections for more information.
+     * @return future of lists owned by the specified Twitter user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<UserList>> getUserListsOwnerships(long listOwnerId, int count, long cursor);
+
+    /**
+     * Returns the members of the specified list, walking the cursor chain of {@link ListsResources#getUserListMembers(long, int, long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param listId The id of the list
+     * @return stream of members. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    Stream<User> getUserListMembersStream(long listId);
+
+    /**
+     * Returns the members of the specified list, walking the cursor chain of {@link ListsResources#getUserListMembers(long, String, int, long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return stream of members. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    Stream<User> getUserListMembersStream(long ownerId, String slug);
+
+    /**
+     * Returns the members of the specified list, walking the cursor chain of {@link ListsResources#getUserListMembers(String, String, int, long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return stream of members. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    Stream<User> getUserListMembersStream(String ownerScreenName, String slug);
+
+    /**
+     * Returns the subscribers of the specified list, walking the cursor chain of {@link ListsResources#getUserListSubscribers(long, int, long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param listId The id of the list
+     * @return stream of subscribers. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    Stream<User> getUserListSubscribersStream(long listId);
+
+    /**
+     * Returns the subscribers of the specified list, walking the cursor chain of {@link ListsResources#getUserListSubscribers(long, String, int, long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return stream of subscribers. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    Stream<User> getUserListSubscribersStream(long ownerId, String slug);
+
+    /**
+     * Returns the subscribers of the specified list, walking the cursor chain of {@link ListsResources#getUserListSubscribers(String, String, int, long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return stream of subscribers. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    Stream<User> getUserListSubscribersStream(String ownerScreenName, String slug);
+
+    /**
+     * Returns the lists the specified user has been added to, walking the cursor chain of {@link ListsResources#getUserListMemberships(long, int, long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param listMemberId The id of the list member
+     * @return stream of lists. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    Stream<UserList> getUserListMembershipsStream(long listMemberId);
+
+    /**
+     * Returns the lists the specified user has been added to, walking the cursor chain of {@link ListsResources#getUserListMemberships(String, int, long)}.<br>
+     * The next page is fetched in the background while the current page is consumed, so terminating early may cost one request more than consumed. Close the stream to stop fetching.
+     *
+     * @param listMemberScreenName The screen name of the list member
+     * @return stream of lists. failures are thrown as {@link java.util.concurrent.CompletionException} caused by {@link TwitterException}
+     * @since Twitter4J 4.1.3
+     */
+    Stream<UserList> getUserListMembershipsStream(String listMemberScreenName);
+}
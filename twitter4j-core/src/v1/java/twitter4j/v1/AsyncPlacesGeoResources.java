@@ -0,0 +1,56 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.TwitterException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link PlacesGeoResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncPlacesGeoResources {
+    /**
+     * Asynchronous version of {@link PlacesGeoResources#getGeoDetails(String)}.
+     *
+     * @param placeId The ID of the location to query about.
+     * @return future of details of the specified place
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Place> getGeoDetails(String placeId);
+
+    /**
+     * Asynchronous version of {@link PlacesGeoResources#reverseGeoCode(GeoQuery)}.
+     *
+     * @param query search query
+     * @return future of places (cities and neighborhoods) that can be attached to a statuses/update
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Place>> reverseGeoCode(GeoQuery query);
+
+    /**
+     * Asynchronous version of {@link PlacesGeoResources#searchPlaces(GeoQuery)}.
+     *
+     * @param query search query
+     * @return future of places (cities and neighborhoods) that can be attached to a statuses/update
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Place>> searchPlaces(GeoQuery query);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.TwitterException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link SavedSearchesResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncSavedSearchesResources {
+    /**
+     * Asynchronous version of {@link SavedSearchesResources#getSavedSearches()}.
+     *
+     * @return future of Returns an array of numeric user ids the authenticating user is blocking.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<SavedSearch>> getSavedSearches();
+
+    /**
+     * Asynchronous version of {@link SavedSearchesResources#showSavedSearch(long)}.
+     *
+     * @param id The id of the saved search to be retrieved.
+     * @return future of the data for a saved search
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<SavedSearch> showSavedSearch(long id);
+
+    /**
+     * Asynchronous version of {@link SavedSearchesResources#createSavedSearch(String)}.
+     *
+     * @param query the query string
+     * @return future of the data for a created saved search
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<SavedSearch> createSavedSearch(String query);
+
+    /**
+     * Asynchronous version of {@link SavedSearchesResources#destroySavedSearch(long)}.
+     *
+     * @param id The id of the saved search to be deleted.
+     * @return future of the data for a destroyed saved search
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<SavedSearch> destroySavedSearch(long id);
+}
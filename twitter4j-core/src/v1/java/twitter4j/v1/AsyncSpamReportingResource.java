@@ -0,0 +1,47 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.TwitterException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link SpamReportingResource}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncSpamReportingResource {
+    /**
+     * Asynchronous version of {@link SpamReportingResource#reportSpam(long)}.
+     *
+     * @param userId The ID of the user you want to report as a spammer.
+     * @return future of The User reported as a spammer.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> reportSpam(long userId);
+
+    /**
+     * Asynchronous version of {@link SpamReportingResource#reportSpam(String)}.
+     *
+     * @param screenName The screen name of the user you want to report as a spammer.
+     * @return future of The User reported as a spammer.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> reportSpam(String screenName);
+}
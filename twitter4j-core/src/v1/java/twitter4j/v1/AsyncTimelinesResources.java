@@ -0,0 +1,135 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.TwitterException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link TimelinesResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncTimelinesResources {
+    /**
+     * Asynchronous version of {@link TimelinesResources#getMentionsTimeline()}.
+     *
+     * @return future of the 20 most recent replies
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getMentionsTimeline();
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getMentionsTimeline(Paging)}.
+     *
+     * @param paging controls pagination. Supports since_id, max_id, zcount parameters.
+     * @return future of the 20 most recent replies
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getMentionsTimeline(Paging paging);
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getUserTimeline(String, Paging)}.
+     *
+     * @param screenName specifies the screen name of the user for whom to return the user_timeline
+     * @param paging     controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return future of list of the user Timeline
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getUserTimeline(String screenName, Paging paging);
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getUserTimeline(long, Paging)}.
+     *
+     * @param userId specifies the ID of the user for whom to return the user_timeline
+     * @param paging controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return future of list of the user Timeline
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getUserTimeline(long userId, Paging paging);
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getUserTimeline(String)}.
+     *
+     * @param screenName specifies the screen name of the user for whom to return the user_timeline
+     * @return future of the 20 most recent statuses posted in the last 24 hours from the user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getUserTimeline(String screenName);
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getUserTimeline(long)}.
+     *
+     * @param userId specifies the ID of the user for whom to return the user_timeline
+     * @return future of the 20 most recent statuses posted in the last 24 hours from the user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getUserTimeline(long userId);
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getUserTimeline()}.
+     *
+     * @return future of the 20 most recent statuses posted in the last 24 hours from the user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getUserTimeline();
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getUserTimeline(Paging)}.
+     *
+     * @param paging controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return future of the 20 most recent statuses posted in the last 24 hours from the user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getUserTimeline(Paging paging);
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getHomeTimeline()}.
+     *
+     * @return future of list of the home Timeline
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getHomeTimeline();
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getHomeTimeline(Paging)}.
+     *
+     * @param paging controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return future of list of the home Timeline
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getHomeTimeline(Paging paging);
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getRetweetsOfMe()}.
+     *
+     * @return future of the 20 most recent tweets of the authenticated user that have been retweeted by others.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getRetweetsOfMe();
+
+    /**
+     * Asynchronous version of {@link TimelinesResources#getRetweetsOfMe(Paging)}.
+     *
+     * @param paging controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return future of the 20 most recent tweets of the authenticated user that have been retweeted by others.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getRetweetsOfMe(Paging paging);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link TrendsResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncTrendsResources {
+    /**
+     * Asynchronous version of {@link TrendsResources#getPlaceTrends(int)}.
+     *
+     * @param woeid <a href="http://developer.yahoo.com/geo/geoplanet/">The Yahoo! Where On Earth ID</a> of the location to return trending information for. Global information is available by using 1 as the WOEID.
+     * @return future of trends
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Trends> getPlaceTrends(int woeid);
+
+    /**
+     * Asynchronous version of {@link TrendsResources#getAvailableTrends()}.
+     *
+     * @return future of the locations
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Location>> getAvailableTrends();
+
+    /**
+     * Asynchronous version of {@link TrendsResources#getClosestTrends(GeoLocation)}.
+     *
+     * @param location the available trend locations will be sorted by distance to the lat and long passed in. The sort is nearest to furthest.
+     * @return future of the locations
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Location>> getClosestTrends(GeoLocation location);
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.TwitterException;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link TweetsResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncTweetsResources {
+    /**
+     * Asynchronous version of {@link TweetsResources#getRetweets(long)}.
+     *
+     * @param statusId The numerical ID of the tweet you want the retweets of.
+     * @return future of the retweets of a given tweet
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> getRetweets(long statusId);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#getRetweeterIds(long, long)}.
+     *
+     * @param statusId The numerical ID of the tweet you want the retweeters of.
+     * @param cursor   The cursor of the page to fetch. Use -1 to start.
+     * @return future of the retweets of a given tweet
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getRetweeterIds(long statusId, long cursor);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#getRetweeterIds(long, int, long)}.
+     *
+     * @param statusId The numerical ID of the tweet you want the retweeters of.
+     * @param count    The maximum number of retweeter IDs to retrieve. Must be between 1 and 200, inclusive.
+     * @param cursor   The cursor of the page to fetch. Use -1 to start.
+     * @return future of the retweets of a given tweet
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getRetweeterIds(long statusId, int count, long cursor);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#showStatus(long)}.
+     *
+     * @param id the numerical ID of the status you're trying to retrieve
+     * @return future of a single status
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Status> showStatus(long id);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#destroyStatus(long)}.
+     *
+     * @param statusId The ID of the status to destroy.
+     * @return future of the deleted status
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Status> destroyStatus(long statusId);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#updateStatus(String)}.
+     *
+     * @param status the text of your status update
+     * @return future of the latest status
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Status> updateStatus(String status);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#updateStatus(StatusUpdate)}.
+     *
+     * @param latestStatus the latest status to be updated.
+     * @return future of the latest status
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Status> updateStatus(StatusUpdate latestStatus);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#retweetStatus(long)}.
+     *
+     * @param statusId The ID of the status to retweet.
+     * @return future of the retweeted status
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Status> retweetStatus(long statusId);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#unRetweetStatus(long)}.
+     *
+     * @param statusId The ID of the status to un-retweet.
+     * @return future of the original Tweet with retweet details embedded
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Status> unRetweetStatus(long statusId);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#getOEmbed(OEmbedRequest)}.
+     *
+     * @param req request
+     * @return future of information allowing the creation of an embedded representation of a Tweet on third party sites
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<OEmbed> getOEmbed(OEmbedRequest req);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#lookup(long...)}.
+     *
+     * @param ids array of the ids to lookup
+     * @return future of list of the tweets
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<Status>> lookup(long... ids);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#uploadMedia(File)}.
+     *
+     * @param mediaFile the latest status to be updated.
+     * @return future of upload result
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UploadedMedia> uploadMedia(File mediaFile);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#uploadMedia(String, InputStream)}.
+     *
+     * @param fileName media file name
+     * @param media    media body as stream
+     * @return future of upload result
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UploadedMedia> uploadMedia(String fileName, InputStream media);
+
+    /**
+     * Asynchronous version of {@link TweetsResources#uploadMediaChunked(String, InputStream)}.
+     *
+     * @param fileName media file name
+     * @param media    media body as stream
+     * @return future of upload result
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<UploadedMedia> uploadMediaChunked(String fileName, InputStream media);
+
+    /**
+     * Looks up any number of tweets by id. The ids are split into requests of {@link TweetsResources#lookup(long...)}
+     * with up to 100 ids each, and up to parallelism requests are sent at a time.
+     *
+     * @param ids         array of the ids to lookup
+     * @param parallelism maximum number of requests in flight
+     * @return future of the tweets found and the ids missing. fails if any request fails
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<LookupResult<Status>> bulkLookup(long[] ids, int parallelism);
+}
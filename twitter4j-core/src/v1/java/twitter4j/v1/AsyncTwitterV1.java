@@ -0,0 +1,89 @@
+package twitter4j.v1;
+
+/**
+ * Asynchronous interface of Twitter API v1.1<br>
+ * Every method returns {@link java.util.concurrent.CompletableFuture} immediately and the request is executed on the
+ * executor configured with asyncExecutor, or on a pool of async.numThreads threads (5 by default) running requests in
+ * parallel.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncTwitterV1 {
+    /**
+     * @return {@link AsyncTimelinesResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncTimelinesResources timelines();
+
+    /**
+     * @return {@link AsyncTweetsResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncTweetsResources tweets();
+
+    /**
+     * @return {@link AsyncSearchResource}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncSearchResource search();
+
+    /**
+     * @return {@link AsyncDirectMessagesResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncDirectMessagesResources directMessages();
+
+    /**
+     * @return {@link AsyncFriendsFollowersResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncFriendsFollowersResources friendsFollowers();
+
+    /**
+     * @return {@link AsyncUsersResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncUsersResources users();
+
+    /**
+     * @return {@link AsyncFavoritesResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncFavoritesResources favorites();
+
+    /**
+     * @return {@link AsyncListsResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncListsResources list();
+
+    /**
+     * @return {@link AsyncSavedSearchesResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncSavedSearchesResources savedSearches();
+
+    /**
+     * @return {@link AsyncPlacesGeoResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncPlacesGeoResources placesGeo();
+
+    /**
+     * @return {@link AsyncTrendsResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncTrendsResources trends();
+
+    /**
+     * @return {@link AsyncSpamReportingResource}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncSpamReportingResource spamReporting();
+
+    /**
+     * @return {@link AsyncHelpResources}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncHelpResources help();
+}
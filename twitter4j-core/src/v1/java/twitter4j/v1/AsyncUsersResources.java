@@ -0,0 +1,342 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import twitter4j.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous version of {@link UsersResources}.<br>
+ * Failures complete the returned future exceptionally with {@link TwitterException}.
+ *
+ * @since Twitter4J 4.1.3
+ */
+public interface AsyncUsersResources {
+    /**
+     * Asynchronous version of {@link UsersResources#getAccountSettings()}.
+     *
+     * @return future of the current trend, geo and sleep time information for the authenticating user.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<AccountSettings> getAccountSettings();
+
+    /**
+     * Asynchronous version of {@link UsersResources#verifyCredentials()}.
+     *
+     * @return future of user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> verifyCredentials();
+
+    /**
+     * Asynchronous version of {@link UsersResources#updateAccountSettings(Integer, Boolean, String, String, String, String)}.
+     *
+     * @param trendLocationWoeid Optional. The Yahoo! Where On Earth ID to use as the user's default trend location.
+     * @param sleepTimeEnabled   Optional. Whether sleep time is enabled for the user
+     * @param startSleepTime     Optional. The hour that sleep time should begin if it is enabled.
+     * @param endSleepTime       Optional. The hour that sleep time should end if it is enabled.
+     * @param timeZone           Optional. The timezone dates and times should be displayed in for the user.
+     * @param lang               Optional. The language which Twitter should render in for this user. (two letter ISO 639-1)
+     * @return future of the current trend, geo and sleep time information for the authenticating user.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<AccountSettings> updateAccountSettings(Integer trendLocationWoeid, Boolean sleepTimeEnabled, String startSleepTime, String endSleepTime, String timeZone, String lang);
+
+    /**
+     * Asynchronous version of {@link UsersResources#updateAllowDmsFrom(String)}.
+     *
+     * @param allowDmsFrom Optional. "all" for anyone, "followers" for friends only
+     * @return future of the current trend, geo and sleep time information for the authenticating user.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<AccountSettings> updateAllowDmsFrom(String allowDmsFrom);
+
+    /**
+     * Asynchronous version of {@link UsersResources#updateProfile(String, String, String, String)}.
+     *
+     * @param name        Optional. Maximum of 20 characters.
+     * @param url         Optional. Maximum of 100 characters. Will be prepended with "http://" if not present.
+     * @param location    Optional. Maximum of 30 characters. The contents are not normalized or geocoded in any way.
+     * @param description Optional. Maximum of 160 characters.
+     * @return future of the updated user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> updateProfile(String name, String url, String location, String description);
+
+    /**
+     * Asynchronous version of {@link UsersResources#updateProfileImage(File)}.
+     *
+     * @param image Must be a valid GIF, JPG, or PNG image of less than 700 kilobytes in size.  Images with width larger than 500 pixels will be scaled down.
+     * @return future of the updated user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> updateProfileImage(File image);
+
+    /**
+     * Asynchronous version of {@link UsersResources#updateProfileImage(InputStream)}.
+     *
+     * @param image Must be a valid GIF, JPG, or PNG image of less than 700 kilobytes in size.  Images with width larger than 500 pixels will be scaled down.
+     * @return future of the updated user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> updateProfileImage(InputStream image);
+
+    /**
+     * Asynchronous version of {@link UsersResources#getBlocksList()}.
+     *
+     * @return future of a list of user objects that the authenticating user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getBlocksList();
+
+    /**
+     * Asynchronous version of {@link UsersResources#getBlocksList(long)}.
+     *
+     * @param cursor Causes the list of blocked users to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. If no cursor is provided, a value of -1 will be assumed, which is the first "page."
+     * @return future of a list of user objects that the authenticating user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getBlocksList(long cursor);
+
+    /**
+     * Asynchronous version of {@link UsersResources#getBlocksIDs()}.
+     *
+     * @return future of Returns an array of numeric user ids the authenticating user is blocking.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getBlocksIDs();
+
+    /**
+     * Asynchronous version of {@link UsersResources#getBlocksIDs(long)}.
+     *
+     * @param cursor cursor
+     * @return future of Returns an array of numeric user ids the authenticating user is blocking.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getBlocksIDs(long cursor);
+
+    /**
+     * Asynchronous version of {@link UsersResources#createBlock(long)}.
+     *
+     * @param userId the ID of the user to block
+     * @return future of the blocked user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> createBlock(long userId);
+
+    /**
+     * Asynchronous version of {@link UsersResources#createBlock(String)}.
+     *
+     * @param screenName the screen_name of the user to block
+     * @return future of the blocked user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> createBlock(String screenName);
+
+    /**
+     * Asynchronous version of {@link UsersResources#destroyBlock(long)}.
+     *
+     * @param userId the ID of the user to block
+     * @return future of the unblocked user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> destroyBlock(long userId);
+
+    /**
+     * Asynchronous version of {@link UsersResources#destroyBlock(String)}.
+     *
+     * @param screen_name the screen_name of the user to block
+     * @return future of the unblocked user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> destroyBlock(String screen_name);
+
+    /**
+     * Asynchronous version of {@link UsersResources#getMutesList(long)}.
+     *
+     * @param cursor Causes the list of muted users to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. If no cursor is provided, a value of -1 will be assumed, which is the first "page."
+     * @return future of a list of user objects that the authenticating user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<PagableResponseList<User>> getMutesList(long cursor);
+
+    /**
+     * Asynchronous version of {@link UsersResources#getMutesIDs(long)}.
+     *
+     * @param cursor Causes the list of muted users to be broken into pages of no more than 5000 IDs at a time. The number of IDs returned is not guaranteed to be 5000 as suspended users are filtered out after connections are queried. If no cursor is provided, a value of -1 will be assumed, which is the first "page."
+     * @return future of Returns an array of numeric user ids the authenticating user is muting.
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<IDs> getMutesIDs(long cursor);
+
+    /**
+     * Asynchronous version of {@link UsersResources#createMute(long)}.
+     *
+     * @param userId the user_id of the user to mute
+     * @return future of the muted user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> createMute(long userId);
+
+    /**
+     * Asynchronous version of {@link UsersResources#createMute(String)}.
+     *
+     * @param screenName the screen_name of the user to mute
+     * @return future of the muted user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> createMute(String screenName);
+
+    /**
+     * Asynchronous version of {@link UsersResources#destroyMute(long)}.
+     *
+     * @param userId the ID of the user to mute
+     * @return future of the unmuted user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> destroyMute(long userId);
+
+    /**
+     * Asynchronous version of {@link UsersResources#destroyMute(String)}.
+     *
+     * @param screenName the screen_name of the user to mute
+     * @return future of the unmuted user
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> destroyMute(String screenName);
+
+    /**
+     * Asynchronous version of {@link UsersResources#lookupUsers(long...)}.
+     *
+     * @param ids Specifies the IDs of the users to return.
+     * @return future of users
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<User>> lookupUsers(long... ids);
+
+    /**
+     * Asynchronous version of {@link UsersResources#lookupUsers(String...)}.
+     *
+     * @param screenNames Specifies the screen names of the users to return.
+     * @return future of users
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<User>> lookupUsers(String... screenNames);
+
+    /**
+     * Asynchronous version of {@link UsersResources#showUser(long)}.
+     *
+     * @param userId the ID of the user for whom to request the detail
+     * @return future of users
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> showUser(long userId);
+
+    /**
+     * Asynchronous version of {@link UsersResources#showUser(String)}.
+     *
+     * @param screenName the screen name of the user for whom to request the detail
+     * @return future of User
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<User> showUser(String screenName);
+
+    /**
+     * Asynchronous version of {@link UsersResources#searchUsers(String, int)}.
+     *
+     * @param query The query to run against people search.
+     * @param page  Specifies the page of results to retrieve. Number of statuses per page is fixed to 20.
+     * @return future of the list of Users matches the provided
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<User>> searchUsers(String query, int page);
+
+    /**
+     * Asynchronous version of {@link UsersResources#getContributees(long)}.
+     *
+     * @param userId The user id of the user for whom to return results for
+     * @return future of list of contributors
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<User>> getContributees(long userId);
+
+    /**
+     * Asynchronous version of {@link UsersResources#getContributees(String)}.
+     *
+     * @param screenName The screen name of the user for whom to return results for
+     * @return future of list of contributors
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<User>> getContributees(String screenName);
+
+    /**
+     * Asynchronous version of {@link UsersResources#getContributors(long)}.
+     *
+     * @param userId The user id of the user for whom to return results for
+     * @return future of list of contributors
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<User>> getContributors(long userId);
+
+    /**
+     * Asynchronous version of {@link UsersResources#getContributors(String)}.
+     *
+     * @param screenName The screen name of the user for whom to return results for
+     * @return future of list of contributors
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<ResponseList<User>> getContributors(String screenName);
+
+    /**
+     * Asynchronous version of {@link UsersResources#removeProfileBanner()}.
+     * @return future completed when the request is done
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Void> removeProfileBanner();
+
+    /**
+     * Asynchronous version of {@link UsersResources#updateProfileBanner(File)}.
+     *
+     * @param image For best results, upload an &lt;5MB image that is exactly 1252px by 626px.
+     * @return future completed when the request is done
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Void> updateProfileBanner(File image);
+
+    /**
+     * Asynchronous version of {@link UsersResources#updateProfileBanner(InputStream)}.
+     *
+     * @param image For best results, upload an &lt;5MB image that is exactly 1252px by 626px.
+     * @return future completed when the request is done
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<Void> updateProfileBanner(InputStream image);
+
+    /**
+     * Looks up any number of users by id. The ids are split into requests of {@link UsersResources#lookupUsers(long...)}
+     * with up to 100 ids each, and up to parallelism requests are sent at a time.
+     *
+     * @param ids         Specifies the IDs of the users to return.
+     * @param parallelism maximum number of requests in flight
+     * @return future of the users found and the ids missing. fails if any request fails
+     * @since Twitter4J 4.1.3
+     */
+    CompletableFuture<LookupResult<User>> bulkLookupUsers(long[] ids, int parallelism);
+}
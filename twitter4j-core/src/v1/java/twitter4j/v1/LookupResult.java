@@ -0,0 +1,47 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A data interface representing the result of a bulk lookup spanning multiple requests.
+ *
+ * @param <T> type of the looked up objects
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public interface LookupResult<T> extends java.io.Serializable {
+    /**
+     * @return objects found, in the order of the requested ids
+     */
+    List<T> getFound();
+
+    /**
+     * @return objects found keyed by id, iterated in the order of the requested ids
+     */
+    Map<Long, T> asMap();
+
+    /**
+     * Returns the ids the API didn't return, e.g. ids which don't exist, are deleted, suspended or not visible to the
+     * authenticating user.
+     *
+     * @return ids missing in the result, in the order of the requested ids
+     */
+    long[] getMissingIDs();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.v1;
+
+/**
+ * Specifies what happens to a request whose rate limit window is exhausted.<br>
+ * Rate limits are tracked per endpoint, e.g. "/statuses/home_timeline" or "/users/show", from the X-Rate-Limit
+ * response headers and {@link HelpResources#getRateLimitStatus()}.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 4.1.3
+ */
+public enum RateLimitPolicy {
+    /**
+     * sends every request. rate limits are only reported after the fact
+     */
+    NONE,
+    /**
+     * blocks the calling thread until the window resets
+     */
+    BLOCK,
+    /**
+     * throws TwitterException with status code 429 without sending the request
+     */
+    FAIL_FAST,
+    /**
+     * defers requests made through {@link TwitterV1#async()} until the window resets without occupying a thread. blocks other requests
+     */
+    DELAY
+}
@@ -82,6 +82,12 @@ public interface TwitterV1 {
      */
     HelpResources help();
 
+    /**
+     * @return {@link AsyncTwitterV1}
+     * @since Twitter4J 4.1.3
+     */
+    AsyncTwitterV1 async();
+
     /**
      * @return {@link TwitterStream}
      */